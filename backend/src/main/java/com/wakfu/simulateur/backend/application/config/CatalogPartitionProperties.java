@@ -0,0 +1,34 @@
+package com.wakfu.simulateur.backend.application.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "catalog.partitions")
+@Getter
+@Setter
+public class CatalogPartitionProperties {
+
+    /** Mémoire estimée maximale occupée par les partitions chargées. */
+    private DataSize maximumSize = DataSize.ofMegabytes(256);
+
+    /** Une partition non consultée pendant ce délai est déchargée. */
+    private Duration idleEviction = Duration.ofMinutes(30);
+
+    /** Classes chargées au démarrage ; vide = toutes les classes de l'index. */
+    private List<String> warmUp = new ArrayList<>();
+
+    /** Threads de chargement au démarrage ; 0 = nombre de cœurs. */
+    private int warmUpThreads = 0;
+
+    public int resolveWarmUpThreads() {
+        return warmUpThreads > 0 ? warmUpThreads : Runtime.getRuntime().availableProcessors();
+    }
+}
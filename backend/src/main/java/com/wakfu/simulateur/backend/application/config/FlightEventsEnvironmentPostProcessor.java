@@ -0,0 +1,18 @@
+package com.wakfu.simulateur.backend.application.config;
+
+import com.wakfu.simulateur.backend.domain.jfr.FlightEvents;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Active les événements JFR ({@code monitoring.jfr.enabled}) dès que l'environnement est prêt,
+ * avant la création des beans : le chargement du catalogue au démarrage est donc enregistré.
+ */
+public class FlightEventsEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        FlightEvents.enable(environment.getProperty("monitoring.jfr.enabled", Boolean.class, false));
+    }
+}
@@ -0,0 +1,24 @@
+package com.wakfu.simulateur.backend.application.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "play.sessions")
+@Getter
+@Setter
+public class PlaySessionProperties {
+
+    /** Nombre maximal de sessions de jeu conservées en mémoire. */
+    private long maximumSessions = 10_000;
+
+    /** Une session sans requête pendant ce délai est supprimée. */
+    private Duration idleTimeout = Duration.ofMinutes(15);
+
+    /** Nombre d'actions annulables par session. */
+    private int maxHistory = 200;
+}
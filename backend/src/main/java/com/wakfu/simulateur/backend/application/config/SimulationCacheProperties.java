@@ -0,0 +1,16 @@
+package com.wakfu.simulateur.backend.application.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "simulation.cache")
+@Getter
+@Setter
+public class SimulationCacheProperties {
+
+    /** Poids total du cache, en actions de timeline conservées. */
+    private long maximumWeight = 200_000;
+}
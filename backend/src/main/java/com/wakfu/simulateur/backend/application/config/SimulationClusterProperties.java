@@ -0,0 +1,36 @@
+package com.wakfu.simulateur.backend.application.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "simulation.cluster")
+@Getter
+@Setter
+public class SimulationClusterProperties {
+
+    /** URL de base des workers (même jar) ; vide = les jobs s'exécutent uniquement en local. */
+    private List<String> workers = new ArrayList<>();
+
+    /** Nombre de runs par lot envoyé à un worker. */
+    private int shardRuns = 2_000;
+
+    /** Lots envoyés simultanément à chaque worker. */
+    private int parallelism = 2;
+
+    /** Tentatives par lot avant de l'exécuter sur le coordinateur. */
+    private int maxAttempts = 3;
+
+    /** Délai de réponse d'un worker pour un lot. */
+    private Duration shardTimeout = Duration.ofMinutes(2);
+
+    public boolean isCoordinator() {
+        return !workers.isEmpty();
+    }
+}
@@ -0,0 +1,40 @@
+package com.wakfu.simulateur.backend.application.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "simulation.jobs")
+@Getter
+@Setter
+public class SimulationJobProperties {
+
+    /** Nombre maximal de jobs en attente avant de répondre 429. */
+    private int queueCapacity = 64;
+
+    /** Taille du pool de workers ; 0 = nombre de cœurs disponibles. */
+    private int workers = 0;
+
+    /** Nombre maximal de runs Monte Carlo par job. */
+    private int maxIterations = 100_000;
+
+    /** Durée de conservation d'un job terminé. */
+    private Duration resultTtl = Duration.ofMinutes(15);
+
+    /** Largeur des tranches de l'histogramme des dégâts. */
+    private long histogramBucket = 500;
+
+    /** Nombre de meilleurs runs conservés par job. */
+    private int topRuns = 10;
+
+    /** Attente maximale d'un calcul synchrone (combat, comparaison) avant annulation. */
+    private Duration syncTimeout = Duration.ofSeconds(30);
+
+    public int resolveWorkers() {
+        return workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,49 @@
+package com.wakfu.simulateur.backend.application.controller;
+
+import com.wakfu.simulateur.backend.application.dto.BuildComparisonDTO;
+import com.wakfu.simulateur.backend.application.dto.BuildComparisonRequestDTO;
+import com.wakfu.simulateur.backend.application.service.BuildComparisonService;
+import com.wakfu.simulateur.backend.domain.simulation.PairedComparisonResult;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationCancelledException;
+import com.wakfu.simulateur.backend.infrastructure.mapper.BuildComparisonMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/build-comparisons")
+@CrossOrigin(origins = "http://localhost:4200")
+public class BuildComparisonController {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final BuildComparisonService comparisonService;
+    private final BuildComparisonMapper mapper;
+
+    public BuildComparisonController(BuildComparisonService comparisonService, BuildComparisonMapper mapper) {
+        this.comparisonService = comparisonService;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Écart de dégâts B - A sur la même timeline, avec son intervalle de confiance.
+     */
+    @PostMapping
+    public ResponseEntity<BuildComparisonDTO> compare(@RequestBody BuildComparisonRequestDTO body) {
+        Optional<PairedComparisonResult> result;
+        try {
+            result = comparisonService.compare(mapper.toDomain(body));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (SimulationCancelledException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return result.map(r -> ResponseEntity.ok(mapper.toDTO(r)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+}
@@ -0,0 +1,100 @@
+package com.wakfu.simulateur.backend.application.controller;
+
+import com.wakfu.simulateur.backend.application.dto.BatchGetDTO;
+import com.wakfu.simulateur.backend.application.dto.BatchGetRequestDTO;
+import com.wakfu.simulateur.backend.application.dto.PassiveDTO;
+import com.wakfu.simulateur.backend.application.dto.SpellDTO;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.port.PassiveGateway;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.port.SpellGateway;
+import com.wakfu.simulateur.backend.infrastructure.mapper.PassiveDTOMapper;
+import com.wakfu.simulateur.backend.infrastructure.mapper.SpellDTOMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Lecture groupée du catalogue : une barre de sorts ou de passifs en une requête, résolue par
+ * un nombre fixe de requêtes IN (ou depuis le snapshot) quel que soit le nombre d'ids.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "http://localhost:4200")
+public class CatalogBatchController {
+
+    static final int MAX_IDS = 200;
+
+    private final SpellGateway spellGateway;
+    private final PassiveGateway passiveGateway;
+    private final SpellDTOMapper spellMapper;
+    private final PassiveDTOMapper passiveMapper;
+
+    public CatalogBatchController(SpellGateway spellGateway,
+                                  PassiveGateway passiveGateway,
+                                  SpellDTOMapper spellMapper,
+                                  PassiveDTOMapper passiveMapper) {
+        this.spellGateway = spellGateway;
+        this.passiveGateway = passiveGateway;
+        this.spellMapper = spellMapper;
+        this.passiveMapper = passiveMapper;
+    }
+
+    @PostMapping("/spells:batchGet")
+    public ResponseEntity<BatchGetDTO<SpellDTO>> batchGetSpells(@RequestBody BatchGetRequestDTO body) {
+        Set<String> ids = validIds(body);
+        if (ids == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(batch(ids, spellGateway.findAllById(ids), Spell::id, spellMapper::toDTO));
+    }
+
+    @PostMapping("/passives:batchGet")
+    public ResponseEntity<BatchGetDTO<PassiveDTO>> batchGetPassives(@RequestBody BatchGetRequestDTO body) {
+        Set<String> ids = validIds(body);
+        if (ids == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(batch(ids, passiveGateway.findAllById(ids), Passive::id, passiveMapper::toDTO));
+    }
+
+    /**
+     * Ids dédoublonnés dans l'ordre de la demande, ou {@code null} si la liste est absente, contient
+     * un id vide ou dépasse {@link #MAX_IDS}.
+     */
+    private static Set<String> validIds(BatchGetRequestDTO body) {
+        if (body == null || body.getIds() == null) return null;
+        Set<String> ids = new LinkedHashSet<>(body.getIds());
+        if (ids.size() > MAX_IDS || ids.stream().anyMatch(id -> id == null || id.isBlank())) return null;
+        return ids;
+    }
+
+    private static <D, T> BatchGetDTO<T> batch(Collection<String> ids, List<D> found,
+                                               Function<D, String> idOf, Function<D, T> toDTO) {
+        Map<String, D> byId = new HashMap<>();
+        found.forEach(item -> byId.put(idOf.apply(item), item));
+
+        List<T> items = new ArrayList<>(byId.size());
+        List<String> missing = new ArrayList<>();
+        for (String id : ids) {
+            D item = byId.get(id);
+            if (item != null) {
+                items.add(toDTO.apply(item));
+            } else {
+                missing.add(id);
+            }
+        }
+        return BatchGetDTO.<T>builder()
+                .items(items)
+                .missing(missing)
+                .build();
+    }
+}
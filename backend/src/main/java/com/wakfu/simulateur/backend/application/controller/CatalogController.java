@@ -0,0 +1,89 @@
+package com.wakfu.simulateur.backend.application.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.wakfu.simulateur.backend.application.dto.CatalogImportDTO;
+import com.wakfu.simulateur.backend.application.dto.CatalogPartitionDTO;
+import com.wakfu.simulateur.backend.application.dto.ParamsStoreDTO;
+import com.wakfu.simulateur.backend.application.service.CatalogImportService;
+import com.wakfu.simulateur.backend.application.service.CatalogVersionService;
+import com.wakfu.simulateur.backend.domain.catalog.ParamsStore;
+import com.wakfu.simulateur.backend.infrastructure.importer.CatalogImportException;
+import com.wakfu.simulateur.backend.infrastructure.mapper.CatalogPartitionDTOMapper;
+import com.wakfu.simulateur.backend.infrastructure.mapper.ParamsStoreDTOMapper;
+import com.wakfu.simulateur.backend.infrastructure.snapshot.PartitionedCatalog;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/catalog")
+@CrossOrigin(origins = "http://localhost:4200")
+public class CatalogController {
+
+    private final CatalogVersionService catalogVersionService;
+    private final ObjectProvider<PartitionedCatalog> partitionedCatalog;
+    private final CatalogPartitionDTOMapper partitionMapper;
+    private final CatalogImportService catalogImportService;
+    private final ParamsStoreDTOMapper paramsStoreMapper;
+
+    public CatalogController(CatalogVersionService catalogVersionService,
+                             ObjectProvider<PartitionedCatalog> partitionedCatalog,
+                             CatalogPartitionDTOMapper partitionMapper,
+                             CatalogImportService catalogImportService,
+                             ParamsStoreDTOMapper paramsStoreMapper) {
+        this.catalogVersionService = catalogVersionService;
+        this.partitionedCatalog = partitionedCatalog;
+        this.partitionMapper = partitionMapper;
+        this.catalogImportService = catalogImportService;
+        this.paramsStoreMapper = paramsStoreMapper;
+    }
+
+    @GetMapping("/version")
+    public ResponseEntity<Map<String, String>> getVersion() {
+        return ResponseEntity.ok(Map.of("version", catalogVersionService.current()));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, String>> refresh() {
+        return ResponseEntity.ok(Map.of("version", catalogVersionService.refresh()));
+    }
+
+    /**
+     * État des partitions par classe (chargement, mémoire estimée) ; 404 si le catalogue n'est pas partitionné.
+     */
+    @GetMapping("/partitions")
+    public ResponseEntity<List<CatalogPartitionDTO>> getPartitions() {
+        PartitionedCatalog catalog = partitionedCatalog.getIfAvailable();
+        if (catalog == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(partitionMapper.toDTOs(catalog.status()));
+    }
+
+    /**
+     * Partage des paramètres JSON des effets : documents distincts retenus, taux de réutilisation et
+     * mémoire économisée.
+     */
+    @GetMapping("/params")
+    public ResponseEntity<ParamsStoreDTO> getParams() {
+        return ResponseEntity.ok(paramsStoreMapper.toDTO(ParamsStore.shared().stats()));
+    }
+
+    /**
+     * Import des données de jeu JSON (corps de la requête lu en flux) ; 400 si un élément est invalide,
+     * auquel cas rien n'est importé.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<CatalogImportDTO> importCatalog(HttpServletRequest request) throws IOException {
+        try {
+            return ResponseEntity.ok(catalogImportService.importCatalog(request::getInputStream));
+        } catch (IllegalArgumentException | JsonProcessingException | CatalogImportException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.wakfu.simulateur.backend.application.controller;
+
+import com.wakfu.simulateur.backend.application.dto.FightRequestDTO;
+import com.wakfu.simulateur.backend.application.dto.FightResultDTO;
+import com.wakfu.simulateur.backend.application.service.FightService;
+import com.wakfu.simulateur.backend.domain.fight.FightRequest;
+import com.wakfu.simulateur.backend.domain.fight.FightResult;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationCancelledException;
+import com.wakfu.simulateur.backend.infrastructure.mapper.FightRequestMapper;
+import com.wakfu.simulateur.backend.infrastructure.mapper.FightResultDTOMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/fights")
+@CrossOrigin(origins = "http://localhost:4200")
+public class FightController {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final FightService fightService;
+    private final FightRequestMapper requestMapper;
+    private final FightResultDTOMapper mapper;
+
+    public FightController(FightService fightService, FightRequestMapper requestMapper, FightResultDTOMapper mapper) {
+        this.fightService = fightService;
+        this.requestMapper = requestMapper;
+        this.mapper = mapper;
+    }
+
+    @PostMapping
+    public ResponseEntity<FightResultDTO> simulate(@RequestBody FightRequestDTO body) {
+        FightRequest request;
+        try {
+            request = requestMapper.toDomain(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        long seed = body.getSeed() != null ? body.getSeed() : 0L;
+        Optional<FightResult> result;
+        try {
+            result = fightService.simulate(request, seed);
+        } catch (IllegalArgumentException e) {
+            // combattants sur une même case ou hors du plateau
+            return ResponseEntity.badRequest().build();
+        } catch (SimulationCancelledException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return result.map(r -> ResponseEntity.ok(mapper.toDTO(r)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+}
@@ -1,48 +1,79 @@
 package com.wakfu.simulateur.backend.application.controller;
 
+import com.wakfu.simulateur.backend.application.dto.CatalogView;
 import com.wakfu.simulateur.backend.application.dto.PassiveDTO;
-import com.wakfu.simulateur.backend.infrastructure.entity.PassiveEntity;
+import com.wakfu.simulateur.backend.application.dto.PassiveSummaryDTO;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveSummary;
+import com.wakfu.simulateur.backend.domain.passive.port.PassiveGateway;
 import com.wakfu.simulateur.backend.infrastructure.mapper.PassiveDTOMapper;
-import com.wakfu.simulateur.backend.infrastructure.repository.PassiveRepository;
+import com.wakfu.simulateur.backend.infrastructure.mapper.SparseFieldsetMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/passives")
 @CrossOrigin(origins = "http://localhost:4200")
 public class PassiveController {
 
-    private final PassiveRepository passiveRepository;
+    private final PassiveGateway passiveGateway;
     private final PassiveDTOMapper mapper;
+    private final SparseFieldsetMapper fieldsets;
 
-    public PassiveController(PassiveRepository passiveRepository, PassiveDTOMapper mapper) {
-        this.passiveRepository = passiveRepository;
+    public PassiveController(PassiveGateway passiveGateway, PassiveDTOMapper mapper, SparseFieldsetMapper fieldsets) {
+        this.passiveGateway = passiveGateway;
         this.mapper = mapper;
+        this.fieldsets = fieldsets;
     }
 
+    /**
+     * Passifs du catalogue. {@code view=summary} (ou des {@code fields} tous couverts par
+     * le résumé) sert la projection allégée ; l'arbre complet n'est construit qu'à la demande.
+     */
     @GetMapping
-    public ResponseEntity<List<PassiveDTO>> getAllPassives(
-            @RequestParam(required = false) String classId) {
-        List<PassiveEntity> entities = passiveRepository.findAll();
-
-        if (classId != null && !classId.isEmpty()) {
-            entities = entities.stream()
-                    .filter(p -> p.getCharacterClass() != null &&
-                                 classId.equals(p.getCharacterClass().getId()))
-                    .toList();
+    public ResponseEntity<List<?>> getAllPassives(
+            @RequestParam(required = false) String classId,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        CatalogView catalogView;
+        Set<String> selected;
+        try {
+            catalogView = CatalogView.parse(view);
+            selected = fieldsets.parse(fields, PassiveDTO.class);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
 
-        return ResponseEntity.ok(mapper.toDTOs(entities));
+        boolean byClass = classId != null && !classId.isEmpty();
+        boolean summary = catalogView == CatalogView.SUMMARY || fieldsets.covers(PassiveSummaryDTO.class, selected);
+        if (summary && selected != null && !fieldsets.covers(PassiveSummaryDTO.class, selected)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<?> dtos;
+        if (summary) {
+            List<PassiveSummary> passives = byClass
+                    ? passiveGateway.findSummariesByClassId(classId)
+                    : passiveGateway.findAllSummaries();
+            dtos = mapper.toSummaryDTOs(passives);
+        } else {
+            List<Passive> passives = byClass
+                    ? passiveGateway.findAllByClassId(classId)
+                    : passiveGateway.findAll();
+            dtos = mapper.toDTOs(passives);
+        }
+
+        return ResponseEntity.ok(selected != null ? fieldsets.project(dtos, selected) : dtos);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<PassiveDTO> getPassiveById(@PathVariable String id) {
-        return passiveRepository.findById(id)
+        return passiveGateway.findById(id)
                 .map(mapper::toDTO)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 }
-
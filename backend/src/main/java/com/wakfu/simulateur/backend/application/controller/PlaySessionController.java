@@ -0,0 +1,115 @@
+package com.wakfu.simulateur.backend.application.controller;
+
+import com.wakfu.simulateur.backend.application.dto.PlayDeltaDTO;
+import com.wakfu.simulateur.backend.application.dto.PlaySessionDTO;
+import com.wakfu.simulateur.backend.application.dto.PlaySessionRequestDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationRequestDTO;
+import com.wakfu.simulateur.backend.application.service.PlaySessionService;
+import com.wakfu.simulateur.backend.domain.session.PlaySession;
+import com.wakfu.simulateur.backend.domain.session.PlayUpdate;
+import com.wakfu.simulateur.backend.domain.simulation.CharacterStats;
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationContext;
+import com.wakfu.simulateur.backend.domain.simulation.TimelineAction;
+import com.wakfu.simulateur.backend.infrastructure.mapper.PlaySessionDTOMapper;
+import com.wakfu.simulateur.backend.infrastructure.mapper.SimulationRequestMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Jeu interactif côté serveur : l'état reste en session, chaque action ne renvoie que son delta.
+ */
+@RestController
+@RequestMapping("/api/sessions")
+@CrossOrigin(origins = "http://localhost:4200")
+public class PlaySessionController {
+
+    private final PlaySessionService sessionService;
+    private final SimulationRequestMapper requestMapper;
+    private final PlaySessionDTOMapper mapper;
+
+    public PlaySessionController(PlaySessionService sessionService,
+                                 SimulationRequestMapper requestMapper,
+                                 PlaySessionDTOMapper mapper) {
+        this.sessionService = sessionService;
+        this.requestMapper = requestMapper;
+        this.mapper = mapper;
+    }
+
+    @PostMapping
+    public ResponseEntity<PlaySessionDTO> create(@RequestBody PlaySessionRequestDTO body) {
+        PlaySession session;
+        try {
+            CharacterStats stats = requestMapper.toStats(body.getStats());
+            Position start = body.getStart() != null ? SimulationRequestMapper.toPosition(body.getStart()) : Position.ORIGIN;
+            SimulationContext context = SimulationContext.of(stats, start, requestMapper.toBoard(body.getBoard()));
+            Set<String> passiveIds = body.getPassiveIds() != null ? new HashSet<>(body.getPassiveIds()) : Set.of();
+            long seed = body.getSeed() != null ? body.getSeed() : ThreadLocalRandom.current().nextLong();
+            session = sessionService.create(stats, passiveIds, requestMapper.toModifiers(passiveIds), context, seed);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.created(URI.create("/api/sessions/" + session.id()))
+                .body(mapper.toDTO(session));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<PlaySessionDTO> getSession(@PathVariable String id) {
+        return sessionService.find(id)
+                .map(mapper::toDTO)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/actions")
+    public ResponseEntity<PlayDeltaDTO> play(@PathVariable String id, @RequestBody SimulationRequestDTO.ActionDTO body) {
+        TimelineAction action;
+        try {
+            action = requestMapper.toAction(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return sessionService.play(id, action)
+                .map(mapper::toDTO)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/undo")
+    public ResponseEntity<PlayDeltaDTO> undo(@PathVariable String id) {
+        return history(id, PlaySession::undo);
+    }
+
+    @PostMapping("/{id}/redo")
+    public ResponseEntity<PlayDeltaDTO> redo(@PathVariable String id) {
+        return history(id, PlaySession::redo);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> close(@PathVariable String id) {
+        return sessionService.close(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 404 si la session n'existe plus, 204 s'il n'y a rien à annuler ou rétablir.
+     */
+    private ResponseEntity<PlayDeltaDTO> history(String id, Function<PlaySession, Optional<PlayUpdate>> operation) {
+        return sessionService.find(id)
+                .map(session -> operation.apply(session)
+                        .map(mapper::toDTO)
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.noContent().build()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,116 @@
+package com.wakfu.simulateur.backend.application.controller;
+
+import com.wakfu.simulateur.backend.application.dto.FeasibilityDTO;
+import com.wakfu.simulateur.backend.application.dto.ReachableCellDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationReachRequestDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationReplayRequestDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationRequestDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationResultDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationStateDTO;
+import com.wakfu.simulateur.backend.application.service.FeasibilityService;
+import com.wakfu.simulateur.backend.application.service.SimulationService;
+import com.wakfu.simulateur.backend.domain.simulation.ReplayState;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationContext;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationRequest;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationTrace;
+import com.wakfu.simulateur.backend.domain.simulation.TraceReplayer;
+import com.wakfu.simulateur.backend.infrastructure.mapper.SimulationRequestMapper;
+import com.wakfu.simulateur.backend.infrastructure.mapper.SimulationResultDTOMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/simulations")
+@CrossOrigin(origins = "http://localhost:4200")
+public class SimulationController {
+
+    private final SimulationService simulationService;
+    private final FeasibilityService feasibilityService;
+    private final SimulationRequestMapper requestMapper;
+    private final SimulationResultDTOMapper mapper;
+
+    public SimulationController(SimulationService simulationService,
+                                FeasibilityService feasibilityService,
+                                SimulationRequestMapper requestMapper,
+                                SimulationResultDTOMapper mapper) {
+        this.simulationService = simulationService;
+        this.feasibilityService = feasibilityService;
+        this.requestMapper = requestMapper;
+        this.mapper = mapper;
+    }
+
+    @PostMapping
+    public ResponseEntity<SimulationResultDTO> simulate(@RequestBody SimulationRequestDTO body,
+                                                        @RequestParam(defaultValue = "false") boolean trace) {
+        SimulationRequest request;
+        try {
+            request = requestMapper.toDomain(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        long seed = body.getSeed() != null ? body.getSeed() : 0L;
+        return ResponseEntity.ok(mapper.toDTO(simulationService.simulate(request, seed), trace));
+    }
+
+    /**
+     * Analyse statique de la timeline, sans la simuler : rejette ce qui ne peut jamais réussir.
+     */
+    @PostMapping("/feasibility")
+    public ResponseEntity<FeasibilityDTO> feasibility(@RequestBody SimulationRequestDTO body) {
+        SimulationRequest request;
+        try {
+            request = requestMapper.toDomain(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(mapper.toFeasibilityDTO(feasibilityService.check(request)));
+    }
+
+    /**
+     * Reconstruit l'état du lanceur depuis une trace, sans relancer la simulation.
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<List<SimulationStateDTO>> replay(@RequestBody SimulationReplayRequestDTO body) {
+        if (body.getTrace() == null || (body.getStep() != null && body.getStep() < 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<ReplayState> states;
+        try {
+            SimulationTrace trace = SimulationTrace.fromBase64(body.getTrace());
+            states = body.getStep() != null
+                    ? List.of(TraceReplayer.stateAt(trace, body.getStep()))
+                    : TraceReplayer.states(trace);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(states.stream().map(mapper::toStateDTO).toList());
+    }
+
+    /**
+     * Toutes les cases atteignables par le lanceur en un seul appel, avec leur coût en PM ou en PW.
+     */
+    @PostMapping("/reachable")
+    public ResponseEntity<List<ReachableCellDTO>> reachable(@RequestBody SimulationReachRequestDTO body) {
+        SimulationContext context;
+        try {
+            context = requestMapper.toContext(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(context.reachableCells().stream()
+                .map(cell -> ReachableCellDTO.builder()
+                        .x(cell.cell().x())
+                        .y(cell.cell().y())
+                        .mpCost(cell.mp())
+                        .pwCost(cell.pw())
+                        .build())
+                .toList());
+    }
+}
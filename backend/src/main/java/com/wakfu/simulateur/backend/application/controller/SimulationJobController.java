@@ -0,0 +1,79 @@
+package com.wakfu.simulateur.backend.application.controller;
+
+import com.wakfu.simulateur.backend.application.dto.SimulationJobDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationJobRequestDTO;
+import com.wakfu.simulateur.backend.application.service.SimulationJob;
+import com.wakfu.simulateur.backend.application.service.SimulationJobService;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationRequest;
+import com.wakfu.simulateur.backend.infrastructure.mapper.SimulationJobDTOMapper;
+import com.wakfu.simulateur.backend.infrastructure.mapper.SimulationRequestMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.concurrent.ThreadLocalRandom;
+
+@RestController
+@RequestMapping("/api/simulation-jobs")
+@CrossOrigin(origins = "http://localhost:4200")
+public class SimulationJobController {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final SimulationJobService jobService;
+    private final SimulationRequestMapper requestMapper;
+    private final SimulationJobDTOMapper mapper;
+
+    public SimulationJobController(SimulationJobService jobService,
+                                   SimulationRequestMapper requestMapper,
+                                   SimulationJobDTOMapper mapper) {
+        this.jobService = jobService;
+        this.requestMapper = requestMapper;
+        this.mapper = mapper;
+    }
+
+    @PostMapping
+    public ResponseEntity<SimulationJobDTO> submit(@RequestBody SimulationJobRequestDTO body) {
+        SimulationJob job;
+        try {
+            SimulationRequest request = requestMapper.toDomain(body.getSimulation());
+            int iterations = body.getIterations() != null ? body.getIterations() : 1;
+            long seed = body.getSeed() != null ? body.getSeed() : ThreadLocalRandom.current().nextLong();
+            int priority = body.getPriority() != null ? body.getPriority() : 0;
+            job = jobService.submit(request, body.getSimulation(), iterations, seed, priority).orElse(null);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (job == null) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/simulation-jobs/" + job.getId()))
+                .body(toDTO(job));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SimulationJobDTO> getJob(@PathVariable String id) {
+        return jobService.find(id)
+                .map(this::toDTO)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<SimulationJobDTO> cancelJob(@PathVariable String id) {
+        return jobService.cancel(id)
+                .map(this::toDTO)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private SimulationJobDTO toDTO(SimulationJob job) {
+        return mapper.toDTO(job, jobService.expiresAt(job));
+    }
+}
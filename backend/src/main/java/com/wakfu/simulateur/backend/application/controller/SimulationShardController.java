@@ -0,0 +1,72 @@
+package com.wakfu.simulateur.backend.application.controller;
+
+import com.wakfu.simulateur.backend.application.dto.SimulationShardRequestDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationShardResultDTO;
+import com.wakfu.simulateur.backend.application.service.CatalogVersionService;
+import com.wakfu.simulateur.backend.application.service.SimulationJobService;
+import com.wakfu.simulateur.backend.domain.simulation.MonteCarloPartial;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationCancelledException;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationRequest;
+import com.wakfu.simulateur.backend.infrastructure.mapper.SimulationRequestMapper;
+import com.wakfu.simulateur.backend.infrastructure.mapper.SimulationShardDTOMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+/**
+ * Côté worker : exécute un lot de runs d'un job réparti par un coordinateur et renvoie ses agrégats.
+ * Un lot calculé sur une autre version du catalogue que celle du coordinateur est refusé (409).
+ */
+@RestController
+@RequestMapping("/api/simulation-shards")
+public class SimulationShardController {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final SimulationJobService jobService;
+    private final CatalogVersionService catalogVersionService;
+    private final SimulationRequestMapper requestMapper;
+    private final SimulationShardDTOMapper mapper;
+
+    public SimulationShardController(SimulationJobService jobService,
+                                     CatalogVersionService catalogVersionService,
+                                     SimulationRequestMapper requestMapper,
+                                     SimulationShardDTOMapper mapper) {
+        this.jobService = jobService;
+        this.catalogVersionService = catalogVersionService;
+        this.requestMapper = requestMapper;
+        this.mapper = mapper;
+    }
+
+    @PostMapping
+    public ResponseEntity<SimulationShardResultDTO> runShard(@RequestBody SimulationShardRequestDTO body) {
+        if (!catalogVersionService.current().equals(body.getCatalogVersion())) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        Optional<MonteCarloPartial> partial;
+        try {
+            SimulationRequest request = requestMapper.toDomain(body.getSimulation());
+            partial = jobService.runShard(body.getId(), request, body.getSeed(), body.getFirstRun(), body.getRuns(),
+                    body.getHistogramBucket(), body.getTopRuns());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (SimulationCancelledException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return partial.map(p -> ResponseEntity.ok(mapper.toDTO(p, body.getFirstRun(), body.getRuns())))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+
+    /**
+     * Annulation d'un lot par le coordinateur (job annulé).
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancelShard(@PathVariable String id) {
+        return jobService.cancelShard(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+}
@@ -1,67 +1,79 @@
 package com.wakfu.simulateur.backend.application.controller;
 
+import com.wakfu.simulateur.backend.application.dto.CatalogView;
 import com.wakfu.simulateur.backend.application.dto.SpellDTO;
-import com.wakfu.simulateur.backend.infrastructure.entity.SpellEntity;
+import com.wakfu.simulateur.backend.application.dto.SpellSummaryDTO;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellSummary;
+import com.wakfu.simulateur.backend.domain.spell.port.SpellGateway;
 import com.wakfu.simulateur.backend.infrastructure.mapper.SpellDTOMapper;
-import com.wakfu.simulateur.backend.infrastructure.repository.SpellRepository;
+import com.wakfu.simulateur.backend.infrastructure.mapper.SparseFieldsetMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/spells")
 @CrossOrigin(origins = "http://localhost:4200")
 public class SpellController {
 
-    private final SpellRepository spellRepository;
+    private final SpellGateway spellGateway;
     private final SpellDTOMapper mapper;
+    private final SparseFieldsetMapper fieldsets;
 
-    public SpellController(SpellRepository spellRepository, SpellDTOMapper mapper) {
-        this.spellRepository = spellRepository;
+    public SpellController(SpellGateway spellGateway, SpellDTOMapper mapper, SparseFieldsetMapper fieldsets) {
+        this.spellGateway = spellGateway;
         this.mapper = mapper;
+        this.fieldsets = fieldsets;
     }
 
+    /**
+     * Sorts du catalogue. {@code view=summary} (ou des {@code fields} tous couverts par
+     * le résumé) sert la projection allégée ; l'arbre complet n'est construit qu'à la demande.
+     */
     @GetMapping
-    public ResponseEntity<List<SpellDTO>> getAllSpells(
-            @RequestParam(required = false) String classId) {
-        List<SpellEntity> entities = spellRepository.findAllWithVariants();
+    public ResponseEntity<List<?>> getAllSpells(
+            @RequestParam(required = false) String classId,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        CatalogView catalogView;
+        Set<String> selected;
+        try {
+            catalogView = CatalogView.parse(view);
+            selected = fieldsets.parse(fields, SpellDTO.class);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
 
-        List<String> ids = entities.stream().map(SpellEntity::getId).toList();
-        if (!ids.isEmpty()) {
-            List<SpellEntity> entitiesWithBreakpoints = spellRepository.findAllWithBreakpoints(ids);
-            for (SpellEntity entity : entities) {
-                entitiesWithBreakpoints.stream()
-                    .filter(e -> e.getId().equals(entity.getId()))
-                    .findFirst()
-                    .ifPresent(e -> entity.setBreakpoints(e.getBreakpoints()));
-            }
+        boolean byClass = classId != null && !classId.isEmpty();
+        boolean summary = catalogView == CatalogView.SUMMARY || fieldsets.covers(SpellSummaryDTO.class, selected);
+        if (summary && selected != null && !fieldsets.covers(SpellSummaryDTO.class, selected)) {
+            return ResponseEntity.badRequest().build();
         }
 
-        if (classId != null && !classId.isEmpty()) {
-            entities = entities.stream()
-                    .filter(s -> s.getCharacterClass() != null &&
-                                 classId.equals(s.getCharacterClass().getId()))
-                    .toList();
+        List<?> dtos;
+        if (summary) {
+            List<SpellSummary> spells = byClass
+                    ? spellGateway.findSummariesByClassId(classId)
+                    : spellGateway.findAllSummaries();
+            dtos = mapper.toSummaryDTOs(spells);
+        } else {
+            List<Spell> spells = byClass
+                    ? spellGateway.findAllByClassId(classId)
+                    : spellGateway.findAll();
+            dtos = mapper.toDTOs(spells);
         }
 
-        return ResponseEntity.ok(mapper.toDTOs(entities));
+        return ResponseEntity.ok(selected != null ? fieldsets.project(dtos, selected) : dtos);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<SpellDTO> getSpellById(@PathVariable String id) {
-        Optional<SpellEntity> entityOpt = spellRepository.findByIdWithVariants(id);
-        if (entityOpt.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-
-        SpellEntity entity = entityOpt.get();
-
-        spellRepository.findByIdWithBreakpoints(id)
-            .ifPresent(e -> entity.setBreakpoints(e.getBreakpoints()));
-
-        return ResponseEntity.ok(mapper.toDTO(entity));
+        return spellGateway.findById(id)
+                .map(mapper::toDTO)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 }
-
@@ -0,0 +1,17 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Résultat d'un batchGet : éléments trouvés dans l'ordre de la demande, et ids introuvables.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetDTO<T> {
+    private List<T> items;
+    private List<String> missing;
+}
@@ -0,0 +1,13 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetRequestDTO {
+    private List<String> ids;
+}
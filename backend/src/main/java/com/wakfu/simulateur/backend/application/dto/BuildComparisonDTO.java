@@ -0,0 +1,29 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildComparisonDTO {
+    private int runs;
+    private boolean precisionReached;
+    private double confidence;
+    private double meanDamageA;
+    private double meanDamageB;
+    private double stdDevDamageA;
+    private double stdDevDamageB;
+    private long failedRunsA;
+    private long failedRunsB;
+    private double meanDifference;
+    private double stdDevDifference;
+    private double halfWidth;
+    private double lower;
+    private double upper;
+    private double relativeDifference;
+    private long betterRunsA;
+    private long betterRunsB;
+    private long tiedRuns;
+    private Double varianceReduction;
+}
@@ -0,0 +1,34 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildComparisonRequestDTO {
+    private SimulationRequestDTO simulation;
+    private BuildDTO buildA;
+    private BuildDTO buildB;
+    private Long seed;
+    private Integer minRuns;
+    private Integer maxRuns;
+    private Integer batchSize;
+    private Double precision;
+    private Double relativePrecision;
+    private Double confidence;
+
+    /**
+     * Ce qui distingue un build de la timeline commune ; un champ absent reprend celui de {@code simulation}.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BuildDTO {
+        private SimulationRequestDTO.StatsDTO stats;
+        private List<String> passiveIds;
+    }
+}
@@ -0,0 +1,16 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogImportDTO {
+    private int classes;
+    private int statuses;
+    private int spells;
+    private int passives;
+    private long elapsedMillis;
+    private String version;
+}
@@ -0,0 +1,20 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogPartitionDTO {
+    private String classId;
+    private String version;
+    private boolean loaded;
+    private long snapshotBytes;
+    private long retainedBytes;
+    private int spells;
+    private int passives;
+    private int statuses;
+    private long loads;
+    private Long lastLoadMillis;
+}
@@ -0,0 +1,20 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import java.util.Locale;
+
+/**
+ * Vue demandée sur les listes du catalogue ({@code view=summary|full}).
+ */
+public enum CatalogView {
+    SUMMARY,
+    FULL;
+
+    public static CatalogView parse(String value) {
+        if (value == null || value.isBlank()) return FULL;
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Vue inconnue: " + value);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DamageBucketDTO {
+    private long from;
+    private long count;
+}
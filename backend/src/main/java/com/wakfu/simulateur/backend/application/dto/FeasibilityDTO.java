@@ -0,0 +1,14 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeasibilityDTO {
+    private boolean feasible;
+    /** Première étape impossible, -1 si la timeline est réalisable. */
+    private int stepIndex;
+    private String reason;
+}
@@ -0,0 +1,36 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FightRequestDTO {
+    /** Plateau initial, sans les combattants (mécanismes, obstacles) */
+    private SimulationRequestDTO.BoardDTO board;
+    private List<FighterDTO> fighters;
+    /** Nombre de tours de table, 1 par défaut */
+    private Integer rounds;
+    private Long seed;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FighterDTO {
+        private String id;
+        /** PLAYER ou ENEMY */
+        private String team;
+        private int initiative;
+        private SimulationRequestDTO.StatsDTO stats;
+        private List<String> passiveIds;
+        private SimulationRequestDTO.PositionDTO position;
+        /** Une étape par tour du combattant ; aucune pour un combattant passif */
+        private List<SimulationRequestDTO.StepDTO> turns;
+        /** Rejoue le script en boucle au-delà de sa dernière étape */
+        private boolean loop;
+    }
+}
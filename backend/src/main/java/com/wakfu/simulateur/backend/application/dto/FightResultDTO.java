@@ -0,0 +1,30 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FightResultDTO {
+    private int rounds;
+    private int turns;
+    private long totalDamage;
+    private List<FighterResultDTO> fighters;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FighterResultDTO {
+        private String id;
+        private String team;
+        private long damage;
+        /** Part des dégâts résolue aux tours des cibles (marques, effets différés) */
+        private long delayedDamage;
+        private int actions;
+        private int failedActions;
+    }
+}
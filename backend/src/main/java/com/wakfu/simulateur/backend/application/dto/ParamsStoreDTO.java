@@ -0,0 +1,17 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParamsStoreDTO {
+    private long documents;
+    private long aliases;
+    private long lookups;
+    private long hits;
+    private double hitRate;
+    private long retainedBytes;
+    private long savedBytes;
+}
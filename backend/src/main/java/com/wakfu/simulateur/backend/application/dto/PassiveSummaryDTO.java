@@ -0,0 +1,14 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PassiveSummaryDTO {
+    private String id;
+    private String classId;
+    private String name;
+    private Integer iconId;
+}
@@ -0,0 +1,46 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Changements produits par une action de session : seuls les champs modifiés sont présents.
+ * Dans {@code cooldowns} et {@code statuses}, une valeur {@code null} signale une entrée retirée.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PlayDeltaDTO {
+    private long sequence;
+    private long totalDamage;
+    private SimulationResultDTO.ActionResultDTO action;
+    private Integer turn;
+    private Integer pa;
+    private Integer mp;
+    private Integer pw;
+    private SimulationRequestDTO.PositionDTO position;
+    private Integer dialHour;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, Integer> cooldowns;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, Integer> statuses;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<CellDTO> cells;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.ALWAYS)
+    public static class CellDTO {
+        private int x;
+        private int y;
+        /** Unité occupant la case après l'action ; {@code null} si la case est libre. */
+        private SimulationRequestDTO.UnitDTO unit;
+    }
+}
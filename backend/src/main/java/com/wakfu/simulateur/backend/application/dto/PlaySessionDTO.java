@@ -0,0 +1,29 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaySessionDTO {
+    private String id;
+    private long sequence;
+    private int turn;
+    private int pa;
+    private int mp;
+    private int pw;
+    private SimulationRequestDTO.PositionDTO position;
+    private int dialHour;
+    private long totalDamage;
+    private Map<String, Integer> cooldowns;
+    private Map<String, Integer> statuses;
+    private int cols;
+    private int rows;
+    private List<SimulationRequestDTO.UnitDTO> units;
+    private int undoable;
+    private int redoable;
+}
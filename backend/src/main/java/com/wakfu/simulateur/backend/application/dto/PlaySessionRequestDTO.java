@@ -0,0 +1,17 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaySessionRequestDTO {
+    private SimulationRequestDTO.StatsDTO stats;
+    private List<String> passiveIds;
+    private SimulationRequestDTO.PositionDTO start;
+    private SimulationRequestDTO.BoardDTO board;
+    private Long seed;
+}
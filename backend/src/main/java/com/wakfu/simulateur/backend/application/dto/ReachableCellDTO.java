@@ -0,0 +1,14 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReachableCellDTO {
+    private int x;
+    private int y;
+    private int mpCost;
+    private int pwCost;
+}
@@ -0,0 +1,43 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationJobDTO {
+    private String id;
+    private String status;
+    private int priority;
+    private int completedRuns;
+    private int totalRuns;
+    private double progress;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Instant expiresAt;
+    private String error;
+    private JobResultDTO result;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobResultDTO {
+        private long runs;
+        private long failedRuns;
+        private double meanDamage;
+        private long minDamage;
+        private long maxDamage;
+        private double stdDevDamage;
+        private int shards;
+        private long histogramBucket;
+        private List<DamageBucketDTO> histogram;
+        private List<RunDamageDTO> topRuns;
+        private SimulationResultDTO sample;
+    }
+}
@@ -0,0 +1,14 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationJobRequestDTO {
+    private SimulationRequestDTO simulation;
+    private Integer iterations;
+    private Long seed;
+    private Integer priority;
+}
@@ -0,0 +1,14 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationReachRequestDTO {
+    private SimulationRequestDTO.PositionDTO position;
+    private Integer mp;
+    private Integer pw;
+    private SimulationRequestDTO.BoardDTO board;
+}
@@ -0,0 +1,14 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationReplayRequestDTO {
+    /** Trace base64 renvoyée par {@code POST /api/simulations?trace=true}. */
+    private String trace;
+    /** Nombre d'étapes à rejouer ; absent = tous les états successifs. */
+    private Integer step;
+}
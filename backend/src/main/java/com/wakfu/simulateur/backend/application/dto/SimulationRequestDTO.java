@@ -0,0 +1,94 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationRequestDTO {
+    private StatsDTO stats;
+    private List<String> passiveIds;
+    private PositionDTO start;
+    private BoardDTO board;
+    private List<StepDTO> steps;
+    private Long seed;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatsDTO {
+        private int level;
+        private int masteryFire;
+        private int masteryWater;
+        private int masteryEarth;
+        private int masteryAir;
+        private int masterySecondary;
+        private int backMastery;
+        private int dommageInflict;
+        private int critRate;
+        private int critMastery;
+        private int resistance;
+        private int ap;
+        private int mp;
+        private int wp;
+        private int range;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StepDTO {
+        private String id;
+        private List<ActionDTO> actions;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ActionDTO {
+        private String type;
+        private String spellId;
+        private String variant;
+        private PositionDTO targetPosition;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PositionDTO {
+        private int x;
+        private int y;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BoardDTO {
+        private Integer cols;
+        private Integer rows;
+        private List<UnitDTO> units;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UnitDTO {
+        private String id;
+        /** PLAYER, ENEMY ou MECHANISM */
+        private String kind;
+        /** DIAL, ROUAGE, SINISTRO ou REGULATOR pour un mécanisme */
+        private String mechanism;
+        private PositionDTO position;
+        /** Résistance aux dégâts en %, 0 par défaut */
+        private Integer resistance;
+    }
+}
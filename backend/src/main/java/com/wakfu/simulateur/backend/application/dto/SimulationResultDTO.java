@@ -0,0 +1,39 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationResultDTO {
+    private boolean success;
+    private long totalDamage;
+    private int completedSteps;
+    private int remainingPa;
+    private int remainingPw;
+    private int remainingMp;
+    private int turns;
+    private List<ActionResultDTO> actions;
+    /** Trace binaire encodée en base64, renvoyée sur demande ({@code ?trace=true}). */
+    private String trace;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ActionResultDTO {
+        private int stepIndex;
+        private String actionType;
+        private String spellId;
+        private boolean success;
+        private String message;
+        private int paCost;
+        private int pwCost;
+        private int mpCost;
+        private int damage;
+        private boolean critical;
+    }
+}
@@ -0,0 +1,20 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationShardRequestDTO {
+    /** Identifiant du lot chez le worker, pour l'annuler. */
+    private String id;
+    /** Version du catalogue du coordinateur ; un worker d'une autre version refuse le lot (409). */
+    private String catalogVersion;
+    private SimulationRequestDTO simulation;
+    private long seed;
+    private int firstRun;
+    private int runs;
+    private long histogramBucket;
+    private int topRuns;
+}
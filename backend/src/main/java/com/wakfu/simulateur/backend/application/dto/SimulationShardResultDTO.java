@@ -0,0 +1,23 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationShardResultDTO {
+    private int firstRun;
+    private int runs;
+    private long count;
+    private long failedRuns;
+    private double mean;
+    private double m2;
+    private long minDamage;
+    private long maxDamage;
+    private long histogramBucket;
+    private List<DamageBucketDTO> histogram;
+    private List<RunDamageDTO> topRuns;
+}
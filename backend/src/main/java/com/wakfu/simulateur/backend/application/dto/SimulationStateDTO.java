@@ -0,0 +1,23 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationStateDTO {
+    private int completedSteps;
+    private int turn;
+    private int pa;
+    private int mp;
+    private int pw;
+    private SimulationRequestDTO.PositionDTO position;
+    private int dialHour;
+    private long totalDamage;
+    private Map<String, Integer> cooldowns;
+    private Map<String, Integer> statuses;
+    private String failure;
+}
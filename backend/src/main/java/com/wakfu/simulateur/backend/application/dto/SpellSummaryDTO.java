@@ -0,0 +1,24 @@
+package com.wakfu.simulateur.backend.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpellSummaryDTO {
+    private String id;
+    private String classId;
+    private String name;
+    private String element;
+    private String spellType;
+    private int paCost;
+    private int pwCost;
+    private int poMin;
+    private int poMax;
+    private int cooldown;
+    private Integer iconId;
+    @JsonProperty("isAoe")
+    private boolean isAoe;
+}
@@ -0,0 +1,50 @@
+package com.wakfu.simulateur.backend.application.service;
+
+import com.wakfu.simulateur.backend.application.config.SimulationJobProperties;
+import com.wakfu.simulateur.backend.domain.simulation.FeasibilityReport;
+import com.wakfu.simulateur.backend.domain.simulation.PairedComparison;
+import com.wakfu.simulateur.backend.domain.simulation.PairedComparisonRequest;
+import com.wakfu.simulateur.backend.domain.simulation.PairedComparisonResult;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationEngine;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Comparaison de deux builds sur une même timeline, par nombres aléatoires communs et arrêt dès la
+ * précision atteinte. Le nombre de runs est borné comme celui d'un job ; la comparaison s'exécute sur
+ * le pool de simulation (vide si la file est pleine) et est annulée au-delà du délai synchrone.
+ */
+@Service
+public class BuildComparisonService {
+
+    private final PairedComparison comparison = new PairedComparison(new SimulationEngine());
+    private final SimulationJobProperties properties;
+    private final FeasibilityService feasibilityService;
+    private final SimulationJobService jobService;
+
+    public BuildComparisonService(SimulationJobProperties properties, FeasibilityService feasibilityService,
+                                  SimulationJobService jobService) {
+        this.properties = properties;
+        this.feasibilityService = feasibilityService;
+        this.jobService = jobService;
+    }
+
+    public Optional<PairedComparisonResult> compare(PairedComparisonRequest request) {
+        if (request.maxRuns() > properties.getMaxIterations()) {
+            throw new IllegalArgumentException("maxRuns ne peut dépasser " + properties.getMaxIterations());
+        }
+        checkFeasible("A", request.a());
+        checkFeasible("B", request.b());
+        return jobService.runSync(0, monitor -> comparison.run(request, monitor));
+    }
+
+    private void checkFeasible(String build, SimulationRequest request) {
+        FeasibilityReport feasibility = feasibilityService.check(request);
+        if (!feasibility.feasible()) {
+            throw new IllegalArgumentException("Timeline irréalisable pour le build " + build + " (étape "
+                    + feasibility.stepIndex() + "): " + feasibility.reason());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.wakfu.simulateur.backend.application.service;
+
+import com.wakfu.simulateur.backend.application.dto.CatalogImportDTO;
+import com.wakfu.simulateur.backend.infrastructure.importer.CatalogImportException;
+import com.wakfu.simulateur.backend.infrastructure.importer.CatalogImportReport;
+import com.wakfu.simulateur.backend.infrastructure.importer.CatalogJsonImporter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Import des données de jeu JSON dans la base, puis recalcul de la version du catalogue.
+ * Seule la source {@code database} voit l'import immédiatement ; les snapshots sont reconstruits au build.
+ */
+@Slf4j
+@Service
+public class CatalogImportService {
+
+    private final DataSource dataSource;
+    private final CatalogVersionService catalogVersionService;
+
+    public CatalogImportService(DataSource dataSource, CatalogVersionService catalogVersionService) {
+        this.dataSource = dataSource;
+        this.catalogVersionService = catalogVersionService;
+    }
+
+    public CatalogImportDTO importCatalog(InputStreamSource source) throws IOException {
+        long start = System.nanoTime();
+        CatalogImportReport report;
+        try (Connection connection = dataSource.getConnection()) {
+            report = CatalogJsonImporter.importCatalog(connection, List.of(source));
+        } catch (SQLException e) {
+            throw new CatalogImportException("Import du catalogue refusé par la base: " + e.getMessage(), e);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Catalogue importé en {} ms: {} sort(s), {} passif(s), {} statut(s)",
+                elapsedMillis, report.spells(), report.passives(), report.statuses());
+
+        return CatalogImportDTO.builder()
+                .classes(report.classes())
+                .statuses(report.statuses())
+                .spells(report.spells())
+                .passives(report.passives())
+                .elapsedMillis(elapsedMillis)
+                .version(catalogVersionService.refresh())
+                .build();
+    }
+}
@@ -0,0 +1,4 @@
+package com.wakfu.simulateur.backend.application.service;
+
+public record CatalogVersionChangedEvent(String previousVersion, String currentVersion) {
+}
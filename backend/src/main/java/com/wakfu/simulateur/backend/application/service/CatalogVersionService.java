@@ -0,0 +1,133 @@
+package com.wakfu.simulateur.backend.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.wakfu.simulateur.backend.domain.catalog.Catalog;
+import com.wakfu.simulateur.backend.domain.jfr.CatalogLoadEvent;
+import com.wakfu.simulateur.backend.domain.jfr.FlightEvents;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.port.PassiveGateway;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.port.SpellGateway;
+import com.wakfu.simulateur.backend.infrastructure.snapshot.CatalogSnapshotLoader;
+import com.wakfu.simulateur.backend.infrastructure.snapshot.PartitionedCatalog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Version du catalogue de référence. Catalogue partitionné : empreinte de l'index des partitions ;
+ * snapshot complet : version du snapshot ; base de données : empreinte SHA-256 du contenu des sorts
+ * et passifs. Seule la base oblige à relire tout le catalogue.
+ * Un changement de version publie un {@link CatalogVersionChangedEvent}.
+ */
+@Slf4j
+@Service
+public class CatalogVersionService {
+
+    private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+            .addModule(new Jdk8Module())
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    private final SpellGateway spellGateway;
+    private final PassiveGateway passiveGateway;
+    private final PartitionedCatalog partitionedCatalog;
+    private final CatalogSnapshotLoader snapshotLoader;
+    private final ApplicationEventPublisher events;
+    private volatile String version;
+
+    public CatalogVersionService(SpellGateway spellGateway,
+                                 PassiveGateway passiveGateway,
+                                 ObjectProvider<PartitionedCatalog> partitionedCatalog,
+                                 ObjectProvider<CatalogSnapshotLoader> snapshotLoader,
+                                 ApplicationEventPublisher events) {
+        this.spellGateway = spellGateway;
+        this.passiveGateway = passiveGateway;
+        this.partitionedCatalog = partitionedCatalog.getIfAvailable();
+        this.snapshotLoader = snapshotLoader.getIfAvailable();
+        this.events = events;
+    }
+
+    public String current() {
+        String current = version;
+        if (current == null) {
+            synchronized (this) {
+                if (version == null) version = computeVersion();
+                current = version;
+            }
+        }
+        return current;
+    }
+
+    public synchronized String refresh() {
+        String previous = version;
+        String next = computeVersion();
+        version = next;
+        if (previous != null && !previous.equals(next)) {
+            log.info("Catalogue modifié: {} -> {}", previous, next);
+            events.publishEvent(new CatalogVersionChangedEvent(previous, next));
+        }
+        return next;
+    }
+
+    private String computeVersion() {
+        CatalogLoadEvent event = FlightEvents.enabled() ? new CatalogLoadEvent() : null;
+        if (event != null) event.begin();
+        String computed;
+        int spellCount;
+        int passiveCount;
+        if (partitionedCatalog != null) {
+            computed = partitionedCatalog.version();
+            spellCount = partitionedCatalog.spellCount();
+            passiveCount = partitionedCatalog.passiveCount();
+        } else if (snapshotLoader != null) {
+            Catalog catalog = snapshotLoader.catalog();
+            computed = catalog.version();
+            spellCount = catalog.spells().size();
+            passiveCount = catalog.passives().size();
+        } else {
+            List<Spell> spells = spellGateway.findAll().stream()
+                    .sorted(Comparator.comparing(Spell::id))
+                    .toList();
+            List<Passive> passives = passiveGateway.findAll().stream()
+                    .sorted(Comparator.comparing(Passive::id))
+                    .toList();
+            computed = digest(spells, passives);
+            spellCount = spells.size();
+            passiveCount = passives.size();
+        }
+        if (event != null && event.shouldCommit()) {
+            event.source = "version";
+            event.reload = version != null;
+            event.version = computed;
+            event.spells = spellCount;
+            event.passives = passiveCount;
+            event.commit();
+        }
+        return computed;
+    }
+
+    private static String digest(List<Spell> spells, List<Passive> passives) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(CANONICAL_MAPPER.writeValueAsBytes(spells));
+            digest.update(CANONICAL_MAPPER.writeValueAsBytes(passives));
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Impossible de calculer la version du catalogue", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.wakfu.simulateur.backend.application.service;
+
+import com.wakfu.simulateur.backend.domain.passive.port.PassiveGateway;
+import com.wakfu.simulateur.backend.domain.simulation.FeasibilityAnalyzer;
+import com.wakfu.simulateur.backend.domain.simulation.FeasibilityReport;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationRequest;
+import com.wakfu.simulateur.backend.domain.status.port.StatusGateway;
+import org.springframework.stereotype.Service;
+
+/**
+ * Pré-passe statique avant simulation : les passifs équipés et les statuts référencés sont
+ * résolus dans le catalogue pour majorer les gains de ressources.
+ */
+@Service
+public class FeasibilityService {
+
+    private final PassiveGateway passiveGateway;
+    private final StatusGateway statusGateway;
+
+    public FeasibilityService(PassiveGateway passiveGateway, StatusGateway statusGateway) {
+        this.passiveGateway = passiveGateway;
+        this.statusGateway = statusGateway;
+    }
+
+    public FeasibilityReport check(SimulationRequest request) {
+        FeasibilityAnalyzer analyzer = new FeasibilityAnalyzer(statusGateway::findById,
+                passiveGateway.findAllById(request.passiveIds()));
+        return analyzer.analyze(request);
+    }
+}
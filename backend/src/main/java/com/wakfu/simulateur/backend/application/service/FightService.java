@@ -0,0 +1,31 @@
+package com.wakfu.simulateur.backend.application.service;
+
+import com.wakfu.simulateur.backend.domain.fight.FightRequest;
+import com.wakfu.simulateur.backend.domain.fight.FightResult;
+import com.wakfu.simulateur.backend.domain.fight.FightSimulator;
+import com.wakfu.simulateur.backend.domain.status.port.StatusGateway;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * Combat à plusieurs combattants ; les statuts posés sur les cibles sont résolus dans le catalogue
+ * pour déclencher leurs ticks aux tours des cibles. Le combat s'exécute sur le pool de simulation :
+ * vide si la file est pleine.
+ */
+@Service
+public class FightService {
+
+    private final FightSimulator simulator;
+    private final SimulationJobService jobService;
+
+    public FightService(StatusGateway statusGateway, SimulationJobService jobService) {
+        this.simulator = new FightSimulator(statusGateway::findById);
+        this.jobService = jobService;
+    }
+
+    public Optional<FightResult> simulate(FightRequest request, long seed) {
+        return jobService.runSync(0, monitor -> simulator.simulate(request, new SplittableRandom(seed), monitor));
+    }
+}
@@ -0,0 +1,67 @@
+package com.wakfu.simulateur.backend.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.wakfu.simulateur.backend.application.config.PlaySessionProperties;
+import com.wakfu.simulateur.backend.domain.passive.PassiveModifiers;
+import com.wakfu.simulateur.backend.domain.session.PlaySession;
+import com.wakfu.simulateur.backend.domain.session.PlayUpdate;
+import com.wakfu.simulateur.backend.domain.simulation.CharacterStats;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationContext;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationEngine;
+import com.wakfu.simulateur.backend.domain.simulation.TimelineAction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Sessions de jeu interactif conservées en mémoire. Chaque action ne renvoie que son delta ;
+ * les sessions inactives sont supprimées après {@code play.sessions.idle-timeout}.
+ */
+@Slf4j
+@Service
+public class PlaySessionService {
+
+    private final SimulationEngine engine = new SimulationEngine();
+    private final PlaySessionProperties properties;
+    private final Cache<String, PlaySession> sessions;
+
+    public PlaySessionService(PlaySessionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSessions())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .removalListener((String id, PlaySession session, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) log.debug("Session de jeu {} supprimée ({})", id, cause);
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sessions, "play.sessions");
+    }
+
+    public PlaySession create(CharacterStats stats, Set<String> passiveIds, PassiveModifiers modifiers,
+                              SimulationContext context, long seed) {
+        PlaySession session = new PlaySession(UUID.randomUUID().toString(), stats, passiveIds, modifiers, context, seed,
+                properties.getMaxHistory());
+        sessions.put(session.id(), session);
+        return session;
+    }
+
+    public Optional<PlaySession> find(String id) {
+        return Optional.ofNullable(sessions.getIfPresent(id));
+    }
+
+    public Optional<PlayUpdate> play(String id, TimelineAction action) {
+        return find(id).map(session -> session.play(action, engine));
+    }
+
+    public boolean close(String id) {
+        return sessions.asMap().remove(id) != null;
+    }
+}
@@ -0,0 +1,237 @@
+package com.wakfu.simulateur.backend.application.service;
+
+import com.wakfu.simulateur.backend.application.config.SimulationClusterProperties;
+import com.wakfu.simulateur.backend.application.config.SimulationJobProperties;
+import com.wakfu.simulateur.backend.application.dto.SimulationShardRequestDTO;
+import com.wakfu.simulateur.backend.domain.simulation.MonteCarloPartial;
+import com.wakfu.simulateur.backend.domain.simulation.MonteCarloRunner;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationCancelledException;
+import com.wakfu.simulateur.backend.infrastructure.cluster.ShardClient;
+import com.wakfu.simulateur.backend.infrastructure.mapper.SimulationShardDTOMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mode coordinateur : découpe un job Monte Carlo en lots de runs consécutifs, les envoie en HTTP
+ * aux workers configurés (instances du même jar) et fusionne statistiques, histogrammes et
+ * meilleurs runs. Chaque worker traite {@code parallelism} lots à la fois et prend le lot suivant
+ * dès qu'il a fini. Un lot en échec est remis en file pour un autre worker ; un worker qui échoue
+ * {@code maxAttempts} fois de suite est écarté pour le reste du job. Les lots restants après
+ * épuisement des tentatives sont exécutés par le coordinateur : le job aboutit toujours, et le
+ * résultat ne dépend pas de qui a exécuté quoi.
+ * <p>
+ * Chaque lot porte la version du catalogue du coordinateur : un worker sur un autre catalogue le
+ * refuse (409) et est écarté aussitôt. À l'annulation du job, les lots en cours sont annulés chez
+ * les workers.
+ */
+@Slf4j
+@Service
+public class ShardCoordinator {
+
+    /** Intervalle de vérification de l'annulation du job pendant l'attente des lots. */
+    private static final long CANCEL_POLL_MILLIS = 200;
+
+    private final SimulationClusterProperties cluster;
+    private final SimulationJobProperties jobs;
+    private final ShardClient client;
+    private final SimulationShardDTOMapper mapper;
+    private final CatalogVersionService catalogVersionService;
+    private final ExecutorService dispatchers = Executors.newCachedThreadPool(dispatcherThreadFactory());
+
+    public ShardCoordinator(SimulationClusterProperties cluster, SimulationJobProperties jobs, ShardClient client,
+                            SimulationShardDTOMapper mapper, CatalogVersionService catalogVersionService) {
+        this.cluster = cluster;
+        this.jobs = jobs;
+        this.client = client;
+        this.mapper = mapper;
+        this.catalogVersionService = catalogVersionService;
+        if (cluster.isCoordinator()) {
+            log.info("Mode coordinateur: {} workers, lots de {} runs", cluster.getWorkers().size(), cluster.getShardRuns());
+        }
+    }
+
+    public boolean shouldShard(SimulationJob job) {
+        return cluster.isCoordinator() && job.getSource() != null && job.getTotalRuns() > cluster.getShardRuns();
+    }
+
+    public MonteCarloPartial run(SimulationJob job, MonteCarloRunner runner) {
+        // Échantillon renvoyé avec le résultat : le run 0, rejoué localement.
+        runner.run(job.getRequest(), job.getSeed(), 0, 1, jobs.getHistogramBucket(), 0, job, job::recordSample);
+
+        List<Shard> shards = new ArrayList<>();
+        for (int first = 0; first < job.getTotalRuns(); first += cluster.getShardRuns()) {
+            shards.add(new Shard(shards.size(), first, Math.min(cluster.getShardRuns(), job.getTotalRuns() - first)));
+        }
+        job.sharded(shards.size());
+        Queue<Shard> pending = new ConcurrentLinkedQueue<>(shards);
+        MonteCarloPartial[] results = new MonteCarloPartial[shards.size()];
+        Dispatch dispatch = new Dispatch(job, catalogVersionService.current(), pending, results);
+
+        List<CompletableFuture<Void>> slots = new ArrayList<>();
+        for (String worker : cluster.getWorkers()) {
+            AtomicInteger consecutiveFailures = new AtomicInteger();
+            for (int slot = 0; slot < Math.max(1, cluster.getParallelism()); slot++) {
+                slots.add(CompletableFuture.runAsync(() -> dispatch(dispatch, worker, consecutiveFailures), dispatchers));
+            }
+        }
+        await(dispatch, CompletableFuture.allOf(slots.toArray(CompletableFuture[]::new)));
+        if (job.isCancelled()) {
+            throw new SimulationCancelledException(0);
+        }
+
+        for (Shard shard : shards) {
+            if (results[shard.index] != null) continue;
+            log.warn("Job {}: lot {} exécuté par le coordinateur après {} tentatives", job.getId(), shard.index,
+                    shard.attempts);
+            results[shard.index] = runner.run(job.getRequest(), job.getSeed(), shard.firstRun, shard.runs,
+                    jobs.getHistogramBucket(), jobs.getTopRuns(), job, result -> { });
+            job.shardCompleted(shard.runs);
+        }
+
+        MonteCarloPartial merged = MonteCarloPartial.empty(jobs.getHistogramBucket(), jobs.getTopRuns());
+        for (MonteCarloPartial result : results) {
+            merged.merge(result);
+        }
+        return merged;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatchers.shutdownNow();
+    }
+
+    /**
+     * Attend les lots ; si le job est annulé entre-temps, annule chez les workers les lots en cours.
+     */
+    private void await(Dispatch dispatch, CompletableFuture<Void> slots) {
+        Set<String> cancelled = new HashSet<>();
+        while (true) {
+            try {
+                slots.get(CANCEL_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                if (!dispatch.job.isCancelled()) continue;
+                dispatch.inFlight.forEach((shardId, worker) -> {
+                    if (cancelled.add(shardId)) cancel(worker, shardId);
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SimulationCancelledException("Répartition interrompue");
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    private void cancel(String worker, String shardId) {
+        try {
+            client.cancel(worker, shardId);
+        } catch (RuntimeException e) {
+            log.debug("Annulation du lot {} sur {} impossible: {}", shardId, worker, e.getMessage());
+        }
+    }
+
+    private void dispatch(Dispatch dispatch, String worker, AtomicInteger consecutiveFailures) {
+        SimulationJob job = dispatch.job;
+        Queue<Shard> pending = dispatch.pending;
+        Shard shard;
+        while (!job.isCancelled() && consecutiveFailures.get() < cluster.getMaxAttempts()
+                && (shard = pending.poll()) != null) {
+            SimulationShardRequestDTO request = request(dispatch, shard);
+            dispatch.inFlight.put(request.getId(), worker);
+            try {
+                dispatch.results[shard.index] = mapper.toDomain(client.execute(worker, request), jobs.getTopRuns());
+                consecutiveFailures.set(0);
+                job.shardCompleted(shard.runs);
+            } catch (HttpClientErrorException.Conflict e) {
+                // autre version du catalogue : inutile de réessayer sur ce worker
+                log.warn("Worker {} écarté pour le job {}: version du catalogue différente", worker, job.getId());
+                pending.add(shard);
+                consecutiveFailures.set(cluster.getMaxAttempts());
+            } catch (RuntimeException e) {
+                shard.attempts++;
+                log.warn("Job {}: lot {} en échec sur {} (tentative {}): {}", job.getId(), shard.index, worker,
+                        shard.attempts, e.getMessage());
+                if (shard.attempts < cluster.getMaxAttempts()) pending.add(shard);
+                if (consecutiveFailures.incrementAndGet() == cluster.getMaxAttempts()) {
+                    log.warn("Worker {} écarté pour le job {}", worker, job.getId());
+                }
+            } finally {
+                dispatch.inFlight.remove(request.getId());
+            }
+        }
+    }
+
+    private SimulationShardRequestDTO request(Dispatch dispatch, Shard shard) {
+        SimulationJob job = dispatch.job;
+        return SimulationShardRequestDTO.builder()
+                .id(job.getId() + "-" + shard.index + "-" + shard.attempts)
+                .catalogVersion(dispatch.catalogVersion)
+                .simulation(job.getSource())
+                .seed(job.getSeed())
+                .firstRun(shard.firstRun)
+                .runs(shard.runs)
+                .histogramBucket(jobs.getHistogramBucket())
+                .topRuns(jobs.getTopRuns())
+                .build();
+    }
+
+    private static ThreadFactory dispatcherThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "shard-dispatch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * État partagé par les envois d'un job : lots restants, résultats et lots en cours par worker.
+     */
+    private static final class Dispatch {
+        private final SimulationJob job;
+        private final String catalogVersion;
+        private final Queue<Shard> pending;
+        private final MonteCarloPartial[] results;
+        private final Map<String, String> inFlight = new ConcurrentHashMap<>();
+
+        private Dispatch(SimulationJob job, String catalogVersion, Queue<Shard> pending, MonteCarloPartial[] results) {
+            this.job = job;
+            this.catalogVersion = catalogVersion;
+            this.pending = pending;
+            this.results = results;
+        }
+    }
+
+    private static final class Shard {
+        private final int index;
+        private final int firstRun;
+        private final int runs;
+        private volatile int attempts;
+
+        private Shard(int index, int firstRun, int runs) {
+            this.index = index;
+            this.firstRun = firstRun;
+            this.runs = runs;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.wakfu.simulateur.backend.application.service;
+
+import com.wakfu.simulateur.backend.application.dto.SimulationRequestDTO;
+import com.wakfu.simulateur.backend.domain.simulation.MonteCarloPartial;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationMonitor;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationRequest;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationResult;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Job de simulation asynchrone : {@code totalRuns} exécutions de la même timeline avec des tirages
+ * de critiques indépendants. Les transitions d'état sont atomiques pour arbitrer entre le worker
+ * qui démarre le job et une annulation concurrente.
+ * <p>
+ * La requête d'origine ({@code source}) est conservée pour pouvoir répartir les runs sur des
+ * workers distants.
+ */
+@Getter
+public class SimulationJob implements SimulationMonitor {
+
+    private final String id;
+    private final SimulationRequest request;
+    private final SimulationRequestDTO source;
+    private final int totalRuns;
+    private final long seed;
+    private final int priority;
+    private final Instant submittedAt = Instant.now();
+
+    private final AtomicReference<JobStatus> status = new AtomicReference<>(JobStatus.QUEUED);
+    private volatile boolean cancelRequested;
+    private volatile int completedRuns;
+    private volatile int completedSteps;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+    private volatile MonteCarloPartial result;
+    /** Nombre de lots : 1 pour un job exécuté localement d'un seul tenant. */
+    private volatile int shards = 1;
+    private volatile SimulationResult sample;
+
+    SimulationJob(String id, SimulationRequest request, SimulationRequestDTO source, int totalRuns, long seed,
+                  int priority) {
+        this.id = id;
+        this.request = request;
+        this.source = source;
+        this.totalRuns = totalRuns;
+        this.seed = seed;
+        this.priority = priority;
+    }
+
+    public JobStatus getStatus() {
+        return status.get();
+    }
+
+    public double getProgress() {
+        JobStatus current = status.get();
+        if (current == JobStatus.COMPLETED) return 1.0;
+        int stepCount = request.steps().size();
+        double stepFraction = stepCount > 0 ? (double) completedSteps / stepCount : 0;
+        return Math.min(1.0, (completedRuns + stepFraction) / totalRuns);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested;
+    }
+
+    @Override
+    public void onStepCompleted(int completedSteps, int totalSteps) {
+        this.completedSteps = completedSteps;
+    }
+
+    boolean tryStart() {
+        if (!status.compareAndSet(JobStatus.QUEUED, JobStatus.RUNNING)) return false;
+        startedAt = Instant.now();
+        return true;
+    }
+
+    boolean tryCancelQueued() {
+        cancelRequested = true;
+        if (!status.compareAndSet(JobStatus.QUEUED, JobStatus.CANCELLED)) return false;
+        finishedAt = Instant.now();
+        return true;
+    }
+
+    void requestCancel() {
+        cancelRequested = true;
+    }
+
+    void runCompleted(SimulationResult result) {
+        if (sample == null) sample = result;
+        completedSteps = 0;
+        completedRuns++;
+    }
+
+    /**
+     * Lot terminé par un worker distant ou par le coordinateur.
+     */
+    synchronized void shardCompleted(int runs) {
+        completedRuns += runs;
+    }
+
+    void recordSample(SimulationResult result) {
+        if (sample == null) sample = result;
+    }
+
+    void sharded(int shards) {
+        this.shards = shards;
+    }
+
+    void complete(MonteCarloPartial result) {
+        this.result = result;
+        finish(JobStatus.COMPLETED, null);
+    }
+
+    void finish(JobStatus terminalStatus, String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        status.set(terminalStatus);
+    }
+}
@@ -0,0 +1,321 @@
+package com.wakfu.simulateur.backend.application.service;
+
+import com.wakfu.simulateur.backend.application.config.SimulationClusterProperties;
+import com.wakfu.simulateur.backend.application.config.SimulationJobProperties;
+import com.wakfu.simulateur.backend.application.dto.SimulationRequestDTO;
+import com.wakfu.simulateur.backend.domain.simulation.FeasibilityReport;
+import com.wakfu.simulateur.backend.domain.simulation.MonteCarloPartial;
+import com.wakfu.simulateur.backend.domain.simulation.MonteCarloRunner;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationCancelledException;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationEngine;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationMonitor;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * File de jobs de simulation : file à priorité bornée, pool de workers dédié (hors threads servlet),
+ * annulation coopérative entre deux étapes de timeline et conservation des résultats pendant un TTL.
+ * En mode coordinateur, les gros jobs sont répartis par lots sur les workers ({@link ShardCoordinator}).
+ * Les calculs attendus par une requête HTTP (combats, comparaisons) passent par la même file
+ * ({@link #runSync}).
+ */
+@Slf4j
+@Service
+public class SimulationJobService {
+
+    private final MonteCarloRunner runner = new MonteCarloRunner(new SimulationEngine());
+    private final SimulationJobProperties properties;
+    private final SimulationClusterProperties cluster;
+    private final FeasibilityService feasibilityService;
+    private final ShardCoordinator coordinator;
+    private final ThreadPoolExecutor workers;
+    private final Map<String, SimulationJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, JobTask> queuedTasks = new ConcurrentHashMap<>();
+    private final Map<String, SyncTask<?>> shardTasks = new ConcurrentHashMap<>();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SimulationJobService(SimulationJobProperties properties, SimulationClusterProperties cluster,
+                                FeasibilityService feasibilityService, ShardCoordinator coordinator) {
+        this.properties = properties;
+        this.cluster = cluster;
+        this.feasibilityService = feasibilityService;
+        this.coordinator = coordinator;
+        int size = properties.resolveWorkers();
+        this.workers = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), workerThreadFactory());
+        log.info("Pool de simulation: {} workers, file de {} jobs", size, properties.getQueueCapacity());
+    }
+
+    /**
+     * Met un job en file. Retourne vide si la file est pleine (le client doit réessayer plus tard).
+     * Une timeline rejetée par l'analyse statique n'occupe ni file ni worker. {@code source} est la
+     * requête telle que reçue, renvoyée aux workers si le job est réparti.
+     */
+    public Optional<SimulationJob> submit(SimulationRequest request, SimulationRequestDTO source, int iterations,
+                                          long seed, int priority) {
+        checkRuns(iterations);
+        FeasibilityReport feasibility = feasibilityService.check(request);
+        if (!feasibility.feasible()) {
+            throw new IllegalArgumentException("Timeline irréalisable (étape " + feasibility.stepIndex() + "): "
+                    + feasibility.reason());
+        }
+        purgeExpired();
+        if (!reserveSlot()) {
+            return Optional.empty();
+        }
+
+        SimulationJob job = new SimulationJob(UUID.randomUUID().toString(), request, source, iterations, seed,
+                priority);
+        JobTask task = new JobTask(job, sequence.getAndIncrement());
+        jobs.put(job.getId(), job);
+        queuedTasks.put(job.getId(), task);
+        workers.execute(task);
+        return Optional.of(job);
+    }
+
+    /**
+     * Lot de runs demandé par un coordinateur, exécuté sur le pool comme un calcul synchrone : vide si
+     * la file est pleine, annulé au-delà de {@code simulation.cluster.shard-timeout} ou par
+     * {@link #cancelShard} si {@code id} est fourni.
+     */
+    public Optional<MonteCarloPartial> runShard(String id, SimulationRequest request, long seed, int firstRun, int runs,
+                                                long histogramBucket, int topRuns) {
+        checkRuns(runs);
+        if (firstRun < 0 || topRuns < 0 || topRuns > properties.getTopRuns()) {
+            throw new IllegalArgumentException("Lot invalide (premier run " + firstRun + ", " + topRuns + " meilleurs runs)");
+        }
+        return runSync(0, cluster.getShardTimeout(), id,
+                monitor -> runner.run(request, seed, firstRun, runs, histogramBucket, topRuns, monitor, result -> { }));
+    }
+
+    /**
+     * Annule un lot en file ou en cours ; faux si aucun lot de cet identifiant n'est connu.
+     */
+    public boolean cancelShard(String id) {
+        SyncTask<?> task = shardTasks.get(id);
+        if (task == null) return false;
+        task.cancel();
+        return true;
+    }
+
+    /**
+     * Calcul synchrone exécuté sur le pool de workers avec la même admission que les jobs : vide si la
+     * file est pleine. Le calcul reçoit un moniteur qui passe à annulé si l'appelant est interrompu ou
+     * si {@code simulation.jobs.sync-timeout} est dépassé ; l'appelant reçoit alors une
+     * {@link SimulationCancelledException}.
+     */
+    public <T> Optional<T> runSync(int priority, Function<SimulationMonitor, T> work) {
+        return runSync(priority, properties.getSyncTimeout(), null, work);
+    }
+
+    private <T> Optional<T> runSync(int priority, Duration timeout, String shardId, Function<SimulationMonitor, T> work) {
+        if (!reserveSlot()) {
+            return Optional.empty();
+        }
+        SyncTask<T> task = new SyncTask<>(priority, sequence.getAndIncrement(), work);
+        if (shardId != null && shardTasks.putIfAbsent(shardId, task) != null) {
+            queuedCount.decrementAndGet();
+            throw new IllegalArgumentException("Lot déjà en cours: " + shardId);
+        }
+        try {
+            workers.execute(task);
+            return Optional.of(task.await(timeout));
+        } finally {
+            if (shardId != null) shardTasks.remove(shardId, task);
+        }
+    }
+
+    public Optional<SimulationJob> find(String id) {
+        purgeExpired();
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    public Optional<SimulationJob> cancel(String id) {
+        SimulationJob job = jobs.get(id);
+        if (job == null) return Optional.empty();
+
+        if (job.tryCancelQueued()) {
+            JobTask task = queuedTasks.remove(id);
+            if (task != null) workers.remove(task);
+            queuedCount.decrementAndGet();
+        } else {
+            job.requestCancel();
+        }
+        return Optional.of(job);
+    }
+
+    public int queuedJobs() {
+        return queuedCount.get();
+    }
+
+    public Instant expiresAt(SimulationJob job) {
+        Instant finishedAt = job.getFinishedAt();
+        return finishedAt != null ? finishedAt.plus(properties.getResultTtl()) : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void checkRuns(int runs) {
+        if (runs < 1 || runs > properties.getMaxIterations()) {
+            throw new IllegalArgumentException("iterations doit être compris entre 1 et " + properties.getMaxIterations());
+        }
+    }
+
+    private boolean reserveSlot() {
+        int capacity = properties.getQueueCapacity();
+        while (true) {
+            int current = queuedCount.get();
+            if (current >= capacity) return false;
+            if (queuedCount.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    private void purgeExpired() {
+        Instant threshold = Instant.now().minus(properties.getResultTtl());
+        jobs.values().removeIf(job -> job.getStatus().isTerminal()
+                && job.getFinishedAt() != null
+                && job.getFinishedAt().isBefore(threshold));
+    }
+
+    private void run(SimulationJob job) {
+        queuedTasks.remove(job.getId());
+        if (!job.tryStart()) {
+            return;
+        }
+        queuedCount.decrementAndGet();
+
+        try {
+            if (coordinator.shouldShard(job)) {
+                job.complete(coordinator.run(job, runner));
+            } else {
+                job.complete(runner.run(job.getRequest(), job.getSeed(), 0, job.getTotalRuns(),
+                        properties.getHistogramBucket(), properties.getTopRuns(), job, job::runCompleted));
+            }
+        } catch (SimulationCancelledException e) {
+            job.finish(JobStatus.CANCELLED, null);
+        } catch (RuntimeException e) {
+            log.warn("Job de simulation {} en échec", job.getId(), e);
+            job.finish(JobStatus.FAILED, e.getMessage());
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "simulation-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Tâche du pool : priorité la plus haute d'abord, puis ordre d'arrivée.
+     */
+    private abstract static class QueuedTask implements Runnable, Comparable<QueuedTask> {
+
+        private final int priority;
+        private final long sequence;
+
+        private QueuedTask(int priority, long sequence) {
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(QueuedTask other) {
+            int byPriority = Integer.compare(other.priority, priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final class JobTask extends QueuedTask {
+
+        private final SimulationJob job;
+
+        private JobTask(SimulationJob job, long sequence) {
+            super(job.getPriority(), sequence);
+            this.job = job;
+        }
+
+        @Override
+        public void run() {
+            SimulationJobService.this.run(job);
+        }
+    }
+
+    /**
+     * Calcul synchrone : le démarrage par un worker et l'abandon par l'appelant sont arbitrés
+     * atomiquement pour libérer la place en file une seule fois.
+     */
+    private final class SyncTask<T> extends QueuedTask implements SimulationMonitor {
+
+        private final Function<SimulationMonitor, T> work;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicReference<JobStatus> status = new AtomicReference<>(JobStatus.QUEUED);
+        private volatile boolean cancelled;
+
+        private SyncTask(int priority, long sequence, Function<SimulationMonitor, T> work) {
+            super(priority, sequence);
+            this.work = work;
+        }
+
+        @Override
+        public void run() {
+            if (!status.compareAndSet(JobStatus.QUEUED, JobStatus.RUNNING)) return;
+            queuedCount.decrementAndGet();
+            try {
+                result.complete(work.apply(this));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        T await(Duration timeout) {
+            try {
+                return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                cancel();
+                throw new SimulationCancelledException("Calcul interrompu après " + timeout.toSeconds() + " s");
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new SimulationCancelledException("Calcul interrompu");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+                if (e.getCause() instanceof Error error) throw error;
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            if (status.compareAndSet(JobStatus.QUEUED, JobStatus.CANCELLED)) {
+                workers.remove(this);
+                queuedCount.decrementAndGet();
+                result.completeExceptionally(new SimulationCancelledException("Calcul annulé avant son démarrage"));
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.wakfu.simulateur.backend.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.wakfu.simulateur.backend.application.config.SimulationCacheProperties;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Cache des résultats de simulation adressé par {@code SimulationFingerprint}.
+ * Éviction W-TinyLFU (Caffeine) pondérée par le nombre d'actions du résultat ;
+ * vidé à chaque changement de version du catalogue.
+ */
+@Slf4j
+@Component
+public class SimulationResultCache {
+
+    private final Cache<String, SimulationResult> cache;
+
+    public SimulationResultCache(SimulationCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeight())
+                .weigher((String key, SimulationResult result) -> 1 + result.actions().size())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "simulation.results");
+    }
+
+    public SimulationResult get(String fingerprint, Function<String, SimulationResult> loader) {
+        return cache.get(fingerprint, loader);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @EventListener
+    public void onCatalogVersionChanged(CatalogVersionChangedEvent event) {
+        log.info("Invalidation du cache de simulation (catalogue {})", event.currentVersion());
+        cache.invalidateAll();
+    }
+}
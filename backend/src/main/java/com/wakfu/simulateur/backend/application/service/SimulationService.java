@@ -0,0 +1,40 @@
+package com.wakfu.simulateur.backend.application.service;
+
+import com.wakfu.simulateur.backend.domain.simulation.SimulationEngine;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationFingerprint;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationMonitor;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationRequest;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationResult;
+import com.wakfu.simulateur.backend.domain.simulation.TraceWriter;
+import org.springframework.stereotype.Service;
+
+import java.util.SplittableRandom;
+
+/**
+ * Simulation synchrone d'un couple (build, timeline). Le tirage des critiques dépend uniquement
+ * de la graine, ce qui rend le résultat cachable par empreinte. Chaque résultat embarque sa trace
+ * binaire, écrite dans un tampon réutilisé par thread.
+ */
+@Service
+public class SimulationService {
+
+    private static final ThreadLocal<TraceWriter> TRACE_WRITERS = ThreadLocal.withInitial(TraceWriter::new);
+
+    private final SimulationEngine engine = new SimulationEngine();
+    private final CatalogVersionService catalogVersionService;
+    private final SimulationResultCache cache;
+
+    public SimulationService(CatalogVersionService catalogVersionService, SimulationResultCache cache) {
+        this.catalogVersionService = catalogVersionService;
+        this.cache = cache;
+    }
+
+    public SimulationResult simulate(SimulationRequest request, long seed) {
+        String fingerprint = SimulationFingerprint.of(catalogVersionService.current(), request, seed);
+        return cache.get(fingerprint, key -> {
+            TraceWriter trace = TRACE_WRITERS.get().reset();
+            return engine.simulate(request, new SplittableRandom(seed), SimulationMonitor.NONE, trace)
+                    .withTrace(trace.toTrace());
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.wakfu.simulateur.backend.infrastructure.cluster;
+
+import com.wakfu.simulateur.backend.application.config.SimulationClusterProperties;
+import com.wakfu.simulateur.backend.application.dto.SimulationShardRequestDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationShardResultDTO;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Envoi d'un lot de runs à un worker ({@code POST /api/simulation-shards}) et annulation d'un lot en
+ * cours. Toute erreur de transport ou réponse non 2xx est levée en
+ * {@link org.springframework.web.client.RestClientException}.
+ */
+@Component
+public class ShardClient {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final RestClient restClient;
+
+    public ShardClient(RestClient.Builder builder, SimulationClusterProperties properties) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(CONNECT_TIMEOUT).build());
+        requestFactory.setReadTimeout(properties.getShardTimeout());
+        this.restClient = builder.requestFactory(requestFactory).build();
+    }
+
+    public SimulationShardResultDTO execute(String worker, SimulationShardRequestDTO shard) {
+        return restClient.post()
+                .uri(worker + "/api/simulation-shards")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(shard)
+                .retrieve()
+                .body(SimulationShardResultDTO.class);
+    }
+
+    public void cancel(String worker, String shardId) {
+        restClient.delete()
+                .uri(worker + "/api/simulation-shards/{id}", shardId)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -2,9 +2,15 @@ package com.wakfu.simulateur.backend.infrastructure.entity.converter;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wakfu.simulateur.backend.domain.catalog.ParamsStore;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
+/**
+ * Colonnes {@code params_json}. Chaque entité reçoit son propre arbre, modifiable : Hibernate en garde
+ * une copie pour la détection des modifications. Le partage se fait à la conversion vers le domaine
+ * ({@link ParamsStore}).
+ */
 @Converter(autoApply = false)
 public class JsonNodeConverter implements AttributeConverter<JsonNode, String> {
     private static final ObjectMapper MAPPER = new ObjectMapper();
@@ -0,0 +1,58 @@
+package com.wakfu.simulateur.backend.infrastructure.gateway;
+
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveSummary;
+import com.wakfu.simulateur.backend.domain.passive.port.PassiveGateway;
+import com.wakfu.simulateur.backend.infrastructure.mapper.PassiveMapper;
+import com.wakfu.simulateur.backend.infrastructure.repository.PassiveRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "catalog.source", havingValue = "database")
+public class JpaPassiveGateway implements PassiveGateway {
+
+    private final PassiveRepository passiveRepository;
+    private final PassiveMapper mapper;
+
+    public JpaPassiveGateway(PassiveRepository passiveRepository, PassiveMapper mapper) {
+        this.passiveRepository = passiveRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<Passive> findById(String id) {
+        return passiveRepository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Passive> findAllById(Collection<String> ids) {
+        if (ids.isEmpty()) return List.of();
+        return passiveRepository.findAllByIdIn(ids).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Passive> findAll() {
+        return passiveRepository.findAll().stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<PassiveSummary> findAllSummaries() {
+        return passiveRepository.findAllSummaries();
+    }
+
+    @Override
+    public List<PassiveSummary> findSummariesByClassId(String classId) {
+        return passiveRepository.findSummariesByClassId(classId);
+    }
+}
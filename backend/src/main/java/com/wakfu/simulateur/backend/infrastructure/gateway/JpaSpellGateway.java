@@ -0,0 +1,80 @@
+package com.wakfu.simulateur.backend.infrastructure.gateway;
+
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellSummary;
+import com.wakfu.simulateur.backend.domain.spell.port.SpellGateway;
+import com.wakfu.simulateur.backend.infrastructure.entity.EffectConditionGroupEntity;
+import com.wakfu.simulateur.backend.infrastructure.entity.SpellEffectEntity;
+import com.wakfu.simulateur.backend.infrastructure.entity.SpellEntity;
+import com.wakfu.simulateur.backend.infrastructure.entity.SpellVariantEntity;
+import com.wakfu.simulateur.backend.infrastructure.mapper.SpellMapper;
+import com.wakfu.simulateur.backend.infrastructure.repository.SpellRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "catalog.source", havingValue = "database")
+public class JpaSpellGateway implements SpellGateway {
+
+    private final SpellRepository spellRepository;
+    private final SpellMapper mapper;
+
+    public JpaSpellGateway(SpellRepository spellRepository, SpellMapper mapper) {
+        this.spellRepository = spellRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<Spell> findById(String id) {
+        return findAllById(List.of(id)).stream().findFirst();
+    }
+
+    @Override
+    public List<Spell> findAll() {
+        return findAllById(spellRepository.findAllIds());
+    }
+
+    @Override
+    public List<Spell> findAllById(Collection<String> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        List<String> idList = List.copyOf(ids);
+        List<SpellEntity> entities = spellRepository.findAllWithVariantsByIdIn(idList);
+        if (entities.isEmpty()) return List.of();
+
+        // Hydrate effets, groupes de conditions et paliers dans le même contexte de persistance
+        List<SpellVariantEntity> variants = spellRepository.findVariantsWithEffects(idList);
+        List<Long> groupIds = variants.stream()
+                .flatMap(v -> v.getEffects().stream())
+                .map(SpellEffectEntity::getCondGroup)
+                .filter(Objects::nonNull)
+                .map(EffectConditionGroupEntity::getId)
+                .distinct()
+                .toList();
+        if (!groupIds.isEmpty()) {
+            spellRepository.findConditionGroupsWithConditions(groupIds);
+        }
+        spellRepository.findAllWithBreakpoints(idList);
+
+        return entities.stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<SpellSummary> findAllSummaries() {
+        return spellRepository.findAllSummaries();
+    }
+
+    @Override
+    public List<SpellSummary> findSummariesByClassId(String classId) {
+        return spellRepository.findSummariesByClassId(classId);
+    }
+}
@@ -0,0 +1,40 @@
+package com.wakfu.simulateur.backend.infrastructure.gateway;
+
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+import com.wakfu.simulateur.backend.domain.status.port.StatusGateway;
+import com.wakfu.simulateur.backend.infrastructure.mapper.StatusMapper;
+import com.wakfu.simulateur.backend.infrastructure.repository.StatusDefRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "catalog.source", havingValue = "database")
+public class JpaStatusGateway implements StatusGateway {
+
+    private final StatusDefRepository statusRepository;
+    private final StatusMapper mapper;
+
+    public JpaStatusGateway(StatusDefRepository statusRepository, StatusMapper mapper) {
+        this.statusRepository = statusRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<StatusDefinition> findById(String id) {
+        return statusRepository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<StatusDefinition> findAllById(Collection<String> ids) {
+        if (ids.isEmpty()) return List.of();
+        return statusRepository.findAllByIdIn(ids).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+}
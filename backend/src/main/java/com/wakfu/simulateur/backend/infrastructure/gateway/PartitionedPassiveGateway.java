@@ -0,0 +1,72 @@
+package com.wakfu.simulateur.backend.infrastructure.gateway;
+
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveSummary;
+import com.wakfu.simulateur.backend.domain.passive.port.PassiveGateway;
+import com.wakfu.simulateur.backend.infrastructure.snapshot.CatalogPartition;
+import com.wakfu.simulateur.backend.infrastructure.snapshot.PartitionedCatalog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+@ConditionalOnProperty(name = "catalog.source", havingValue = "partitioned", matchIfMissing = true)
+public class PartitionedPassiveGateway implements PassiveGateway {
+
+    private final PartitionedCatalog catalog;
+
+    public PartitionedPassiveGateway(PartitionedCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    @Override
+    public Optional<Passive> findById(String id) {
+        return catalog.classOfPassive(id)
+                .flatMap(catalog::partition)
+                .flatMap(partition -> partition.passive(id));
+    }
+
+    @Override
+    public List<Passive> findAllById(Collection<String> ids) {
+        Map<String, CatalogPartition> partitions = new HashMap<>();
+        List<Passive> passives = new ArrayList<>(ids.size());
+        for (String id : new LinkedHashSet<>(ids)) {
+            catalog.classOfPassive(id)
+                    .map(classId -> partitions.computeIfAbsent(classId, c -> catalog.partition(c).orElseThrow()))
+                    .flatMap(partition -> partition.passive(id))
+                    .ifPresent(passives::add);
+        }
+        return passives;
+    }
+
+    @Override
+    public List<Passive> findAll() {
+        return catalog.all().stream()
+                .flatMap(partition -> partition.catalog().passives().stream())
+                .sorted(Comparator.comparing(Passive::id))
+                .toList();
+    }
+
+    @Override
+    public List<Passive> findAllByClassId(String classId) {
+        return catalog.partition(classId)
+                .map(partition -> partition.catalog().passives())
+                .orElse(List.of());
+    }
+
+    @Override
+    public List<PassiveSummary> findAllSummaries() {
+        return catalog.all().stream()
+                .flatMap(partition -> partition.passiveSummaries().stream())
+                .sorted(Comparator.comparing(PassiveSummary::id))
+                .toList();
+    }
+
+    @Override
+    public List<PassiveSummary> findSummariesByClassId(String classId) {
+        return catalog.partition(classId)
+                .map(CatalogPartition::passiveSummaries)
+                .orElse(List.of());
+    }
+}
@@ -0,0 +1,72 @@
+package com.wakfu.simulateur.backend.infrastructure.gateway;
+
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellSummary;
+import com.wakfu.simulateur.backend.domain.spell.port.SpellGateway;
+import com.wakfu.simulateur.backend.infrastructure.snapshot.CatalogPartition;
+import com.wakfu.simulateur.backend.infrastructure.snapshot.PartitionedCatalog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+@ConditionalOnProperty(name = "catalog.source", havingValue = "partitioned", matchIfMissing = true)
+public class PartitionedSpellGateway implements SpellGateway {
+
+    private final PartitionedCatalog catalog;
+
+    public PartitionedSpellGateway(PartitionedCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    @Override
+    public Optional<Spell> findById(String id) {
+        return catalog.classOfSpell(id)
+                .flatMap(catalog::partition)
+                .flatMap(partition -> partition.spell(id));
+    }
+
+    @Override
+    public List<Spell> findAllById(Collection<String> ids) {
+        Map<String, CatalogPartition> partitions = new HashMap<>();
+        List<Spell> spells = new ArrayList<>(ids.size());
+        for (String id : new LinkedHashSet<>(ids)) {
+            catalog.classOfSpell(id)
+                    .map(classId -> partitions.computeIfAbsent(classId, c -> catalog.partition(c).orElseThrow()))
+                    .flatMap(partition -> partition.spell(id))
+                    .ifPresent(spells::add);
+        }
+        return spells;
+    }
+
+    @Override
+    public List<Spell> findAll() {
+        return catalog.all().stream()
+                .flatMap(partition -> partition.catalog().spells().stream())
+                .sorted(Comparator.comparing(Spell::id))
+                .toList();
+    }
+
+    @Override
+    public List<Spell> findAllByClassId(String classId) {
+        return catalog.partition(classId)
+                .map(partition -> partition.catalog().spells())
+                .orElse(List.of());
+    }
+
+    @Override
+    public List<SpellSummary> findAllSummaries() {
+        return catalog.all().stream()
+                .flatMap(partition -> partition.spellSummaries().stream())
+                .sorted(Comparator.comparing(SpellSummary::id))
+                .toList();
+    }
+
+    @Override
+    public List<SpellSummary> findSummariesByClassId(String classId) {
+        return catalog.partition(classId)
+                .map(CatalogPartition::spellSummaries)
+                .orElse(List.of());
+    }
+}
@@ -0,0 +1,41 @@
+package com.wakfu.simulateur.backend.infrastructure.gateway;
+
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+import com.wakfu.simulateur.backend.domain.status.port.StatusGateway;
+import com.wakfu.simulateur.backend.infrastructure.snapshot.CatalogPartition;
+import com.wakfu.simulateur.backend.infrastructure.snapshot.PartitionedCatalog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+@ConditionalOnProperty(name = "catalog.source", havingValue = "partitioned", matchIfMissing = true)
+public class PartitionedStatusGateway implements StatusGateway {
+
+    private final PartitionedCatalog catalog;
+
+    public PartitionedStatusGateway(PartitionedCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    @Override
+    public Optional<StatusDefinition> findById(String id) {
+        return catalog.classOfStatus(id)
+                .flatMap(catalog::partition)
+                .flatMap(partition -> partition.status(id));
+    }
+
+    @Override
+    public List<StatusDefinition> findAllById(Collection<String> ids) {
+        Map<String, CatalogPartition> partitions = new HashMap<>();
+        List<StatusDefinition> statuses = new ArrayList<>(ids.size());
+        for (String id : new LinkedHashSet<>(ids)) {
+            catalog.classOfStatus(id)
+                    .map(classId -> partitions.computeIfAbsent(classId, c -> catalog.partition(c).orElseThrow()))
+                    .flatMap(partition -> partition.status(id))
+                    .ifPresent(statuses::add);
+        }
+        return statuses;
+    }
+}
@@ -0,0 +1,50 @@
+package com.wakfu.simulateur.backend.infrastructure.gateway;
+
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveSummary;
+import com.wakfu.simulateur.backend.domain.passive.port.PassiveGateway;
+import com.wakfu.simulateur.backend.infrastructure.snapshot.CatalogSnapshotLoader;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+@ConditionalOnProperty(name = "catalog.source", havingValue = "snapshot")
+public class SnapshotPassiveGateway implements PassiveGateway {
+
+    private final List<Passive> passives;
+    private final Map<String, Passive> passivesById;
+    private final List<PassiveSummary> summaries;
+
+    public SnapshotPassiveGateway(CatalogSnapshotLoader loader) {
+        this.passives = loader.catalog().passives();
+        this.passivesById = new HashMap<>();
+        passives.forEach(p -> passivesById.put(p.id(), p));
+        this.summaries = passives.stream().map(PassiveSummary::of).toList();
+    }
+
+    @Override
+    public Optional<Passive> findById(String id) {
+        return Optional.ofNullable(passivesById.get(id));
+    }
+
+    @Override
+    public List<Passive> findAllById(Collection<String> ids) {
+        return ids.stream()
+                .distinct()
+                .map(passivesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Passive> findAll() {
+        return passives;
+    }
+
+    @Override
+    public List<PassiveSummary> findAllSummaries() {
+        return summaries;
+    }
+}
@@ -0,0 +1,50 @@
+package com.wakfu.simulateur.backend.infrastructure.gateway;
+
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellSummary;
+import com.wakfu.simulateur.backend.domain.spell.port.SpellGateway;
+import com.wakfu.simulateur.backend.infrastructure.snapshot.CatalogSnapshotLoader;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+@ConditionalOnProperty(name = "catalog.source", havingValue = "snapshot")
+public class SnapshotSpellGateway implements SpellGateway {
+
+    private final List<Spell> spells;
+    private final Map<String, Spell> spellsById;
+    private final List<SpellSummary> summaries;
+
+    public SnapshotSpellGateway(CatalogSnapshotLoader loader) {
+        this.spells = loader.catalog().spells();
+        this.spellsById = new HashMap<>();
+        spells.forEach(s -> spellsById.put(s.id(), s));
+        this.summaries = spells.stream().map(SpellSummary::of).toList();
+    }
+
+    @Override
+    public Optional<Spell> findById(String id) {
+        return Optional.ofNullable(spellsById.get(id));
+    }
+
+    @Override
+    public List<Spell> findAllById(Collection<String> ids) {
+        return ids.stream()
+                .distinct()
+                .map(spellsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Spell> findAll() {
+        return spells;
+    }
+
+    @Override
+    public List<SpellSummary> findAllSummaries() {
+        return summaries;
+    }
+}
@@ -0,0 +1,34 @@
+package com.wakfu.simulateur.backend.infrastructure.gateway;
+
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+import com.wakfu.simulateur.backend.domain.status.port.StatusGateway;
+import com.wakfu.simulateur.backend.infrastructure.snapshot.CatalogSnapshotLoader;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+@ConditionalOnProperty(name = "catalog.source", havingValue = "snapshot")
+public class SnapshotStatusGateway implements StatusGateway {
+
+    private final Map<String, StatusDefinition> statusesById = new HashMap<>();
+
+    public SnapshotStatusGateway(CatalogSnapshotLoader loader) {
+        loader.catalog().statuses().forEach(s -> statusesById.put(s.id(), s));
+    }
+
+    @Override
+    public Optional<StatusDefinition> findById(String id) {
+        return Optional.ofNullable(statusesById.get(id));
+    }
+
+    @Override
+    public List<StatusDefinition> findAllById(Collection<String> ids) {
+        return ids.stream()
+                .distinct()
+                .map(statusesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
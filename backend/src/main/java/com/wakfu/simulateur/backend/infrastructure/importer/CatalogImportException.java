@@ -0,0 +1,8 @@
+package com.wakfu.simulateur.backend.infrastructure.importer;
+
+public class CatalogImportException extends RuntimeException {
+
+    public CatalogImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.wakfu.simulateur.backend.infrastructure.importer;
+
+/**
+ * Nombre d'éléments importés par catégorie.
+ */
+public record CatalogImportReport(int classes, int statuses, int spells, int passives) {
+}
@@ -0,0 +1,69 @@
+package com.wakfu.simulateur.backend.infrastructure.importer;
+
+import com.wakfu.simulateur.backend.domain.catalog.CatalogJsonReader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Import des données de jeu JSON dans la base : lecture en flux ({@link CatalogJsonReader}) et
+ * écriture par lots ({@link JdbcCatalogWriter}) dans une seule transaction, annulée au premier
+ * élément invalide.
+ * <p>
+ * Utilisable hors application, par exemple en CI :
+ * {@code CatalogJsonImporter <url jdbc> <utilisateur> <mot de passe> <fichier.json>...}.
+ */
+public final class CatalogJsonImporter {
+
+    private CatalogJsonImporter() {
+    }
+
+    public static CatalogImportReport importCatalog(Connection connection, List<? extends InputStreamSource> sources)
+            throws SQLException, IOException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (JdbcCatalogWriter writer = new JdbcCatalogWriter(connection)) {
+            CatalogImportReport report;
+            try {
+                for (InputStreamSource source : sources) {
+                    try (InputStream input = source.getInputStream()) {
+                        CatalogJsonReader.read(input, writer);
+                    }
+                }
+                report = writer.finish();
+                connection.commit();
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+            writer.restartIdentities();
+            return report;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            throw new IllegalArgumentException("Usage: CatalogJsonImporter <url jdbc> <utilisateur> <mot de passe> <fichier.json>...");
+        }
+        List<FileSystemResource> files = Arrays.stream(args, 3, args.length)
+                .map(FileSystemResource::new)
+                .toList();
+
+        long start = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(args[0], args[1], args[2])) {
+            CatalogImportReport report = importCatalog(connection, files);
+            System.out.printf("Catalogue importé en %d ms: %d classe(s), %d statut(s), %d sort(s), %d passif(s)%n",
+                    (System.nanoTime() - start) / 1_000_000,
+                    report.classes(), report.statuses(), report.spells(), report.passives());
+        }
+    }
+}
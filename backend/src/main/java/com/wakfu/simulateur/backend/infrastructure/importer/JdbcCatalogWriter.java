@@ -0,0 +1,378 @@
+package com.wakfu.simulateur.backend.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wakfu.simulateur.backend.domain.catalog.CatalogJsonReader;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveEffect;
+import com.wakfu.simulateur.backend.domain.spell.*;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+import com.wakfu.simulateur.backend.domain.status.StatusEffect;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Écriture du catalogue en JDBC par lots, dans les tables des entités JPA. Chaque élément remplace
+ * l'existant de même identifiant (mêmes suppressions que {@code insertion_tables.sql}), ce qui rend
+ * l'import rejouable. Les identifiants techniques (variantes, effets, conditions) absents du fichier
+ * sont attribués ici au-delà du maximum existant, puis les compteurs IDENTITY sont recalés en fin d'import.
+ * <p>
+ * Les lignes sont accumulées dans un {@link PreparedStatement} par requête et envoyées tous les
+ * {@link #BATCH_SIZE} éléments : suppressions d'abord (enfants avant parents), puis insertions
+ * (parents avant enfants). Un identifiant déjà en attente dans le lot courant provoque l'envoi du lot
+ * avant d'être ajouté : la dernière occurrence l'emporte au lieu de heurter la clé primaire.
+ * La transaction est laissée à l'appelant.
+ */
+public final class JdbcCatalogWriter implements CatalogJsonReader.Sink, AutoCloseable {
+
+    public static final int BATCH_SIZE = 200;
+
+    private static final String[] IDENTITY_TABLES = {
+            "spell_variant", "spell_effect", "effect_condition_group", "effect_condition",
+            "status_effect", "passive_effect"};
+
+    private final Connection connection;
+    private final List<Batch> batches = new ArrayList<>();
+    private final Set<String> knownClasses = new HashSet<>();
+    private final Set<Long> writtenGroups = new HashSet<>();
+    private final Set<String> pendingStatuses = new HashSet<>();
+    private final Set<String> pendingSpells = new HashSet<>();
+    private final Set<String> pendingPassives = new HashSet<>();
+
+    private final Batch deleteGroupConditions;
+    private final Batch deleteSpellEffects;
+    private final Batch deleteVariants;
+    private final Batch deleteBreakpoints;
+    private final Batch deleteSpell;
+    private final Batch deletePassiveEffects;
+    private final Batch deletePassive;
+    private final Batch deleteStatusEffects;
+    private final Batch deleteStatus;
+    private final Batch mergeClass;
+    private final Batch insertClass;
+    private final Batch insertStatus;
+    private final Batch insertStatusEffect;
+    private final Batch insertSpell;
+    private final Batch insertBreakpoint;
+    private final Batch insertVariant;
+    private final Batch insertGroup;
+    private final Batch insertCondition;
+    private final Batch insertSpellEffect;
+    private final Batch insertPassive;
+    private final Batch insertPassiveEffect;
+
+    private long nextVariantId;
+    private long nextEffectId;
+    private long nextGroupId;
+    private long nextConditionId;
+    private long nextStatusEffectId;
+    private long nextPassiveEffectId;
+    private int pending;
+    private int classes;
+    private int statuses;
+    private int spells;
+    private int passives;
+
+    public JdbcCatalogWriter(Connection connection) throws SQLException {
+        this.connection = connection;
+        // Ordre d'exécution d'un lot : suppressions des enfants aux parents, puis insertions des parents aux enfants
+        deleteGroupConditions = batch("DELETE FROM effect_condition WHERE group_id = ?");
+        deleteSpellEffects = batch("DELETE FROM spell_effect WHERE variant_id IN (SELECT id FROM spell_variant WHERE spell_id = ?)");
+        deleteVariants = batch("DELETE FROM spell_variant WHERE spell_id = ?");
+        deleteBreakpoints = batch("DELETE FROM spell_ratio_breakpoint WHERE spell_id = ?");
+        deleteSpell = batch("DELETE FROM spell WHERE id = ?");
+        deletePassiveEffects = batch("DELETE FROM passive_effect WHERE passive_id = ?");
+        deletePassive = batch("DELETE FROM passive WHERE id = ?");
+        deleteStatusEffects = batch("DELETE FROM status_effect WHERE status_id = ?");
+        deleteStatus = batch("DELETE FROM status_def WHERE id = ?");
+        mergeClass = batch("MERGE INTO class_ref (id, name) KEY (id) VALUES (?, ?)");
+        insertClass = batch("INSERT INTO class_ref (id, name) SELECT ?, ? WHERE NOT EXISTS (SELECT 1 FROM class_ref WHERE id = ?)");
+        insertStatus = batch("INSERT INTO status_def (id, name, max_stacks, duration_type, base_duration) VALUES (?, ?, ?, ?, ?)");
+        insertStatusEffect = batch("INSERT INTO status_effect (id, status_id, tick_phase, effect_type, params_json) VALUES (?, ?, ?, ?, ?)");
+        insertSpell = batch("INSERT INTO spell (id, class_id, name, element, spell_type, pa_cost, pw_cost, po_min, po_max, " +
+                "po_modifiable, line_of_sight, cooldown, use_per_turn, use_per_target, direction, ratio_eval_mode, icon_id, is_aoe) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        insertBreakpoint = batch("INSERT INTO spell_ratio_breakpoint (spell_id, kind, lvl, ratio) VALUES (?, ?, ?, ?)");
+        insertVariant = batch("INSERT INTO spell_variant (id, spell_id, kind) VALUES (?, ?, ?)");
+        insertGroup = batch("MERGE INTO effect_condition_group (id, op) KEY (id) VALUES (?, ?)");
+        insertCondition = batch("INSERT INTO effect_condition (id, group_id, cond_type, params_json) VALUES (?, ?, ?, ?)");
+        insertSpellEffect = batch("INSERT INTO spell_effect (id, variant_id, phase, order_index, effect_type, target_scope, " +
+                "params_json, cond_group_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        insertPassive = batch("INSERT INTO passive (id, class_id, name, description, icon_id) VALUES (?, ?, ?, ?, ?)");
+        insertPassiveEffect = batch("INSERT INTO passive_effect (id, passive_id, trigger, order_index, effect_type, target_scope, " +
+                "params_json, cond_group_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+
+        nextVariantId = nextId("spell_variant");
+        nextEffectId = nextId("spell_effect");
+        nextGroupId = nextId("effect_condition_group");
+        nextConditionId = nextId("effect_condition");
+        nextStatusEffectId = nextId("status_effect");
+        nextPassiveEffectId = nextId("passive_effect");
+    }
+
+    @Override
+    public void classRef(String id, String name) {
+        knownClasses.add(id);
+        mergeClass.add(id, name != null ? name : id);
+        classes++;
+        elementQueued();
+    }
+
+    @Override
+    public void status(StatusDefinition status) {
+        if (!pendingStatuses.add(status.id())) flushQueued(pendingStatuses, status.id());
+        deleteStatusEffects.add(status.id());
+        deleteStatus.add(status.id());
+        insertStatus.add(status.id(), status.name(), status.maxStacks(), status.durationType(), status.baseDuration());
+        for (StatusEffect effect : status.effects()) {
+            insertStatusEffect.add(statusEffectId(effect.id()), status.id(), effect.tickPhase(), effect.effectType(), json(effect.params()));
+        }
+        statuses++;
+        elementQueued();
+    }
+
+    @Override
+    public void spell(Spell spell) {
+        String id = spell.id();
+        if (!pendingSpells.add(id)) flushQueued(pendingSpells, id);
+        deleteSpellEffects.add(id);
+        deleteVariants.add(id);
+        deleteBreakpoints.add(id);
+        deleteSpell.add(id);
+        ensureClass(spell.characterClassId());
+        insertSpell.add(id, spell.characterClassId(), spell.name(), spell.element(), spell.spellType(),
+                spell.paCost(), spell.pwCost(), spell.poMin(), spell.poMax(), spell.poModifiable(), spell.lineOfSight(),
+                spell.cooldown(), spell.usePerTurn(), spell.usePerTarget(), spell.direction(), spell.ratioEvalMode(),
+                spell.iconId(), spell.aoe());
+        for (SpellRatioBreakpoint breakpoint : spell.breakpoints()) {
+            insertBreakpoint.add(id, breakpoint.kind(), breakpoint.level(), breakpoint.ratio());
+        }
+        for (SpellVariant variant : spell.variants()) {
+            long variantId = variantId(variant.id());
+            insertVariant.add(variantId, id, variant.kind().name());
+            for (SpellEffect effect : variant.effects()) {
+                insertSpellEffect.add(effectId(effect.id()), variantId, effect.phase(), effect.orderIndex(), effect.effectType(),
+                        effect.targetScope(), json(effect.params()), group(effect.conditionGroup()));
+            }
+        }
+        spells++;
+        elementQueued();
+    }
+
+    @Override
+    public void passive(Passive passive) {
+        if (!pendingPassives.add(passive.id())) flushQueued(pendingPassives, passive.id());
+        deletePassiveEffects.add(passive.id());
+        deletePassive.add(passive.id());
+        ensureClass(passive.characterClassId());
+        insertPassive.add(passive.id(), passive.characterClassId(), passive.name(), passive.description(), passive.iconId());
+        for (PassiveEffect effect : passive.effects()) {
+            insertPassiveEffect.add(passiveEffectId(effect.id()), passive.id(), effect.trigger(), effect.orderIndex(),
+                    effect.effectType(), effect.targetScope(), json(effect.params()), group(effect.conditionGroup()));
+        }
+        passives++;
+        elementQueued();
+    }
+
+    /**
+     * Envoie les lots restants et supprime les groupes de conditions devenus orphelins.
+     */
+    public CatalogImportReport finish() throws SQLException {
+        flush();
+        try (Statement statement = connection.createStatement()) {
+            String orphans = "SELECT g.id FROM effect_condition_group g " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM spell_effect e WHERE e.cond_group_id = g.id) " +
+                    "AND NOT EXISTS (SELECT 1 FROM passive_effect p WHERE p.cond_group_id = g.id)";
+            statement.executeUpdate("DELETE FROM effect_condition WHERE group_id IN (" + orphans + ")");
+            statement.executeUpdate("DELETE FROM effect_condition_group WHERE id IN (" + orphans + ")");
+        }
+        return new CatalogImportReport(classes, statuses, spells, passives);
+    }
+
+    /**
+     * Recale les compteurs IDENTITY après les identifiants attribués. Instruction DDL : H2 valide la
+     * transaction en cours, à appeler après le commit de l'import.
+     */
+    public void restartIdentities() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : IDENTITY_TABLES) {
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextId(table));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        SQLException failure = null;
+        for (Batch batch : batches) {
+            try {
+                batch.statement.close();
+            } catch (SQLException e) {
+                if (failure == null) failure = e;
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    private void ensureClass(String classId) {
+        if (knownClasses.add(classId)) {
+            insertClass.add(classId, classId, classId);
+        }
+    }
+
+    private Long group(Optional<EffectConditionGroup> conditionGroup) {
+        if (conditionGroup.isEmpty()) return null;
+        EffectConditionGroup group = conditionGroup.get();
+        long groupId = groupId(group.id());
+        // Un groupe partagé par plusieurs effets n'est écrit qu'une fois ; un groupe existant est remplacé
+        if (!writtenGroups.add(groupId)) return groupId;
+        deleteGroupConditions.add(groupId);
+        insertGroup.add(groupId, group.operator());
+        for (EffectCondition condition : group.conditions()) {
+            insertCondition.add(conditionId(condition.id()), groupId, condition.code(), json(condition.params()));
+        }
+        return groupId;
+    }
+
+    // Identifiant du fichier s'il est fourni, sinon le suivant ; le compteur reste au-delà des deux
+
+    private long variantId(Long id) {
+        long assigned = id != null ? id : nextVariantId;
+        nextVariantId = Math.max(nextVariantId, assigned + 1);
+        return assigned;
+    }
+
+    private long effectId(Long id) {
+        long assigned = id != null ? id : nextEffectId;
+        nextEffectId = Math.max(nextEffectId, assigned + 1);
+        return assigned;
+    }
+
+    private long groupId(Long id) {
+        long assigned = id != null ? id : nextGroupId;
+        nextGroupId = Math.max(nextGroupId, assigned + 1);
+        return assigned;
+    }
+
+    private long conditionId(Long id) {
+        long assigned = id != null ? id : nextConditionId;
+        nextConditionId = Math.max(nextConditionId, assigned + 1);
+        return assigned;
+    }
+
+    private long statusEffectId(Long id) {
+        long assigned = id != null ? id : nextStatusEffectId;
+        nextStatusEffectId = Math.max(nextStatusEffectId, assigned + 1);
+        return assigned;
+    }
+
+    private long passiveEffectId(Long id) {
+        long assigned = id != null ? id : nextPassiveEffectId;
+        nextPassiveEffectId = Math.max(nextPassiveEffectId, assigned + 1);
+        return assigned;
+    }
+
+    private void elementQueued() {
+        if (++pending >= BATCH_SIZE) flushQueued();
+    }
+
+    /**
+     * Envoie le lot courant puis marque {@code id} en attente dans le lot suivant.
+     */
+    private void flushQueued(Set<String> pendingIds, String id) {
+        flushQueued();
+        pendingIds.add(id);
+    }
+
+    private void flushQueued() {
+        try {
+            flush();
+        } catch (SQLException e) {
+            throw new CatalogImportException("Écriture du lot impossible", e);
+        }
+    }
+
+    private void flush() throws SQLException {
+        for (Batch batch : batches) {
+            batch.execute();
+        }
+        pending = 0;
+        pendingStatuses.clear();
+        pendingSpells.clear();
+        pendingPassives.clear();
+    }
+
+    private long nextId(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+            rs.next();
+            return Math.max(nextIdInUse(table), rs.getLong(1));
+        }
+    }
+
+    private long nextIdInUse(String table) {
+        return switch (table) {
+            case "spell_variant" -> nextVariantId;
+            case "spell_effect" -> nextEffectId;
+            case "effect_condition_group" -> nextGroupId;
+            case "effect_condition" -> nextConditionId;
+            case "status_effect" -> nextStatusEffectId;
+            case "passive_effect" -> nextPassiveEffectId;
+            default -> 1;
+        };
+    }
+
+    private Batch batch(String sql) throws SQLException {
+        Batch batch = new Batch(connection.prepareStatement(sql));
+        batches.add(batch);
+        return batch;
+    }
+
+    private static String json(JsonNode params) {
+        return params != null ? params.toString() : null;
+    }
+
+    /**
+     * Requête préparée et nombre de lignes en attente d'envoi.
+     */
+    private static final class Batch {
+        private final PreparedStatement statement;
+        private int rows;
+
+        Batch(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        void add(Object... values) {
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    Object value = values[i];
+                    if (value == null) {
+                        statement.setNull(i + 1, Types.NULL);
+                    } else {
+                        statement.setObject(i + 1, value);
+                    }
+                }
+                statement.addBatch();
+                rows++;
+            } catch (SQLException e) {
+                throw new CatalogImportException("Ligne invalide", e);
+            }
+        }
+
+        void execute() throws SQLException {
+            if (rows == 0) return;
+            statement.executeBatch();
+            rows = 0;
+        }
+    }
+}
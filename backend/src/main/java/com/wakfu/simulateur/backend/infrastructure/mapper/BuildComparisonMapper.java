@@ -0,0 +1,84 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.wakfu.simulateur.backend.application.dto.BuildComparisonDTO;
+import com.wakfu.simulateur.backend.application.dto.BuildComparisonRequestDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationRequestDTO;
+import com.wakfu.simulateur.backend.domain.simulation.PairedComparisonRequest;
+import com.wakfu.simulateur.backend.domain.simulation.PairedComparisonResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class BuildComparisonMapper {
+
+    private static final int DEFAULT_MIN_RUNS = 100;
+    private static final int DEFAULT_MAX_RUNS = 20_000;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final double DEFAULT_RELATIVE_PRECISION = 0.005;
+    private static final double DEFAULT_CONFIDENCE = 0.95;
+
+    private final SimulationRequestMapper requestMapper;
+
+    public BuildComparisonMapper(SimulationRequestMapper requestMapper) {
+        this.requestMapper = requestMapper;
+    }
+
+    /**
+     * Sans précision demandée, l'arrêt vise ±0,5 % des dégâts moyens du build A.
+     */
+    public PairedComparisonRequest toDomain(BuildComparisonRequestDTO dto) {
+        if (dto == null || dto.getSimulation() == null || dto.getBuildA() == null || dto.getBuildB() == null) {
+            throw new IllegalArgumentException("Timeline et builds A et B obligatoires");
+        }
+        boolean noPrecision = dto.getPrecision() == null && dto.getRelativePrecision() == null;
+        return new PairedComparisonRequest(
+                requestMapper.toDomain(withBuild(dto.getSimulation(), dto.getBuildA())),
+                requestMapper.toDomain(withBuild(dto.getSimulation(), dto.getBuildB())),
+                dto.getSeed() != null ? dto.getSeed() : ThreadLocalRandom.current().nextLong(),
+                dto.getMinRuns() != null ? dto.getMinRuns() : DEFAULT_MIN_RUNS,
+                dto.getMaxRuns() != null ? dto.getMaxRuns() : DEFAULT_MAX_RUNS,
+                dto.getBatchSize() != null ? dto.getBatchSize() : DEFAULT_BATCH_SIZE,
+                dto.getPrecision() != null ? dto.getPrecision() : 0,
+                noPrecision ? DEFAULT_RELATIVE_PRECISION
+                        : dto.getRelativePrecision() != null ? dto.getRelativePrecision() : 0,
+                dto.getConfidence() != null ? dto.getConfidence() : DEFAULT_CONFIDENCE);
+    }
+
+    public BuildComparisonDTO toDTO(PairedComparisonResult result) {
+        if (result == null) return null;
+
+        double meanA = result.a().mean();
+        return BuildComparisonDTO.builder()
+                .runs(result.runs())
+                .precisionReached(result.precisionReached())
+                .confidence(result.confidence())
+                .meanDamageA(meanA)
+                .meanDamageB(result.b().mean())
+                .stdDevDamageA(result.a().standardDeviation())
+                .stdDevDamageB(result.b().standardDeviation())
+                .failedRunsA(result.a().failures())
+                .failedRunsB(result.b().failures())
+                .meanDifference(result.difference().mean())
+                .stdDevDifference(result.difference().standardDeviation())
+                .halfWidth(result.halfWidth())
+                .lower(result.lower())
+                .upper(result.upper())
+                .relativeDifference(meanA != 0 ? result.difference().mean() / meanA : 0)
+                .betterRunsA(result.aBetter())
+                .betterRunsB(result.bBetter())
+                .tiedRuns(result.ties())
+                .varianceReduction(result.varianceReduction())
+                .build();
+    }
+
+    private static SimulationRequestDTO withBuild(SimulationRequestDTO timeline, BuildComparisonRequestDTO.BuildDTO build) {
+        return SimulationRequestDTO.builder()
+                .stats(build.getStats() != null ? build.getStats() : timeline.getStats())
+                .passiveIds(build.getPassiveIds() != null ? build.getPassiveIds() : timeline.getPassiveIds())
+                .start(timeline.getStart())
+                .board(timeline.getBoard())
+                .steps(timeline.getSteps())
+                .build();
+    }
+}
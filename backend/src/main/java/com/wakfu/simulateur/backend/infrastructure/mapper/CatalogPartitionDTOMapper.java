@@ -0,0 +1,35 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.wakfu.simulateur.backend.application.dto.CatalogPartitionDTO;
+import com.wakfu.simulateur.backend.infrastructure.snapshot.PartitionedCatalog;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class CatalogPartitionDTOMapper {
+
+    public CatalogPartitionDTO toDTO(PartitionedCatalog.PartitionStatus status) {
+        if (status == null) return null;
+
+        return CatalogPartitionDTO.builder()
+                .classId(status.classId())
+                .version(status.version())
+                .loaded(status.loaded())
+                .snapshotBytes(status.snapshotBytes())
+                .retainedBytes(status.retainedBytes())
+                .spells(status.spells())
+                .passives(status.passives())
+                .statuses(status.statuses())
+                .loads(status.loads())
+                .lastLoadMillis(status.lastLoadMillis())
+                .build();
+    }
+
+    public List<CatalogPartitionDTO> toDTOs(List<PartitionedCatalog.PartitionStatus> statuses) {
+        return statuses.stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+}
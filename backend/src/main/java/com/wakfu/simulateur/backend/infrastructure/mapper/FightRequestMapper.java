@@ -0,0 +1,58 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.wakfu.simulateur.backend.application.dto.FightRequestDTO;
+import com.wakfu.simulateur.backend.domain.board.UnitKind;
+import com.wakfu.simulateur.backend.domain.fight.FightRequest;
+import com.wakfu.simulateur.backend.domain.fight.Fighter;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Traduit une requête de combat de l'API ; les builds et scripts de chaque combattant passent
+ * par le {@link SimulationRequestMapper}. Nombre de combattants et de tours bornés.
+ */
+@Component
+public class FightRequestMapper {
+
+    public static final int MAX_FIGHTERS = 16;
+    public static final int MAX_ROUNDS = 100;
+
+    private final SimulationRequestMapper simulationRequestMapper;
+
+    public FightRequestMapper(SimulationRequestMapper simulationRequestMapper) {
+        this.simulationRequestMapper = simulationRequestMapper;
+    }
+
+    public FightRequest toDomain(FightRequestDTO dto) {
+        if (dto == null || dto.getFighters() == null || dto.getFighters().isEmpty()) {
+            throw new IllegalArgumentException("Aucun combattant");
+        }
+        if (dto.getFighters().size() > MAX_FIGHTERS) {
+            throw new IllegalArgumentException("Au plus " + MAX_FIGHTERS + " combattants");
+        }
+        int rounds = dto.getRounds() != null ? dto.getRounds() : 1;
+        if (rounds < 1 || rounds > MAX_ROUNDS) {
+            throw new IllegalArgumentException("rounds doit être compris entre 1 et " + MAX_ROUNDS);
+        }
+        List<Fighter> fighters = dto.getFighters().stream().map(this::toFighter).toList();
+        return new FightRequest(simulationRequestMapper.toBoard(dto.getBoard()), fighters, rounds);
+    }
+
+    private Fighter toFighter(FightRequestDTO.FighterDTO dto) {
+        if (dto.getId() == null || dto.getPosition() == null || SimulationContext.CASTER_ID.equals(dto.getId())) {
+            throw new IllegalArgumentException("Combattant invalide: " + dto.getId());
+        }
+        List<String> passiveIds = dto.getPassiveIds() != null ? dto.getPassiveIds() : List.of();
+        return new Fighter(
+                dto.getId(),
+                dto.getTeam() != null ? UnitKind.valueOf(dto.getTeam()) : UnitKind.ENEMY,
+                dto.getInitiative(),
+                simulationRequestMapper.toStats(dto.getStats()),
+                simulationRequestMapper.toModifiers(passiveIds),
+                SimulationRequestMapper.toPosition(dto.getPosition()),
+                dto.getTurns() != null ? simulationRequestMapper.toSteps(dto.getTurns()) : List.of(),
+                dto.isLoop());
+    }
+}
@@ -0,0 +1,31 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.wakfu.simulateur.backend.application.dto.FightResultDTO;
+import com.wakfu.simulateur.backend.domain.fight.FightResult;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FightResultDTOMapper {
+
+    public FightResultDTO toDTO(FightResult result) {
+        if (result == null) return null;
+
+        return FightResultDTO.builder()
+                .rounds(result.rounds())
+                .turns(result.turns())
+                .totalDamage(result.totalDamage())
+                .fighters(result.fighters().stream().map(this::toFighterDTO).toList())
+                .build();
+    }
+
+    private FightResultDTO.FighterResultDTO toFighterDTO(FightResult.FighterResult fighter) {
+        return FightResultDTO.FighterResultDTO.builder()
+                .id(fighter.id())
+                .team(fighter.team().name())
+                .damage(fighter.damage())
+                .delayedDamage(fighter.delayedDamage())
+                .actions(fighter.actions())
+                .failedActions(fighter.failedActions())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.wakfu.simulateur.backend.application.dto.ParamsStoreDTO;
+import com.wakfu.simulateur.backend.domain.catalog.ParamsStore;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ParamsStoreDTOMapper {
+
+    public ParamsStoreDTO toDTO(ParamsStore.Stats stats) {
+        if (stats == null) return null;
+
+        return ParamsStoreDTO.builder()
+                .documents(stats.documents())
+                .aliases(stats.aliases())
+                .lookups(stats.lookups())
+                .hits(stats.hits())
+                .hitRate(stats.hitRate())
+                .retainedBytes(stats.retainedBytes())
+                .savedBytes(stats.savedBytes())
+                .build();
+    }
+}
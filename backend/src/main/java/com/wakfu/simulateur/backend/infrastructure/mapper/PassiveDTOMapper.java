@@ -1,8 +1,10 @@
 package com.wakfu.simulateur.backend.infrastructure.mapper;
 
 import com.wakfu.simulateur.backend.application.dto.PassiveDTO;
-import com.wakfu.simulateur.backend.infrastructure.entity.PassiveEffectEntity;
-import com.wakfu.simulateur.backend.infrastructure.entity.PassiveEntity;
+import com.wakfu.simulateur.backend.application.dto.PassiveSummaryDTO;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveEffect;
+import com.wakfu.simulateur.backend.domain.passive.PassiveSummary;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -11,35 +13,48 @@ import java.util.stream.Collectors;
 @Component
 public class PassiveDTOMapper {
 
-    public PassiveDTO toDTO(PassiveEntity entity) {
-        if (entity == null) return null;
+    public PassiveDTO toDTO(Passive passive) {
+        if (passive == null) return null;
 
         return PassiveDTO.builder()
-                .id(entity.getId())
-                .classId(entity.getCharacterClass() != null ? entity.getCharacterClass().getId() : null)
-                .name(entity.getName())
-                .description(entity.getDescription())
-                .iconId(entity.getIconId())
-                .effects(toEffectDTOs(entity.getEffects()))
+                .id(passive.id())
+                .classId(passive.characterClassId())
+                .name(passive.name())
+                .description(passive.description())
+                .iconId(passive.iconId())
+                .effects(toEffectDTOs(passive.effects()))
                 .build();
     }
 
-    public List<PassiveDTO> toDTOs(List<PassiveEntity> entities) {
-        return entities.stream()
+    public List<PassiveDTO> toDTOs(List<Passive> passives) {
+        return passives.stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
     }
 
-    private List<PassiveDTO.PassiveEffectDTO> toEffectDTOs(List<PassiveEffectEntity> entities) {
-        if (entities == null) return List.of();
-        return entities.stream()
+    public PassiveSummaryDTO toSummaryDTO(PassiveSummary passive) {
+        return PassiveSummaryDTO.builder()
+                .id(passive.id())
+                .classId(passive.characterClassId())
+                .name(passive.name())
+                .iconId(passive.iconId())
+                .build();
+    }
+
+    public List<PassiveSummaryDTO> toSummaryDTOs(List<PassiveSummary> passives) {
+        return passives.stream()
+                .map(this::toSummaryDTO)
+                .collect(Collectors.toList());
+    }
+
+    private List<PassiveDTO.PassiveEffectDTO> toEffectDTOs(List<PassiveEffect> effects) {
+        return effects.stream()
                 .map(e -> PassiveDTO.PassiveEffectDTO.builder()
-                        .id(e.getId())
-                        .ordinal(e.getOrderIndex())
-                        .stat(e.getEffectType())
+                        .id(e.id())
+                        .ordinal(e.orderIndex())
+                        .stat(e.effectType())
                         .value(0)
                         .build())
                 .collect(Collectors.toList());
     }
 }
-
@@ -0,0 +1,44 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.wakfu.simulateur.backend.domain.catalog.ParamsStore;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveEffect;
+import com.wakfu.simulateur.backend.infrastructure.entity.PassiveEffectEntity;
+import com.wakfu.simulateur.backend.infrastructure.entity.PassiveEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class PassiveMapper {
+
+    public Passive toDomain(PassiveEntity entity) {
+        if (entity == null) return null;
+
+        return new Passive(
+                entity.getId(),
+                entity.getCharacterClass() != null ? entity.getCharacterClass().getId() : null,
+                entity.getName(),
+                entity.getDescription(),
+                entity.getIconId(),
+                toEffects(entity.getEffects())
+        );
+    }
+
+    private List<PassiveEffect> toEffects(List<PassiveEffectEntity> entities) {
+        if (entities == null) return List.of();
+        return entities.stream()
+                .sorted(Comparator.comparingInt(PassiveEffectEntity::getOrderIndex))
+                .map(e -> new PassiveEffect(
+                        e.getId(),
+                        e.getTrigger(),
+                        e.getOrderIndex(),
+                        e.getEffectType(),
+                        e.getTargetScope(),
+                        ParamsStore.shared().intern(e.getParams()),
+                        Optional.ofNullable(SpellMapper.toConditionGroup(e.getCondGroup()))))
+                .toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.wakfu.simulateur.backend.application.dto.PlayDeltaDTO;
+import com.wakfu.simulateur.backend.application.dto.PlaySessionDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationRequestDTO;
+import com.wakfu.simulateur.backend.domain.board.Board;
+import com.wakfu.simulateur.backend.domain.board.BoardUnit;
+import com.wakfu.simulateur.backend.domain.session.PlaySession;
+import com.wakfu.simulateur.backend.domain.session.PlayUpdate;
+import com.wakfu.simulateur.backend.domain.simulation.ContextDelta;
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class PlaySessionDTOMapper {
+
+    private final SimulationResultDTOMapper resultMapper;
+
+    public PlaySessionDTOMapper(SimulationResultDTOMapper resultMapper) {
+        this.resultMapper = resultMapper;
+    }
+
+    public PlaySessionDTO toDTO(PlaySession session) {
+        PlaySession.Snapshot snapshot = session.snapshot();
+        SimulationContext context = snapshot.context();
+        Board board = context.board();
+
+        return PlaySessionDTO.builder()
+                .id(session.id())
+                .sequence(snapshot.sequence())
+                .turn(context.turn())
+                .pa(context.pa())
+                .mp(context.mp())
+                .pw(context.pw())
+                .position(toPositionDTO(context.position()))
+                .dialHour(context.dialHour())
+                .totalDamage(snapshot.totalDamage())
+                .cooldowns(context.cooldowns())
+                .statuses(context.statuses())
+                .cols(board.cols())
+                .rows(board.rows())
+                .units(board.units().stream().map(this::toUnitDTO).toList())
+                .undoable(snapshot.undoable())
+                .redoable(snapshot.redoable())
+                .build();
+    }
+
+    public PlayDeltaDTO toDTO(PlayUpdate update) {
+        PlayDeltaDTO.PlayDeltaDTOBuilder dto = PlayDeltaDTO.builder()
+                .sequence(update.sequence())
+                .totalDamage(update.totalDamage())
+                .action(update.result() != null ? resultMapper.toActionDTO(update.result()) : null);
+
+        ContextDelta delta = update.delta();
+        if (delta == null) return dto.build();
+
+        ContextDelta.Scalars before = delta.before();
+        ContextDelta.Scalars after = delta.after();
+        return dto
+                .turn(changed(before.turn(), after.turn()))
+                .pa(changed(before.pa(), after.pa()))
+                .mp(changed(before.mp(), after.mp()))
+                .pw(changed(before.pw(), after.pw()))
+                .dialHour(changed(before.dialHour(), after.dialHour()))
+                .position(Objects.equals(before.position(), after.position()) ? null : toPositionDTO(after.position()))
+                .cooldowns(delta.cooldowns().after())
+                .statuses(delta.statuses().after())
+                .cells(toCellDTOs(delta))
+                .build();
+    }
+
+    private List<PlayDeltaDTO.CellDTO> toCellDTOs(ContextDelta delta) {
+        return delta.board().cells().entrySet().stream()
+                .map(cell -> PlayDeltaDTO.CellDTO.builder()
+                        .x(cell.getKey().x())
+                        .y(cell.getKey().y())
+                        .unit(cell.getValue() != null ? toUnitDTO(cell.getValue()) : null)
+                        .build())
+                .toList();
+    }
+
+    private SimulationRequestDTO.UnitDTO toUnitDTO(BoardUnit unit) {
+        return SimulationRequestDTO.UnitDTO.builder()
+                .id(unit.id())
+                .kind(unit.kind().name())
+                .mechanism(unit.mechanism() != null ? unit.mechanism().name() : null)
+                .position(toPositionDTO(unit.position()))
+                .resistance(unit.resistance() != 0 ? unit.resistance() : null)
+                .build();
+    }
+
+    private static Integer changed(int before, int after) {
+        return before == after ? null : after;
+    }
+
+    private static SimulationRequestDTO.PositionDTO toPositionDTO(Position position) {
+        return new SimulationRequestDTO.PositionDTO(position.x(), position.y());
+    }
+}
@@ -0,0 +1,59 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.wakfu.simulateur.backend.application.dto.SimulationJobDTO;
+import com.wakfu.simulateur.backend.application.service.SimulationJob;
+import com.wakfu.simulateur.backend.domain.simulation.DamageStatistics;
+import com.wakfu.simulateur.backend.domain.simulation.MonteCarloPartial;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+public class SimulationJobDTOMapper {
+
+    private final SimulationResultDTOMapper resultMapper;
+    private final SimulationShardDTOMapper shardMapper;
+
+    public SimulationJobDTOMapper(SimulationResultDTOMapper resultMapper, SimulationShardDTOMapper shardMapper) {
+        this.resultMapper = resultMapper;
+        this.shardMapper = shardMapper;
+    }
+
+    public SimulationJobDTO toDTO(SimulationJob job, Instant expiresAt) {
+        if (job == null) return null;
+
+        return SimulationJobDTO.builder()
+                .id(job.getId())
+                .status(job.getStatus().name())
+                .priority(job.getPriority())
+                .completedRuns(job.getCompletedRuns())
+                .totalRuns(job.getTotalRuns())
+                .progress(job.getProgress())
+                .submittedAt(job.getSubmittedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .expiresAt(expiresAt)
+                .error(job.getError())
+                .result(toResultDTO(job))
+                .build();
+    }
+
+    private SimulationJobDTO.JobResultDTO toResultDTO(SimulationJob job) {
+        MonteCarloPartial result = job.getResult();
+        if (result == null) return null;
+        DamageStatistics statistics = result.statistics();
+        return SimulationJobDTO.JobResultDTO.builder()
+                .runs(statistics.count())
+                .failedRuns(statistics.failures())
+                .meanDamage(statistics.mean())
+                .minDamage(statistics.min())
+                .maxDamage(statistics.max())
+                .stdDevDamage(statistics.standardDeviation())
+                .shards(job.getShards())
+                .histogramBucket(result.histogram().bucketWidth())
+                .histogram(shardMapper.toBucketDTOs(result.histogram()))
+                .topRuns(shardMapper.toRunDTOs(result.topRuns()))
+                .sample(resultMapper.toDTO(job.getSample()))
+                .build();
+    }
+}
@@ -0,0 +1,196 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.wakfu.simulateur.backend.application.dto.SimulationReachRequestDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationRequestDTO;
+import com.wakfu.simulateur.backend.domain.board.Board;
+import com.wakfu.simulateur.backend.domain.board.BoardUnit;
+import com.wakfu.simulateur.backend.domain.board.MechanismType;
+import com.wakfu.simulateur.backend.domain.board.UnitKind;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveModifiers;
+import com.wakfu.simulateur.backend.domain.passive.port.PassiveGateway;
+import com.wakfu.simulateur.backend.domain.simulation.*;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.VariantKind;
+import com.wakfu.simulateur.backend.domain.spell.port.SpellGateway;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Traduit une requête de simulation reçue par l'API en requête du moteur.
+ * Les sorts référencés sont résolus en un seul appel au {@link SpellGateway}, la barre de passifs
+ * en un seul appel au {@link PassiveGateway}.
+ */
+@Component
+public class SimulationRequestMapper {
+
+    private final SpellGateway spellGateway;
+    private final PassiveGateway passiveGateway;
+
+    public SimulationRequestMapper(SpellGateway spellGateway, PassiveGateway passiveGateway) {
+        this.spellGateway = spellGateway;
+        this.passiveGateway = passiveGateway;
+    }
+
+    public SimulationRequest toDomain(SimulationRequestDTO dto) {
+        if (dto == null || dto.getSteps() == null || dto.getSteps().isEmpty()) {
+            throw new IllegalArgumentException("La timeline est vide");
+        }
+
+        CharacterStats stats = toStats(dto.getStats());
+        Position start = dto.getStart() != null ? toPosition(dto.getStart()) : Position.ORIGIN;
+        List<TimelineStep> steps = toSteps(dto.getSteps());
+
+        Set<String> passiveIds = dto.getPassiveIds() != null ? new HashSet<>(dto.getPassiveIds()) : Set.of();
+
+        return new SimulationRequest(stats, passiveIds, SimulationContext.of(stats, start, toBoard(dto.getBoard())), steps,
+                toModifiers(passiveIds));
+    }
+
+    /**
+     * Étapes d'une timeline, les sorts référencés étant résolus en un seul appel.
+     */
+    public List<TimelineStep> toSteps(List<SimulationRequestDTO.StepDTO> dtos) {
+        Map<String, Spell> spells = resolveSpells(dtos);
+        return dtos.stream()
+                .map(step -> new TimelineStep(step.getId(), toActions(step, spells)))
+                .toList();
+    }
+
+    public PassiveModifiers toModifiers(Collection<String> passiveIds) {
+        if (passiveIds.isEmpty()) return PassiveModifiers.NONE;
+        List<Passive> passives = passiveGateway.findAllById(passiveIds);
+        Set<String> found = passives.stream().map(Passive::id).collect(Collectors.toSet());
+        for (String id : passiveIds) {
+            if (!found.contains(id)) {
+                throw new IllegalArgumentException("Passif introuvable: " + id);
+            }
+        }
+        return PassiveModifiers.resolve(passives);
+    }
+
+    public Board toBoard(SimulationRequestDTO.BoardDTO dto) {
+        if (dto == null) return Board.standard();
+        Board board = new Board(
+                dto.getCols() != null ? dto.getCols() : Board.DEFAULT_COLS,
+                dto.getRows() != null ? dto.getRows() : Board.DEFAULT_ROWS);
+        if (dto.getUnits() == null) return board;
+
+        for (SimulationRequestDTO.UnitDTO unit : dto.getUnits()) {
+            if (unit.getId() == null || unit.getPosition() == null || SimulationContext.CASTER_ID.equals(unit.getId())) {
+                throw new IllegalArgumentException("Unité invalide sur le plateau: " + unit.getId());
+            }
+            UnitKind kind = unit.getKind() != null ? UnitKind.valueOf(unit.getKind()) : UnitKind.ENEMY;
+            MechanismType mechanism = unit.getMechanism() != null ? MechanismType.valueOf(unit.getMechanism()) : null;
+            if ((kind == UnitKind.MECHANISM) != (mechanism != null)) {
+                throw new IllegalArgumentException("Type de mécanisme incohérent pour " + unit.getId());
+            }
+            int resistance = unit.getResistance() != null ? unit.getResistance() : 0;
+            board.place(new BoardUnit(unit.getId(), kind, mechanism, toPosition(unit.getPosition()), resistance));
+        }
+        return board;
+    }
+
+    /**
+     * Contexte de déplacement seul : le lanceur est placé sur le plateau avec ses PM et PW.
+     */
+    public SimulationContext toContext(SimulationReachRequestDTO dto) {
+        if (dto == null || dto.getPosition() == null) {
+            throw new IllegalArgumentException("Position du lanceur manquante");
+        }
+        int mp = dto.getMp() != null ? dto.getMp() : CharacterStats.baseline().mp();
+        int pw = dto.getPw() != null ? dto.getPw() : CharacterStats.baseline().wp();
+        return new SimulationContext(0, mp, pw, toPosition(dto.getPosition()), toBoard(dto.getBoard()));
+    }
+
+    public CharacterStats toStats(SimulationRequestDTO.StatsDTO dto) {
+        if (dto == null) return CharacterStats.baseline();
+        return new CharacterStats(
+                dto.getLevel() > 0 ? dto.getLevel() : CharacterStats.baseline().level(),
+                dto.getMasteryFire(),
+                dto.getMasteryWater(),
+                dto.getMasteryEarth(),
+                dto.getMasteryAir(),
+                dto.getMasterySecondary(),
+                dto.getBackMastery(),
+                dto.getDommageInflict(),
+                dto.getCritRate(),
+                dto.getCritMastery(),
+                dto.getResistance(),
+                dto.getAp(),
+                dto.getMp(),
+                dto.getWp(),
+                dto.getRange());
+    }
+
+    private Map<String, Spell> resolveSpells(List<SimulationRequestDTO.StepDTO> steps) {
+        Set<String> ids = steps.stream()
+                .flatMap(s -> actionsOf(s).stream())
+                .map(SimulationRequestDTO.ActionDTO::getSpellId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (ids.isEmpty()) return Map.of();
+
+        Map<String, Spell> spells = spellGateway.findAllById(ids).stream()
+                .collect(Collectors.toMap(Spell::id, Function.identity()));
+        for (String id : ids) {
+            if (!spells.containsKey(id)) {
+                throw new IllegalArgumentException("Sort introuvable: " + id);
+            }
+        }
+        return spells;
+    }
+
+    /**
+     * Action isolée (session de jeu) : le sort éventuel est résolu individuellement.
+     */
+    public TimelineAction toAction(SimulationRequestDTO.ActionDTO dto) {
+        if (dto == null) {
+            throw new IllegalArgumentException("Action manquante");
+        }
+        Map<String, Spell> spells = dto.getSpellId() == null ? Map.of() : Map.of(dto.getSpellId(),
+                spellGateway.findById(dto.getSpellId())
+                        .orElseThrow(() -> new IllegalArgumentException("Sort introuvable: " + dto.getSpellId())));
+        return toAction(dto, spells);
+    }
+
+    private List<TimelineAction> toActions(SimulationRequestDTO.StepDTO step, Map<String, Spell> spells) {
+        return actionsOf(step).stream()
+                .map(a -> toAction(a, spells))
+                .toList();
+    }
+
+    private TimelineAction toAction(SimulationRequestDTO.ActionDTO dto, Map<String, Spell> spells) {
+        String type = dto.getType() != null ? dto.getType() : "";
+        return switch (type) {
+            case "CastSpell" -> {
+                if (dto.getSpellId() == null) {
+                    throw new IllegalArgumentException("Lancer sans sort");
+                }
+                yield new SpellCastAction(
+                        spells.get(dto.getSpellId()),
+                        dto.getVariant() != null ? VariantKind.valueOf(dto.getVariant()) : null,
+                        dto.getTargetPosition() != null ? toPosition(dto.getTargetPosition()) : null);
+            }
+            case "Move" -> {
+                if (dto.getTargetPosition() == null) {
+                    throw new IllegalArgumentException("Déplacement sans position cible");
+                }
+                yield new MoveAction(toPosition(dto.getTargetPosition()));
+            }
+            case "EndTurn" -> EndTurnAction.INSTANCE;
+            default -> throw new IllegalArgumentException("Type d'action inconnu: " + dto.getType());
+        };
+    }
+
+    private static List<SimulationRequestDTO.ActionDTO> actionsOf(SimulationRequestDTO.StepDTO step) {
+        return step.getActions() != null ? step.getActions() : List.of();
+    }
+
+    public static Position toPosition(SimulationRequestDTO.PositionDTO dto) {
+        return new Position(dto.getX(), dto.getY());
+    }
+}
@@ -0,0 +1,86 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.wakfu.simulateur.backend.application.dto.FeasibilityDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationRequestDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationResultDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationStateDTO;
+import com.wakfu.simulateur.backend.domain.simulation.ActionResult;
+import com.wakfu.simulateur.backend.domain.simulation.FeasibilityReport;
+import com.wakfu.simulateur.backend.domain.simulation.ReplayState;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationResult;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationTrace;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class SimulationResultDTOMapper {
+
+    public SimulationResultDTO toDTO(SimulationResult result) {
+        return toDTO(result, false);
+    }
+
+    public SimulationResultDTO toDTO(SimulationResult result, boolean includeTrace) {
+        if (result == null) return null;
+
+        return SimulationResultDTO.builder()
+                .success(!result.hasFailure())
+                .totalDamage(result.totalDamage())
+                .completedSteps(result.completedSteps())
+                .remainingPa(result.remainingPa())
+                .remainingPw(result.remainingPw())
+                .remainingMp(result.remainingMp())
+                .turns(result.turns())
+                .actions(toActionDTOs(result.actions()))
+                .trace(includeTrace ? result.trace().map(SimulationTrace::toBase64).orElse(null) : null)
+                .build();
+    }
+
+    public SimulationStateDTO toStateDTO(ReplayState state) {
+        if (state == null) return null;
+
+        return SimulationStateDTO.builder()
+                .completedSteps(state.completedSteps())
+                .turn(state.turn())
+                .pa(state.pa())
+                .mp(state.mp())
+                .pw(state.pw())
+                .position(new SimulationRequestDTO.PositionDTO(state.position().x(), state.position().y()))
+                .dialHour(state.dialHour())
+                .totalDamage(state.totalDamage())
+                .cooldowns(state.cooldowns())
+                .statuses(state.statuses())
+                .failure(state.failure())
+                .build();
+    }
+
+    public FeasibilityDTO toFeasibilityDTO(FeasibilityReport report) {
+        return FeasibilityDTO.builder()
+                .feasible(report.feasible())
+                .stepIndex(report.stepIndex())
+                .reason(report.reason())
+                .build();
+    }
+
+    public SimulationResultDTO.ActionResultDTO toActionDTO(ActionResult action) {
+        return SimulationResultDTO.ActionResultDTO.builder()
+                .stepIndex(action.stepIndex())
+                .actionType(action.type().name())
+                .spellId(action.spellId())
+                .success(action.succeeded())
+                .message(action.message())
+                .paCost(action.paCost())
+                .pwCost(action.pwCost())
+                .mpCost(action.mpCost())
+                .damage(action.damage())
+                .critical(action.critical())
+                .build();
+    }
+
+    private List<SimulationResultDTO.ActionResultDTO> toActionDTOs(List<ActionResult> actions) {
+        return actions.stream()
+                .map(this::toActionDTO)
+                .collect(Collectors.toList());
+    }
+}
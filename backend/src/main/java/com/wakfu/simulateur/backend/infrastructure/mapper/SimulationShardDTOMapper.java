@@ -0,0 +1,65 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.wakfu.simulateur.backend.application.dto.DamageBucketDTO;
+import com.wakfu.simulateur.backend.application.dto.RunDamageDTO;
+import com.wakfu.simulateur.backend.application.dto.SimulationShardResultDTO;
+import com.wakfu.simulateur.backend.domain.simulation.DamageHistogram;
+import com.wakfu.simulateur.backend.domain.simulation.DamageStatistics;
+import com.wakfu.simulateur.backend.domain.simulation.MonteCarloPartial;
+import com.wakfu.simulateur.backend.domain.simulation.TopRuns;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class SimulationShardDTOMapper {
+
+    public SimulationShardResultDTO toDTO(MonteCarloPartial partial, int firstRun, int runs) {
+        DamageStatistics statistics = partial.statistics();
+        return SimulationShardResultDTO.builder()
+                .firstRun(firstRun)
+                .runs(runs)
+                .count(statistics.count())
+                .failedRuns(statistics.failures())
+                .mean(statistics.mean())
+                .m2(statistics.m2())
+                .minDamage(statistics.min())
+                .maxDamage(statistics.max())
+                .histogramBucket(partial.histogram().bucketWidth())
+                .histogram(toBucketDTOs(partial.histogram()))
+                .topRuns(toRunDTOs(partial.topRuns()))
+                .build();
+    }
+
+    /**
+     * Lot renvoyé par un worker ; {@code topRuns} est la capacité demandée par le coordinateur.
+     */
+    public MonteCarloPartial toDomain(SimulationShardResultDTO dto, int topRuns) {
+        if (dto == null) return null;
+
+        DamageHistogram histogram = new DamageHistogram(dto.getHistogramBucket());
+        if (dto.getHistogram() != null) {
+            dto.getHistogram().forEach(bucket -> histogram.add(bucket.getFrom(), bucket.getCount()));
+        }
+        TopRuns best = new TopRuns(topRuns);
+        if (dto.getTopRuns() != null) {
+            dto.getTopRuns().forEach(run -> best.add(run.getRun(), run.getDamage()));
+        }
+        DamageStatistics statistics = DamageStatistics.restore(dto.getCount(), dto.getFailedRuns(), dto.getMean(),
+                dto.getM2(), dto.getMinDamage(), dto.getMaxDamage());
+        return new MonteCarloPartial(statistics, histogram, best);
+    }
+
+    public List<DamageBucketDTO> toBucketDTOs(DamageHistogram histogram) {
+        List<DamageBucketDTO> buckets = new ArrayList<>();
+        histogram.buckets().forEach((from, count) -> buckets.add(new DamageBucketDTO(from, count)));
+        return buckets;
+    }
+
+    public List<RunDamageDTO> toRunDTOs(TopRuns topRuns) {
+        return topRuns.runs().stream()
+                .map(run -> new RunDamageDTO(run.index(), run.damage()))
+                .toList();
+    }
+}
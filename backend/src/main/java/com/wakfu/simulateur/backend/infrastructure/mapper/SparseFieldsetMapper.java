@@ -0,0 +1,69 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Sélection de champs ({@code fields=id,name,paCost}) sur les DTO du catalogue : valide les noms
+ * contre les propriétés JSON du type, puis ne sérialise que les champs demandés.
+ */
+@Component
+public class SparseFieldsetMapper {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, Set<String>> properties = new ConcurrentHashMap<>();
+
+    public SparseFieldsetMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Champs demandés, ou {@code null} si le paramètre est absent.
+     */
+    public Set<String> parse(String fields, Class<?> type) {
+        if (fields == null || fields.isBlank()) return null;
+        Set<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<String> known = propertiesOf(type);
+        for (String field : selected) {
+            if (!known.contains(field)) throw new IllegalArgumentException("Champ inconnu: " + field);
+        }
+        return selected;
+    }
+
+    /**
+     * Vrai si tous les champs demandés existent sur {@code type}.
+     */
+    public boolean covers(Class<?> type, Set<String> fields) {
+        return fields != null && propertiesOf(type).containsAll(fields);
+    }
+
+    public List<JsonNode> project(List<?> dtos, Set<String> fields) {
+        return dtos.stream()
+                .map(dto -> (JsonNode) objectMapper.<ObjectNode>valueToTree(dto).retain(fields))
+                .toList();
+    }
+
+    private Set<String> propertiesOf(Class<?> type) {
+        return properties.computeIfAbsent(type, t -> {
+            JavaType javaType = objectMapper.constructType(t);
+            return objectMapper.getSerializationConfig().introspect(javaType).findProperties().stream()
+                    .map(BeanPropertyDefinition::getName)
+                    .collect(Collectors.toUnmodifiableSet());
+        });
+    }
+}
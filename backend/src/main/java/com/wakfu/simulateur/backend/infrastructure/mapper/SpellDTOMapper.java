@@ -1,7 +1,10 @@
 package com.wakfu.simulateur.backend.infrastructure.mapper;
 
 import com.wakfu.simulateur.backend.application.dto.SpellDTO;
-import com.wakfu.simulateur.backend.infrastructure.entity.*;
+import com.wakfu.simulateur.backend.application.dto.SpellSummaryDTO;
+import com.wakfu.simulateur.backend.domain.jfr.FlightEvents;
+import com.wakfu.simulateur.backend.domain.jfr.SpellMappingEvent;
+import com.wakfu.simulateur.backend.domain.spell.*;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -10,100 +13,137 @@ import java.util.stream.Collectors;
 @Component
 public class SpellDTOMapper {
 
-    public SpellDTO toDTO(SpellEntity entity) {
-        if (entity == null) return null;
+    public SpellDTO toDTO(Spell spell) {
+        if (spell == null) return null;
 
         return SpellDTO.builder()
-                .id(entity.getId())
-                .classId(entity.getCharacterClass() != null ? entity.getCharacterClass().getId() : null)
-                .name(entity.getName())
-                .element(entity.getElement())
-                .spellType(entity.getSpellType() != null ? entity.getSpellType().name() : null)
-                .paCost(entity.getPaCost())
-                .pwCost(entity.getPwCost())
-                .poMin(entity.getPoMin())
-                .poMax(entity.getPoMax())
-                .poModifiable(entity.isPoModifiable())
-                .lineOfSight(entity.isLineOfSight())
-                .cooldown(entity.getCooldown())
-                .usePerTurn(entity.getUsePerTurn())
-                .usePerTarget(entity.getUsePerTarget())
-                .direction(entity.getDirection() != null ? entity.getDirection().name() : null)
-                .ratioEvalMode(entity.getRatioEvalMode())
-                .iconId(entity.getIconId())
-                .isAoe(entity.isAoe())
-                .variants(toVariantDTOs(entity.getVariants()))
-                .breakpoints(toBreakpointDTOs(entity.getBreakpoints()))
+                .id(spell.id())
+                .classId(spell.characterClassId())
+                .name(spell.name())
+                .element(spell.element())
+                .spellType(spell.spellType())
+                .paCost(spell.paCost())
+                .pwCost(spell.pwCost())
+                .poMin(spell.poMin())
+                .poMax(spell.poMax())
+                .poModifiable(spell.poModifiable())
+                .lineOfSight(spell.lineOfSight())
+                .cooldown(spell.cooldown())
+                .usePerTurn(spell.usePerTurn())
+                .usePerTarget(spell.usePerTarget())
+                .direction(spell.direction())
+                .ratioEvalMode(spell.ratioEvalMode())
+                .iconId(spell.iconId())
+                .isAoe(spell.aoe())
+                .variants(toVariantDTOs(spell.variants()))
+                .breakpoints(toBreakpointDTOs(spell.breakpoints()))
                 .build();
     }
 
-    public List<SpellDTO> toDTOs(List<SpellEntity> entities) {
-        return entities.stream()
+    public List<SpellDTO> toDTOs(List<Spell> spells) {
+        SpellMappingEvent event = begin();
+        List<SpellDTO> dtos = spells.stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
+        commit(event, "FULL", dtos.size());
+        return dtos;
     }
 
-    private List<SpellDTO.SpellVariantDTO> toVariantDTOs(List<SpellVariantEntity> entities) {
-        if (entities == null) return List.of();
-        return entities.stream()
+    public SpellSummaryDTO toSummaryDTO(SpellSummary spell) {
+        return SpellSummaryDTO.builder()
+                .id(spell.id())
+                .classId(spell.characterClassId())
+                .name(spell.name())
+                .element(spell.element())
+                .spellType(spell.spellType())
+                .paCost(spell.paCost())
+                .pwCost(spell.pwCost())
+                .poMin(spell.poMin())
+                .poMax(spell.poMax())
+                .cooldown(spell.cooldown())
+                .iconId(spell.iconId())
+                .isAoe(spell.aoe())
+                .build();
+    }
+
+    public List<SpellSummaryDTO> toSummaryDTOs(List<SpellSummary> spells) {
+        SpellMappingEvent event = begin();
+        List<SpellSummaryDTO> dtos = spells.stream()
+                .map(this::toSummaryDTO)
+                .collect(Collectors.toList());
+        commit(event, "SUMMARY", dtos.size());
+        return dtos;
+    }
+
+    private static SpellMappingEvent begin() {
+        if (!FlightEvents.enabled()) return null;
+        SpellMappingEvent event = new SpellMappingEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void commit(SpellMappingEvent event, String view, int spells) {
+        if (event == null || !event.shouldCommit()) return;
+        event.view = view;
+        event.spells = spells;
+        event.commit();
+    }
+
+    private List<SpellDTO.SpellVariantDTO> toVariantDTOs(List<SpellVariant> variants) {
+        return variants.stream()
                 .map(v -> SpellDTO.SpellVariantDTO.builder()
-                        .id(v.getId())
-                        .kind(v.getKind() != null ? v.getKind().name() : null)
-                        .effects(toEffectDTOs(v.getEffects()))
+                        .id(v.id())
+                        .kind(v.kind().name())
+                        .effects(toEffectDTOs(v.effects()))
                         .build())
                 .collect(Collectors.toList());
     }
 
-    private List<SpellDTO.SpellEffectDTO> toEffectDTOs(List<SpellEffectEntity> entities) {
-        if (entities == null) return List.of();
-        return entities.stream()
+    private List<SpellDTO.SpellEffectDTO> toEffectDTOs(List<SpellEffect> effects) {
+        return effects.stream()
                 .map(e -> SpellDTO.SpellEffectDTO.builder()
-                        .id(e.getId())
-                        .ordinal(e.getOrderIndex())
+                        .id(e.id())
+                        .ordinal(e.orderIndex())
                         .element(null)
-                        .effect(e.getEffectType())
-                        .targetScope(e.getTargetScope() != null ? e.getTargetScope().name() : null)
+                        .effect(e.effectType())
+                        .targetScope(e.targetScope())
                         .durationType(null)
                         .duration(null)
-                        .phase(e.getPhase())
+                        .phase(e.phase())
                         .cooldown(null)
                         .minValue(null)
                         .maxValue(null)
-                        .extendedData(e.getParams())
-                        .condGroup(toCondGroupDTO(e.getCondGroup()))
+                        .extendedData(e.params())
+                        .condGroup(e.conditionGroup().map(this::toCondGroupDTO).orElse(null))
                         .build())
                 .collect(Collectors.toList());
     }
 
-    private SpellDTO.EffectConditionGroupDTO toCondGroupDTO(EffectConditionGroupEntity entity) {
-        if (entity == null) return null;
+    private SpellDTO.EffectConditionGroupDTO toCondGroupDTO(EffectConditionGroup group) {
         return SpellDTO.EffectConditionGroupDTO.builder()
-                .id(entity.getId())
-                .operator(entity.getOp())
-                .conditions(toConditionDTOs(entity.getConditions()))
+                .id(group.id())
+                .operator(group.operator())
+                .conditions(toConditionDTOs(group.conditions()))
                 .build();
     }
 
-    private List<SpellDTO.EffectConditionDTO> toConditionDTOs(List<EffectConditionEntity> entities) {
-        if (entities == null) return List.of();
-        return entities.stream()
+    private List<SpellDTO.EffectConditionDTO> toConditionDTOs(List<EffectCondition> conditions) {
+        return conditions.stream()
                 .map(c -> SpellDTO.EffectConditionDTO.builder()
-                        .id(c.getId())
-                        .code(c.getCondType())
-                        .data(c.getParams())
+                        .id(c.id())
+                        .code(c.code())
+                        .data(c.params())
                         .build())
                 .collect(Collectors.toList());
     }
 
-    private List<SpellDTO.SpellRatioBreakpointDTO> toBreakpointDTOs(List<SpellRatioBreakpointEntity> entities) {
-        if (entities == null) return List.of();
-        return entities.stream()
+    private List<SpellDTO.SpellRatioBreakpointDTO> toBreakpointDTOs(List<SpellRatioBreakpoint> breakpoints) {
+        return breakpoints.stream()
                 .map(b -> SpellDTO.SpellRatioBreakpointDTO.builder()
-                        .kind(b.getId() != null ? b.getId().getKind() : null)
-                        .lvl(b.getId() != null ? b.getId().getLvl() : 0)
-                        .ratio(b.getRatio())
+                        .kind(b.kind())
+                        .lvl(b.level())
+                        .ratio(b.ratio())
                         .build())
                 .collect(Collectors.toList());
     }
 }
-
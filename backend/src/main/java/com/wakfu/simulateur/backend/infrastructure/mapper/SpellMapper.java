@@ -0,0 +1,84 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.wakfu.simulateur.backend.domain.catalog.ParamsStore;
+import com.wakfu.simulateur.backend.domain.spell.*;
+import com.wakfu.simulateur.backend.infrastructure.entity.*;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class SpellMapper {
+
+    public Spell toDomain(SpellEntity entity) {
+        if (entity == null) return null;
+
+        return new Spell(
+                entity.getId(),
+                entity.getCharacterClass() != null ? entity.getCharacterClass().getId() : null,
+                entity.getName(),
+                entity.getElement(),
+                entity.getSpellType() != null ? entity.getSpellType().name() : null,
+                entity.getPaCost(),
+                entity.getPwCost(),
+                entity.getPoMin(),
+                entity.getPoMax(),
+                entity.isPoModifiable(),
+                entity.isLineOfSight(),
+                entity.getCooldown(),
+                entity.getUsePerTurn(),
+                entity.getUsePerTarget(),
+                entity.getDirection() != null ? entity.getDirection().name() : null,
+                entity.getRatioEvalMode(),
+                entity.getIconId(),
+                entity.isAoe(),
+                toVariants(entity.getVariants()),
+                toBreakpoints(entity.getBreakpoints())
+        );
+    }
+
+    private List<SpellVariant> toVariants(List<SpellVariantEntity> entities) {
+        if (entities == null) return List.of();
+        return entities.stream()
+                .map(v -> new SpellVariant(
+                        v.getId(),
+                        v.getKind() != null ? VariantKind.valueOf(v.getKind().name()) : VariantKind.NORMAL,
+                        toEffects(v.getEffects())))
+                .toList();
+    }
+
+    private List<SpellEffect> toEffects(List<SpellEffectEntity> entities) {
+        if (entities == null) return List.of();
+        return entities.stream()
+                .sorted(Comparator.comparingInt(SpellEffectEntity::getOrderIndex))
+                .map(e -> new SpellEffect(
+                        e.getId(),
+                        e.getPhase(),
+                        e.getOrderIndex(),
+                        e.getEffectType(),
+                        e.getTargetScope() != null ? e.getTargetScope().name() : null,
+                        ParamsStore.shared().intern(e.getParams()),
+                        Optional.ofNullable(toConditionGroup(e.getCondGroup()))))
+                .toList();
+    }
+
+    static EffectConditionGroup toConditionGroup(EffectConditionGroupEntity entity) {
+        if (entity == null) return null;
+        return new EffectConditionGroup(
+                entity.getId(),
+                entity.getOp(),
+                entity.getConditions().stream()
+                        .map(c -> new EffectCondition(c.getId(), c.getCondType(), ParamsStore.shared().intern(c.getParams())))
+                        .toList());
+    }
+
+    private List<SpellRatioBreakpoint> toBreakpoints(List<SpellRatioBreakpointEntity> entities) {
+        if (entities == null) return List.of();
+        return entities.stream()
+                .filter(b -> b.getId() != null)
+                .map(b -> new SpellRatioBreakpoint(b.getId().getKind(), b.getId().getLvl(), b.getRatio()))
+                .toList();
+    }
+}
@@ -0,0 +1,37 @@
+package com.wakfu.simulateur.backend.infrastructure.mapper;
+
+import com.wakfu.simulateur.backend.domain.catalog.ParamsStore;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+import com.wakfu.simulateur.backend.domain.status.StatusEffect;
+import com.wakfu.simulateur.backend.infrastructure.entity.StatusDefEntity;
+import com.wakfu.simulateur.backend.infrastructure.entity.StatusEffectEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Component
+public class StatusMapper {
+
+    public StatusDefinition toDomain(StatusDefEntity entity) {
+        if (entity == null) return null;
+
+        return new StatusDefinition(
+                entity.getId(),
+                entity.getName(),
+                entity.getMaxStacks(),
+                entity.getDurationType() != null ? entity.getDurationType().name() : null,
+                entity.getBaseDuration(),
+                toEffects(entity.getEffects())
+        );
+    }
+
+    private List<StatusEffect> toEffects(List<StatusEffectEntity> entities) {
+        if (entities == null) return List.of();
+        return entities.stream()
+                .sorted(Comparator.comparing(StatusEffectEntity::getId))
+                .map(e -> new StatusEffect(e.getId(), e.getTickPhase(), e.getEffectType(),
+                        ParamsStore.shared().intern(e.getParams())))
+                .toList();
+    }
+}
@@ -1,9 +1,12 @@
 package com.wakfu.simulateur.backend.infrastructure.repository;
 
+import com.wakfu.simulateur.backend.domain.passive.PassiveSummary;
 import com.wakfu.simulateur.backend.infrastructure.entity.PassiveEntity;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,5 +23,20 @@ public interface PassiveRepository extends JpaRepository<PassiveEntity, String>
             "effects"
     })
     List<PassiveEntity> findAll();
-}
 
+    @EntityGraph(attributePaths = {
+            "characterClass",
+            "effects"
+    })
+    List<PassiveEntity> findAllByIdIn(Collection<String> ids);
+
+    String SUMMARY_SELECT = "SELECT new com.wakfu.simulateur.backend.domain.passive.PassiveSummary(" +
+            "p.id, p.characterClass.id, p.name, p.iconId) FROM PassiveEntity p ";
+
+    // Projections sans la description (@Lob) ni les effets
+    @Query(SUMMARY_SELECT + "ORDER BY p.id")
+    List<PassiveSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE p.characterClass.id = :classId ORDER BY p.id")
+    List<PassiveSummary> findSummariesByClassId(String classId);
+}
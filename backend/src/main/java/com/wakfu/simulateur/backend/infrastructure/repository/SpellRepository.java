@@ -1,5 +1,6 @@
 package com.wakfu.simulateur.backend.infrastructure.repository;
 
+import com.wakfu.simulateur.backend.domain.spell.SpellSummary;
 import com.wakfu.simulateur.backend.infrastructure.entity.EffectConditionGroupEntity;
 import com.wakfu.simulateur.backend.infrastructure.entity.SpellEntity;
 import com.wakfu.simulateur.backend.infrastructure.entity.SpellVariantEntity;
@@ -16,6 +17,15 @@ public interface SpellRepository extends JpaRepository<SpellEntity, String> {
            "LEFT JOIN FETCH s.variants")
     List<SpellEntity> findAllWithVariants();
 
+    @Query("SELECT s.id FROM SpellEntity s ORDER BY s.id")
+    List<String> findAllIds();
+
+    @Query("SELECT DISTINCT s FROM SpellEntity s " +
+           "LEFT JOIN FETCH s.characterClass " +
+           "LEFT JOIN FETCH s.variants " +
+           "WHERE s.id IN :ids")
+    List<SpellEntity> findAllWithVariantsByIdIn(List<String> ids);
+
     @Query("SELECT DISTINCT v FROM SpellVariantEntity v " +
            "LEFT JOIN FETCH v.effects e " +
            "LEFT JOIN FETCH e.condGroup cg " +
@@ -42,4 +52,15 @@ public interface SpellRepository extends JpaRepository<SpellEntity, String> {
            "LEFT JOIN FETCH s.breakpoints " +
            "WHERE s.id = :id")
     Optional<SpellEntity> findByIdWithBreakpoints(String id);
+
+    String SUMMARY_SELECT = "SELECT new com.wakfu.simulateur.backend.domain.spell.SpellSummary(" +
+            "s.id, s.characterClass.id, s.name, s.element, CAST(s.spellType AS String), s.paCost, s.pwCost, " +
+            "s.poMin, s.poMax, s.cooldown, s.iconId, s.aoe) FROM SpellEntity s ";
+
+    // Projections sans jointure sur les variantes, effets et paliers
+    @Query(SUMMARY_SELECT + "ORDER BY s.id")
+    List<SpellSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE s.characterClass.id = :classId ORDER BY s.id")
+    List<SpellSummary> findSummariesByClassId(String classId);
 }
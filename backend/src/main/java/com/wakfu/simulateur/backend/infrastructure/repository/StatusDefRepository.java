@@ -0,0 +1,18 @@
+package com.wakfu.simulateur.backend.infrastructure.repository;
+
+import com.wakfu.simulateur.backend.infrastructure.entity.StatusDefEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StatusDefRepository extends JpaRepository<StatusDefEntity, String> {
+
+    @EntityGraph(attributePaths = "effects")
+    Optional<StatusDefEntity> findById(String id);
+
+    @EntityGraph(attributePaths = "effects")
+    List<StatusDefEntity> findAllByIdIn(Collection<String> ids);
+}
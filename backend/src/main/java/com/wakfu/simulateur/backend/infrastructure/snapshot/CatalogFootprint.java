@@ -0,0 +1,153 @@
+package com.wakfu.simulateur.backend.infrastructure.snapshot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wakfu.simulateur.backend.domain.catalog.Catalog;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveEffect;
+import com.wakfu.simulateur.backend.domain.spell.*;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+import com.wakfu.simulateur.backend.domain.status.StatusEffect;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Estimation de la mémoire retenue par un catalogue décodé (JVM 64 bits, références compressées).
+ * Les chaînes et nœuds JSON partagés (table des chaînes du snapshot) ne sont comptés qu'une fois.
+ */
+final class CatalogFootprint {
+
+    private static final int HEADER = 12;
+    private static final int REFERENCE = 4;
+    private static final int BOXED = 16;
+
+    private final Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long bytes;
+
+    private CatalogFootprint() {
+    }
+
+    static long estimate(Catalog catalog) {
+        CatalogFootprint footprint = new CatalogFootprint();
+        footprint.list(catalog.spells());
+        catalog.spells().forEach(footprint::spell);
+        footprint.list(catalog.passives());
+        catalog.passives().forEach(footprint::passive);
+        footprint.list(catalog.statuses());
+        catalog.statuses().forEach(footprint::status);
+        return footprint.bytes;
+    }
+
+    private void spell(Spell spell) {
+        bytes += object(9, 11);
+        strings(spell.id(), spell.characterClassId(), spell.name(), spell.element(), spell.spellType(),
+                spell.direction(), spell.ratioEvalMode());
+        if (spell.iconId() != null) bytes += BOXED;
+        list(spell.variants());
+        for (SpellVariant variant : spell.variants()) {
+            bytes += object(3, 0) + BOXED;
+            list(variant.effects());
+            for (SpellEffect effect : variant.effects()) {
+                bytes += object(6, 1) + BOXED;
+                strings(effect.phase(), effect.effectType(), effect.targetScope());
+                json(effect.params());
+                conditionGroup(effect.conditionGroup());
+            }
+        }
+        list(spell.breakpoints());
+        for (SpellRatioBreakpoint breakpoint : spell.breakpoints()) {
+            bytes += object(1, 2);
+            strings(breakpoint.kind());
+        }
+    }
+
+    private void passive(Passive passive) {
+        bytes += object(6, 0);
+        strings(passive.id(), passive.characterClassId(), passive.name(), passive.description());
+        if (passive.iconId() != null) bytes += BOXED;
+        list(passive.effects());
+        for (PassiveEffect effect : passive.effects()) {
+            bytes += object(6, 1) + BOXED;
+            strings(effect.trigger(), effect.effectType(), effect.targetScope());
+            json(effect.params());
+            conditionGroup(effect.conditionGroup());
+        }
+    }
+
+    private void status(StatusDefinition status) {
+        bytes += object(5, 1);
+        strings(status.id(), status.name(), status.durationType());
+        if (status.baseDuration() != null) bytes += BOXED;
+        list(status.effects());
+        for (StatusEffect effect : status.effects()) {
+            bytes += object(4, 0) + BOXED;
+            strings(effect.tickPhase(), effect.effectType());
+            json(effect.params());
+        }
+    }
+
+    private void conditionGroup(Optional<EffectConditionGroup> group) {
+        bytes += object(1, 0);
+        if (group.isEmpty() || !seen.add(group.get())) return;
+        EffectConditionGroup g = group.get();
+        bytes += object(3, 0) + BOXED;
+        strings(g.operator());
+        list(g.conditions());
+        for (EffectCondition condition : g.conditions()) {
+            bytes += object(3, 0) + BOXED;
+            strings(condition.code());
+            json(condition.params());
+        }
+    }
+
+    private void json(JsonNode node) {
+        if (node == null || !seen.add(node)) return;
+        if (node.isObject()) {
+            // ObjectNode + LinkedHashMap (table + entrées)
+            bytes += object(1, 0) + 56 + align(16 + REFERENCE * 2L * Math.max(16, node.size()));
+            bytes += (long) node.size() * 40;
+            node.fieldNames().forEachRemaining(this::strings);
+        } else if (node.isArray()) {
+            bytes += object(1, 0) + 24 + align(16 + (long) REFERENCE * Math.max(10, node.size()));
+        } else if (node.isTextual()) {
+            bytes += object(1, 0);
+            strings(node.textValue());
+            return;
+        } else {
+            bytes += object(0, 2);
+        }
+        node.elements().forEachRemaining(this::json);
+    }
+
+    private void strings(String... values) {
+        for (String value : values) {
+            if (value != null && seen.add(value)) {
+                bytes += object(1, 2) + align(16 + value.length() * (isLatin1(value) ? 1L : 2L));
+            }
+        }
+    }
+
+    private void list(List<?> list) {
+        if (seen.add(list)) {
+            bytes += object(1, 0) + align(16 + (long) REFERENCE * list.size());
+        }
+    }
+
+    private static boolean isLatin1(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) return false;
+        }
+        return true;
+    }
+
+    private static long object(int references, int primitives) {
+        return align(HEADER + (long) references * REFERENCE + primitives * 4L);
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -0,0 +1,81 @@
+package com.wakfu.simulateur.backend.infrastructure.snapshot;
+
+import com.wakfu.simulateur.backend.domain.catalog.Catalog;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveSummary;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellSummary;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Partition du catalogue pour une classe, chargée en mémoire avec son empreinte estimée.
+ */
+public final class CatalogPartition {
+
+    private final String classId;
+    private final Catalog catalog;
+    private final long retainedBytes;
+    private final Duration loadTime;
+    private final Map<String, Spell> spellsById = new HashMap<>();
+    private final Map<String, Passive> passivesById = new HashMap<>();
+    private final Map<String, StatusDefinition> statusesById = new HashMap<>();
+    private final List<SpellSummary> spellSummaries;
+    private final List<PassiveSummary> passiveSummaries;
+
+    public CatalogPartition(String classId, Catalog catalog, Duration loadTime) {
+        this.classId = classId;
+        this.catalog = catalog;
+        this.loadTime = loadTime;
+        this.retainedBytes = CatalogFootprint.estimate(catalog);
+        catalog.spells().forEach(s -> spellsById.put(s.id(), s));
+        catalog.passives().forEach(p -> passivesById.put(p.id(), p));
+        catalog.statuses().forEach(s -> statusesById.put(s.id(), s));
+        this.spellSummaries = catalog.spells().stream().map(SpellSummary::of).toList();
+        this.passiveSummaries = catalog.passives().stream().map(PassiveSummary::of).toList();
+    }
+
+    public String classId() {
+        return classId;
+    }
+
+    public Catalog catalog() {
+        return catalog;
+    }
+
+    public long retainedBytes() {
+        return retainedBytes;
+    }
+
+    public Duration loadTime() {
+        return loadTime;
+    }
+
+    /**
+     * Vues allégées calculées au chargement : les listes de sélection ne parcourent pas les arbres d'effets.
+     */
+    public List<SpellSummary> spellSummaries() {
+        return spellSummaries;
+    }
+
+    public List<PassiveSummary> passiveSummaries() {
+        return passiveSummaries;
+    }
+
+    public Optional<Spell> spell(String id) {
+        return Optional.ofNullable(spellsById.get(id));
+    }
+
+    public Optional<Passive> passive(String id) {
+        return Optional.ofNullable(passivesById.get(id));
+    }
+
+    public Optional<StatusDefinition> status(String id) {
+        return Optional.ofNullable(statusesById.get(id));
+    }
+}
@@ -0,0 +1,28 @@
+package com.wakfu.simulateur.backend.infrastructure.snapshot;
+
+import java.util.List;
+
+/**
+ * Index des partitions de catalogue par classe, écrit au build à côté des snapshots
+ * ({@code catalog/classes/index.json}). Permet de retrouver la partition d'un sort ou d'un passif
+ * sans charger la partition elle-même.
+ */
+public record CatalogPartitionIndex(List<Entry> partitions) {
+
+    public static final String LOCATION = "catalog/classes/index.json";
+
+    public CatalogPartitionIndex {
+        partitions = List.copyOf(partitions);
+    }
+
+    public record Entry(
+            String classId,
+            String resource,
+            String version,
+            long snapshotBytes,
+            List<String> spellIds,
+            List<String> passiveIds,
+            List<String> statusIds
+    ) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.wakfu.simulateur.backend.infrastructure.snapshot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.wakfu.simulateur.backend.domain.catalog.Catalog;
+import com.wakfu.simulateur.backend.domain.catalog.CatalogSnapshotCodec;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveEffect;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellEffect;
+import com.wakfu.simulateur.backend.domain.spell.SpellVariant;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.*;
+
+/**
+ * Construit les snapshots binaires du catalogue à partir des scripts SQL de référence.
+ * Exécuté au build (phase process-classes) : {@code CatalogSnapshotBuilder <dossier sql> <dossier catalog>}.
+ * <ul>
+ *   <li>{@code catalog.snapshot} : catalogue complet ;</li>
+ *   <li>{@code classes/<classe>.snapshot} : une partition par classe (sorts, passifs et statuts
+ *       qu'ils référencent), plus {@code classes/index.json}.</li>
+ * </ul>
+ * Les partitions sont découpées par {@code class_id} depuis le catalogue complet : les scripts
+ * de {@code sql/class/*} référencent des identifiants générés et ne sont pas exécutables isolément.
+ */
+public final class CatalogSnapshotBuilder {
+
+    private static final List<String> SCRIPTS = List.of(
+            "creation_tables_spells.sql",
+            "creation_tables_passifs.sql",
+            "insertion_tables.sql");
+
+    private CatalogSnapshotBuilder() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: CatalogSnapshotBuilder <dossier sql> <dossier catalog>");
+        }
+        Path sqlDir = Path.of(args[0]);
+        Path outputDir = Path.of(args[1]);
+
+        byte[] full = build(sqlDir);
+        write(outputDir.resolve("catalog.snapshot"), full);
+        Catalog catalog = CatalogSnapshotCodec.decode(ByteBuffer.wrap(full));
+
+        Map<String, List<Spell>> spellsByClass = new TreeMap<>();
+        catalog.spells().forEach(s -> spellsByClass.computeIfAbsent(s.characterClassId(), k -> new ArrayList<>()).add(s));
+        Map<String, List<Passive>> passivesByClass = new TreeMap<>();
+        catalog.passives().forEach(p -> passivesByClass.computeIfAbsent(p.characterClassId(), k -> new ArrayList<>()).add(p));
+
+        Set<String> classIds = new TreeSet<>(spellsByClass.keySet());
+        classIds.addAll(passivesByClass.keySet());
+
+        Path classesDir = outputDir.resolve("classes");
+        List<CatalogPartitionIndex.Entry> partitions = new ArrayList<>();
+        for (String classId : classIds) {
+            List<Spell> spells = spellsByClass.getOrDefault(classId, List.of());
+            List<Passive> passives = passivesByClass.getOrDefault(classId, List.of());
+            List<StatusDefinition> statuses = referencedStatuses(catalog.statuses(), spells, passives);
+
+            byte[] snapshot = CatalogSnapshotCodec.encode(spells, passives, statuses);
+            Catalog partition = CatalogSnapshotCodec.decode(ByteBuffer.wrap(snapshot));
+            String resource = classId + ".snapshot";
+            write(classesDir.resolve(resource), snapshot);
+            partitions.add(new CatalogPartitionIndex.Entry(
+                    classId,
+                    resource,
+                    partition.version(),
+                    snapshot.length,
+                    spells.stream().map(Spell::id).toList(),
+                    passives.stream().map(Passive::id).toList(),
+                    statuses.stream().map(StatusDefinition::id).toList()));
+        }
+
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(classesDir.resolve("index.json").toFile(), new CatalogPartitionIndex(partitions));
+    }
+
+    private static byte[] build(Path sqlDir) throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:catalog-snapshot", "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                for (String script : SCRIPTS) {
+                    String path = sqlDir.resolve(script).toAbsolutePath().toString().replace("'", "''");
+                    statement.execute("RUNSCRIPT FROM '" + path + "' CHARSET 'UTF-8'");
+                }
+            }
+
+            JdbcCatalogReader reader = new JdbcCatalogReader(connection);
+            return CatalogSnapshotCodec.encode(reader.readSpells(), reader.readPassives(), reader.readStatuses());
+        }
+    }
+
+    /**
+     * Statuts dont l'identifiant apparaît dans les paramètres des effets de la partition,
+     * y compris ceux référencés par les effets des statuts déjà retenus.
+     */
+    private static List<StatusDefinition> referencedStatuses(List<StatusDefinition> statuses,
+                                                             List<Spell> spells, List<Passive> passives) {
+        Set<String> values = new HashSet<>();
+        spells.stream()
+                .flatMap(s -> s.variants().stream())
+                .map(SpellVariant::effects)
+                .flatMap(List::stream)
+                .map(SpellEffect::params)
+                .forEach(params -> collectText(params, values));
+        passives.stream()
+                .flatMap(p -> p.effects().stream())
+                .map(PassiveEffect::params)
+                .forEach(params -> collectText(params, values));
+
+        Set<String> selected = new HashSet<>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (StatusDefinition status : statuses) {
+                if (values.contains(status.id()) && selected.add(status.id())) {
+                    status.effects().forEach(e -> collectText(e.params(), values));
+                    changed = true;
+                }
+            }
+        }
+        return statuses.stream()
+                .filter(s -> selected.contains(s.id()))
+                .toList();
+    }
+
+    private static void collectText(JsonNode node, Set<String> values) {
+        if (node == null) return;
+        if (node.isTextual()) {
+            values.add(node.asText());
+        }
+        node.elements().forEachRemaining(child -> collectText(child, values));
+    }
+
+    private static void write(Path output, byte[] snapshot) throws IOException {
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.write(output, snapshot);
+        System.out.printf("Snapshot du catalogue écrit: %s (%d octets)%n", output, snapshot.length);
+    }
+}
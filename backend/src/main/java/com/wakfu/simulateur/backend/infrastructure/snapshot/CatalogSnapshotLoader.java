@@ -0,0 +1,45 @@
+package com.wakfu.simulateur.backend.infrastructure.snapshot;
+
+import com.wakfu.simulateur.backend.domain.catalog.Catalog;
+import com.wakfu.simulateur.backend.domain.catalog.CatalogSnapshotCodec;
+import com.wakfu.simulateur.backend.domain.jfr.CatalogLoadEvent;
+import com.wakfu.simulateur.backend.domain.jfr.FlightEvents;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+/**
+ * Charge le snapshot complet du catalogue au démarrage.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalog.source", havingValue = "snapshot")
+public class CatalogSnapshotLoader {
+
+    private final Catalog catalog;
+
+    public CatalogSnapshotLoader(ResourceLoader resourceLoader,
+                                 @Value("${catalog.snapshot.location:classpath:catalog/catalog.snapshot}") String location) {
+        long start = System.nanoTime();
+        CatalogLoadEvent event = FlightEvents.enabled() ? new CatalogLoadEvent() : null;
+        if (event != null) event.begin();
+        this.catalog = CatalogSnapshotCodec.decode(SnapshotResources.read(resourceLoader.getResource(location)));
+        if (event != null && event.shouldCommit()) {
+            event.source = "snapshot";
+            event.version = catalog.version();
+            event.spells = catalog.spells().size();
+            event.passives = catalog.passives().size();
+            event.statuses = catalog.statuses().size();
+            event.commit();
+        }
+        log.info("Catalogue {} chargé depuis {} en {} ms ({} sorts, {} passifs, {} statuts)",
+                catalog.version(), location, (System.nanoTime() - start) / 1_000_000,
+                catalog.spells().size(), catalog.passives().size(), catalog.statuses().size());
+    }
+
+    public Catalog catalog() {
+        return catalog;
+    }
+}
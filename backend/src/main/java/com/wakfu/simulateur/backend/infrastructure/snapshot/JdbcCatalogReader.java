@@ -0,0 +1,135 @@
+package com.wakfu.simulateur.backend.infrastructure.snapshot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wakfu.simulateur.backend.domain.catalog.ParamsStore;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveEffect;
+import com.wakfu.simulateur.backend.domain.spell.*;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+import com.wakfu.simulateur.backend.domain.status.StatusEffect;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Lecture du catalogue en JDBC brut (sans JPA), utilisée pour construire le snapshot au build.
+ */
+public class JdbcCatalogReader {
+
+    private final Connection connection;
+
+    public JdbcCatalogReader(Connection connection) {
+        this.connection = connection;
+    }
+
+    public List<Spell> readSpells() throws SQLException {
+        Map<Long, EffectConditionGroup> groups = readConditionGroups();
+        Map<String, List<SpellRatioBreakpoint>> breakpoints = new HashMap<>();
+        query("SELECT spell_id, kind, lvl, ratio FROM spell_ratio_breakpoint ORDER BY spell_id, kind, lvl", rs ->
+                breakpoints.computeIfAbsent(rs.getString(1), k -> new ArrayList<>())
+                        .add(new SpellRatioBreakpoint(rs.getString(2), rs.getInt(3), rs.getInt(4))));
+
+        Map<Long, List<SpellEffect>> effects = new HashMap<>();
+        query("SELECT id, variant_id, phase, order_index, effect_type, target_scope, params_json, cond_group_id " +
+              "FROM spell_effect ORDER BY variant_id, order_index, id", rs -> {
+            Long groupId = nullableLong(rs, 8);
+            effects.computeIfAbsent(rs.getLong(2), k -> new ArrayList<>()).add(new SpellEffect(
+                    rs.getLong(1), rs.getString(3), rs.getInt(4), rs.getString(5), rs.getString(6),
+                    parse(rs.getString(7)), Optional.ofNullable(groupId != null ? groups.get(groupId) : null)));
+        });
+
+        Map<String, List<SpellVariant>> variants = new HashMap<>();
+        query("SELECT id, spell_id, kind FROM spell_variant ORDER BY spell_id, id", rs ->
+                variants.computeIfAbsent(rs.getString(2), k -> new ArrayList<>()).add(new SpellVariant(
+                        rs.getLong(1), VariantKind.valueOf(rs.getString(3)),
+                        effects.getOrDefault(rs.getLong(1), List.of()))));
+
+        List<Spell> spells = new ArrayList<>();
+        query("SELECT id, class_id, name, element, spell_type, pa_cost, pw_cost, po_min, po_max, po_modifiable, " +
+              "line_of_sight, cooldown, use_per_turn, use_per_target, direction, ratio_eval_mode, icon_id, is_aoe " +
+              "FROM spell ORDER BY id", rs -> {
+            String id = rs.getString(1);
+            spells.add(new Spell(id, rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+                    rs.getInt(6), rs.getInt(7), rs.getInt(8), rs.getInt(9), rs.getBoolean(10), rs.getBoolean(11),
+                    rs.getInt(12), rs.getInt(13), rs.getInt(14), rs.getString(15), rs.getString(16),
+                    nullableInt(rs, 17), rs.getBoolean(18),
+                    variants.getOrDefault(id, List.of()), breakpoints.getOrDefault(id, List.of())));
+        });
+        return spells;
+    }
+
+    public List<Passive> readPassives() throws SQLException {
+        Map<Long, EffectConditionGroup> groups = readConditionGroups();
+        Map<String, List<PassiveEffect>> effects = new HashMap<>();
+        query("SELECT id, passive_id, trigger, order_index, effect_type, target_scope, params_json, cond_group_id " +
+              "FROM passive_effect ORDER BY passive_id, order_index, id", rs -> {
+            Long groupId = nullableLong(rs, 8);
+            effects.computeIfAbsent(rs.getString(2), k -> new ArrayList<>()).add(new PassiveEffect(
+                    rs.getLong(1), rs.getString(3), rs.getInt(4), rs.getString(5), rs.getString(6),
+                    parse(rs.getString(7)), Optional.ofNullable(groupId != null ? groups.get(groupId) : null)));
+        });
+
+        List<Passive> passives = new ArrayList<>();
+        query("SELECT id, class_id, name, description, icon_id FROM passive ORDER BY id", rs ->
+                passives.add(new Passive(rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        nullableInt(rs, 5), effects.getOrDefault(rs.getString(1), List.of()))));
+        return passives;
+    }
+
+    public List<StatusDefinition> readStatuses() throws SQLException {
+        Map<String, List<StatusEffect>> effects = new HashMap<>();
+        query("SELECT id, status_id, tick_phase, effect_type, params_json FROM status_effect ORDER BY status_id, id", rs ->
+                effects.computeIfAbsent(rs.getString(2), k -> new ArrayList<>()).add(new StatusEffect(
+                        rs.getLong(1), rs.getString(3), rs.getString(4), parse(rs.getString(5)))));
+
+        List<StatusDefinition> statuses = new ArrayList<>();
+        query("SELECT id, name, max_stacks, duration_type, base_duration FROM status_def ORDER BY id", rs ->
+                statuses.add(new StatusDefinition(rs.getString(1), rs.getString(2), rs.getInt(3), rs.getString(4),
+                        nullableInt(rs, 5), effects.getOrDefault(rs.getString(1), List.of()))));
+        return statuses;
+    }
+
+    private Map<Long, EffectConditionGroup> readConditionGroups() throws SQLException {
+        Map<Long, List<EffectCondition>> conditions = new HashMap<>();
+        query("SELECT id, group_id, cond_type, params_json FROM effect_condition ORDER BY group_id, id", rs ->
+                conditions.computeIfAbsent(rs.getLong(2), k -> new ArrayList<>()).add(new EffectCondition(
+                        rs.getLong(1), rs.getString(3), parse(rs.getString(4)))));
+
+        Map<Long, EffectConditionGroup> groups = new HashMap<>();
+        query("SELECT id, op FROM effect_condition_group", rs ->
+                groups.put(rs.getLong(1), new EffectConditionGroup(rs.getLong(1), rs.getString(2),
+                        conditions.getOrDefault(rs.getLong(1), List.of()))));
+        return groups;
+    }
+
+    private void query(String sql, RowHandler handler) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                handler.handle(rs);
+            }
+        }
+    }
+
+    private static JsonNode parse(String json) {
+        return ParamsStore.shared().intern(json);
+    }
+
+    private static Integer nullableInt(ResultSet rs, int column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Long nullableLong(ResultSet rs, int column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    @FunctionalInterface
+    private interface RowHandler {
+        void handle(ResultSet rs) throws SQLException;
+    }
+}
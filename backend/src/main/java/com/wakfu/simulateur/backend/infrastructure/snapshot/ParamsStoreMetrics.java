@@ -0,0 +1,34 @@
+package com.wakfu.simulateur.backend.infrastructure.snapshot;
+
+import com.wakfu.simulateur.backend.domain.catalog.ParamsStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Métriques {@code catalog.params.*} du magasin de paramètres JSON partagé : documents distincts
+ * retenus, mémoire retenue et mémoire économisée par le partage.
+ */
+@Component
+public class ParamsStoreMetrics {
+
+    public ParamsStoreMetrics(MeterRegistry meterRegistry) {
+        ParamsStore store = ParamsStore.shared();
+        Gauge.builder("catalog.params.documents", store, s -> s.stats().documents())
+                .description("Documents de paramètres distincts retenus")
+                .register(meterRegistry);
+        Gauge.builder("catalog.params.retained.bytes", store, s -> s.stats().retainedBytes())
+                .description("Mémoire estimée des documents de paramètres retenus")
+                .register(meterRegistry);
+        FunctionCounter.builder("catalog.params.lookups", store, s -> s.stats().lookups())
+                .description("Paramètres JSON internés (lignes, effets de snapshot)")
+                .register(meterRegistry);
+        FunctionCounter.builder("catalog.params.hits", store, s -> s.stats().hits())
+                .description("Paramètres servis par un document déjà retenu")
+                .register(meterRegistry);
+        FunctionCounter.builder("catalog.params.saved.bytes", store, s -> s.stats().savedBytes())
+                .description("Mémoire estimée non allouée grâce au partage des documents")
+                .register(meterRegistry);
+    }
+}
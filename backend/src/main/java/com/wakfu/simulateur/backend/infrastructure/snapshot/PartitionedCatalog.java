@@ -0,0 +1,246 @@
+package com.wakfu.simulateur.backend.infrastructure.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.wakfu.simulateur.backend.application.config.CatalogPartitionProperties;
+import com.wakfu.simulateur.backend.domain.catalog.Catalog;
+import com.wakfu.simulateur.backend.domain.catalog.CatalogSnapshotCodec;
+import com.wakfu.simulateur.backend.domain.jfr.CatalogLoadEvent;
+import com.wakfu.simulateur.backend.domain.jfr.FlightEvents;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Catalogue découpé par classe : chaque partition ({@code catalog/classes/<classe>.snapshot}) est
+ * chargée au premier accès, pondérée par son empreinte mémoire estimée et déchargée lorsque le
+ * budget mémoire est dépassé ou qu'elle n'est plus consultée.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalog.source", havingValue = "partitioned", matchIfMissing = true)
+public class PartitionedCatalog {
+
+    private final ResourceLoader resourceLoader;
+    private final String baseLocation;
+    private final CatalogPartitionProperties properties;
+    private final Map<String, CatalogPartitionIndex.Entry> entries = new LinkedHashMap<>();
+    private final Map<String, String> spellClasses = new HashMap<>();
+    private final Map<String, String> passiveClasses = new HashMap<>();
+    private final Map<String, String> statusClasses = new HashMap<>();
+    private final Map<String, AtomicLong> loadCounts = new ConcurrentHashMap<>();
+    private final LoadingCache<String, CatalogPartition> partitions;
+
+    public PartitionedCatalog(ResourceLoader resourceLoader,
+                              CatalogPartitionProperties properties,
+                              MeterRegistry meterRegistry,
+                              @Value("${catalog.partitions.location:classpath:catalog/classes/}") String baseLocation) {
+        this.resourceLoader = resourceLoader;
+        this.baseLocation = baseLocation;
+        this.properties = properties;
+
+        for (CatalogPartitionIndex.Entry entry : readIndex().partitions()) {
+            entries.put(entry.classId(), entry);
+            entry.spellIds().forEach(id -> spellClasses.put(id, entry.classId()));
+            entry.passiveIds().forEach(id -> passiveClasses.put(id, entry.classId()));
+            entry.statusIds().forEach(id -> statusClasses.putIfAbsent(id, entry.classId()));
+            loadCounts.put(entry.classId(), new AtomicLong());
+        }
+
+        this.partitions = Caffeine.newBuilder()
+                .maximumWeight(Math.max(1, properties.getMaximumSize().toKilobytes()))
+                .weigher((String classId, CatalogPartition partition) ->
+                        (int) Math.min(Integer.MAX_VALUE, Math.max(1, partition.retainedBytes() / 1024)))
+                .expireAfterAccess(properties.getIdleEviction())
+                .removalListener((String classId, CatalogPartition partition, RemovalCause cause) ->
+                        log.info("Partition {} déchargée ({})", classId, cause))
+                .recordStats()
+                .build(this::load);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, partitions, "catalog.partitions");
+        for (String classId : entries.keySet()) {
+            Gauge.builder("catalog.partition.retained.bytes", this, c -> c.retainedBytes(classId))
+                    .tag("class", classId)
+                    .description("Mémoire estimée retenue par la partition chargée")
+                    .register(meterRegistry);
+        }
+    }
+
+    public Set<String> classIds() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Version de l'ensemble des partitions, calculée depuis l'index (versions des partitions, triées
+     * par classe) sans charger aucune partition.
+     */
+    public String version() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            new TreeMap<>(entries).forEach((classId, entry) ->
+                    digest.update((classId + ':' + entry.version() + '\n').getBytes(StandardCharsets.UTF_8)));
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Impossible de calculer la version du catalogue", e);
+        }
+    }
+
+    public int spellCount() {
+        return spellClasses.size();
+    }
+
+    public int passiveCount() {
+        return passiveClasses.size();
+    }
+
+    public Optional<String> classOfSpell(String spellId) {
+        return Optional.ofNullable(spellClasses.get(spellId));
+    }
+
+    public Optional<String> classOfPassive(String passiveId) {
+        return Optional.ofNullable(passiveClasses.get(passiveId));
+    }
+
+    /**
+     * Première partition contenant le statut (un statut partagé est dupliqué dans chaque classe qui le référence).
+     */
+    public Optional<String> classOfStatus(String statusId) {
+        return Optional.ofNullable(statusClasses.get(statusId));
+    }
+
+    public Optional<CatalogPartition> partition(String classId) {
+        if (!entries.containsKey(classId)) return Optional.empty();
+        return Optional.of(partitions.get(classId));
+    }
+
+    public List<CatalogPartition> all() {
+        return List.copyOf(partitions.getAll(entries.keySet()).values());
+    }
+
+    public List<PartitionStatus> status() {
+        return entries.values().stream()
+                .map(entry -> {
+                    CatalogPartition loaded = partitions.getIfPresent(entry.classId());
+                    return new PartitionStatus(
+                            entry.classId(),
+                            entry.version(),
+                            loaded != null,
+                            entry.snapshotBytes(),
+                            loaded != null ? loaded.retainedBytes() : 0,
+                            entry.spellIds().size(),
+                            entry.passiveIds().size(),
+                            entry.statusIds().size(),
+                            loadCounts.get(entry.classId()).get(),
+                            loaded != null ? loaded.loadTime().toMillis() : null);
+                })
+                .toList();
+    }
+
+    /**
+     * Charge en parallèle les partitions configurées ({@code catalog.partitions.warm-up}, toutes par défaut).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<String> classIds = properties.getWarmUp().isEmpty()
+                ? List.copyOf(entries.keySet())
+                : properties.getWarmUp().stream().filter(entries::containsKey).toList();
+        if (classIds.isEmpty()) return;
+
+        long start = System.nanoTime();
+        int threads = Math.min(classIds.size(), properties.resolveWarmUpThreads());
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "catalog-warmup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture.allOf(classIds.stream()
+                            .map(classId -> CompletableFuture.runAsync(() -> partitions.get(classId), executor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+        long retained = classIds.stream().mapToLong(this::retainedBytes).sum();
+        log.info("{} partition(s) de catalogue préchargée(s) en {} ms ({} Ko estimés, {} threads)",
+                classIds.size(), (System.nanoTime() - start) / 1_000_000, retained / 1024, threads);
+    }
+
+    private long retainedBytes(String classId) {
+        CatalogPartition partition = partitions.getIfPresent(classId);
+        return partition != null ? partition.retainedBytes() : 0;
+    }
+
+    private CatalogPartition load(String classId) {
+        CatalogPartitionIndex.Entry entry = entries.get(classId);
+        long start = System.nanoTime();
+        CatalogLoadEvent event = FlightEvents.enabled() ? new CatalogLoadEvent() : null;
+        if (event != null) event.begin();
+        Catalog catalog = CatalogSnapshotCodec.decode(
+                SnapshotResources.read(resourceLoader.getResource(baseLocation + entry.resource())));
+        CatalogPartition partition = new CatalogPartition(classId, catalog, Duration.ofNanos(System.nanoTime() - start));
+        long loads = loadCounts.get(classId).incrementAndGet();
+        if (event != null && event.shouldCommit()) {
+            event.source = "partition";
+            event.partition = classId;
+            event.reload = loads > 1;
+            event.version = catalog.version();
+            event.spells = catalog.spells().size();
+            event.passives = catalog.passives().size();
+            event.statuses = catalog.statuses().size();
+            event.commit();
+        }
+        log.info("Partition {} chargée en {} ms ({} Ko estimés)",
+                classId, partition.loadTime().toMillis(), partition.retainedBytes() / 1024);
+        return partition;
+    }
+
+    private CatalogPartitionIndex readIndex() {
+        Resource index = resourceLoader.getResource(baseLocation + "index.json");
+        try (InputStream in = index.getInputStream()) {
+            return new ObjectMapper().readValue(in, CatalogPartitionIndex.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Index des partitions du catalogue introuvable: " + index, e);
+        }
+    }
+
+    public record PartitionStatus(
+            String classId,
+            String version,
+            boolean loaded,
+            long snapshotBytes,
+            long retainedBytes,
+            int spells,
+            int passives,
+            int statuses,
+            long loads,
+            Long lastLoadMillis
+    ) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.wakfu.simulateur.backend.infrastructure.snapshot;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+final class SnapshotResources {
+
+    private SnapshotResources() {
+    }
+
+    /**
+     * Contenu d'un snapshot : mappé en mémoire lorsqu'il est présent sur le disque,
+     * lu en une fois lorsqu'il est embarqué dans le jar.
+     */
+    static ByteBuffer read(Resource resource) {
+        try {
+            if (resource.isFile()) {
+                try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+            try (InputStream in = resource.getInputStream()) {
+                return ByteBuffer.wrap(in.readAllBytes());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Snapshot du catalogue introuvable: " + resource, e);
+        }
+    }
+}
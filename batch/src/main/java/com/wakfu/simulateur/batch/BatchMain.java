@@ -0,0 +1,173 @@
+package com.wakfu.simulateur.batch;
+
+import com.wakfu.simulateur.backend.domain.catalog.CatalogIndex;
+import com.wakfu.simulateur.backend.domain.catalog.CatalogSnapshots;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point d'entrée des lots hors ligne.
+ * <pre>
+ * run  --input timelines.ndjson|timelines.bin --out resultats.col [--catalog catalog.snapshot]
+ *      [--threads n] [--seed 1] [--max-steps 32] [--max-turns 8]
+ * pack timelines.ndjson timelines.bin
+ * show resultats.col [--from 0] [--limit 20]
+ * </pre>
+ * Chaque enregistrement reprend le corps de {@code POST /api/simulations} ; sans {@code seed}, sa graine
+ * est dérivée de celle du lot et de son numéro. {@code pack} convertit un NDJSON au format binaire, plus
+ * compact et décodé sans allocation. Code de sortie 1 si au moins un enregistrement n'a pas pu être
+ * simulé (les actions en échec ne comptent pas : elles font partie du résultat).
+ */
+public final class BatchMain {
+
+    private static final String USAGE = """
+            usage:
+              run --input <fichier> --out <résultats> [--catalog snapshot|json] [--threads n] [--seed n]
+                  [--max-steps n] [--max-turns n]
+              pack <entrée.ndjson> <sortie.bin>
+              show <résultats> [--from n] [--limit n]""";
+
+    private BatchMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        List<String> positional = new ArrayList<>();
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].startsWith("--") && i + 1 < args.length) {
+                options.put(args[i].substring(2), args[++i]);
+            } else {
+                positional.add(args[i]);
+            }
+        }
+        try {
+            boolean ok = switch (args[0]) {
+                case "run" -> run(options);
+                case "pack" -> pack(positional);
+                case "show" -> show(positional, options);
+                default -> throw new IllegalArgumentException("Commande inconnue: " + args[0]);
+            };
+            System.exit(ok ? 0 : 1);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+    }
+
+    private static boolean run(Map<String, String> options) throws IOException {
+        Path inputPath = Path.of(required(options, "input"));
+        Path out = Path.of(required(options, "out"));
+        Path catalogPath = Path.of(options.getOrDefault("catalog",
+                repositoryPath("backend/target/classes/catalog/catalog.snapshot")));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        int maxSteps = Integer.parseInt(options.getOrDefault("max-steps", "32"));
+        int maxTurns = Integer.parseInt(options.getOrDefault("max-turns", "8"));
+        if (threads <= 0 || maxSteps < 0 || maxTurns < 0) {
+            throw new IllegalArgumentException("Threads, étapes et tours doivent être positifs");
+        }
+
+        long loadStart = System.nanoTime();
+        CatalogIndex catalog = new CatalogIndex(CatalogSnapshots.load(catalogPath));
+        long indexStart = System.nanoTime();
+        try (RecordIndex input = RecordIndex.open(inputPath)) {
+            System.out.printf("Catalogue %s chargé en %d ms, %d enregistrements %s indexés en %d ms%n",
+                    catalog.catalog().version(), (indexStart - loadStart) / 1_000_000, input.size(), input.format(),
+                    (System.nanoTime() - indexStart) / 1_000_000);
+            Path parent = out.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            BatchRunner.Summary summary;
+            try (ResultColumns output = ResultColumns.create(out, input.size(), maxSteps, maxTurns, seed)) {
+                summary = new BatchRunner(catalog, threads).run(input, output, seed);
+            }
+            System.out.printf("%d enregistrements en %.2f s (%.0f/s, %d threads), dégâts cumulés %d%n",
+                    summary.records(), summary.elapsed().toMillis() / 1000.0, summary.recordsPerSecond(), threads,
+                    summary.totalDamage());
+            summary.failures().forEach((failure, count) -> {
+                if (failure != FailureCode.NONE && count > 0) System.out.printf("  %-16s %d%n", failure, count);
+            });
+            System.out.println("Résultats: " + out.toAbsolutePath());
+            return summary.failures().entrySet().stream()
+                    .noneMatch(e -> e.getKey() != FailureCode.NONE && e.getKey() != FailureCode.ACTION_FAILED
+                            && e.getValue() > 0);
+        }
+    }
+
+    private static boolean pack(List<String> positional) throws IOException {
+        if (positional.size() != 2) throw new IllegalArgumentException("Entrée NDJSON et sortie binaire attendues");
+        NdjsonRecordReader reader = new NdjsonRecordReader();
+        BatchRecord record = new BatchRecord();
+        byte[] line = new byte[4096];
+        int rejected = 0;
+        try (RecordIndex input = RecordIndex.open(Path.of(positional.get(0)));
+             BinaryRecordFormat.Writer writer = new BinaryRecordFormat.Writer(Path.of(positional.get(1)))) {
+            if (input.format() != RecordIndex.Format.NDJSON) {
+                throw new IllegalArgumentException("L'entrée est déjà au format binaire");
+            }
+            for (int i = 0; i < input.size(); i++) {
+                int length = input.length(i);
+                if (line.length < length) line = new byte[Integer.highestOneBit(length) * 2];
+                ByteBuffer segment = input.segment(i);
+                segment.get(input.offset(i), line, 0, length);
+                try {
+                    reader.read(line, length, record);
+                    writer.add(record);
+                } catch (BatchRecordException e) {
+                    rejected++;
+                    System.err.printf("Ligne %d ignorée: %s%n", i + 1, e.getMessage());
+                }
+            }
+            System.out.printf("%d enregistrements convertis, %d ignorés%n", writer.records(), rejected);
+        }
+        return rejected == 0;
+    }
+
+    private static boolean show(List<String> positional, Map<String, String> options) throws IOException {
+        if (positional.size() != 1) throw new IllegalArgumentException("Fichier de résultats attendu");
+        try (ResultColumns results = ResultColumns.open(Path.of(positional.get(0)))) {
+            int from = Integer.parseInt(options.getOrDefault("from", "0"));
+            int to = Math.min(results.records(), from + Integer.parseInt(options.getOrDefault("limit", "20")));
+            System.out.printf("%d enregistrements, graine %d, %d étapes et %d tours conservés%n",
+                    results.records(), results.seed(), results.maxSteps(), results.maxTurns());
+            System.out.printf("%8s %-16s %6s %6s %5s %4s %4s %10s  %s%n", "n°", "échec", "étape", "faites",
+                    "tours", "PA", "PW", "dégâts", "dégâts par tour");
+            for (int i = from; i < to; i++) {
+                StringBuilder turns = new StringBuilder();
+                for (int t = 0; t < results.maxTurns(); t++) {
+                    long damage = results.turnDamage(i, t);
+                    if (damage != 0) turns.append(turns.isEmpty() ? "" : " ").append(t).append(':').append(damage);
+                }
+                System.out.printf("%8d %-16s %6d %6d %5d %4d %4d %10d  %s%n", i, results.failure(i),
+                        results.failedStep(i), results.completedSteps(i), results.turns(i), results.paUsed(i),
+                        results.pwUsed(i), results.totalDamage(i), turns);
+            }
+        }
+        return true;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) throw new IllegalArgumentException("Option obligatoire: --" + name);
+        return value;
+    }
+
+    /**
+     * Chemins par défaut résolus depuis la racine du dépôt ou depuis {@code batch/}.
+     */
+    private static String repositoryPath(String relative) {
+        return Files.exists(Path.of("backend")) ? relative : "../" + relative;
+    }
+}
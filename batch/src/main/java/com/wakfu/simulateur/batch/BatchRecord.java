@@ -0,0 +1,181 @@
+package com.wakfu.simulateur.batch;
+
+import com.wakfu.simulateur.backend.domain.simulation.CharacterStats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Enregistrement (build, timeline) décodé, réutilisé d'un enregistrement à l'autre par un même thread :
+ * les tableaux ne sont agrandis qu'au besoin et {@link #clear()} ne libère rien. Les champs reprennent
+ * ceux de la requête de simulation de l'API ; les actions des étapes sont mises à plat, l'étape
+ * {@code s} couvrant les actions {@code [stepStart[s], stepStart[s + 1])}.
+ */
+final class BatchRecord {
+
+    static final int STATS = 15;
+
+    static final byte CAST = 0;
+    static final byte MOVE = 1;
+    static final byte END_TURN = 2;
+
+    static final byte NONE = -1;
+
+    /** Ordre de {@link CharacterStats}. */
+    final int[] stats = new int[STATS];
+    boolean hasStats;
+    int startX;
+    int startY;
+    boolean hasSeed;
+    long seed;
+    final List<String> passiveIds = new ArrayList<>();
+
+    boolean hasBoard;
+    int cols;
+    int rows;
+    int units;
+    String[] unitIds = new String[4];
+    byte[] unitKinds = new byte[4];
+    byte[] unitMechanisms = new byte[4];
+    int[] unitX = new int[4];
+    int[] unitY = new int[4];
+    int[] unitResistances = new int[4];
+
+    int steps;
+    int[] stepStart = new int[17];
+    int actions;
+    byte[] actionTypes = new byte[16];
+    String[] spellIds = new String[16];
+    byte[] variants = new byte[16];
+    boolean[] hasTarget = new boolean[16];
+    int[] targetX = new int[16];
+    int[] targetY = new int[16];
+
+    void clear() {
+        Arrays.fill(stats, 0);
+        hasStats = false;
+        startX = 0;
+        startY = 0;
+        hasSeed = false;
+        seed = 0;
+        passiveIds.clear();
+        hasBoard = false;
+        cols = 0;
+        rows = 0;
+        Arrays.fill(unitIds, 0, units, null);
+        units = 0;
+        Arrays.fill(spellIds, 0, actions, null);
+        steps = 0;
+        stepStart[0] = 0;
+        actions = 0;
+    }
+
+    int addUnit(String id, byte kind, byte mechanism, int x, int y, int resistance) {
+        if (units == unitIds.length) {
+            int size = units * 2;
+            unitIds = Arrays.copyOf(unitIds, size);
+            unitKinds = Arrays.copyOf(unitKinds, size);
+            unitMechanisms = Arrays.copyOf(unitMechanisms, size);
+            unitX = Arrays.copyOf(unitX, size);
+            unitY = Arrays.copyOf(unitY, size);
+            unitResistances = Arrays.copyOf(unitResistances, size);
+        }
+        unitIds[units] = id;
+        unitKinds[units] = kind;
+        unitMechanisms[units] = mechanism;
+        unitX[units] = x;
+        unitY[units] = y;
+        unitResistances[units] = resistance;
+        return units++;
+    }
+
+    /**
+     * Termine l'étape en cours : les actions ajoutées depuis l'étape précédente lui appartiennent.
+     */
+    void endStep() {
+        if (steps + 2 > stepStart.length) stepStart = Arrays.copyOf(stepStart, stepStart.length * 2);
+        steps++;
+        stepStart[steps] = actions;
+    }
+
+    void addCast(String spellId, byte variant, boolean targeted, int x, int y) {
+        add(CAST, spellId, variant, targeted, x, y);
+    }
+
+    void addMove(int x, int y) {
+        add(MOVE, null, NONE, true, x, y);
+    }
+
+    void addEndTurn() {
+        add(END_TURN, null, NONE, false, 0, 0);
+    }
+
+    private void add(byte type, String spellId, byte variant, boolean targeted, int x, int y) {
+        if (actions == actionTypes.length) {
+            int size = actions * 2;
+            actionTypes = Arrays.copyOf(actionTypes, size);
+            spellIds = Arrays.copyOf(spellIds, size);
+            variants = Arrays.copyOf(variants, size);
+            hasTarget = Arrays.copyOf(hasTarget, size);
+            targetX = Arrays.copyOf(targetX, size);
+            targetY = Arrays.copyOf(targetY, size);
+        }
+        actionTypes[actions] = type;
+        spellIds[actions] = spellId;
+        variants[actions] = variant;
+        hasTarget[actions] = targeted;
+        targetX[actions] = x;
+        targetY[actions] = y;
+        actions++;
+    }
+
+    /**
+     * Même situation de départ que {@code other} : plateau, position et ressources (PA, PM, PW) du lanceur,
+     * c'est-à-dire tout ce qui détermine le contexte initial de la simulation.
+     */
+    boolean sameSetup(BatchRecord other) {
+        if (hasBoard != other.hasBoard || startX != other.startX || startY != other.startY
+                || hasStats != other.hasStats || stats[11] != other.stats[11] || stats[12] != other.stats[12]
+                || stats[13] != other.stats[13]) {
+            return false;
+        }
+        if (!hasBoard) return true;
+        if (cols != other.cols || rows != other.rows || units != other.units) return false;
+        for (int i = 0; i < units; i++) {
+            if (!unitIds[i].equals(other.unitIds[i]) || unitKinds[i] != other.unitKinds[i]
+                    || unitMechanisms[i] != other.unitMechanisms[i] || unitX[i] != other.unitX[i]
+                    || unitY[i] != other.unitY[i] || unitResistances[i] != other.unitResistances[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void copySetup(BatchRecord other) {
+        clear();
+        System.arraycopy(other.stats, 0, stats, 0, STATS);
+        hasStats = other.hasStats;
+        startX = other.startX;
+        startY = other.startY;
+        hasBoard = other.hasBoard;
+        cols = other.cols;
+        rows = other.rows;
+        for (int i = 0; i < other.units; i++) {
+            addUnit(other.unitIds[i], other.unitKinds[i], other.unitMechanisms[i], other.unitX[i], other.unitY[i],
+                    other.unitResistances[i]);
+        }
+    }
+
+    /**
+     * Stats effectives : celles de base sans bloc {@code stats}, sinon les valeurs lues (0 si absentes),
+     * le niveau retombant sur celui de base s'il n'est pas positif — comme l'API.
+     */
+    CharacterStats characterStats() {
+        CharacterStats baseline = CharacterStats.baseline();
+        if (!hasStats) return baseline;
+        int[] s = stats;
+        return new CharacterStats(s[0] > 0 ? s[0] : baseline.level(), s[1], s[2], s[3], s[4], s[5], s[6], s[7],
+                s[8], s[9], s[10], s[11], s[12], s[13], s[14]);
+    }
+}
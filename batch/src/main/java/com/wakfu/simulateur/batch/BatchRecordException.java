@@ -0,0 +1,18 @@
+package com.wakfu.simulateur.batch;
+
+/**
+ * Enregistrement rejeté avant simulation ; le code est reporté tel quel dans les résultats.
+ */
+final class BatchRecordException extends RuntimeException {
+
+    private final FailureCode failure;
+
+    BatchRecordException(FailureCode failure, String message) {
+        super(message, null, false, false);
+        this.failure = failure;
+    }
+
+    FailureCode failure() {
+        return failure;
+    }
+}
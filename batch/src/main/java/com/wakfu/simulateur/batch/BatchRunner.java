@@ -0,0 +1,99 @@
+package com.wakfu.simulateur.batch;
+
+import com.wakfu.simulateur.backend.domain.catalog.CatalogIndex;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Simule tous les enregistrements d'un fichier sur un {@link ForkJoinPool} : la plage des enregistrements
+ * est coupée en deux jusqu'à {@link #LEAF_RECORDS}, et les threads inoccupés volent les moitiés restantes,
+ * ce qui équilibre des timelines de longueurs très différentes. Chaque thread du pool porte son
+ * {@link WorkerContext}, créé avec lui et réutilisé pour tous ses enregistrements.
+ */
+final class BatchRunner {
+
+    static final int LEAF_RECORDS = 256;
+
+    record Summary(long records, Map<FailureCode, Long> failures, long totalDamage, Duration elapsed) {
+
+        double recordsPerSecond() {
+            return elapsed.isZero() ? 0 : records * 1_000_000_000.0 / elapsed.toNanos();
+        }
+    }
+
+    private static final class WorkerThread extends ForkJoinWorkerThread {
+
+        private final WorkerContext context;
+
+        private WorkerThread(ForkJoinPool pool, WorkerContext context) {
+            super(pool);
+            this.context = context;
+            setName("batch-" + getPoolIndex());
+        }
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        private RangeTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_RECORDS) {
+                WorkerContext context = ((WorkerThread) Thread.currentThread()).context;
+                for (int i = from; i < to; i++) context.process(i);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle), new RangeTask(middle, to));
+        }
+    }
+
+    private final CatalogIndex catalog;
+    private final int threads;
+
+    BatchRunner(CatalogIndex catalog, int threads) {
+        this.catalog = catalog;
+        this.threads = threads;
+    }
+
+    Summary run(RecordIndex input, ResultColumns output, long seed) {
+        Queue<WorkerContext> contexts = new ConcurrentLinkedQueue<>();
+        ForkJoinPool pool = new ForkJoinPool(threads, p -> {
+            WorkerContext context = new WorkerContext(catalog, input, output, seed);
+            contexts.add(context);
+            return new WorkerThread(p, context);
+        }, null, false);
+        long start = System.nanoTime();
+        try {
+            pool.invoke(new RangeTask(0, input.size()));
+        } finally {
+            pool.shutdown();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        long records = 0;
+        long totalDamage = 0;
+        Map<FailureCode, Long> failures = new EnumMap<>(FailureCode.class);
+        for (WorkerContext context : contexts) {
+            records += context.processed();
+            totalDamage += context.totalDamage();
+            for (FailureCode failure : FailureCode.values()) {
+                failures.merge(failure, context.failures(failure), Long::sum);
+            }
+        }
+        return new Summary(records, failures, totalDamage, elapsed);
+    }
+}
@@ -0,0 +1,266 @@
+package com.wakfu.simulateur.batch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Format binaire des enregistrements, petit-boutiste. En-tête : {@code MAGIC}, version (1 octet) et position
+ * ({@code long}) de la table de chaînes écrite en fin de fichier ({@code int} nombre, chaque chaîne en
+ * {@code short} longueur + UTF-8), où sont internés identifiants de sorts, de passifs et d'unités. Entre
+ * les deux, les enregistrements, chacun précédé de sa longueur ({@code int}) :
+ * <pre>
+ * byte   drapeaux (1 = graine, 2 = stats, 4 = plateau)
+ * long   graine                                         si drapeau 1
+ * int×15 stats dans l'ordre de CharacterStats            si drapeau 2
+ * int    départ x, départ y
+ * short  nombre de passifs, puis int (chaîne) par passif
+ * short  colonnes, short lignes, short unités, puis par unité :
+ *        int id (chaîne), byte type, byte mécanisme (-1), int x, int y, int résistance   si drapeau 4
+ * short  nombre d'étapes, puis par étape un short nombre d'actions et par action :
+ *        byte 0 (sort) : int sort (chaîne), byte variante (-1), byte ciblé, int x, int y
+ *        byte 1 (déplacement) : int x, int y
+ *        byte 2 (fin de tour)
+ * </pre>
+ * Les chaînes sont résolues une fois à l'ouverture : décoder un enregistrement n'alloue rien.
+ */
+final class BinaryRecordFormat {
+
+    static final int MAGIC = 0x42524257; // "WBRB" en petit-boutiste
+    static final byte VERSION = 1;
+    static final int HEADER_LENGTH = 13;
+
+    private static final int SEED = 1;
+    private static final int STATS = 2;
+    private static final int BOARD = 4;
+
+    private BinaryRecordFormat() {
+    }
+
+    /**
+     * En-tête et table de chaînes ; les enregistrements occupent {@code [HEADER_LENGTH, recordsEnd())}.
+     */
+    static final class Header {
+
+        private final String[] strings;
+        private final long recordsEnd;
+
+        private Header(String[] strings, long recordsEnd) {
+            this.strings = strings;
+            this.recordsEnd = recordsEnd;
+        }
+
+        static Header read(FileChannel channel) throws IOException {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_LENGTH || header.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Fichier d'enregistrements binaire invalide");
+            }
+            byte version = header.get();
+            if (version != VERSION) throw new IllegalArgumentException("Version d'enregistrements non supportée: " + version);
+            long tableOffset = header.getLong();
+            if (tableOffset < HEADER_LENGTH || tableOffset > channel.size()) {
+                throw new IllegalArgumentException("Table de chaînes introuvable (fichier tronqué ?)");
+            }
+            ByteBuffer table = channel.map(FileChannel.MapMode.READ_ONLY, tableOffset, channel.size() - tableOffset)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            String[] strings = new String[table.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] utf8 = new byte[Short.toUnsignedInt(table.getShort())];
+                table.get(utf8);
+                strings[i] = new String(utf8, StandardCharsets.UTF_8);
+            }
+            return new Header(strings, tableOffset);
+        }
+
+        long recordsEnd() {
+            return recordsEnd;
+        }
+
+        String string(int index) {
+            if (index < 0 || index >= strings.length) {
+                throw new BatchRecordException(FailureCode.INVALID_RECORD, "Chaîne hors table: " + index);
+            }
+            return strings[index];
+        }
+    }
+
+    /**
+     * Décode l'enregistrement commençant à {@code offset} (après son préfixe de longueur) dans un
+     * tampon petit-boutiste.
+     */
+    static void read(ByteBuffer in, int offset, Header header, BatchRecord record) {
+        record.clear();
+        int at = offset;
+        try {
+            byte flags = in.get(at++);
+            if ((flags & SEED) != 0) {
+                record.hasSeed = true;
+                record.seed = in.getLong(at);
+                at += 8;
+            }
+            if ((flags & STATS) != 0) {
+                record.hasStats = true;
+                for (int i = 0; i < BatchRecord.STATS; i++, at += 4) record.stats[i] = in.getInt(at);
+            }
+            record.startX = in.getInt(at);
+            record.startY = in.getInt(at + 4);
+            at += 8;
+            int passives = in.getShort(at);
+            at += 2;
+            for (int i = 0; i < passives; i++, at += 4) record.passiveIds.add(header.string(in.getInt(at)));
+            if ((flags & BOARD) != 0) {
+                record.hasBoard = true;
+                record.cols = in.getShort(at);
+                record.rows = in.getShort(at + 2);
+                int units = in.getShort(at + 4);
+                at += 6;
+                for (int i = 0; i < units; i++, at += 18) {
+                    record.addUnit(header.string(in.getInt(at)), in.get(at + 4), in.get(at + 5),
+                            in.getInt(at + 6), in.getInt(at + 10), in.getInt(at + 14));
+                }
+            }
+            int steps = in.getShort(at);
+            at += 2;
+            for (int s = 0; s < steps; s++) {
+                int actions = in.getShort(at);
+                at += 2;
+                for (int a = 0; a < actions; a++) {
+                    byte type = in.get(at++);
+                    switch (type) {
+                        case BatchRecord.CAST -> {
+                            record.addCast(header.string(in.getInt(at)), in.get(at + 4), in.get(at + 5) != 0,
+                                    in.getInt(at + 6), in.getInt(at + 10));
+                            at += 14;
+                        }
+                        case BatchRecord.MOVE -> {
+                            record.addMove(in.getInt(at), in.getInt(at + 4));
+                            at += 8;
+                        }
+                        case BatchRecord.END_TURN -> record.addEndTurn();
+                        default -> throw new BatchRecordException(FailureCode.INVALID_RECORD,
+                                "Type d'action inconnu: " + type);
+                    }
+                }
+                record.endStep();
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new BatchRecordException(FailureCode.INVALID_RECORD, "Enregistrement binaire tronqué");
+        }
+    }
+
+    /**
+     * Écrit un fichier binaire en flux ; la table de chaînes et sa position sont écrites à la fermeture.
+     */
+    static final class Writer implements Closeable {
+
+        private final FileChannel channel;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final List<String> table = new ArrayList<>();
+        private ByteBuffer scratch = ByteBuffer.allocate(4096).order(ByteOrder.LITTLE_ENDIAN);
+        private long records;
+
+        Writer(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).put(VERSION).putLong(0);
+            write(header.flip());
+        }
+
+        void add(BatchRecord record) throws IOException {
+            ensure(4 + 1 + 8 + 4 * BatchRecord.STATS + 8 + 2 + 4 * record.passiveIds.size() + 6 + 18 * record.units
+                    + 2 + 2 * record.steps + 15 * record.actions);
+            scratch.clear();
+            scratch.putInt(0);
+            int flags = (record.hasSeed ? SEED : 0) | (record.hasStats ? STATS : 0) | (record.hasBoard ? BOARD : 0);
+            scratch.put((byte) flags);
+            if (record.hasSeed) scratch.putLong(record.seed);
+            if (record.hasStats) {
+                for (int stat : record.stats) scratch.putInt(stat);
+            }
+            scratch.putInt(record.startX).putInt(record.startY);
+            scratch.putShort(toShort(record.passiveIds.size()));
+            for (String passive : record.passiveIds) scratch.putInt(intern(passive));
+            if (record.hasBoard) {
+                scratch.putShort(toShort(record.cols)).putShort(toShort(record.rows)).putShort(toShort(record.units));
+                for (int i = 0; i < record.units; i++) {
+                    scratch.putInt(intern(record.unitIds[i])).put(record.unitKinds[i]).put(record.unitMechanisms[i])
+                            .putInt(record.unitX[i]).putInt(record.unitY[i]).putInt(record.unitResistances[i]);
+                }
+            }
+            scratch.putShort(toShort(record.steps));
+            for (int s = 0; s < record.steps; s++) {
+                scratch.putShort(toShort(record.stepStart[s + 1] - record.stepStart[s]));
+                for (int a = record.stepStart[s]; a < record.stepStart[s + 1]; a++) {
+                    scratch.put(record.actionTypes[a]);
+                    switch (record.actionTypes[a]) {
+                        case BatchRecord.CAST -> scratch.putInt(intern(record.spellIds[a])).put(record.variants[a])
+                                .put((byte) (record.hasTarget[a] ? 1 : 0))
+                                .putInt(record.targetX[a]).putInt(record.targetY[a]);
+                        case BatchRecord.MOVE -> scratch.putInt(record.targetX[a]).putInt(record.targetY[a]);
+                        default -> { }
+                    }
+                }
+            }
+            scratch.putInt(0, scratch.position() - 4);
+            write(scratch.flip());
+            records++;
+        }
+
+        long records() {
+            return records;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (channel) {
+                long tableOffset = channel.position();
+                ByteBuffer out = ByteBuffer.allocate(4 + table.stream().mapToInt(s -> 2 + s.length() * 3).sum())
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                out.putInt(table.size());
+                for (String string : table) {
+                    byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+                    out.putShort(toShort(utf8.length)).put(utf8);
+                }
+                write(out.flip());
+                ByteBuffer offset = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, tableOffset);
+                channel.write(offset, 5);
+            }
+        }
+
+        private void write(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+
+        private int intern(String value) {
+            return strings.computeIfAbsent(value, key -> {
+                table.add(key);
+                return table.size() - 1;
+            });
+        }
+
+        private void ensure(int capacity) {
+            if (scratch.capacity() < capacity) {
+                scratch = ByteBuffer.allocate(Integer.highestOneBit(capacity) * 2).order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+
+        private static short toShort(int value) {
+            if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Valeur hors format binaire: " + value);
+            }
+            return (short) value;
+        }
+    }
+}
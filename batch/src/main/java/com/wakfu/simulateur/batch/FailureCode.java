@@ -0,0 +1,33 @@
+package com.wakfu.simulateur.batch;
+
+/**
+ * Code d'échec d'un enregistrement, écrit sur un octet dans la colonne {@code failure} des résultats.
+ */
+public enum FailureCode {
+
+    NONE(0),
+    /** Une action de la timeline a échoué : la simulation s'est arrêtée à {@code failedStep}. */
+    ACTION_FAILED(1),
+    UNKNOWN_SPELL(2),
+    UNKNOWN_PASSIVE(3),
+    /** Enregistrement illisible ou incohérent (JSON invalide, timeline vide, plateau invalide...). */
+    INVALID_RECORD(4),
+    ENGINE_ERROR(5);
+
+    private final byte code;
+
+    FailureCode(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    public static FailureCode of(byte code) {
+        for (FailureCode failure : values()) {
+            if (failure.code == code) return failure;
+        }
+        throw new IllegalArgumentException("Code d'échec inconnu: " + code);
+    }
+}
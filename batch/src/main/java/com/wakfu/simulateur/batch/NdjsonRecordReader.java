@@ -0,0 +1,213 @@
+package com.wakfu.simulateur.batch;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.wakfu.simulateur.backend.domain.board.MechanismType;
+import com.wakfu.simulateur.backend.domain.board.UnitKind;
+import com.wakfu.simulateur.backend.domain.spell.VariantKind;
+
+import java.io.IOException;
+
+/**
+ * Décode une ligne NDJSON au format de {@code POST /api/simulations} ({@code stats}, {@code passiveIds},
+ * {@code start}, {@code board}, {@code steps}, {@code seed}) dans un {@link BatchRecord}, avec le parseur
+ * en flux de jackson-core : pas d'arbre intermédiaire, les champs inconnus sont ignorés.
+ */
+final class NdjsonRecordReader {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    void read(byte[] line, int length, BatchRecord record) {
+        record.clear();
+        try (JsonParser parser = FACTORY.createParser(line, 0, length)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_NULL) continue;
+                switch (field) {
+                    case "stats" -> readStats(parser, value, record);
+                    case "passiveIds" -> {
+                        expect(value, JsonToken.START_ARRAY);
+                        while (parser.nextToken() != JsonToken.END_ARRAY) record.passiveIds.add(parser.getText());
+                    }
+                    case "start" -> {
+                        long position = readPosition(parser, value);
+                        record.startX = (int) (position >> 32);
+                        record.startY = (int) position;
+                    }
+                    case "board" -> readBoard(parser, value, record);
+                    case "steps" -> readSteps(parser, value, record);
+                    case "seed" -> {
+                        record.hasSeed = true;
+                        record.seed = parser.getLongValue();
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new BatchRecordException(FailureCode.INVALID_RECORD, "JSON invalide: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            throw new BatchRecordException(FailureCode.INVALID_RECORD, e.getMessage());
+        }
+    }
+
+    private static void readStats(JsonParser parser, JsonToken value, BatchRecord record) throws IOException {
+        expect(value, JsonToken.START_OBJECT);
+        record.hasStats = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            int index = switch (field) {
+                case "level" -> 0;
+                case "masteryFire" -> 1;
+                case "masteryWater" -> 2;
+                case "masteryEarth" -> 3;
+                case "masteryAir" -> 4;
+                case "masterySecondary" -> 5;
+                case "backMastery" -> 6;
+                case "dommageInflict" -> 7;
+                case "critRate" -> 8;
+                case "critMastery" -> 9;
+                case "resistance" -> 10;
+                case "ap" -> 11;
+                case "mp" -> 12;
+                case "wp" -> 13;
+                case "range" -> 14;
+                default -> -1;
+            };
+            if (index < 0) {
+                parser.skipChildren();
+            } else {
+                record.stats[index] = parser.getValueAsInt();
+            }
+        }
+    }
+
+    private static void readBoard(JsonParser parser, JsonToken value, BatchRecord record) throws IOException {
+        expect(value, JsonToken.START_OBJECT);
+        record.hasBoard = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "cols" -> record.cols = parser.getValueAsInt();
+                case "rows" -> record.rows = parser.getValueAsInt();
+                case "units" -> {
+                    if (token == JsonToken.VALUE_NULL) break;
+                    expect(token, JsonToken.START_ARRAY);
+                    while (parser.nextToken() == JsonToken.START_OBJECT) readUnit(parser, record);
+                }
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readUnit(JsonParser parser, BatchRecord record) throws IOException {
+        String id = null;
+        byte kind = (byte) UnitKind.ENEMY.ordinal();
+        byte mechanism = BatchRecord.NONE;
+        boolean positioned = false;
+        long position = 0;
+        int resistance = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) continue;
+            switch (field) {
+                case "id" -> id = parser.getText();
+                case "kind" -> kind = (byte) UnitKind.valueOf(parser.getText()).ordinal();
+                case "mechanism" -> mechanism = (byte) MechanismType.valueOf(parser.getText()).ordinal();
+                case "position" -> {
+                    positioned = true;
+                    position = readPosition(parser, token);
+                }
+                case "resistance" -> resistance = parser.getValueAsInt();
+                default -> parser.skipChildren();
+            }
+        }
+        if (id == null || !positioned) {
+            throw new BatchRecordException(FailureCode.INVALID_RECORD, "Unité invalide sur le plateau: " + id);
+        }
+        record.addUnit(id, kind, mechanism, (int) (position >> 32), (int) position, resistance);
+    }
+
+    private static void readSteps(JsonParser parser, JsonToken value, BatchRecord record) throws IOException {
+        expect(value, JsonToken.START_ARRAY);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("actions".equals(field) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) readAction(parser, record);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            record.endStep();
+        }
+    }
+
+    private static void readAction(JsonParser parser, BatchRecord record) throws IOException {
+        String type = "";
+        String spellId = null;
+        byte variant = BatchRecord.NONE;
+        boolean targeted = false;
+        long target = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) continue;
+            switch (field) {
+                case "type" -> type = parser.getText();
+                case "spellId" -> spellId = parser.getText();
+                case "variant" -> variant = (byte) VariantKind.valueOf(parser.getText()).ordinal();
+                case "targetPosition" -> {
+                    targeted = true;
+                    target = readPosition(parser, token);
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        switch (type) {
+            case "CastSpell" -> {
+                if (spellId == null) throw new BatchRecordException(FailureCode.INVALID_RECORD, "Sort manquant");
+                record.addCast(spellId, variant, targeted, (int) (target >> 32), (int) target);
+            }
+            case "Move" -> {
+                if (!targeted) {
+                    throw new BatchRecordException(FailureCode.INVALID_RECORD, "Déplacement sans position cible");
+                }
+                record.addMove((int) (target >> 32), (int) target);
+            }
+            case "EndTurn" -> record.addEndTurn();
+            default -> throw new BatchRecordException(FailureCode.INVALID_RECORD, "Type d'action inconnu: " + type);
+        }
+    }
+
+    /**
+     * Position {@code {x, y}} empaquetée en {@code (x << 32) | y} pour ne rien allouer.
+     */
+    private static long readPosition(JsonParser parser, JsonToken value) throws IOException {
+        expect(value, JsonToken.START_OBJECT);
+        int x = 0;
+        int y = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "x" -> x = parser.getValueAsInt();
+                case "y" -> y = parser.getValueAsInt();
+                default -> parser.skipChildren();
+            }
+        }
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw new BatchRecordException(FailureCode.INVALID_RECORD, "Attendu " + expected + ", trouvé " + actual);
+        }
+    }
+}
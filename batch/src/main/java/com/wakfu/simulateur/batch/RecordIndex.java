@@ -0,0 +1,173 @@
+package com.wakfu.simulateur.batch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fichier d'enregistrements mappé en mémoire et index de ses enregistrements. Le fichier est mappé par
+ * segments d'au plus {@link #SEGMENT_SIZE} octets coupés sur une frontière d'enregistrement (un
+ * {@link MappedByteBuffer} ne dépasse pas 2 Go) ; l'index donne pour chaque enregistrement son segment,
+ * sa position et sa longueur, ce qui permet de répartir les enregistrements entre threads sans relire
+ * le fichier. Format reconnu au premier mot : {@link BinaryRecordFormat#MAGIC} ou NDJSON (lignes vides
+ * ignorées, {@code \r} final retiré).
+ */
+final class RecordIndex implements Closeable {
+
+    static final long SEGMENT_SIZE = 1L << 30;
+
+    enum Format { NDJSON, BINARY }
+
+    private final FileChannel channel;
+    private final Format format;
+    private final BinaryRecordFormat.Header header;
+    private final long segmentSize;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private int size;
+    private int[] segmentOf = new int[1024];
+    private int[] offsets = new int[1024];
+    private int[] lengths = new int[1024];
+
+    private RecordIndex(FileChannel channel, Format format, BinaryRecordFormat.Header header, long segmentSize) {
+        this.channel = channel;
+        this.format = format;
+        this.header = header;
+        this.segmentSize = segmentSize;
+    }
+
+    static RecordIndex open(Path path) throws IOException {
+        return open(path, SEGMENT_SIZE);
+    }
+
+    /**
+     * Segments d'au plus {@code segmentSize} octets (réduit dans les tests pour couper des enregistrements).
+     */
+    static RecordIndex open(Path path, long segmentSize) throws IOException {
+        if (segmentSize < 1 || segmentSize > SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Taille de segment invalide: " + segmentSize);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(magic, 0);
+            boolean binary = magic.position() == 4 && magic.getInt(0) == BinaryRecordFormat.MAGIC;
+            RecordIndex index = binary
+                    ? new RecordIndex(channel, Format.BINARY, BinaryRecordFormat.Header.read(channel), segmentSize)
+                    : new RecordIndex(channel, Format.NDJSON, null, segmentSize);
+            if (binary) {
+                index.scan(BinaryRecordFormat.HEADER_LENGTH, index.header.recordsEnd());
+            } else {
+                index.scan(0, channel.size());
+            }
+            return index;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    Format format() {
+        return format;
+    }
+
+    BinaryRecordFormat.Header header() {
+        return header;
+    }
+
+    int size() {
+        return size;
+    }
+
+    ByteBuffer segment(int record) {
+        return segments.get(segmentOf[record]);
+    }
+
+    int offset(int record) {
+        return offsets[record];
+    }
+
+    int length(int record) {
+        return lengths[record];
+    }
+
+    private void scan(long start, long end) throws IOException {
+        long position = start;
+        while (position < end) {
+            long windowEnd = Math.min(end, position + segmentSize);
+            ByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, position, windowEnd - position)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            int consumed = format == Format.BINARY
+                    ? scanBinary(segment, windowEnd == end)
+                    : scanLines(segment, windowEnd == end);
+            if (consumed == 0) {
+                throw new IllegalArgumentException("Enregistrement trop long à la position " + position);
+            }
+            segments.add(segment);
+            position += consumed;
+        }
+    }
+
+    /**
+     * Indexe les lignes complètes du segment ; renvoie le nombre d'octets consommés.
+     */
+    private int scanLines(ByteBuffer segment, boolean last) {
+        int limit = segment.limit();
+        int lineStart = 0;
+        for (int i = 0; i < limit; i++) {
+            if (segment.get(i) == '\n') {
+                addLine(segment, lineStart, i);
+                lineStart = i + 1;
+            }
+        }
+        if (last && lineStart < limit) {
+            addLine(segment, lineStart, limit);
+            lineStart = limit;
+        }
+        return lineStart;
+    }
+
+    private void addLine(ByteBuffer segment, int start, int end) {
+        if (end > start && segment.get(end - 1) == '\r') end--;
+        if (end > start) add(start, end - start);
+    }
+
+    private int scanBinary(ByteBuffer segment, boolean last) {
+        int limit = segment.limit();
+        int position = 0;
+        while (limit - position >= 4) {
+            int length = segment.getInt(position);
+            if (length <= 0) throw new IllegalArgumentException("Longueur d'enregistrement invalide: " + length);
+            if ((long) position + 4 + length > limit) break;
+            add(position + 4, length);
+            position += 4 + length;
+        }
+        if (last && position < limit) throw new IllegalArgumentException("Fichier d'enregistrements tronqué");
+        return position;
+    }
+
+    private void add(int offset, int length) {
+        if (size == offsets.length) {
+            int capacity = size * 2;
+            segmentOf = Arrays.copyOf(segmentOf, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        segmentOf[size] = segments.size();
+        offsets[size] = offset;
+        lengths[size] = length;
+        size++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
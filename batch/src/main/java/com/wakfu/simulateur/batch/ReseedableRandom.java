@@ -0,0 +1,37 @@
+package com.wakfu.simulateur.batch;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Générateur SplitMix64 réinitialisable : après {@code reseed(s)}, produit la même suite que
+ * {@code new SplittableRandom(s)} (mêmes constantes, même {@code nextDouble}), donc les mêmes critiques
+ * que l'API pour une même graine, sans allouer un générateur par enregistrement.
+ */
+final class ReseedableRandom implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long seed;
+
+    void reseed(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        long z = (seed += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Graine d'un enregistrement sans graine propre : mélange de la graine du lot et de son numéro.
+     */
+    static long derive(long batchSeed, long record) {
+        long z = batchSeed + (record + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,196 @@
+package com.wakfu.simulateur.batch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Résultats en colonnes dans un fichier mappé en mémoire, petit-boutiste. En-tête de {@value #HEADER_LENGTH}
+ * octets ({@code MAGIC}, version, nombre d'enregistrements, étapes et tours conservés, graine), puis une
+ * colonne par grandeur, chacune alignée sur 8 octets et indexée par numéro d'enregistrement :
+ * <pre>
+ * failure         byte   FailureCode
+ * failedStep      int    étape de l'action en échec, -1 sinon
+ * completedSteps  int
+ * turns           int    tour atteint en fin de timeline
+ * paUsed, pwUsed  int    PA / PW dépensés par les actions réussies
+ * totalDamage     long
+ * step[s]         int    dégâts de l'étape s, pour s &lt; maxSteps
+ * turn[t]         long   dégâts du tour t (0 = premier tour), pour t &lt; maxTurns
+ * </pre>
+ * Les étapes et tours au-delà des limites ne comptent que dans {@code totalDamage}. Chaque thread écrit
+ * ses enregistrements par accès absolus : aucune synchronisation, aucune copie.
+ */
+final class ResultColumns implements Closeable {
+
+    static final int MAGIC = 0x43524257; // "WBRC" en petit-boutiste
+    static final byte VERSION = 1;
+    static final int HEADER_LENGTH = 64;
+
+    private static final int FAILURE = 0;
+    private static final int FAILED_STEP = 1;
+    private static final int COMPLETED_STEPS = 2;
+    private static final int TURNS = 3;
+    private static final int PA_USED = 4;
+    private static final int PW_USED = 5;
+    private static final int TOTAL_DAMAGE = 6;
+    private static final int FIXED_COLUMNS = 7;
+
+    private final FileChannel channel;
+    private final int records;
+    private final int maxSteps;
+    private final int maxTurns;
+    private final long seed;
+    private final List<MappedByteBuffer> columns = new ArrayList<>();
+
+    private ResultColumns(FileChannel channel, int records, int maxSteps, int maxTurns, long seed,
+                          FileChannel.MapMode mode) throws IOException {
+        this.channel = channel;
+        this.records = records;
+        this.maxSteps = maxSteps;
+        this.maxTurns = maxTurns;
+        this.seed = seed;
+        if ((long) records * Long.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Trop d'enregistrements pour un fichier de résultats: " + records);
+        }
+        long position = HEADER_LENGTH;
+        int columnCount = FIXED_COLUMNS + maxSteps + maxTurns;
+        for (int column = 0; column < columnCount; column++) {
+            long length = (long) records * width(column);
+            columns.add((MappedByteBuffer) channel.map(mode, position, length).order(ByteOrder.LITTLE_ENDIAN));
+            position += (length + 7) & ~7L;
+        }
+    }
+
+    /**
+     * Crée (ou remplace) le fichier de résultats, initialisé à zéro.
+     */
+    static ResultColumns create(Path path, int records, int maxSteps, int maxTurns, long seed) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).put(VERSION).position(8);
+            header.putLong(records).putInt(maxSteps).putInt(maxTurns).putLong(seed);
+            header.clear();
+            while (header.hasRemaining()) channel.write(header);
+            return new ResultColumns(channel, records, maxSteps, maxTurns, seed, FileChannel.MapMode.READ_WRITE);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static ResultColumns open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(header, 0);
+            if (header.position() < HEADER_LENGTH || header.getInt(0) != MAGIC) {
+                throw new IllegalArgumentException("Fichier de résultats invalide: " + path);
+            }
+            if (header.get(4) != VERSION) {
+                throw new IllegalArgumentException("Version de résultats non supportée: " + header.get(4));
+            }
+            return new ResultColumns(channel, Math.toIntExact(header.getLong(8)), header.getInt(16), header.getInt(20),
+                    header.getLong(24), FileChannel.MapMode.READ_ONLY);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    int records() {
+        return records;
+    }
+
+    int maxSteps() {
+        return maxSteps;
+    }
+
+    int maxTurns() {
+        return maxTurns;
+    }
+
+    long seed() {
+        return seed;
+    }
+
+    void write(int record, FailureCode failure, int failedStep, int completedSteps, int turns, int paUsed, int pwUsed,
+               long totalDamage, int[] stepDamage, int steps, long[] turnDamage, int turnCount) {
+        columns.get(FAILURE).put(record, failure.code());
+        columns.get(FAILED_STEP).putInt(record * 4, failedStep);
+        columns.get(COMPLETED_STEPS).putInt(record * 4, completedSteps);
+        columns.get(TURNS).putInt(record * 4, turns);
+        columns.get(PA_USED).putInt(record * 4, paUsed);
+        columns.get(PW_USED).putInt(record * 4, pwUsed);
+        columns.get(TOTAL_DAMAGE).putLong(record * 8, totalDamage);
+        for (int s = 0, end = Math.min(steps, maxSteps); s < end; s++) {
+            if (stepDamage[s] != 0) columns.get(FIXED_COLUMNS + s).putInt(record * 4, stepDamage[s]);
+        }
+        for (int t = 0, end = Math.min(turnCount, maxTurns); t < end; t++) {
+            if (turnDamage[t] != 0) columns.get(FIXED_COLUMNS + maxSteps + t).putLong(record * 8, turnDamage[t]);
+        }
+    }
+
+    FailureCode failure(int record) {
+        return FailureCode.of(columns.get(FAILURE).get(record));
+    }
+
+    int failedStep(int record) {
+        return columns.get(FAILED_STEP).getInt(record * 4);
+    }
+
+    int completedSteps(int record) {
+        return columns.get(COMPLETED_STEPS).getInt(record * 4);
+    }
+
+    int turns(int record) {
+        return columns.get(TURNS).getInt(record * 4);
+    }
+
+    int paUsed(int record) {
+        return columns.get(PA_USED).getInt(record * 4);
+    }
+
+    int pwUsed(int record) {
+        return columns.get(PW_USED).getInt(record * 4);
+    }
+
+    long totalDamage(int record) {
+        return columns.get(TOTAL_DAMAGE).getLong(record * 8);
+    }
+
+    int stepDamage(int record, int step) {
+        return columns.get(FIXED_COLUMNS + step).getInt(record * 4);
+    }
+
+    long turnDamage(int record, int turn) {
+        return columns.get(FIXED_COLUMNS + maxSteps + turn).getLong(record * 8);
+    }
+
+    private int width(int column) {
+        if (column == FAILURE) return Byte.BYTES;
+        if (column == TOTAL_DAMAGE || column >= FIXED_COLUMNS + maxSteps) return Long.BYTES;
+        return Integer.BYTES;
+    }
+
+    /**
+     * Écrit les pages modifiées sur disque avant de fermer le fichier.
+     */
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            if (channel.isOpen() && columns.stream().anyMatch(c -> !c.isReadOnly())) {
+                columns.forEach(MappedByteBuffer::force);
+            }
+        }
+    }
+}
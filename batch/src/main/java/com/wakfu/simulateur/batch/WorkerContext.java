@@ -0,0 +1,244 @@
+package com.wakfu.simulateur.batch;
+
+import com.wakfu.simulateur.backend.domain.board.Board;
+import com.wakfu.simulateur.backend.domain.board.BoardUnit;
+import com.wakfu.simulateur.backend.domain.board.MechanismType;
+import com.wakfu.simulateur.backend.domain.board.UnitKind;
+import com.wakfu.simulateur.backend.domain.catalog.CatalogIndex;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveModifiers;
+import com.wakfu.simulateur.backend.domain.simulation.ActionResult;
+import com.wakfu.simulateur.backend.domain.simulation.ActionType;
+import com.wakfu.simulateur.backend.domain.simulation.CharacterStats;
+import com.wakfu.simulateur.backend.domain.simulation.EndTurnAction;
+import com.wakfu.simulateur.backend.domain.simulation.MoveAction;
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationContext;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationEngine;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationMonitor;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationRequest;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationResult;
+import com.wakfu.simulateur.backend.domain.simulation.SpellCastAction;
+import com.wakfu.simulateur.backend.domain.simulation.TimelineAction;
+import com.wakfu.simulateur.backend.domain.simulation.TimelineStep;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.VariantKind;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * État réutilisable d'un thread du lot : enregistrement décodé, tampon de ligne, générateur, colonnes de
+ * dégâts, barres de passifs déjà résolues et contexte initial du dernier enregistrement. Le moteur copie
+ * le contexte de la requête avant de le modifier : tant que la situation de départ ne change pas d'un
+ * enregistrement au suivant, le même contexte sert de modèle, avec son plateau et le champ de
+ * déplacement déjà calculé depuis la position de départ (hérité par chaque copie).
+ */
+final class WorkerContext {
+
+    /** Au-delà, le cache des barres de passifs est vidé plutôt que de croître sans borne. */
+    private static final int MAX_BUILDS = 4096;
+
+    private static final UnitKind[] UNIT_KINDS = UnitKind.values();
+    private static final MechanismType[] MECHANISMS = MechanismType.values();
+    private static final VariantKind[] VARIANTS = VariantKind.values();
+
+    private record Build(Set<String> passiveIds, PassiveModifiers modifiers) {
+    }
+
+    private final CatalogIndex catalog;
+    private final RecordIndex input;
+    private final ResultColumns output;
+    private final long seed;
+
+    private final SimulationEngine engine = new SimulationEngine();
+    private final NdjsonRecordReader ndjson = new NdjsonRecordReader();
+    private final BatchRecord record = new BatchRecord();
+    private final BatchRecord setup = new BatchRecord();
+    private SimulationContext template;
+    private final ReseedableRandom random = new ReseedableRandom();
+    private final Map<List<String>, Build> builds = new HashMap<>();
+    private final int[] stepDamage;
+    private final long[] turnDamage;
+    private byte[] line = new byte[4096];
+
+    private final long[] failures = new long[FailureCode.values().length];
+    private long processed;
+    private long totalDamage;
+
+    WorkerContext(CatalogIndex catalog, RecordIndex input, ResultColumns output, long seed) {
+        this.catalog = catalog;
+        this.input = input;
+        this.output = output;
+        this.seed = seed;
+        this.stepDamage = new int[output.maxSteps()];
+        this.turnDamage = new long[output.maxTurns()];
+    }
+
+    void process(int index) {
+        processed++;
+        SimulationRequest request;
+        try {
+            decode(index);
+            request = toRequest();
+        } catch (BatchRecordException e) {
+            reject(index, e.failure());
+            return;
+        } catch (IllegalArgumentException e) {
+            reject(index, FailureCode.INVALID_RECORD);
+            return;
+        }
+        random.reseed(record.hasSeed ? record.seed : ReseedableRandom.derive(seed, index));
+        SimulationResult result;
+        try {
+            result = engine.simulate(request, random, SimulationMonitor.NONE);
+        } catch (RuntimeException e) {
+            reject(index, FailureCode.ENGINE_ERROR);
+            return;
+        }
+        write(index, result);
+    }
+
+    long processed() {
+        return processed;
+    }
+
+    long failures(FailureCode failure) {
+        return failures[failure.ordinal()];
+    }
+
+    long totalDamage() {
+        return totalDamage;
+    }
+
+    private void decode(int index) {
+        ByteBuffer segment = input.segment(index);
+        int offset = input.offset(index);
+        int length = input.length(index);
+        if (input.format() == RecordIndex.Format.BINARY) {
+            BinaryRecordFormat.read(segment, offset, input.header(), record);
+            return;
+        }
+        if (line.length < length) line = new byte[Integer.highestOneBit(length) * 2];
+        segment.get(offset, line, 0, length);
+        ndjson.read(line, length, record);
+    }
+
+    private SimulationRequest toRequest() {
+        if (record.steps == 0) throw new BatchRecordException(FailureCode.INVALID_RECORD, "La timeline est vide");
+        CharacterStats stats = record.characterStats();
+        Build build = build();
+        List<TimelineStep> steps = new ArrayList<>(record.steps);
+        for (int s = 0; s < record.steps; s++) {
+            TimelineAction[] actions = new TimelineAction[record.stepStart[s + 1] - record.stepStart[s]];
+            for (int a = 0; a < actions.length; a++) actions[a] = action(record.stepStart[s] + a);
+            steps.add(new TimelineStep(null, List.of(actions)));
+        }
+        return new SimulationRequest(stats, build.passiveIds(), context(stats), steps, build.modifiers());
+    }
+
+    private SimulationContext context(CharacterStats stats) {
+        if (template != null && record.sameSetup(setup)) return template;
+        template = null;
+        Position start = new Position(record.startX, record.startY);
+        SimulationContext context = SimulationContext.of(stats, start, board());
+        for (int a = 0; a < record.actions; a++) {
+            if (record.actionTypes[a] == BatchRecord.MOVE) {
+                context.board().movementField(start);
+                break;
+            }
+        }
+        setup.copySetup(record);
+        template = context;
+        return context;
+    }
+
+    private TimelineAction action(int a) {
+        return switch (record.actionTypes[a]) {
+            case BatchRecord.CAST -> {
+                Spell spell = catalog.spell(record.spellIds[a]).orElseThrow(() ->
+                        new BatchRecordException(FailureCode.UNKNOWN_SPELL, "Sort introuvable: " + record.spellIds[a]));
+                yield new SpellCastAction(spell, record.variants[a] == BatchRecord.NONE ? null : VARIANTS[record.variants[a]],
+                        record.hasTarget[a] ? new Position(record.targetX[a], record.targetY[a]) : null);
+            }
+            case BatchRecord.MOVE -> new MoveAction(new Position(record.targetX[a], record.targetY[a]));
+            default -> EndTurnAction.INSTANCE;
+        };
+    }
+
+    /**
+     * Barre de passifs de l'enregistrement, résolue une fois par thread pour chaque liste rencontrée.
+     */
+    private Build build() {
+        Build build = builds.get(record.passiveIds);
+        if (build != null) return build;
+        List<String> ids = List.copyOf(record.passiveIds);
+        List<Passive> passives = catalog.passives(ids);
+        if (passives.size() != Set.copyOf(ids).size()) {
+            String missing = ids.stream().filter(id -> catalog.passive(id).isEmpty()).findFirst().orElse("?");
+            throw new BatchRecordException(FailureCode.UNKNOWN_PASSIVE, "Passif introuvable: " + missing);
+        }
+        build = new Build(Set.copyOf(ids), ids.isEmpty() ? PassiveModifiers.NONE : PassiveModifiers.resolve(passives));
+        if (builds.size() >= MAX_BUILDS) builds.clear();
+        builds.put(ids, build);
+        return build;
+    }
+
+    private Board board() {
+        if (!record.hasBoard) return Board.standard();
+        Board board = new Board(record.cols != 0 ? record.cols : Board.DEFAULT_COLS,
+                record.rows != 0 ? record.rows : Board.DEFAULT_ROWS);
+        for (int i = 0; i < record.units; i++) {
+            String id = record.unitIds[i];
+            if (SimulationContext.CASTER_ID.equals(id)) {
+                throw new BatchRecordException(FailureCode.INVALID_RECORD, "Unité invalide sur le plateau: " + id);
+            }
+            byte kind = record.unitKinds[i];
+            byte mechanism = record.unitMechanisms[i];
+            if (kind < 0 || kind >= UNIT_KINDS.length || mechanism >= MECHANISMS.length
+                    || (UNIT_KINDS[kind] == UnitKind.MECHANISM) != (mechanism >= 0)) {
+                throw new BatchRecordException(FailureCode.INVALID_RECORD, "Type d'unité incohérent pour " + id);
+            }
+            board.place(new BoardUnit(id, UNIT_KINDS[kind], mechanism >= 0 ? MECHANISMS[mechanism] : null,
+                    new Position(record.unitX[i], record.unitY[i]), record.unitResistances[i]));
+        }
+        return board;
+    }
+
+    private void write(int index, SimulationResult result) {
+        int steps = Math.min(record.steps, stepDamage.length);
+        Arrays.fill(stepDamage, 0, steps, 0);
+        Arrays.fill(turnDamage, 0);
+        FailureCode failure = FailureCode.NONE;
+        int failedStep = -1;
+        int turn = 0;
+        int paUsed = 0;
+        int pwUsed = 0;
+        for (ActionResult action : result.actions()) {
+            if (!action.succeeded()) {
+                failure = FailureCode.ACTION_FAILED;
+                failedStep = action.stepIndex();
+                break;
+            }
+            paUsed += action.paCost();
+            pwUsed += action.pwCost();
+            if (action.stepIndex() < stepDamage.length) stepDamage[action.stepIndex()] += action.damage();
+            if (turn < turnDamage.length) turnDamage[turn] += action.damage();
+            if (action.type() == ActionType.END_TURN) turn++;
+        }
+        failures[failure.ordinal()]++;
+        totalDamage += result.totalDamage();
+        output.write(index, failure, failedStep, result.completedSteps(), result.turns(), paUsed, pwUsed,
+                result.totalDamage(), stepDamage, steps, turnDamage, Math.min(turn + 1, turnDamage.length));
+    }
+
+    private void reject(int index, FailureCode failure) {
+        failures[failure.ordinal()]++;
+        output.write(index, failure, -1, 0, 0, 0, 0, 0, stepDamage, 0, turnDamage, 0);
+    }
+}
@@ -0,0 +1,142 @@
+package com.wakfu.simulateur.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryRecordFormatTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Un enregistrement complet est relu à l'identique")
+    void shouldRoundTripFullRecord() throws IOException {
+        BatchRecord full = fullRecord();
+        BatchRecord minimal = new BatchRecord();
+        minimal.addEndTurn();
+        minimal.endStep();
+        Path file = write(full, minimal, full);
+
+        try (RecordIndex index = RecordIndex.open(file)) {
+            assertThat(index.format()).isEqualTo(RecordIndex.Format.BINARY);
+            assertThat(index.size()).isEqualTo(3);
+            BatchRecord read = new BatchRecord();
+            BinaryRecordFormat.read(index.segment(0), index.offset(0), index.header(), read);
+            assertSameRecord(read, full);
+            BinaryRecordFormat.read(index.segment(1), index.offset(1), index.header(), read);
+            assertSameRecord(read, minimal);
+            BinaryRecordFormat.read(index.segment(2), index.offset(2), index.header(), read);
+            assertSameRecord(read, full);
+        }
+    }
+
+    @Test
+    @DisplayName("Les chaînes répétées ne sont écrites qu'une fois dans la table")
+    void shouldInternStrings() throws IOException {
+        Path file = write(fullRecord(), fullRecord());
+
+        try (RecordIndex index = RecordIndex.open(file)) {
+            BinaryRecordFormat.Header header = index.header();
+            assertThat(List.of(header.string(0), header.string(1), header.string(2), header.string(3)))
+                    .containsExactly("PASSIF_1", "PASSIF_é", "ennemi", "XEL_DIAL");
+            assertThatThrownBy(() -> header.string(4))
+                    .isInstanceOf(BatchRecordException.class)
+                    .extracting(e -> ((BatchRecordException) e).failure())
+                    .isEqualTo(FailureCode.INVALID_RECORD);
+        }
+    }
+
+    @Test
+    @DisplayName("Un enregistrement tronqué est rejeté comme invalide")
+    void shouldRejectTruncatedRecord() throws IOException {
+        Path file = write(fullRecord());
+
+        try (RecordIndex index = RecordIndex.open(file)) {
+            ByteBuffer truncated = index.segment(0).slice(0, index.offset(0) + index.length(0) - 3)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            BatchRecord read = new BatchRecord();
+
+            assertThatThrownBy(() -> BinaryRecordFormat.read(truncated, index.offset(0), index.header(), read))
+                    .isInstanceOf(BatchRecordException.class)
+                    .hasMessageContaining("tronqué");
+        }
+    }
+
+    private Path write(BatchRecord... records) throws IOException {
+        Path file = dir.resolve("records.bin");
+        try (BinaryRecordFormat.Writer writer = new BinaryRecordFormat.Writer(file)) {
+            for (BatchRecord record : records) writer.add(record);
+            assertThat(writer.records()).isEqualTo(records.length);
+        }
+        return file;
+    }
+
+    static BatchRecord fullRecord() {
+        BatchRecord record = new BatchRecord();
+        record.hasSeed = true;
+        record.seed = -8_765_432_109_876L;
+        record.hasStats = true;
+        for (int i = 0; i < BatchRecord.STATS; i++) record.stats[i] = i * 100 - 7;
+        record.startX = 3;
+        record.startY = -2;
+        record.passiveIds.add("PASSIF_1");
+        record.passiveIds.add("PASSIF_é");
+        record.hasBoard = true;
+        record.cols = 15;
+        record.rows = 9;
+        for (int i = 0; i < 5; i++) record.addUnit("ennemi", (byte) 1, BatchRecord.NONE, i, i + 1, i * 10);
+        record.addCast("XEL_DIAL", (byte) 1, true, 4, -1);
+        record.addCast("XEL_DIAL", BatchRecord.NONE, false, 0, 0);
+        record.endStep();
+        record.addMove(-5, 7);
+        record.endStep();
+        for (int i = 0; i < 20; i++) record.addEndTurn();
+        record.endStep();
+        return record;
+    }
+
+    static void assertSameRecord(BatchRecord actual, BatchRecord expected) {
+        assertThat(actual.hasSeed).isEqualTo(expected.hasSeed);
+        assertThat(actual.seed).isEqualTo(expected.seed);
+        assertThat(actual.hasStats).isEqualTo(expected.hasStats);
+        assertThat(actual.stats).isEqualTo(expected.stats);
+        assertThat(actual.startX).isEqualTo(expected.startX);
+        assertThat(actual.startY).isEqualTo(expected.startY);
+        assertThat(actual.passiveIds).isEqualTo(expected.passiveIds);
+        assertThat(actual.hasBoard).isEqualTo(expected.hasBoard);
+        assertThat(actual.cols).isEqualTo(expected.cols);
+        assertThat(actual.rows).isEqualTo(expected.rows);
+        assertThat(actual.units).isEqualTo(expected.units);
+        int units = expected.units;
+        assertThat(Arrays.copyOf(actual.unitIds, units)).isEqualTo(Arrays.copyOf(expected.unitIds, units));
+        assertThat(Arrays.copyOf(actual.unitKinds, units)).isEqualTo(Arrays.copyOf(expected.unitKinds, units));
+        assertThat(Arrays.copyOf(actual.unitMechanisms, units))
+                .isEqualTo(Arrays.copyOf(expected.unitMechanisms, units));
+        assertThat(Arrays.copyOf(actual.unitX, units)).isEqualTo(Arrays.copyOf(expected.unitX, units));
+        assertThat(Arrays.copyOf(actual.unitY, units)).isEqualTo(Arrays.copyOf(expected.unitY, units));
+        assertThat(Arrays.copyOf(actual.unitResistances, units))
+                .isEqualTo(Arrays.copyOf(expected.unitResistances, units));
+        assertThat(actual.steps).isEqualTo(expected.steps);
+        assertThat(Arrays.copyOf(actual.stepStart, expected.steps + 1))
+                .isEqualTo(Arrays.copyOf(expected.stepStart, expected.steps + 1));
+        int actions = expected.actions;
+        assertThat(actual.actions).isEqualTo(actions);
+        assertThat(Arrays.copyOf(actual.actionTypes, actions)).isEqualTo(Arrays.copyOf(expected.actionTypes, actions));
+        assertThat(Arrays.copyOf(actual.spellIds, actions)).isEqualTo(Arrays.copyOf(expected.spellIds, actions));
+        assertThat(Arrays.copyOf(actual.variants, actions)).isEqualTo(Arrays.copyOf(expected.variants, actions));
+        assertThat(Arrays.copyOf(actual.hasTarget, actions)).isEqualTo(Arrays.copyOf(expected.hasTarget, actions));
+        assertThat(Arrays.copyOf(actual.targetX, actions)).isEqualTo(Arrays.copyOf(expected.targetX, actions));
+        assertThat(Arrays.copyOf(actual.targetY, actions)).isEqualTo(Arrays.copyOf(expected.targetY, actions));
+    }
+}
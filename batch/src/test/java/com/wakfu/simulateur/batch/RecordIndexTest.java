@@ -0,0 +1,124 @@
+package com.wakfu.simulateur.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecordIndexTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Les lignes NDJSON sont indexées sans vide ni \\r, y compris sans saut de ligne final")
+    void shouldIndexNdjsonLines() throws IOException {
+        Path file = dir.resolve("records.ndjson");
+        Files.writeString(file, "{\"a\":1}\r\n\n{\"b\":2}\n\r\n{\"c\":3}", StandardCharsets.UTF_8);
+
+        try (RecordIndex index = RecordIndex.open(file)) {
+            assertThat(index.format()).isEqualTo(RecordIndex.Format.NDJSON);
+            assertThat(lines(index)).containsExactly("{\"a\":1}", "{\"b\":2}", "{\"c\":3}");
+        }
+    }
+
+    @Test
+    @DisplayName("Les segments sont coupés sur une frontière de ligne")
+    void shouldSplitNdjsonSegmentsOnLineBoundaries() throws IOException {
+        List<String> expected = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            String line = "{\"id\":\"" + "x".repeat(i % 7) + i + "\"}";
+            expected.add(line);
+            content.append(line).append('\n');
+        }
+        Path file = dir.resolve("records.ndjson");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+
+        try (RecordIndex index = RecordIndex.open(file, 40)) {
+            assertThat(lines(index)).isEqualTo(expected);
+            assertThat(segmentCount(index)).isGreaterThan(10);
+            for (int i = 0; i < index.size(); i++) {
+                assertThat(index.offset(i) + index.length(i)).isLessThanOrEqualTo(index.segment(i).limit());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Un enregistrement plus long qu'un segment est refusé")
+    void shouldRejectRecordLongerThanSegment() throws IOException {
+        Path file = dir.resolve("records.ndjson");
+        Files.writeString(file, "{}\n{\"long\":\"" + "x".repeat(64) + "\"}\n", StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> RecordIndex.open(file, 32))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("trop long");
+    }
+
+    @Test
+    @DisplayName("Les enregistrements binaires sont relus à l'identique à travers plusieurs segments")
+    void shouldSplitBinarySegmentsOnRecordBoundaries() throws IOException {
+        Path file = dir.resolve("records.bin");
+        List<BatchRecord> written = new ArrayList<>();
+        try (BinaryRecordFormat.Writer writer = new BinaryRecordFormat.Writer(file)) {
+            for (int i = 0; i < 12; i++) {
+                BatchRecord record = i % 3 == 0 ? BinaryRecordFormatTest.fullRecord() : new BatchRecord();
+                record.startX = i;
+                record.addMove(i, -i);
+                record.endStep();
+                writer.add(record);
+                written.add(record);
+            }
+        }
+
+        try (RecordIndex index = RecordIndex.open(file, 300)) {
+            assertThat(index.size()).isEqualTo(written.size());
+            assertThat(segmentCount(index)).isGreaterThan(1);
+            BatchRecord read = new BatchRecord();
+            for (int i = 0; i < index.size(); i++) {
+                BinaryRecordFormat.read(index.segment(i), index.offset(i), index.header(), read);
+                BinaryRecordFormatTest.assertSameRecord(read, written.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Une taille de segment hors limites est refusée")
+    void shouldRejectInvalidSegmentSize() throws IOException {
+        Path file = dir.resolve("records.ndjson");
+        Files.writeString(file, "{}\n", StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> RecordIndex.open(file, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecordIndex.open(file, RecordIndex.SEGMENT_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> lines(RecordIndex index) {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < index.size(); i++) {
+            byte[] bytes = new byte[index.length(i)];
+            index.segment(i).get(index.offset(i), bytes);
+            lines.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return lines;
+    }
+
+    private static int segmentCount(RecordIndex index) {
+        Set<ByteBuffer> segments = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < index.size(); i++) segments.add(index.segment(i));
+        return segments.size();
+    }
+}
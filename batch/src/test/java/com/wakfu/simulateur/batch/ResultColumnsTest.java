@@ -0,0 +1,111 @@
+package com.wakfu.simulateur.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResultColumnsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Les résultats écrits sont relus à l'identique après réouverture")
+    void shouldRoundTripResults() throws IOException {
+        Path file = dir.resolve("results.bin");
+        try (ResultColumns columns = ResultColumns.create(file, 3, 2, 2, -99L)) {
+            columns.write(0, FailureCode.NONE, -1, 3, 2, 12, 1, 5_000_000_000L,
+                    new int[]{100, 200, 300}, 3, new long[]{300, 4_999_999_700L}, 2);
+            columns.write(2, FailureCode.ACTION_FAILED, 1, 1, 1, 4, 0, 50, new int[]{50}, 1, new long[]{50}, 1);
+        }
+
+        try (ResultColumns columns = ResultColumns.open(file)) {
+            assertThat(columns.records()).isEqualTo(3);
+            assertThat(columns.maxSteps()).isEqualTo(2);
+            assertThat(columns.maxTurns()).isEqualTo(2);
+            assertThat(columns.seed()).isEqualTo(-99L);
+
+            assertThat(columns.failure(0)).isEqualTo(FailureCode.NONE);
+            assertThat(columns.failedStep(0)).isEqualTo(-1);
+            assertThat(columns.completedSteps(0)).isEqualTo(3);
+            assertThat(columns.turns(0)).isEqualTo(2);
+            assertThat(columns.paUsed(0)).isEqualTo(12);
+            assertThat(columns.pwUsed(0)).isEqualTo(1);
+            assertThat(columns.totalDamage(0)).isEqualTo(5_000_000_000L);
+            assertThat(columns.stepDamage(0, 0)).isEqualTo(100);
+            assertThat(columns.stepDamage(0, 1)).isEqualTo(200);
+            assertThat(columns.turnDamage(0, 1)).isEqualTo(4_999_999_700L);
+
+            assertThat(columns.failure(1)).isEqualTo(FailureCode.NONE);
+            assertThat(columns.totalDamage(1)).isZero();
+
+            assertThat(columns.failure(2)).isEqualTo(FailureCode.ACTION_FAILED);
+            assertThat(columns.failedStep(2)).isEqualTo(1);
+            assertThat(columns.stepDamage(2, 1)).isZero();
+            assertThat(columns.turnDamage(2, 0)).isEqualTo(50);
+        }
+    }
+
+    @Test
+    @DisplayName("Chaque colonne commence sur 8 octets après l'en-tête, dans l'ordre documenté")
+    void shouldLayOutAlignedColumns() throws IOException {
+        Path file = dir.resolve("results.bin");
+        int records = 3;
+        try (ResultColumns columns = ResultColumns.create(file, records, 1, 1, 7L)) {
+            for (int r = 0; r < records; r++) {
+                columns.write(r, FailureCode.ENGINE_ERROR, 10 + r, 20 + r, 30 + r, 40 + r, 50 + r, 60 + r,
+                        new int[]{70 + r}, 1, new long[]{80 + r}, 1);
+            }
+        }
+
+        ByteBuffer raw = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(raw.getInt(0)).isEqualTo(ResultColumns.MAGIC);
+        assertThat(raw.get(4)).isEqualTo(ResultColumns.VERSION);
+        assertThat(raw.getLong(8)).isEqualTo(records);
+        assertThat(raw.getInt(16)).isEqualTo(1);
+        assertThat(raw.getInt(20)).isEqualTo(1);
+        assertThat(raw.getLong(24)).isEqualTo(7L);
+
+        int failure = ResultColumns.HEADER_LENGTH;
+        int failedStep = failure + 8;
+        int completedSteps = failedStep + 16;
+        int turns = completedSteps + 16;
+        int paUsed = turns + 16;
+        int pwUsed = paUsed + 16;
+        int totalDamage = pwUsed + 16;
+        int step = totalDamage + 24;
+        int turn = step + 16;
+        assertThat(raw.capacity()).isEqualTo(turn + 24);
+        for (int r = 0; r < records; r++) {
+            assertThat(raw.get(failure + r)).isEqualTo(FailureCode.ENGINE_ERROR.code());
+            assertThat(raw.getInt(failedStep + 4 * r)).isEqualTo(10 + r);
+            assertThat(raw.getInt(completedSteps + 4 * r)).isEqualTo(20 + r);
+            assertThat(raw.getInt(turns + 4 * r)).isEqualTo(30 + r);
+            assertThat(raw.getInt(paUsed + 4 * r)).isEqualTo(40 + r);
+            assertThat(raw.getInt(pwUsed + 4 * r)).isEqualTo(50 + r);
+            assertThat(raw.getLong(totalDamage + 8 * r)).isEqualTo(60 + r);
+            assertThat(raw.getInt(step + 4 * r)).isEqualTo(70 + r);
+            assertThat(raw.getLong(turn + 8 * r)).isEqualTo(80 + r);
+        }
+    }
+
+    @Test
+    @DisplayName("Un fichier qui n'est pas un fichier de résultats est refusé")
+    void shouldRejectForeignFile() throws IOException {
+        Path file = dir.resolve("results.bin");
+        Files.write(file, new byte[ResultColumns.HEADER_LENGTH]);
+
+        assertThatThrownBy(() -> ResultColumns.open(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("invalide");
+    }
+}
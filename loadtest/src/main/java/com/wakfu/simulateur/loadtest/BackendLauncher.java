@@ -0,0 +1,123 @@
+package com.wakfu.simulateur.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Démarre le jar du backend dans un processus séparé, sur un port libre et une base H2 en mémoire
+ * initialisée par les scripts de {@code sql/} (schéma puis données), et attend que
+ * {@code /actuator/health} réponde.
+ */
+final class BackendLauncher implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private final Process process;
+    private final String baseUrl;
+
+    private BackendLauncher(Process process, String baseUrl) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+    }
+
+    static BackendLauncher start(Path jar, Path sqlDirectory, List<String> extraArgs, Path log)
+            throws IOException, InterruptedException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("Jar du backend introuvable: " + jar + " (mvn -f backend package)");
+        }
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(
+                javaBinary(), "-jar", jar.toString(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.sql.init.mode=always",
+                "--spring.sql.init.schema-locations=" + file(sqlDirectory, "creation_tables_spells.sql")
+                        + "," + file(sqlDirectory, "creation_tables_passifs.sql"),
+                "--spring.sql.init.data-locations=" + file(sqlDirectory, "insertion_tables.sql")));
+        command.addAll(extraArgs);
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        BackendLauncher launcher = new BackendLauncher(process, "http://localhost:" + port);
+        try {
+            launcher.awaitHealthy();
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            launcher.close();
+            throw e;
+        }
+        return launcher;
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    private void awaitHealthy() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2)).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException("Le backend s'est arrêté au démarrage (code " + process.exitValue() + ")");
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) return;
+            } catch (IOException e) {
+                // pas encore à l'écoute
+            }
+            Thread.sleep(250);
+        }
+        throw new IOException("Backend non disponible après " + STARTUP_TIMEOUT.toSeconds() + " s");
+    }
+
+    /**
+     * Arrête le backend ; interrompu pendant l'attente, le processus est tué sans attendre et
+     * l'interruption est conservée pour l'appelant.
+     */
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String file(Path directory, String name) {
+        Path path = directory.resolve(name).toAbsolutePath();
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("Script SQL introuvable: " + path);
+        }
+        return "file:" + path;
+    }
+
+    private static String javaBinary() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.wakfu.simulateur.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Latences mesurées par type de requête, en microsecondes. Les percentiles sont calculés au rang le
+ * plus proche sur l'ensemble des mesures (pas d'approximation par histogramme : une campagne compte
+ * au plus quelques centaines de milliers de requêtes).
+ */
+final class LatencyRecorder {
+
+    static final class Series {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void record(long micros, boolean error) {
+            if (error) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+            latencies[count++] = micros;
+        }
+
+        synchronized Summary summarize(double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new Summary(count, errors, seconds > 0 ? count / seconds : 0,
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                    count > 0 ? sorted[count - 1] / 1000.0 : 0);
+        }
+
+        synchronized void addTo(Series other) {
+            for (int i = 0; i < count; i++) other.record(latencies[i], false);
+            for (int i = 0; i < errors; i++) other.record(0, true);
+        }
+    }
+
+    /**
+     * Résumé d'une série : latences en millisecondes, débit en requêtes réussies par seconde.
+     */
+    record Summary(int count, int errors, double throughput, double p50Ms, double p95Ms, double p99Ms,
+                   double maxMs) {
+    }
+
+    private final Map<String, Series> series = new LinkedHashMap<>();
+
+    LatencyRecorder(Iterable<String> names) {
+        for (String name : names) series.put(name, new Series());
+    }
+
+    Series series(String name) {
+        return series.get(name);
+    }
+
+    Map<String, Summary> summarize(double seconds) {
+        Map<String, Summary> summaries = new LinkedHashMap<>();
+        series.forEach((name, values) -> summaries.put(name, values.summarize(seconds)));
+        return summaries;
+    }
+
+    Summary overall(double seconds) {
+        Series all = new Series();
+        series.values().forEach(values -> values.addTo(all));
+        return all.summarize(seconds);
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1000.0;
+    }
+}
@@ -0,0 +1,38 @@
+package com.wakfu.simulateur.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Rapport d'une campagne, écrit en JSON pour être comparé d'un commit à l'autre
+ * ({@link ReportComparator}).
+ *
+ * @param label    libellé libre, en général le commit mesuré
+ * @param rate     taux d'arrivée visé (requêtes/s)
+ * @param requests résumé par type de requête, dans l'ordre du mélange
+ * @param sloMet   vrai si chaque requête munie d'un objectif p99 l'a tenu, sans erreur
+ */
+record LoadReport(String label, String mix, String timestamp, double rate, double warmupSeconds,
+                  double durationSeconds, LatencyRecorder.Summary overall, Map<String, RequestSummary> requests,
+                  boolean sloMet) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    record RequestSummary(LatencyRecorder.Summary latency, Double sloP99Ms, boolean sloMet) {
+    }
+
+    void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        MAPPER.writeValue(path.toFile(), this);
+    }
+
+    static LoadReport read(Path path) throws IOException {
+        return MAPPER.readValue(path.toFile(), LoadReport.class);
+    }
+}
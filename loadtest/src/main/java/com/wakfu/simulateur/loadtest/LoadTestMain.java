@@ -0,0 +1,174 @@
+package com.wakfu.simulateur.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Point d'entrée du banc de charge.
+ * <pre>
+ * run     --mix catalog-browsing|batch-simulation|fichier.json [--rate 100] [--duration 30] [--warmup 10]
+ *         [--jar backend.jar] [--sql dossier] [--backend-arg --cle=valeur]... [--base-url http://hote:port]
+ *         [--label commit] [--seed 1] [--out rapport.json]
+ * compare reference.json candidat.json [--tolerance 10]
+ * </pre>
+ * Sans {@code --base-url}, le backend est démarré sur H2 en mémoire, alimenté par les scripts de
+ * {@code sql/}, sur un port libre. Code de sortie 1 si un objectif p99 n'est pas tenu (run) ou si
+ * une régression est détectée (compare).
+ */
+public final class LoadTestMain {
+
+    private static final String USAGE = """
+            usage:
+              run --mix <nom|fichier> [--rate req/s] [--duration s] [--warmup s] [--jar backend.jar] [--sql dossier]
+                  [--backend-arg arg]... [--base-url url] [--label libellé] [--seed n] [--out rapport.json]
+              compare <reference.json> <candidat.json> [--tolerance %]""";
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        List<String> positional = new ArrayList<>();
+        Map<String, List<String>> options = new HashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].startsWith("--") && i + 1 < args.length) {
+                options.computeIfAbsent(args[i].substring(2), key -> new ArrayList<>()).add(args[++i]);
+            } else {
+                positional.add(args[i]);
+            }
+        }
+        try {
+            boolean ok = switch (args[0]) {
+                case "run" -> run(options);
+                case "compare" -> compare(positional, options);
+                default -> throw new IllegalArgumentException("Commande inconnue: " + args[0]);
+            };
+            System.exit(ok ? 0 : 1);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+    }
+
+    private static boolean run(Map<String, List<String>> options) throws Exception {
+        RequestMix mix = RequestMix.load(required(options, "mix"));
+        double rate = Double.parseDouble(option(options, "rate", "100"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(option(options, "warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(option(options, "duration", "30")));
+        long seed = Long.parseLong(option(options, "seed", "1"));
+        if (rate <= 0 || duration.isZero()) throw new IllegalArgumentException("Taux et durée doivent être positifs");
+        String label = option(options, "label", gitRevision());
+        Path out = Path.of(option(options, "out",
+                repositoryPath("loadtest/target/reports/" + mix.name() + "-" + label + ".json")));
+
+        LatencyRecorder recorder;
+        String baseUrl = option(options, "base-url", null);
+        if (baseUrl != null) {
+            recorder = generate(baseUrl, mix, rate, warmup, duration, seed);
+        } else {
+            Path jar = Path.of(option(options, "jar", repositoryPath("backend/target/backend-0.0.1-SNAPSHOT.jar")));
+            Path sql = Path.of(option(options, "sql", repositoryPath("backend/src/main/resources/sql")));
+            Path log = out.resolveSibling(mix.name() + "-" + label + ".backend.log");
+            Files.createDirectories(log.toAbsolutePath().getParent());
+            try (BackendLauncher backend = BackendLauncher.start(jar, sql,
+                    options.getOrDefault("backend-arg", List.of()), log)) {
+                recorder = generate(backend.baseUrl(), mix, rate, warmup, duration, seed);
+            }
+        }
+
+        double seconds = duration.toMillis() / 1000.0;
+        Map<String, LatencyRecorder.Summary> summaries = recorder.summarize(seconds);
+        Map<String, LoadReport.RequestSummary> requests = new LinkedHashMap<>();
+        boolean sloMet = true;
+        for (RequestMix.Template template : mix.templates()) {
+            LatencyRecorder.Summary summary = summaries.get(template.name());
+            boolean met = summary.errors() == 0
+                    && (template.sloP99Ms() == null || summary.p99Ms() <= template.sloP99Ms());
+            requests.put(template.name(), new LoadReport.RequestSummary(summary, template.sloP99Ms(), met));
+            sloMet &= met;
+        }
+        LoadReport report = new LoadReport(label, mix.name(), Instant.now().toString(), rate,
+                warmup.toMillis() / 1000.0, seconds, recorder.overall(seconds), requests, sloMet);
+        report.write(out);
+        print(report);
+        System.out.println("Rapport: " + out.toAbsolutePath());
+        return sloMet;
+    }
+
+    private static LatencyRecorder generate(String baseUrl, RequestMix mix, double rate, Duration warmup,
+                                            Duration duration, long seed) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors())))
+                .build();
+        System.out.printf("%s : %.0f req/s vers %s, chauffe %d s, mesure %d s%n",
+                mix.name(), rate, baseUrl, warmup.toSeconds(), duration.toSeconds());
+        return new OpenLoopGenerator(client, baseUrl).run(mix, rate, warmup, duration, seed);
+    }
+
+    private static boolean compare(List<String> positional, Map<String, List<String>> options) throws IOException {
+        if (positional.size() != 2) throw new IllegalArgumentException("Deux rapports attendus");
+        double tolerance = Double.parseDouble(option(options, "tolerance", "10"));
+        boolean ok = new ReportComparator(tolerance).compare(LoadReport.read(Path.of(positional.get(0))),
+                LoadReport.read(Path.of(positional.get(1))), System.out);
+        System.out.println(ok ? "Aucune régression (tolérance " + tolerance + " %)" : "Régression détectée");
+        return ok;
+    }
+
+    private static void print(LoadReport report) {
+        System.out.printf("%-20s %8s %7s %10s %9s %9s %9s %9s  %s%n",
+                "requête", "nombre", "erreurs", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "objectif p99");
+        report.requests().forEach((name, request) -> {
+            LatencyRecorder.Summary s = request.latency();
+            System.out.printf("%-20s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f  %s%n", name, s.count(), s.errors(),
+                    s.throughput(), s.p50Ms(), s.p95Ms(), s.p99Ms(), s.maxMs(),
+                    request.sloP99Ms() == null ? "-" : request.sloP99Ms() + (request.sloMet() ? " ok" : " NON TENU"));
+        });
+        LatencyRecorder.Summary all = report.overall();
+        System.out.printf("%-20s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", "TOTAL", all.count(), all.errors(),
+                all.throughput(), all.p50Ms(), all.p95Ms(), all.p99Ms(), all.maxMs());
+    }
+
+    private static String required(Map<String, List<String>> options, String name) {
+        String value = option(options, name, null);
+        if (value == null) throw new IllegalArgumentException("Option obligatoire: --" + name);
+        return value;
+    }
+
+    private static String option(Map<String, List<String>> options, String name, String defaultValue) {
+        List<String> values = options.get(name);
+        return values == null ? defaultValue : values.get(values.size() - 1);
+    }
+
+    /**
+     * Chemins par défaut résolus depuis la racine du dépôt ou depuis {@code loadtest/}.
+     */
+    private static String repositoryPath(String relative) {
+        return Files.exists(Path.of("backend")) ? relative : "../" + relative;
+    }
+
+    private static String gitRevision() {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String revision = new String(git.getInputStream().readAllBytes()).trim();
+            return git.waitFor() == 0 && !revision.isEmpty() ? revision : "local";
+        } catch (IOException | InterruptedException e) {
+            return "local";
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.wakfu.simulateur.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Générateur à taux d'arrivée fixe (boucle ouverte) : les requêtes partent à intervalles réguliers,
+ * sans attendre les réponses, via le client HTTP asynchrone du JDK. La latence est mesurée depuis
+ * l'instant d'envoi prévu et non l'instant réel, pour ne pas masquer la mise en file quand le
+ * serveur ou le générateur décroche (omission coordonnée). Les réponses de la phase de chauffe
+ * ne sont pas comptées.
+ */
+final class OpenLoopGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final String baseUrl;
+
+    OpenLoopGenerator(HttpClient client, String baseUrl) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Envoie {@code rate} requêtes par seconde pendant la chauffe puis la mesure, et attend les
+     * dernières réponses.
+     */
+    LatencyRecorder run(RequestMix mix, double rate, Duration warmup, Duration measure, long seed)
+            throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder(mix.templates().stream()
+                .map(RequestMix.Template::name).collect(Collectors.toList()));
+        SplittableRandom random = new SplittableRandom(seed);
+        Phaser inFlight = new Phaser(1);
+
+        long period = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + measure.toNanos();
+        long sequence = 0;
+        for (long intended = start; intended < end; intended = start + ++sequence * period) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            RequestMix.Template template = mix.pick(random);
+            boolean measured = intended >= measureStart;
+            long sentAt = intended;
+            inFlight.register();
+            CompletableFuture<HttpResponse<Void>> response =
+                    client.sendAsync(request(template, sequence), HttpResponse.BodyHandlers.discarding());
+            response.whenComplete((result, failure) -> {
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAt);
+                if (measured) {
+                    boolean error = failure != null || result.statusCode() >= 400;
+                    recorder.series(template.name()).record(micros, error);
+                }
+                inFlight.arriveAndDeregister();
+            });
+        }
+
+        int phase = inFlight.arrive();
+        try {
+            inFlight.awaitAdvanceInterruptibly(phase, REQUEST_TIMEOUT.toSeconds() + 5, TimeUnit.SECONDS);
+        } catch (java.util.concurrent.TimeoutException e) {
+            System.err.println("Réponses encore attendues après " + REQUEST_TIMEOUT.toSeconds() + " s : "
+                    + inFlight.getUnarrivedParties());
+        }
+        return recorder;
+    }
+
+    private HttpRequest request(RequestMix.Template template, long sequence) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + template.path()))
+                .timeout(REQUEST_TIMEOUT);
+        String body = template.body(sequence);
+        if (body == null) {
+            return builder.method(template.method(), HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .method(template.method(), HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.wakfu.simulateur.loadtest;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compare deux rapports du même mélange : un p95/p99 ou un débit dégradé au-delà de la tolérance,
+ * ou un objectif p99 non tenu par le candidat, est une régression.
+ */
+final class ReportComparator {
+
+    private final double tolerance;
+
+    /**
+     * @param tolerancePercent écart relatif admis avant de signaler une régression
+     */
+    ReportComparator(double tolerancePercent) {
+        this.tolerance = tolerancePercent / 100.0;
+    }
+
+    /**
+     * Imprime le tableau des écarts ; retourne vrai si aucune régression n'est détectée.
+     */
+    boolean compare(LoadReport base, LoadReport candidate, PrintStream out) {
+        if (!base.mix().equals(candidate.mix())) {
+            throw new IllegalArgumentException("Mélanges différents: " + base.mix() + " / " + candidate.mix());
+        }
+        out.printf(Locale.ROOT, "%s : %s -> %s%n", base.mix(), base.label(), candidate.label());
+        out.printf(Locale.ROOT, "%-20s %22s %22s %22s %24s%n", "requête", "p50 (ms)", "p95 (ms)", "p99 (ms)", "débit (req/s)");
+
+        boolean ok = row("TOTAL", base.overall(), candidate.overall(), out);
+        for (Map.Entry<String, LoadReport.RequestSummary> entry : candidate.requests().entrySet()) {
+            LoadReport.RequestSummary before = base.requests().get(entry.getKey());
+            LoadReport.RequestSummary after = entry.getValue();
+            if (before == null) {
+                out.printf(Locale.ROOT, "%-20s absente du rapport de référence%n", entry.getKey());
+            } else {
+                ok &= row(entry.getKey(), before.latency(), after.latency(), out);
+            }
+            if (!after.sloMet()) {
+                out.printf(Locale.ROOT, "%-20s objectif p99 %.1f ms non tenu (%.1f ms, %d erreurs)%n",
+                        entry.getKey(), after.sloP99Ms(), after.latency().p99Ms(), after.latency().errors());
+                ok = false;
+            }
+        }
+        return ok;
+    }
+
+    private boolean row(String name, LatencyRecorder.Summary before, LatencyRecorder.Summary after, PrintStream out) {
+        boolean slower = worse(before.p95Ms(), after.p95Ms()) || worse(before.p99Ms(), after.p99Ms());
+        boolean lessThroughput = after.throughput() < before.throughput() * (1 - tolerance);
+        out.printf(Locale.ROOT, "%-20s %22s %22s %22s %24s%s%n", name,
+                delta(before.p50Ms(), after.p50Ms()), delta(before.p95Ms(), after.p95Ms()),
+                delta(before.p99Ms(), after.p99Ms()), delta(before.throughput(), after.throughput()),
+                slower || lessThroughput ? "  RÉGRESSION" : "");
+        return !slower && !lessThroughput;
+    }
+
+    private boolean worse(double before, double after) {
+        return after > before * (1 + tolerance);
+    }
+
+    private static String delta(double before, double after) {
+        double percent = before > 0 ? (after - before) / before * 100 : 0;
+        return String.format(Locale.ROOT, "%.2f -> %.2f (%+.0f%%)", before, after, percent);
+    }
+}
@@ -0,0 +1,110 @@
+package com.wakfu.simulateur.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Mélange de requêtes enregistré (JSON) :
+ * <pre>
+ * {"name": "catalog-browsing",
+ *  "requests": [
+ *    {"name": "spells-summary", "weight": 5, "method": "GET", "path": "/api/spells?view=summary",
+ *     "slo": {"p99Ms": 50}},
+ *    {"name": "simulate", "weight": 1, "method": "POST", "path": "/api/simulations", "body": {...}}
+ *  ]}
+ * </pre>
+ * Dans le corps, {@code "{{seq}}"} est remplacé par un numéro de séquence (graines distinctes,
+ * pour ne pas mesurer le cache de résultats). Le tirage est pondéré et reproductible.
+ */
+final class RequestMix {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SEQUENCE = "\"{{seq}}\"";
+
+    record Template(String name, int weight, String method, String path, String body, Double sloP99Ms) {
+
+        String body(long sequence) {
+            return body == null ? null : body.replace(SEQUENCE, Long.toString(sequence));
+        }
+    }
+
+    private final String name;
+    private final List<Template> templates;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private RequestMix(String name, List<Template> templates) {
+        if (templates.isEmpty()) {
+            throw new IllegalArgumentException("Mélange sans requête: " + name);
+        }
+        this.name = name;
+        this.templates = List.copyOf(templates);
+        this.cumulativeWeights = new int[templates.size()];
+        int total = 0;
+        for (int i = 0; i < templates.size(); i++) {
+            total += templates.get(i).weight();
+            cumulativeWeights[i] = total;
+        }
+        this.totalWeight = total;
+    }
+
+    /**
+     * Fichier du système de fichiers, ou mélange fourni avec le module ({@code catalog-browsing},
+     * {@code batch-simulation}).
+     */
+    static RequestMix load(String location) throws IOException {
+        Path path = Path.of(location);
+        if (Files.isRegularFile(path)) {
+            try (InputStream input = Files.newInputStream(path)) {
+                return parse(MAPPER.readTree(input));
+            }
+        }
+        try (InputStream input = RequestMix.class.getResourceAsStream("/mixes/" + location + ".json")) {
+            if (input == null) throw new IllegalArgumentException("Mélange introuvable: " + location);
+            return parse(MAPPER.readTree(input));
+        }
+    }
+
+    private static RequestMix parse(JsonNode root) throws IOException {
+        List<Template> templates = new ArrayList<>();
+        for (JsonNode request : root.path("requests")) {
+            String name = request.path("name").asText(null);
+            String path = request.path("path").asText(null);
+            if (name == null || path == null) {
+                throw new IllegalArgumentException("Requête sans nom ou sans chemin dans le mélange");
+            }
+            int weight = request.path("weight").asInt(1);
+            if (weight <= 0) throw new IllegalArgumentException("Poids invalide pour " + name);
+            JsonNode body = request.get("body");
+            JsonNode slo = request.path("slo").get("p99Ms");
+            templates.add(new Template(name, weight, request.path("method").asText("GET"), path,
+                    body != null ? MAPPER.writeValueAsString(body) : null,
+                    slo != null && slo.isNumber() ? slo.asDouble() : null));
+        }
+        return new RequestMix(root.path("name").asText("mix"), templates);
+    }
+
+    String name() {
+        return name;
+    }
+
+    List<Template> templates() {
+        return templates;
+    }
+
+    Template pick(SplittableRandom random) {
+        int draw = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) return templates.get(i);
+        }
+        return templates.get(templates.size() - 1);
+    }
+}
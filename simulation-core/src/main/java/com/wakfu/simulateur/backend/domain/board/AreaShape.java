@@ -0,0 +1,28 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+/**
+ * Formes de zone, en distances de case : {@code CIRCLE} et {@code RING} en distance de Manhattan
+ * (losange), {@code SQUARE} en distance de Tchebychev, {@code LINE} depuis la case ciblée en
+ * s'éloignant du lanceur.
+ */
+public enum AreaShape {
+
+    CELL,
+    CIRCLE,
+    CROSS,
+    SQUARE,
+    RING,
+    LINE;
+
+    boolean contains(int dx, int dy, int size) {
+        int manhattan = Math.abs(dx) + Math.abs(dy);
+        return switch (this) {
+            case CELL -> dx == 0 && dy == 0;
+            case CIRCLE -> manhattan <= size;
+            case CROSS -> (dx == 0 || dy == 0) && manhattan <= size;
+            case SQUARE -> Math.max(Math.abs(dx), Math.abs(dy)) <= size;
+            case RING -> manhattan == size;
+            case LINE -> dy == 0 && dx >= 0 && dx < Math.max(1, size);
+        };
+    }
+}
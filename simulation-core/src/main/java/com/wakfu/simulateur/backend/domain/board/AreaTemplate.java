@@ -0,0 +1,137 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Zone précalculée en décalages de cases autour d'un centre, pour les quatre orientations
+ * (est, sud, ouest, nord). Les gabarits sont partagés : une même forme n'est calculée qu'une fois.
+ * Seule {@link AreaShape#LINE} dépend de l'orientation ; les autres formes sont symétriques.
+ */
+public final class AreaTemplate {
+
+    public static final int EAST = 0;
+    public static final int SOUTH = 1;
+    public static final int WEST = 2;
+    public static final int NORTH = 3;
+
+    private static final Map<String, AreaTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    public static final AreaTemplate CELL = of(AreaShape.CELL, 0, true);
+
+    private final AreaShape shape;
+    private final int size;
+    private final boolean includeCenter;
+    /** Décalages par orientation : {@code offsets[direction][2i]} = dx, {@code [2i + 1]} = dy. */
+    private final int[][] offsets;
+
+    private AreaTemplate(AreaShape shape, int size, boolean includeCenter) {
+        this.shape = shape;
+        this.size = size;
+        this.includeCenter = includeCenter;
+
+        int reach = Math.max(size, 1);
+        int[] canonical = new int[2 * (2 * reach + 1) * (2 * reach + 1)];
+        int count = 0;
+        for (int dy = -reach; dy <= reach; dy++) {
+            for (int dx = -reach; dx <= reach; dx++) {
+                if (!contains(dx, dy)) continue;
+                canonical[count++] = dx;
+                canonical[count++] = dy;
+            }
+        }
+        this.offsets = new int[4][count];
+        for (int direction = EAST; direction <= NORTH; direction++) {
+            for (int i = 0; i < count; i += 2) {
+                offsets[direction][i] = rotateX(canonical[i], canonical[i + 1], direction);
+                offsets[direction][i + 1] = rotateY(canonical[i], canonical[i + 1], direction);
+            }
+        }
+    }
+
+    public static AreaTemplate of(AreaShape shape, int size, boolean includeCenter) {
+        return TEMPLATES.computeIfAbsent(shape + ":" + size + ":" + includeCenter,
+                key -> new AreaTemplate(shape, size, includeCenter));
+    }
+
+    /**
+     * Code compact des données de jeu : forme suivie de la taille ({@code CROSS2}, {@code RING1}, {@code CELL}).
+     */
+    public static AreaTemplate parse(String code) {
+        String normalized = code.trim().toUpperCase(Locale.ROOT);
+        int digits = normalized.length();
+        while (digits > 0 && Character.isDigit(normalized.charAt(digits - 1))) digits--;
+        AreaShape shape = AreaShape.valueOf(normalized.substring(0, digits));
+        int size = digits < normalized.length() ? Integer.parseInt(normalized.substring(digits)) : 0;
+        return of(shape, size, true);
+    }
+
+    /**
+     * Orientation dominante du lanceur vers le centre de la zone (est par défaut sur la case du lanceur).
+     */
+    public static int direction(Position origin, Position center) {
+        int dx = center.x() - origin.x();
+        int dy = center.y() - origin.y();
+        if (Math.abs(dx) >= Math.abs(dy)) return dx < 0 ? WEST : EAST;
+        return dy < 0 ? NORTH : SOUTH;
+    }
+
+    public AreaShape shape() { return shape; }
+
+    public int size() { return size; }
+
+    /**
+     * Nombre de cases couvertes.
+     */
+    public int cells() {
+        return offsets[EAST].length / 2;
+    }
+
+    int dx(int direction, int i) {
+        return offsets[direction][2 * i];
+    }
+
+    int dy(int direction, int i) {
+        return offsets[direction][2 * i + 1];
+    }
+
+    /**
+     * Le décalage (dans l'orientation donnée) appartient-il à la zone ?
+     */
+    boolean covers(int dx, int dy, int direction) {
+        // rotation inverse vers l'orientation canonique (est)
+        int inverse = (4 - direction) % 4;
+        return contains(rotateX(dx, dy, inverse), rotateY(dx, dy, inverse));
+    }
+
+    private boolean contains(int dx, int dy) {
+        if (dx == 0 && dy == 0 && !includeCenter) return false;
+        return shape.contains(dx, dy, size);
+    }
+
+    private static int rotateX(int dx, int dy, int direction) {
+        return switch (direction) {
+            case SOUTH -> -dy;
+            case WEST -> -dx;
+            case NORTH -> dy;
+            default -> dx;
+        };
+    }
+
+    private static int rotateY(int dx, int dy, int direction) {
+        return switch (direction) {
+            case SOUTH -> dx;
+            case WEST -> -dy;
+            case NORTH -> -dx;
+            default -> dy;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return shape + (size > 0 ? String.valueOf(size) : "") + (includeCenter ? "" : " (sans centre)");
+    }
+}
@@ -0,0 +1,306 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Plateau de combat avec index d'occupation : une grille {@code cols × rows} associe chaque case
+ * à l'unité qui l'occupe. Les recherches par case et par identifiant sont en temps constant et
+ * l'index est mis à jour à chaque déplacement, échange, invocation ou retrait.
+ * <p>
+ * La version est incrémentée à chaque modification, pour invalider les calculs dérivés du plateau.
+ * Un journal optionnel enregistre les changements d'unités pour produire des {@link BoardDelta}.
+ */
+public class Board {
+
+    public static final int DEFAULT_COLS = 13;
+    public static final int DEFAULT_ROWS = 13;
+    /** Côté maximal accepté : la grille est allouée d'un bloc, elle ne doit pas dépendre d'une requête sans borne. */
+    public static final int MAX_SIZE = 64;
+
+    private final int cols;
+    private final int rows;
+    private final BoardUnit[] cells;
+    private final Map<String, BoardUnit> units = new LinkedHashMap<>();
+    private final int[] kindCounts = new int[UnitKind.values().length];
+    private final Map<Position, MovementField> movementFields = new HashMap<>();
+    private long version;
+    private long movementFieldsVersion = -1;
+    private int summons;
+    private List<BoardChange> journal;
+    private int journalSummons;
+
+    public Board(int cols, int rows) {
+        if (cols <= 0 || rows <= 0 || cols > MAX_SIZE || rows > MAX_SIZE) {
+            throw new IllegalArgumentException("Dimensions du plateau invalides: " + cols + "x" + rows);
+        }
+        this.cols = cols;
+        this.rows = rows;
+        this.cells = new BoardUnit[cols * rows];
+    }
+
+    public static Board standard() {
+        return new Board(DEFAULT_COLS, DEFAULT_ROWS);
+    }
+
+    public Board copy() {
+        Board copy = new Board(cols, rows);
+        System.arraycopy(cells, 0, copy.cells, 0, cells.length);
+        copy.units.putAll(units);
+        System.arraycopy(kindCounts, 0, copy.kindCounts, 0, kindCounts.length);
+        copy.version = version;
+        copy.summons = summons;
+        if (movementFieldsVersion == version) {
+            copy.movementFields.putAll(movementFields);
+            copy.movementFieldsVersion = version;
+        }
+        return copy;
+    }
+
+    public int cols() { return cols; }
+
+    public int rows() { return rows; }
+
+    public long version() { return version; }
+
+    public boolean inBounds(Position position) {
+        return position.x() >= 0 && position.x() < cols && position.y() >= 0 && position.y() < rows;
+    }
+
+    public Optional<BoardUnit> unitAt(Position position) {
+        return inBounds(position) ? Optional.ofNullable(cells[index(position)]) : Optional.empty();
+    }
+
+    public boolean isFree(Position position) {
+        return inBounds(position) && cells[index(position)] == null;
+    }
+
+    boolean isFree(int x, int y) {
+        return cells[y * cols + x] == null;
+    }
+
+    /**
+     * Champ de distances depuis la case d'origine, calculé à la demande et conservé tant que
+     * la version du plateau ne change pas.
+     */
+    public MovementField movementField(Position origin) {
+        if (movementFieldsVersion != version) {
+            movementFields.clear();
+            movementFieldsVersion = version;
+        }
+        return movementFields.computeIfAbsent(origin, o -> MovementField.compute(this, o));
+    }
+
+    public Optional<BoardUnit> find(String id) {
+        return Optional.ofNullable(units.get(id));
+    }
+
+    public Collection<BoardUnit> units() {
+        return Collections.unmodifiableCollection(units.values());
+    }
+
+    public int count(MechanismType type) {
+        int count = 0;
+        for (BoardUnit unit : units.values()) {
+            if (unit.mechanism() == type) count++;
+        }
+        return count;
+    }
+
+    public int count(UnitKind kind) {
+        return kindCounts[kind.ordinal()];
+    }
+
+    /**
+     * Unités du type donné dans la zone centrée sur {@code center}, orientée selon {@code direction}
+     * ({@link AreaTemplate#EAST}…), dans l'ordre des décalages du gabarit ou des unités. Le parcours
+     * le moins coûteux est choisi : cases du gabarit dans la grille si la zone est plus petite que
+     * le nombre d'unités, test d'appartenance de chaque unité sinon.
+     */
+    public List<BoardUnit> unitsIn(Position center, AreaTemplate area, int direction, UnitKind kind) {
+        if (kindCounts[kind.ordinal()] == 0) return List.of();
+        List<BoardUnit> found = new ArrayList<>();
+        if (area.cells() <= units.size()) {
+            for (int i = 0; i < area.cells(); i++) {
+                int x = center.x() + area.dx(direction, i);
+                int y = center.y() + area.dy(direction, i);
+                if (x < 0 || x >= cols || y < 0 || y >= rows) continue;
+                BoardUnit unit = cells[y * cols + x];
+                if (unit != null && unit.kind() == kind) found.add(unit);
+            }
+        } else {
+            for (BoardUnit unit : units.values()) {
+                if (unit.kind() == kind && area.covers(unit.position().x() - center.x(),
+                        unit.position().y() - center.y(), direction)) {
+                    found.add(unit);
+                }
+            }
+        }
+        return found;
+    }
+
+    public void place(BoardUnit unit) {
+        if (units.containsKey(unit.id())) {
+            throw new IllegalArgumentException("Unité déjà présente: " + unit.id());
+        }
+        if (!isFree(unit.position())) {
+            throw new IllegalArgumentException("Case indisponible pour " + unit.id() + ": "
+                    + unit.position().x() + ", " + unit.position().y());
+        }
+        units.put(unit.id(), unit);
+        cells[index(unit.position())] = unit;
+        kindCounts[unit.kind().ordinal()]++;
+        record(null, unit);
+        version++;
+    }
+
+    /**
+     * Invoque un mécanisme avec un identifiant déterministe ({@code TYPE-n}).
+     */
+    public BoardUnit summon(MechanismType type, Position position) {
+        BoardUnit unit = BoardUnit.mechanism(type.name() + "-" + (++summons), type, position);
+        place(unit);
+        return unit;
+    }
+
+    public Optional<BoardUnit> remove(String id) {
+        BoardUnit unit = units.remove(id);
+        if (unit == null) return Optional.empty();
+        cells[index(unit.position())] = null;
+        kindCounts[unit.kind().ordinal()]--;
+        record(unit, null);
+        version++;
+        return Optional.of(unit);
+    }
+
+    /**
+     * Retire le plus ancien mécanisme du type donné (ordre d'invocation).
+     */
+    public Optional<BoardUnit> removeOldest(MechanismType type) {
+        return units.values().stream()
+                .filter(u -> u.mechanism() == type)
+                .findFirst()
+                .flatMap(u -> remove(u.id()));
+    }
+
+    public void move(String id, Position target) {
+        BoardUnit unit = units.get(id);
+        if (unit == null) {
+            throw new IllegalArgumentException("Unité inconnue: " + id);
+        }
+        if (unit.position().equals(target)) return;
+        if (!isFree(target)) {
+            throw new IllegalArgumentException("Case indisponible: " + target.x() + ", " + target.y());
+        }
+        cells[index(unit.position())] = null;
+        BoardUnit moved = unit.at(target);
+        cells[index(target)] = moved;
+        units.put(id, moved);
+        record(unit, moved);
+        version++;
+    }
+
+    public void swap(String firstId, String secondId) {
+        BoardUnit first = units.get(firstId);
+        BoardUnit second = units.get(secondId);
+        if (first == null || second == null) {
+            throw new IllegalArgumentException("Unité inconnue: " + (first == null ? firstId : secondId));
+        }
+        BoardUnit movedFirst = first.at(second.position());
+        BoardUnit movedSecond = second.at(first.position());
+        cells[index(movedFirst.position())] = movedFirst;
+        cells[index(movedSecond.position())] = movedSecond;
+        units.put(firstId, movedFirst);
+        units.put(secondId, movedSecond);
+        record(first, movedFirst);
+        record(second, movedSecond);
+        version++;
+    }
+
+    /**
+     * Téléporte une unité ; si la destination est occupée, les deux unités échangent leurs places.
+     * Refusé si l'une des deux unités est stabilisée ou si la destination est hors du plateau.
+     */
+    public TeleportStatus teleport(String id, Position destination) {
+        BoardUnit unit = units.get(id);
+        if (unit == null) return TeleportStatus.UNKNOWN_UNIT;
+        if (!inBounds(destination)) return TeleportStatus.OUT_OF_BOUNDS;
+        if (unit.isStabilized()) return TeleportStatus.STABILIZED;
+
+        BoardUnit occupant = cells[index(destination)];
+        if (occupant == null) {
+            move(id, destination);
+            return TeleportStatus.MOVED;
+        }
+        if (occupant.id().equals(id)) return TeleportStatus.UNCHANGED;
+        if (occupant.isStabilized()) return TeleportStatus.STABILIZED;
+        swap(id, occupant.id());
+        return TeleportStatus.SWAPPED;
+    }
+
+    /**
+     * Commence à enregistrer les changements d'unités (remplace un journal en cours).
+     */
+    public void beginJournal() {
+        journal = new ArrayList<>();
+        journalSummons = summons;
+    }
+
+    /**
+     * Arrête l'enregistrement et renvoie les changements depuis {@link #beginJournal()}.
+     */
+    public BoardDelta endJournal() {
+        if (journal == null) return BoardDelta.EMPTY;
+        BoardDelta delta = new BoardDelta(journal, journalSummons, summons);
+        journal = null;
+        return delta;
+    }
+
+    /**
+     * Rejoue un delta dans l'ordre : chaque unité {@code before} est retirée de sa case si elle
+     * l'occupe encore, puis {@code after} est posée. Appliquer {@link BoardDelta#inverse()} l'annule.
+     */
+    public void apply(BoardDelta delta) {
+        for (BoardChange change : delta.changes()) {
+            BoardUnit before = change.before();
+            BoardUnit after = change.after();
+            if (before != null) {
+                if ((after == null || !after.id().equals(before.id())) && units.remove(before.id()) != null) {
+                    kindCounts[before.kind().ordinal()]--;
+                }
+                int index = index(before.position());
+                if (cells[index] != null && cells[index].id().equals(before.id())) {
+                    cells[index] = null;
+                }
+            }
+            if (after != null) {
+                if (units.put(after.id(), after) == null) kindCounts[after.kind().ordinal()]++;
+                cells[index(after.position())] = after;
+            }
+            record(before, after);
+        }
+        summons = delta.summonsAfter();
+        if (!delta.changes().isEmpty()) version++;
+    }
+
+    private void record(BoardUnit before, BoardUnit after) {
+        if (journal != null) journal.add(new BoardChange(before, after));
+    }
+
+    private int index(Position position) {
+        return position.y() * cols + position.x();
+    }
+
+    @Override
+    public String toString() {
+        return "Board[" + cols + "x" + rows + ", units=" + units.keySet() + ", version=" + version + "]";
+    }
+}
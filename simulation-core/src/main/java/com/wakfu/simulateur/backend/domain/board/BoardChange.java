@@ -0,0 +1,12 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+/**
+ * Changement élémentaire d'une unité : {@code before} absent pour une pose,
+ * {@code after} absent pour un retrait.
+ */
+public record BoardChange(BoardUnit before, BoardUnit after) {
+
+    public BoardChange inverse() {
+        return new BoardChange(after, before);
+    }
+}
@@ -0,0 +1,54 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Modifications du plateau enregistrées entre deux points, dans l'ordre : sa taille est celle des
+ * cases touchées, pas celle du plateau. L'inverse annule le delta.
+ */
+public record BoardDelta(List<BoardChange> changes, int summonsBefore, int summonsAfter) {
+
+    public static final BoardDelta EMPTY = new BoardDelta(List.of(), 0, 0);
+
+    public BoardDelta {
+        changes = List.copyOf(changes);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty() && summonsBefore == summonsAfter;
+    }
+
+    public BoardDelta inverse() {
+        List<BoardChange> inverse = new ArrayList<>(changes.size());
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            inverse.add(changes.get(i).inverse());
+        }
+        return new BoardDelta(inverse, summonsAfter, summonsBefore);
+    }
+
+    /**
+     * Occupant final de chaque case touchée ({@code null} si la case s'est libérée).
+     */
+    public Map<Position, BoardUnit> cells() {
+        Map<Position, BoardUnit> cells = new LinkedHashMap<>();
+        for (BoardChange change : changes) {
+            BoardUnit before = change.before();
+            if (before != null) {
+                BoardUnit current = cells.get(before.position());
+                if (current == null || current.id().equals(before.id())) {
+                    cells.put(before.position(), null);
+                }
+            }
+            if (change.after() != null) {
+                cells.put(change.after().position(), change.after());
+            }
+        }
+        return Collections.unmodifiableMap(cells);
+    }
+}
@@ -0,0 +1,30 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+
+/**
+ * Unité occupant une case du plateau : entité (joueur, ennemi) ou mécanisme.
+ * La résistance (en %) s'applique aux dégâts reçus.
+ */
+public record BoardUnit(String id, UnitKind kind, MechanismType mechanism, Position position, int resistance) {
+
+    public BoardUnit(String id, UnitKind kind, MechanismType mechanism, Position position) {
+        this(id, kind, mechanism, position, 0);
+    }
+
+    public static BoardUnit entity(String id, UnitKind kind, Position position) {
+        return new BoardUnit(id, kind, null, position);
+    }
+
+    public static BoardUnit mechanism(String id, MechanismType type, Position position) {
+        return new BoardUnit(id, UnitKind.MECHANISM, type, position);
+    }
+
+    public boolean isStabilized() {
+        return mechanism != null && mechanism.stabilized();
+    }
+
+    BoardUnit at(Position target) {
+        return new BoardUnit(id, kind, mechanism, target, resistance);
+    }
+}
@@ -0,0 +1,40 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+
+/**
+ * Positions des 12 heures autour d'un cadran, dans le sens horaire à partir de 12h
+ * (mêmes décalages que le plateau du front).
+ */
+public final class DialHours {
+
+    private static final int[][] OFFSETS = {
+            {0, -3}, {1, -2}, {2, -1}, {3, 0}, {2, 1}, {1, 2},
+            {0, 3}, {-1, 2}, {-2, 1}, {-3, 0}, {-2, -1}, {-1, -2}
+    };
+
+    private DialHours() {
+    }
+
+    /**
+     * Position de l'heure {@code hour} (1-12) autour du cadran situé en {@code center}.
+     */
+    public static Position position(Position center, int hour) {
+        int[] offset = OFFSETS[Math.floorMod(hour, 12)];
+        return new Position(center.x() + offset[0], center.y() + offset[1]);
+    }
+
+    /**
+     * Heure (1-12) correspondant à la case, ou 0 si elle n'est pas une heure du cadran.
+     */
+    public static int hourAt(Position center, Position position) {
+        int dx = position.x() - center.x();
+        int dy = position.y() - center.y();
+        for (int i = 0; i < OFFSETS.length; i++) {
+            if (OFFSETS[i][0] == dx && OFFSETS[i][1] == dy) {
+                return i == 0 ? 12 : i;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,22 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+public enum MechanismType {
+
+    DIAL(true),
+    ROUAGE(false),
+    SINISTRO(false),
+    REGULATOR(false);
+
+    private final boolean stabilized;
+
+    MechanismType(boolean stabilized) {
+        this.stabilized = stabilized;
+    }
+
+    /**
+     * Un mécanisme stabilisé ne peut être ni téléporté ni échangé.
+     */
+    public boolean stabilized() {
+        return stabilized;
+    }
+}
@@ -0,0 +1,13 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+
+/**
+ * Coût d'un déplacement vers une case : en PM (chemin le plus court) ou en PW (heure à heure).
+ */
+public record MoveCost(Position cell, int mp, int pw) {
+
+    public boolean dialHour() {
+        return pw > 0;
+    }
+}
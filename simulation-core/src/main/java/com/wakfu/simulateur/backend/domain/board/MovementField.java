@@ -0,0 +1,138 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Champ de distances calculé une fois par parcours en largeur depuis une case d'origine :
+ * coût en PM de chaque case libre atteignable en contournant les unités, et cases d'heure
+ * du cadran atteignables pour {@value #DIAL_HOUR_PW} PW quand l'origine est elle-même une heure.
+ * <p>
+ * Immuable : valable tant que la version du plateau qui l'a produit ne change pas
+ * (voir {@link Board#movementField(Position)}).
+ */
+public final class MovementField {
+
+    public static final int UNREACHABLE = -1;
+    public static final int DIAL_HOUR_PW = 1;
+
+    private static final int[] DX = {1, -1, 0, 0};
+    private static final int[] DY = {0, 0, 1, -1};
+
+    private final int cols;
+    private final int rows;
+    private final Position origin;
+    private final int[] distances;
+    private final boolean[] dialHours;
+
+    private MovementField(int cols, int rows, Position origin, int[] distances, boolean[] dialHours) {
+        this.cols = cols;
+        this.rows = rows;
+        this.origin = origin;
+        this.distances = distances;
+        this.dialHours = dialHours;
+    }
+
+    static MovementField compute(Board board, Position origin) {
+        int cols = board.cols();
+        int rows = board.rows();
+        int[] distances = new int[cols * rows];
+        Arrays.fill(distances, UNREACHABLE);
+        if (!board.inBounds(origin)) {
+            return new MovementField(cols, rows, origin, distances, new boolean[0]);
+        }
+
+        int[] queue = new int[cols * rows];
+        int head = 0;
+        int tail = 0;
+        int start = origin.y() * cols + origin.x();
+        distances[start] = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int current = queue[head++];
+            int x = current % cols;
+            int y = current / cols;
+            for (int d = 0; d < DX.length; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                if (nx < 0 || nx >= cols || ny < 0 || ny >= rows) continue;
+                int next = ny * cols + nx;
+                if (distances[next] != UNREACHABLE || !board.isFree(nx, ny)) continue;
+                distances[next] = distances[current] + 1;
+                queue[tail++] = next;
+            }
+        }
+
+        return new MovementField(cols, rows, origin, distances, dialHourCells(board, origin));
+    }
+
+    /**
+     * Cases d'heure libres accessibles en PW ; vide si l'origine n'est pas une heure du cadran.
+     */
+    private static boolean[] dialHourCells(Board board, Position origin) {
+        boolean[] cells = null;
+        for (BoardUnit unit : board.units()) {
+            if (unit.mechanism() != MechanismType.DIAL) continue;
+            if (DialHours.hourAt(unit.position(), origin) == 0) continue;
+            if (cells == null) cells = new boolean[board.cols() * board.rows()];
+            for (int hour = 1; hour <= 12; hour++) {
+                Position cell = DialHours.position(unit.position(), hour);
+                if (!cell.equals(origin) && board.isFree(cell)) {
+                    cells[cell.y() * board.cols() + cell.x()] = true;
+                }
+            }
+        }
+        return cells != null ? cells : new boolean[0];
+    }
+
+    public Position origin() {
+        return origin;
+    }
+
+    /**
+     * Distance en PM jusqu'à la case, ou {@link #UNREACHABLE}.
+     */
+    public int distance(Position cell) {
+        if (!inBounds(cell)) return UNREACHABLE;
+        return distances[cell.y() * cols + cell.x()];
+    }
+
+    /**
+     * Coût pour rejoindre la case : une heure du cadran depuis une autre heure coûte
+     * {@value #DIAL_HOUR_PW} PW, sinon le plus court chemin en PM.
+     */
+    public Optional<MoveCost> cost(Position cell) {
+        if (!inBounds(cell) || cell.equals(origin)) return Optional.empty();
+        int index = cell.y() * cols + cell.x();
+        if (index < dialHours.length && dialHours[index]) {
+            return Optional.of(new MoveCost(cell, 0, DIAL_HOUR_PW));
+        }
+        int distance = distances[index];
+        return distance == UNREACHABLE ? Optional.empty() : Optional.of(new MoveCost(cell, distance, 0));
+    }
+
+    /**
+     * Toutes les cases atteignables avec les PM et PW disponibles, en un seul passage sur le champ.
+     */
+    public List<MoveCost> reachable(int mp, int pw) {
+        List<MoveCost> cells = new ArrayList<>();
+        for (int index = 0; index < distances.length; index++) {
+            Position cell = new Position(index % cols, index / cols);
+            if (cell.equals(origin)) continue;
+            if (index < dialHours.length && dialHours[index]) {
+                if (pw >= DIAL_HOUR_PW) cells.add(new MoveCost(cell, 0, DIAL_HOUR_PW));
+            } else if (distances[index] != UNREACHABLE && distances[index] <= mp) {
+                cells.add(new MoveCost(cell, distances[index], 0));
+            }
+        }
+        return cells;
+    }
+
+    private boolean inBounds(Position cell) {
+        return cell.x() >= 0 && cell.x() < cols && cell.y() >= 0 && cell.y() < rows;
+    }
+}
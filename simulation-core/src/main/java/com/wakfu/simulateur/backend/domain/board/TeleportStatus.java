@@ -0,0 +1,15 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+public enum TeleportStatus {
+
+    MOVED,
+    SWAPPED,
+    UNCHANGED,
+    STABILIZED,
+    OUT_OF_BOUNDS,
+    UNKNOWN_UNIT;
+
+    public boolean applied() {
+        return this == MOVED || this == SWAPPED;
+    }
+}
@@ -0,0 +1,8 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+public enum UnitKind {
+
+    PLAYER,
+    ENEMY,
+    MECHANISM
+}
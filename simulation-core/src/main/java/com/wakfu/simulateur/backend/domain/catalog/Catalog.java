@@ -0,0 +1,19 @@
+package com.wakfu.simulateur.backend.domain.catalog;
+
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+
+import java.util.List;
+
+/**
+ * Catalogue de référence complet (sorts, passifs, statuts), tel qu'embarqué dans le snapshot.
+ */
+public record Catalog(String version, List<Spell> spells, List<Passive> passives, List<StatusDefinition> statuses) {
+
+    public Catalog {
+        spells = List.copyOf(spells);
+        passives = List.copyOf(passives);
+        statuses = List.copyOf(statuses);
+    }
+}
@@ -0,0 +1,55 @@
+package com.wakfu.simulateur.backend.domain.catalog;
+
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Accès par identifiant à un catalogue chargé, pour résoudre sorts, passifs et statuts sans gateway.
+ */
+public final class CatalogIndex {
+
+    private final Catalog catalog;
+    private final Map<String, Spell> spells;
+    private final Map<String, Passive> passives;
+    private final Map<String, StatusDefinition> statuses;
+
+    public CatalogIndex(Catalog catalog) {
+        this.catalog = catalog;
+        this.spells = catalog.spells().stream().collect(Collectors.toUnmodifiableMap(Spell::id, Function.identity()));
+        this.passives = catalog.passives().stream().collect(Collectors.toUnmodifiableMap(Passive::id, Function.identity()));
+        this.statuses = catalog.statuses().stream()
+                .collect(Collectors.toUnmodifiableMap(StatusDefinition::id, Function.identity()));
+    }
+
+    public Catalog catalog() {
+        return catalog;
+    }
+
+    public Optional<Spell> spell(String id) {
+        return Optional.ofNullable(spells.get(id));
+    }
+
+    public Optional<Passive> passive(String id) {
+        return Optional.ofNullable(passives.get(id));
+    }
+
+    public Optional<StatusDefinition> status(String id) {
+        return Optional.ofNullable(statuses.get(id));
+    }
+
+    /**
+     * Passifs connus parmi {@code ids}, les inconnus étant ignorés comme par les gateways.
+     */
+    public List<Passive> passives(Collection<String> ids) {
+        return ids.stream().map(passives::get).filter(Objects::nonNull).toList();
+    }
+}
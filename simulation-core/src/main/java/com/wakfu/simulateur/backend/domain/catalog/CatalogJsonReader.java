@@ -0,0 +1,245 @@
+package com.wakfu.simulateur.backend.domain.catalog;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveEffect;
+import com.wakfu.simulateur.backend.domain.spell.*;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+import com.wakfu.simulateur.backend.domain.status.StatusEffect;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lecture en flux d'un fichier de données de jeu JSON : un élément (sort, passif, statut, classe)
+ * est matérialisé à la fois et transmis au {@link Sink}, quelle que soit la taille du fichier.
+ * <p>
+ * Formats acceptés :
+ * <ul>
+ *   <li>document {@code {"classes": [...], "statuses": [...], "spells": [...], "passives": [...]}},
+ *   chaque section étant optionnelle ;</li>
+ *   <li>tableau nu de sorts, de passifs ou de statuts (ex. {@code assets/data/Spells.json}),
+ *   reconnus à leurs champs.</li>
+ * </ul>
+ * Les noms de champs des DTO de l'API ({@code effect}, {@code ordinal}, {@code extendedData},
+ * {@code condGroup}…) et ceux du domaine ({@code effectType}, {@code orderIndex}, {@code params}…)
+ * sont tous deux reconnus ; les valeurs par défaut sont celles du schéma SQL. Les identifiants
+ * techniques numériques du fichier sont conservés s'ils sont présents (réimporter un export redonne
+ * la même version de catalogue), attribués à l'écriture sinon.
+ */
+public final class CatalogJsonReader {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Destination des éléments lus, dans l'ordre du fichier.
+     */
+    public interface Sink {
+        void classRef(String id, String name);
+
+        void status(StatusDefinition status);
+
+        void spell(Spell spell);
+
+        void passive(Passive passive);
+    }
+
+    private CatalogJsonReader() {
+    }
+
+    public static void read(InputStream input, Sink sink) throws IOException {
+        try (JsonParser parser = MAPPER.getFactory().createParser(input)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                readArray(parser, null, sink);
+            } else if (token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String section = parser.currentName();
+                    if (parser.nextToken() == JsonToken.START_ARRAY && isSection(section)) {
+                        readArray(parser, section, sink);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                throw new IllegalArgumentException("Données de jeu JSON attendues (objet ou tableau)");
+            }
+        }
+    }
+
+    private static boolean isSection(String name) {
+        return "classes".equals(name) || "statuses".equals(name) || "spells".equals(name) || "passives".equals(name);
+    }
+
+    private static void readArray(JsonParser parser, String section, Sink sink) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            JsonNode node = parser.readValueAsTree();
+            switch (section != null ? section : sectionOf(node)) {
+                case "classes" -> sink.classRef(required(node, "classe", "id"), text(node, "name"));
+                case "statuses" -> sink.status(toStatus(node));
+                case "spells" -> sink.spell(toSpell(node));
+                default -> sink.passive(toPassive(node));
+            }
+        }
+    }
+
+    private static String sectionOf(JsonNode node) {
+        if (node.has("variants") || node.has("paCost")) return "spells";
+        if (node.has("durationType") || node.has("maxStacks")) return "statuses";
+        return "passives";
+    }
+
+    private static Spell toSpell(JsonNode node) {
+        String id = required(node, "sort", "id");
+        String where = "sort " + id;
+        List<SpellVariant> variants = new ArrayList<>();
+        for (JsonNode variant : node.path("variants")) {
+            List<SpellEffect> effects = new ArrayList<>();
+            for (JsonNode effect : variant.path("effects")) {
+                effects.add(new SpellEffect(technicalId(effect),
+                        required(effect, where, "phase"),
+                        integer(effect, 0, "ordinal", "orderIndex"),
+                        required(effect, where, "effect", "effectType"),
+                        required(effect, where, "targetScope"),
+                        params(effect),
+                        conditionGroup(effect)));
+            }
+            variants.add(new SpellVariant(technicalId(variant), VariantKind.valueOf(required(variant, where, "kind")), effects));
+        }
+        List<SpellRatioBreakpoint> breakpoints = new ArrayList<>();
+        for (JsonNode breakpoint : node.path("breakpoints")) {
+            breakpoints.add(new SpellRatioBreakpoint(required(breakpoint, where, "kind"),
+                    integer(breakpoint, 0, "lvl", "level"), integer(breakpoint, 0, "ratio")));
+        }
+        return new Spell(id,
+                required(node, where, "classId", "characterClassId"),
+                required(node, where, "name"),
+                text(node, "element"),
+                required(node, where, "spellType"),
+                requiredInt(node, where, "paCost"),
+                integer(node, 0, "pwCost"),
+                integer(node, 1, "poMin"),
+                requiredInt(node, where, "poMax"),
+                bool(node, true, "poModifiable"),
+                bool(node, true, "lineOfSight"),
+                integer(node, 0, "cooldown"),
+                integer(node, 99, "usePerTurn"),
+                integer(node, 99, "usePerTarget"),
+                required(node, where, "direction"),
+                Optional.ofNullable(text(node, "ratioEvalMode")).orElse("STEP"),
+                nullableInt(node, "iconId"),
+                bool(node, false, "isAoe", "aoe"),
+                variants,
+                breakpoints);
+    }
+
+    private static Passive toPassive(JsonNode node) {
+        String id = required(node, "passif", "id");
+        String where = "passif " + id;
+        List<PassiveEffect> effects = new ArrayList<>();
+        for (JsonNode effect : node.path("effects")) {
+            effects.add(new PassiveEffect(technicalId(effect),
+                    required(effect, where, "trigger"),
+                    integer(effect, 0, "ordinal", "orderIndex"),
+                    required(effect, where, "effectType", "effect", "stat"),
+                    required(effect, where, "targetScope"),
+                    params(effect),
+                    conditionGroup(effect)));
+        }
+        return new Passive(id,
+                required(node, where, "classId", "characterClassId"),
+                required(node, where, "name"),
+                text(node, "description"),
+                nullableInt(node, "iconId"),
+                effects);
+    }
+
+    private static StatusDefinition toStatus(JsonNode node) {
+        String id = required(node, "statut", "id");
+        String where = "statut " + id;
+        List<StatusEffect> effects = new ArrayList<>();
+        for (JsonNode effect : node.path("effects")) {
+            effects.add(new StatusEffect(technicalId(effect),
+                    required(effect, where, "tickPhase"),
+                    required(effect, where, "effectType", "effect"),
+                    params(effect)));
+        }
+        return new StatusDefinition(id,
+                text(node, "name"),
+                integer(node, 1, "maxStacks"),
+                required(node, where, "durationType"),
+                nullableInt(node, "baseDuration"),
+                effects);
+    }
+
+    private static Optional<EffectConditionGroup> conditionGroup(JsonNode effect) {
+        JsonNode group = first(effect, "condGroup", "conditionGroup");
+        if (group == null || !group.isObject()) return Optional.empty();
+        List<EffectCondition> conditions = new ArrayList<>();
+        for (JsonNode condition : group.path("conditions")) {
+            conditions.add(new EffectCondition(technicalId(condition), required(condition, "condition", "code"),
+                    first(condition, "data", "params")));
+        }
+        return Optional.of(new EffectConditionGroup(technicalId(group),
+                Optional.ofNullable(text(group, "operator")).orElse("AND"), conditions));
+    }
+
+    private static Long technicalId(JsonNode node) {
+        JsonNode id = node.get("id");
+        return id != null && id.canConvertToLong() ? id.asLong() : null;
+    }
+
+    private static JsonNode params(JsonNode effect) {
+        return first(effect, "extendedData", "params");
+    }
+
+    private static JsonNode first(JsonNode node, String... names) {
+        for (String name : names) {
+            JsonNode value = node.get(name);
+            if (value != null && !value.isNull()) return value;
+        }
+        return null;
+    }
+
+    private static String text(JsonNode node, String... names) {
+        JsonNode value = first(node, names);
+        return value != null ? value.asText() : null;
+    }
+
+    private static String required(JsonNode node, String where, String... names) {
+        String value = text(node, names);
+        if (value == null) {
+            throw new IllegalArgumentException("Champ obligatoire manquant (" + where + "): " + names[0]);
+        }
+        return value;
+    }
+
+    private static int requiredInt(JsonNode node, String where, String name) {
+        JsonNode value = first(node, name);
+        if (value == null || !value.canConvertToInt()) {
+            throw new IllegalArgumentException("Champ entier obligatoire manquant (" + where + "): " + name);
+        }
+        return value.asInt();
+    }
+
+    private static int integer(JsonNode node, int defaultValue, String... names) {
+        JsonNode value = first(node, names);
+        return value != null && value.canConvertToInt() ? value.asInt() : defaultValue;
+    }
+
+    private static Integer nullableInt(JsonNode node, String name) {
+        JsonNode value = first(node, name);
+        return value != null && value.canConvertToInt() ? value.asInt() : null;
+    }
+
+    private static boolean bool(JsonNode node, boolean defaultValue, String... names) {
+        JsonNode value = first(node, names);
+        return value != null ? value.asBoolean() : defaultValue;
+    }
+}
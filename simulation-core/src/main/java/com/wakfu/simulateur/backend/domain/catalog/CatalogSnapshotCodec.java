@@ -0,0 +1,405 @@
+package com.wakfu.simulateur.backend.domain.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveEffect;
+import com.wakfu.simulateur.backend.domain.spell.*;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+import com.wakfu.simulateur.backend.domain.status.StatusEffect;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Format binaire du snapshot de catalogue :
+ * <pre>
+ * magic "WKCS" | format (1 octet) | version (chaîne)
+ * table des chaînes (varint n, puis n chaînes UTF-8 préfixées par leur longueur)
+ * sorts | passifs | statuts
+ * </pre>
+ * Les entiers sont des varints (zigzag pour les valeurs signées) ; chaque chaîne, y compris les
+ * paramètres JSON, est dédupliquée dans la table et référencée par son index + 1 (0 = null).
+ * Au décodage, les paramètres sont internés dans le {@link ParamsStore} commun : deux snapshots
+ * (partitions de classes) partagent leurs documents identiques.
+ */
+public final class CatalogSnapshotCodec {
+
+    public static final int MAGIC = 0x574B4353;
+    public static final byte FORMAT_VERSION = 1;
+
+    private CatalogSnapshotCodec() {
+    }
+
+    // ---------------------------------------------------------------- écriture
+
+    public static byte[] encode(List<Spell> spells, List<Passive> passives, List<StatusDefinition> statuses) {
+        Encoder body = new Encoder();
+        body.writeVarInt(spells.size());
+        spells.forEach(body::writeSpell);
+        body.writeVarInt(passives.size());
+        passives.forEach(body::writePassive);
+        body.writeVarInt(statuses.size());
+        statuses.forEach(body::writeStatus);
+
+        Encoder table = new Encoder();
+        table.writeVarInt(body.strings.size());
+        for (String value : body.strings.keySet()) {
+            table.writeRawString(value);
+        }
+
+        byte[] tableBytes = table.out.toByteArray();
+        byte[] bodyBytes = body.out.toByteArray();
+        String version = version(tableBytes, bodyBytes);
+
+        Encoder header = new Encoder();
+        header.writeInt(MAGIC);
+        header.out.write(FORMAT_VERSION);
+        header.writeRawString(version);
+        header.out.writeBytes(tableBytes);
+        header.out.writeBytes(bodyBytes);
+        return header.out.toByteArray();
+    }
+
+    private static String version(byte[] table, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(table);
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Encoder {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+        void writeInt(int value) {
+            out.write(value >>> 24);
+            out.write(value >>> 16);
+            out.write(value >>> 8);
+            out.write(value);
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        void writeSignedVarInt(int value) {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        void writeNullableInt(Integer value) {
+            out.write(value != null ? 1 : 0);
+            if (value != null) writeSignedVarInt(value);
+        }
+
+        void writeNullableLong(Long value) {
+            writeVarLong(value != null ? value + 1 : 0);
+        }
+
+        void writeRawString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            out.writeBytes(bytes);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(strings.computeIfAbsent(value, k -> strings.size()) + 1);
+        }
+
+        void writeJson(JsonNode node) {
+            writeString(node != null ? node.toString() : null);
+        }
+
+        void writeBoolean(boolean value) {
+            out.write(value ? 1 : 0);
+        }
+
+        void writeSpell(Spell spell) {
+            writeString(spell.id());
+            writeString(spell.characterClassId());
+            writeString(spell.name());
+            writeString(spell.element());
+            writeString(spell.spellType());
+            writeSignedVarInt(spell.paCost());
+            writeSignedVarInt(spell.pwCost());
+            writeSignedVarInt(spell.poMin());
+            writeSignedVarInt(spell.poMax());
+            writeBoolean(spell.poModifiable());
+            writeBoolean(spell.lineOfSight());
+            writeSignedVarInt(spell.cooldown());
+            writeSignedVarInt(spell.usePerTurn());
+            writeSignedVarInt(spell.usePerTarget());
+            writeString(spell.direction());
+            writeString(spell.ratioEvalMode());
+            writeNullableInt(spell.iconId());
+            writeBoolean(spell.aoe());
+
+            writeVarInt(spell.variants().size());
+            for (SpellVariant variant : spell.variants()) {
+                writeNullableLong(variant.id());
+                out.write(variant.kind().ordinal());
+                writeVarInt(variant.effects().size());
+                for (SpellEffect effect : variant.effects()) {
+                    writeNullableLong(effect.id());
+                    writeString(effect.phase());
+                    writeSignedVarInt(effect.orderIndex());
+                    writeString(effect.effectType());
+                    writeString(effect.targetScope());
+                    writeJson(effect.params());
+                    writeConditionGroup(effect.conditionGroup().orElse(null));
+                }
+            }
+
+            writeVarInt(spell.breakpoints().size());
+            for (SpellRatioBreakpoint breakpoint : spell.breakpoints()) {
+                writeString(breakpoint.kind());
+                writeSignedVarInt(breakpoint.level());
+                writeSignedVarInt(breakpoint.ratio());
+            }
+        }
+
+        void writePassive(Passive passive) {
+            writeString(passive.id());
+            writeString(passive.characterClassId());
+            writeString(passive.name());
+            writeString(passive.description());
+            writeNullableInt(passive.iconId());
+            writeVarInt(passive.effects().size());
+            for (PassiveEffect effect : passive.effects()) {
+                writeNullableLong(effect.id());
+                writeString(effect.trigger());
+                writeSignedVarInt(effect.orderIndex());
+                writeString(effect.effectType());
+                writeString(effect.targetScope());
+                writeJson(effect.params());
+                writeConditionGroup(effect.conditionGroup().orElse(null));
+            }
+        }
+
+        void writeStatus(StatusDefinition status) {
+            writeString(status.id());
+            writeString(status.name());
+            writeSignedVarInt(status.maxStacks());
+            writeString(status.durationType());
+            writeNullableInt(status.baseDuration());
+            writeVarInt(status.effects().size());
+            for (StatusEffect effect : status.effects()) {
+                writeNullableLong(effect.id());
+                writeString(effect.tickPhase());
+                writeString(effect.effectType());
+                writeJson(effect.params());
+            }
+        }
+
+        void writeConditionGroup(EffectConditionGroup group) {
+            writeBoolean(group != null);
+            if (group == null) return;
+            writeNullableLong(group.id());
+            writeString(group.operator());
+            writeVarInt(group.conditions().size());
+            for (EffectCondition condition : group.conditions()) {
+                writeNullableLong(condition.id());
+                writeString(condition.code());
+                writeJson(condition.params());
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- lecture
+
+    /**
+     * Un snapshot tronqué ou corrompu est refusé comme un magic ou un format inconnus.
+     */
+    public static Catalog decode(ByteBuffer buffer) {
+        try {
+            return new Decoder(buffer).readCatalog();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalStateException("Snapshot de catalogue tronqué ou corrompu", e);
+        }
+    }
+
+    private static final class Decoder {
+        private final ByteBuffer in;
+        private String[] strings;
+        private JsonNode[] json;
+
+        Decoder(ByteBuffer in) {
+            this.in = in;
+        }
+
+        Catalog readCatalog() {
+            if (in.getInt() != MAGIC) {
+                throw new IllegalStateException("Snapshot de catalogue invalide (magic)");
+            }
+            byte format = in.get();
+            if (format != FORMAT_VERSION) {
+                throw new IllegalStateException("Format de snapshot non supporté: " + format);
+            }
+            String version = readRawString();
+
+            strings = new String[readVarInt()];
+            json = new JsonNode[strings.length];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readRawString();
+            }
+
+            List<Spell> spells = readList(this::readSpell);
+            List<Passive> passives = readList(this::readPassive);
+            List<StatusDefinition> statuses = readList(this::readStatus);
+            return new Catalog(version, spells, passives, statuses);
+        }
+
+        <T> List<T> readList(java.util.function.Supplier<T> reader) {
+            int size = readVarInt();
+            List<T> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(reader.get());
+            }
+            return items;
+        }
+
+        Spell readSpell() {
+            String id = readString();
+            String classId = readString();
+            String name = readString();
+            String element = readString();
+            String spellType = readString();
+            int paCost = readSignedVarInt();
+            int pwCost = readSignedVarInt();
+            int poMin = readSignedVarInt();
+            int poMax = readSignedVarInt();
+            boolean poModifiable = readBoolean();
+            boolean lineOfSight = readBoolean();
+            int cooldown = readSignedVarInt();
+            int usePerTurn = readSignedVarInt();
+            int usePerTarget = readSignedVarInt();
+            String direction = readString();
+            String ratioEvalMode = readString();
+            Integer iconId = readNullableInt();
+            boolean aoe = readBoolean();
+            List<SpellVariant> variants = readList(this::readVariant);
+            List<SpellRatioBreakpoint> breakpoints = readList(() ->
+                    new SpellRatioBreakpoint(readString(), readSignedVarInt(), readSignedVarInt()));
+            return new Spell(id, classId, name, element, spellType, paCost, pwCost, poMin, poMax, poModifiable,
+                    lineOfSight, cooldown, usePerTurn, usePerTarget, direction, ratioEvalMode, iconId, aoe,
+                    variants, breakpoints);
+        }
+
+        SpellVariant readVariant() {
+            Long id = readNullableLong();
+            VariantKind kind = VariantKind.values()[in.get()];
+            List<SpellEffect> effects = readList(() -> new SpellEffect(
+                    readNullableLong(), readString(), readSignedVarInt(), readString(), readString(),
+                    readJson(), Optional.ofNullable(readConditionGroup())));
+            return new SpellVariant(id, kind, effects);
+        }
+
+        Passive readPassive() {
+            String id = readString();
+            String classId = readString();
+            String name = readString();
+            String description = readString();
+            Integer iconId = readNullableInt();
+            List<PassiveEffect> effects = readList(() -> new PassiveEffect(
+                    readNullableLong(), readString(), readSignedVarInt(), readString(), readString(),
+                    readJson(), Optional.ofNullable(readConditionGroup())));
+            return new Passive(id, classId, name, description, iconId, effects);
+        }
+
+        StatusDefinition readStatus() {
+            String id = readString();
+            String name = readString();
+            int maxStacks = readSignedVarInt();
+            String durationType = readString();
+            Integer baseDuration = readNullableInt();
+            List<StatusEffect> effects = readList(() ->
+                    new StatusEffect(readNullableLong(), readString(), readString(), readJson()));
+            return new StatusDefinition(id, name, maxStacks, durationType, baseDuration, effects);
+        }
+
+        EffectConditionGroup readConditionGroup() {
+            if (!readBoolean()) return null;
+            Long id = readNullableLong();
+            String operator = readString();
+            List<EffectCondition> conditions = readList(() ->
+                    new EffectCondition(readNullableLong(), readString(), readJson()));
+            return new EffectConditionGroup(id, operator, conditions);
+        }
+
+        int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = in.get();
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        int readSignedVarInt() {
+            int raw = readVarInt();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        Integer readNullableInt() {
+            return readBoolean() ? readSignedVarInt() : null;
+        }
+
+        Long readNullableLong() {
+            long raw = readVarLong();
+            return raw == 0 ? null : raw - 1;
+        }
+
+        boolean readBoolean() {
+            return in.get() != 0;
+        }
+
+        String readRawString() {
+            byte[] bytes = new byte[readVarInt()];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        String readString() {
+            int ref = readVarInt();
+            return ref == 0 ? null : strings[ref - 1];
+        }
+
+        JsonNode readJson() {
+            int ref = readVarInt();
+            if (ref == 0) return null;
+            JsonNode node = json[ref - 1];
+            if (node == null) {
+                node = ParamsStore.shared().intern(strings[ref - 1]);
+                json[ref - 1] = node;
+            }
+            return node;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.wakfu.simulateur.backend.domain.catalog;
+
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chargement d'un catalogue hors de toute application : snapshot binaire ({@link CatalogSnapshotCodec},
+ * fichier mappé en mémoire) ou données de jeu JSON ({@link CatalogJsonReader}), reconnus à leur
+ * premier octet. Un catalogue JSON reçoit la version qu'aurait son snapshot binaire.
+ */
+public final class CatalogSnapshots {
+
+    private CatalogSnapshots() {
+    }
+
+    public static Catalog load(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Catalogue illisible: " + path, e);
+        }
+    }
+
+    public static Catalog read(ByteBuffer buffer) {
+        if (buffer.remaining() >= 4 && buffer.getInt(buffer.position()) == CatalogSnapshotCodec.MAGIC) {
+            return CatalogSnapshotCodec.decode(buffer);
+        }
+        byte[] json = new byte[buffer.remaining()];
+        buffer.duplicate().get(json);
+        return readJson(json);
+    }
+
+    private static Catalog readJson(byte[] json) {
+        List<Spell> spells = new ArrayList<>();
+        List<Passive> passives = new ArrayList<>();
+        List<StatusDefinition> statuses = new ArrayList<>();
+        try {
+            CatalogJsonReader.read(new ByteArrayInputStream(json), new CatalogJsonReader.Sink() {
+                @Override
+                public void classRef(String id, String name) {
+                }
+
+                @Override
+                public void status(StatusDefinition status) {
+                    statuses.add(status);
+                }
+
+                @Override
+                public void spell(Spell spell) {
+                    spells.add(spell);
+                }
+
+                @Override
+                public void passive(Passive passive) {
+                    passives.add(passive);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Données de jeu JSON invalides", e);
+        }
+        return CatalogSnapshotCodec.decode(ByteBuffer.wrap(CatalogSnapshotCodec.encode(spells, passives, statuses)));
+    }
+}
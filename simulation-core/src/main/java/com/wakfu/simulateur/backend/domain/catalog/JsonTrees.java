@@ -0,0 +1,139 @@
+package com.wakfu.simulateur.backend.domain.catalog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lecture d'un arbre JSON avec le seul parseur de jackson-core : évite l'initialisation d'un
+ * {@code ObjectMapper}, qui représente l'essentiel du temps de démarrage d'un chargement à froid.
+ * La forme canonique (clés triées, sans espaces) identifie deux documents équivalents.
+ */
+final class JsonTrees {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private JsonTrees() {
+    }
+
+    static JsonNode parse(String json) {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            return read(parser, parser.nextToken());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Paramètres JSON invalides: " + json, e);
+        }
+    }
+
+    static String canonical(JsonNode node) {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = FACTORY.createGenerator(out)) {
+            write(generator, node);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Copie figée d'un arbre : objets et tableaux reposent sur des collections non modifiables, toute
+     * modification lève {@link UnsupportedOperationException}. Les feuilles sont déjà immuables.
+     */
+    static JsonNode freeze(JsonNode node) {
+        if (node.isObject()) {
+            Map<String, JsonNode> children = new LinkedHashMap<>(node.size() * 4 / 3 + 1);
+            node.properties().forEach(field -> children.put(field.getKey(), freeze(field.getValue())));
+            return new ObjectNode(NODES, Collections.unmodifiableMap(children));
+        }
+        if (node.isArray()) {
+            List<JsonNode> children = new ArrayList<>(node.size());
+            for (JsonNode element : node) children.add(freeze(element));
+            return new ArrayNode(NODES, Collections.unmodifiableList(children));
+        }
+        return node;
+    }
+
+    private static void write(JsonGenerator generator, JsonNode node) throws IOException {
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>(node.size());
+            node.fieldNames().forEachRemaining(names::add);
+            Collections.sort(names);
+            generator.writeStartObject();
+            for (String name : names) {
+                generator.writeFieldName(name);
+                write(generator, node.get(name));
+            }
+            generator.writeEndObject();
+        } else if (node.isArray()) {
+            generator.writeStartArray();
+            for (JsonNode element : node) write(generator, element);
+            generator.writeEndArray();
+        } else if (node.isNumber()) {
+            generator.writeNumber(node.asText());
+        } else if (node.isBoolean()) {
+            generator.writeBoolean(node.booleanValue());
+        } else if (node.isNull() || node.isMissingNode()) {
+            generator.writeNull();
+        } else {
+            generator.writeString(node.asText());
+        }
+    }
+
+    private static JsonNode read(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT -> {
+                ObjectNode object = NODES.objectNode();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    object.set(name, read(parser, parser.nextToken()));
+                }
+                return object;
+            }
+            case START_ARRAY -> {
+                ArrayNode array = NODES.arrayNode();
+                JsonToken next;
+                while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    array.add(read(parser, next));
+                }
+                return array;
+            }
+            case VALUE_STRING -> {
+                return NODES.textNode(parser.getText());
+            }
+            case VALUE_NUMBER_INT -> {
+                return switch (parser.getNumberType()) {
+                    case INT -> NODES.numberNode(parser.getIntValue());
+                    case LONG -> NODES.numberNode(parser.getLongValue());
+                    default -> NODES.numberNode(parser.getBigIntegerValue());
+                };
+            }
+            case VALUE_NUMBER_FLOAT -> {
+                return NODES.numberNode(parser.getDoubleValue());
+            }
+            case VALUE_TRUE -> {
+                return NODES.booleanNode(true);
+            }
+            case VALUE_FALSE -> {
+                return NODES.booleanNode(false);
+            }
+            case VALUE_NULL -> {
+                return NODES.nullNode();
+            }
+            default -> throw new IOException("Jeton JSON inattendu: " + token);
+        }
+    }
+}
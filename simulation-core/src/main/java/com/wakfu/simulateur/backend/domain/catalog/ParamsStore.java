@@ -0,0 +1,186 @@
+package com.wakfu.simulateur.backend.domain.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Paramètres JSON des effets et conditions, internés : chaque document distinct (à l'ordre des clés
+ * près) n'est analysé et retenu qu'une fois, et tous les effets qui le référencent partagent le même
+ * arbre. Un texte déjà vu est retrouvé sans analyse ; sinon l'arbre est indexé par sa forme canonique.
+ * <p>
+ * Les arbres rendus sont partagés, donc figés ({@link JsonTrees#freeze}) : une modification lève
+ * {@link UnsupportedOperationException} au lieu d'altérer tous les effets qui les partagent. Un arbre
+ * passé à {@link #intern(JsonNode)} n'est jamais retenu tel quel. Les arbres ne sont référencés que
+ * faiblement, un document n'étant plus utilisé par aucun catalogue chargé (partition déchargée, import
+ * remplacé) est donc libéré avec son entrée.
+ */
+public final class ParamsStore {
+
+    private static final ParamsStore SHARED = new ParamsStore();
+
+    private static final int HEADER = 12;
+    private static final int REFERENCE = 4;
+
+    /**
+     * {@code savedBytes} cumule la taille estimée des arbres qu'il aurait fallu allouer sans partage ;
+     * {@code retainedBytes} est celle des documents distincts encore retenus.
+     */
+    public record Stats(long documents, long aliases, long lookups, long hits, long retainedBytes, long savedBytes) {
+
+        public double hitRate() {
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    private static final class Entry extends WeakReference<JsonNode> {
+
+        private final String key;
+        private final boolean canonical;
+        private final long bytes;
+        /** Entrée effectivement insérée (une entrée perdante d'une course n'est pas comptée). */
+        private volatile boolean counted;
+
+        private Entry(JsonNode node, String key, boolean canonical, long bytes, ReferenceQueue<JsonNode> queue) {
+            super(node, queue);
+            this.key = key;
+            this.canonical = canonical;
+            this.bytes = bytes;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<JsonNode> cleared = new ReferenceQueue<>();
+    private final AtomicLong documents = new AtomicLong();
+    private final AtomicLong aliases = new AtomicLong();
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder savedBytes = new LongAdder();
+
+    /**
+     * Magasin commun au processus : les catalogues chargés séparément (partitions, lectures JDBC,
+     * entités) partagent ainsi leurs documents.
+     */
+    public static ParamsStore shared() {
+        return SHARED;
+    }
+
+    public JsonNode intern(String json) {
+        if (json == null) return null;
+        expunge();
+        lookups.increment();
+        JsonNode known = lookup(json);
+        if (known != null) return known;
+        return share(json, JsonTrees.parse(json));
+    }
+
+    public JsonNode intern(JsonNode node) {
+        if (node == null) return null;
+        expunge();
+        lookups.increment();
+        return share(null, node);
+    }
+
+    public Stats stats() {
+        expunge();
+        return new Stats(documents.get(), aliases.get(), lookups.sum(), hits.sum(), retainedBytes.get(),
+                savedBytes.sum());
+    }
+
+    private JsonNode lookup(String key) {
+        Entry entry = entries.get(key);
+        JsonNode node = entry != null ? entry.get() : null;
+        if (node != null) {
+            hits.increment();
+            savedBytes.add(entry.bytes);
+        }
+        return node;
+    }
+
+    private JsonNode share(String text, JsonNode node) {
+        String canonical = JsonTrees.canonical(node);
+        JsonNode shared = lookup(canonical);
+        long bytes;
+        if (shared == null) {
+            node = JsonTrees.freeze(node);
+            bytes = estimate(node);
+            Entry created = new Entry(node, canonical, true, bytes, cleared);
+            Entry entry = entries.merge(canonical, created, (old, fresh) -> old.get() != null ? old : fresh);
+            shared = entry.get();
+            if (entry == created) {
+                created.counted = true;
+                documents.incrementAndGet();
+                retainedBytes.addAndGet(bytes);
+            }
+            if (shared == null) shared = node;
+        } else {
+            bytes = estimate(shared);
+        }
+        if (text != null && !text.equals(canonical)) {
+            Entry alias = new Entry(shared, text, false, bytes, cleared);
+            if (entries.merge(text, alias, (old, fresh) -> old.get() != null ? old : fresh) == alias) {
+                alias.counted = true;
+                aliases.incrementAndGet();
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Retire les entrées dont l'arbre a été libéré ; une entrée déjà remplacée par une nouvelle est laissée.
+     */
+    private void expunge() {
+        Object reference;
+        while ((reference = cleared.poll()) != null) {
+            Entry entry = (Entry) reference;
+            entries.remove(entry.key, entry);
+            if (!entry.counted) continue;
+            if (entry.canonical) {
+                documents.decrementAndGet();
+                retainedBytes.addAndGet(-entry.bytes);
+            } else {
+                aliases.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Taille estimée d'un arbre (JVM 64 bits, références compressées), noms de champs exclus :
+     * Jackson les interne déjà.
+     */
+    static long estimate(JsonNode node) {
+        if (node.isObject()) {
+            // ObjectNode + LinkedHashMap (table + entrées)
+            long bytes = align(HEADER + REFERENCE) + 56 + align(16 + (long) REFERENCE * table(node.size()))
+                    + 40L * node.size();
+            for (JsonNode child : node) bytes += estimate(child);
+            return bytes;
+        }
+        if (node.isArray()) {
+            // ArrayNode + ArrayList + tableau
+            long bytes = align(HEADER + REFERENCE) + 24 + align(16 + (long) REFERENCE * Math.max(10, node.size()));
+            for (JsonNode child : node) bytes += estimate(child);
+            return bytes;
+        }
+        if (node.isTextual()) {
+            return align(HEADER + REFERENCE) + 24 + align(16 + node.textValue().length());
+        }
+        if (node.isBoolean() || node.isNull()) return 0;
+        return align(HEADER + 8);
+    }
+
+    private static int table(int size) {
+        int capacity = 16;
+        while (capacity * 3 / 4 < size) capacity <<= 1;
+        return capacity;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,29 @@
+package com.wakfu.simulateur.backend.domain.fight;
+
+import com.wakfu.simulateur.backend.domain.board.Board;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Combat à simuler : plateau initial (mécanismes, obstacles), combattants et nombre de tours de table.
+ */
+public record FightRequest(Board board, List<Fighter> fighters, int rounds) {
+
+    public FightRequest {
+        fighters = List.copyOf(fighters);
+        if (fighters.isEmpty()) {
+            throw new IllegalArgumentException("Aucun combattant");
+        }
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("Nombre de tours invalide: " + rounds);
+        }
+        Set<String> ids = new HashSet<>();
+        for (Fighter fighter : fighters) {
+            if (!ids.add(fighter.id())) {
+                throw new IllegalArgumentException("Combattant en double: " + fighter.id());
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.wakfu.simulateur.backend.domain.fight;
+
+import com.wakfu.simulateur.backend.domain.board.UnitKind;
+
+import java.util.List;
+
+/**
+ * Bilan d'un combat : tours joués et dégâts infligés par combattant, effets différés compris.
+ */
+public record FightResult(int rounds, int turns, long totalDamage, List<FighterResult> fighters) {
+
+    public FightResult {
+        fighters = List.copyOf(fighters);
+    }
+
+    public record FighterResult(String id, UnitKind team, long damage, long delayedDamage, int actions,
+                                int failedActions) {
+    }
+}
@@ -0,0 +1,405 @@
+package com.wakfu.simulateur.backend.domain.fight;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wakfu.simulateur.backend.domain.board.AreaTemplate;
+import com.wakfu.simulateur.backend.domain.board.Board;
+import com.wakfu.simulateur.backend.domain.board.BoardUnit;
+import com.wakfu.simulateur.backend.domain.passive.PassiveRule;
+import com.wakfu.simulateur.backend.domain.simulation.ActionResult;
+import com.wakfu.simulateur.backend.domain.simulation.DamageCalculator;
+import com.wakfu.simulateur.backend.domain.simulation.EndTurnAction;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationCancelledException;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationContext;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationEngine;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationMonitor;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationRecorder;
+import com.wakfu.simulateur.backend.domain.simulation.SpellCastAction;
+import com.wakfu.simulateur.backend.domain.simulation.TimelineAction;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellEffect;
+import com.wakfu.simulateur.backend.domain.spell.SpellVariant;
+import com.wakfu.simulateur.backend.domain.spell.VariantKind;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+import com.wakfu.simulateur.backend.domain.status.StatusEffect;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Combat à plusieurs combattants sur un plateau partagé. L'ordre de jeu est tiré d'une file de
+ * priorité (tour de table, puis initiative décroissante, puis ordre de déclaration) ; chaque
+ * combattant joue ses actions scriptées sur son propre {@link SimulationContext} via le
+ * {@link SimulationEngine}.
+ * <p>
+ * Les effets différés sont programmés dans une {@link TimingWheel} indexée par (tour, point du tour,
+ * combattant) :
+ * <ul>
+ *   <li>ON_END_TURN : fin du tour du lanceur ;</li>
+ *   <li>ON_TARGET_TURN_START / ON_TARGET_TURN_END : début ou fin des tours du combattant ciblé,
+ *   pendant {@code duration} tours (1 par défaut) ; de même pour les ticks des statuts posés sur la
+ *   cible (marques Sablier et Horloge) ;</li>
+ *   <li>expiration des statuts FIXED à la fin du dernier tour de la cible ; réappliquer un statut
+ *   annule sa précédente application.</li>
+ * </ul>
+ * Avec le passif Maître du Cadran, un tour complet du cadran du lanceur résout immédiatement tous
+ * ses effets différés. Sont résolus DEAL_DAMAGE (zone {@code area} autour de la cible le cas
+ * échéant, dégâts crédités au lanceur) et ADD_AP / ADD_MP / ADD_PW.
+ */
+public final class FightSimulator {
+
+    private static final String TARGET_TURN_START = "ON_TARGET_TURN_START";
+    private static final String TARGET_TURN_END = "ON_TARGET_TURN_END";
+
+    /** Points d'un tour de combattant dans la roue, dans l'ordre de déclenchement. */
+    private static final int TURN_START = 0;
+    private static final int TURN_END = 1;
+    private static final int EXPIRY = 2;
+    private static final int POINTS = 3;
+
+    private final SimulationEngine engine = new SimulationEngine();
+    private final DamageCalculator damageCalculator = new DamageCalculator();
+    private final Function<String, Optional<StatusDefinition>> statuses;
+
+    public FightSimulator(Function<String, Optional<StatusDefinition>> statuses) {
+        this.statuses = statuses;
+    }
+
+    public FightResult simulate(FightRequest request, RandomGenerator random) {
+        return simulate(request, random, SimulationMonitor.NONE);
+    }
+
+    /**
+     * Le moniteur est consulté avant chaque tour de combattant ; une annulation lève une
+     * {@link SimulationCancelledException}.
+     */
+    public FightResult simulate(FightRequest request, RandomGenerator random, SimulationMonitor monitor) {
+        return new Fight(request, random).run(monitor);
+    }
+
+    /**
+     * Effet différé sur un combattant, rejoué pendant {@code remaining} tours.
+     */
+    private static final class Pending {
+        final State source;
+        final State target;
+        final int point;
+        final String effectType;
+        final JsonNode params;
+        final String element;
+        final int amount;
+        int remaining;
+        long entryId;
+
+        Pending(State source, State target, int point, String effectType, JsonNode params, String element,
+                int amount, int remaining) {
+            this.source = source;
+            this.target = target;
+            this.point = point;
+            this.effectType = effectType;
+            this.params = params;
+            this.element = element;
+            this.amount = amount;
+            this.remaining = remaining;
+        }
+    }
+
+    /**
+     * Statut posé sur un combattant : ses ticks programmés et son expiration.
+     */
+    private static final class Application {
+        final String statusId;
+        final State target;
+        final List<Pending> ticks = new ArrayList<>();
+        long expiryId = -1;
+
+        Application(String statusId, State target) {
+            this.statusId = statusId;
+            this.target = target;
+        }
+    }
+
+    /**
+     * Tour réservé dans la file : tour de table, initiative, rang de déclaration.
+     */
+    private record Slot(int round, int initiative, int index) {
+    }
+
+    private static final Comparator<Slot> TURN_ORDER = Comparator.comparingInt(Slot::round)
+            .thenComparing(Comparator.comparingInt(Slot::initiative).reversed())
+            .thenComparingInt(Slot::index);
+
+    private static final class State {
+        final int index;
+        final Fighter fighter;
+        final SimulationContext context;
+        final Map<String, Application> statuses = new HashMap<>();
+        long damage;
+        long delayedDamage;
+        int actions;
+        int failedActions;
+        int turns;
+
+        State(int index, Fighter fighter, SimulationContext context) {
+            this.index = index;
+            this.fighter = fighter;
+            this.context = context;
+        }
+    }
+
+    /**
+     * Détecte les tours complets du cadran pendant une action.
+     */
+    private static final class DialWatcher implements SimulationRecorder {
+        int hour;
+        boolean wrapped;
+
+        void reset(int hour) {
+            this.hour = hour;
+            this.wrapped = false;
+        }
+
+        @Override
+        public void dialAdvanced(int hours) {
+            if (hour + hours >= SimulationContext.DIAL_HOURS) wrapped = true;
+            hour = Math.floorMod(hour + hours, SimulationContext.DIAL_HOURS);
+        }
+    }
+
+    private final class Fight {
+
+        private final FightRequest request;
+        private final RandomGenerator random;
+        private final Board board;
+        private final State[] states;
+        private final Map<String, State> byId = new HashMap<>();
+        private final PriorityQueue<Slot> queue = new PriorityQueue<>(TURN_ORDER);
+        private final TimingWheel<Object> wheel;
+        private final DialWatcher dial = new DialWatcher();
+        private State playing;
+
+        Fight(FightRequest request, RandomGenerator random) {
+            this.request = request;
+            this.random = random;
+            this.board = request.board().copy();
+            this.states = new State[request.fighters().size()];
+            this.wheel = new TimingWheel<>(states.length * POINTS, states.length);
+            for (int i = 0; i < states.length; i++) {
+                Fighter fighter = request.fighters().get(i);
+                board.place(new BoardUnit(fighter.id(), fighter.team(), null, fighter.position(),
+                        fighter.stats().resistance()));
+                SimulationContext context = new SimulationContext(fighter.stats().ap(), fighter.stats().mp(),
+                        fighter.stats().wp(), fighter.position(), board, fighter.id());
+                states[i] = new State(i, fighter, context);
+                byId.put(fighter.id(), states[i]);
+                queue.add(new Slot(0, fighter.initiative(), i));
+            }
+        }
+
+        FightResult run(SimulationMonitor monitor) {
+            int turns = 0;
+            while (!queue.isEmpty()) {
+                if (monitor.isCancelled()) {
+                    throw new SimulationCancelledException("Combat annulé après " + turns + " tours");
+                }
+                Slot slot = queue.poll();
+                play(slot.round(), states[slot.index()]);
+                turns++;
+                if (slot.round() + 1 < request.rounds()) {
+                    queue.add(new Slot(slot.round() + 1, slot.initiative(), slot.index()));
+                }
+            }
+
+            long total = 0;
+            List<FightResult.FighterResult> fighters = new ArrayList<>(states.length);
+            for (State state : states) {
+                total += state.damage;
+                fighters.add(new FightResult.FighterResult(state.fighter.id(), state.fighter.team(), state.damage,
+                        state.delayedDamage, state.actions, state.failedActions));
+            }
+            return new FightResult(request.rounds(), turns, total, fighters);
+        }
+
+        private void play(int round, State state) {
+            Fighter fighter = state.fighter;
+            wheel.advanceTo(round);
+            playing = state;
+            // un autre combattant a pu le déplacer (poussée, échange) depuis son dernier tour
+            state.context.syncPosition();
+            wheel.drain(key(state, TURN_START), this::fire);
+            for (TimelineAction action : fighter.actions(state.turns)) {
+                if (action instanceof EndTurnAction) break;
+                dial.reset(state.context.dialHour());
+                ActionResult result = engine.execute(round, action, fighter.stats(), fighter.modifiers(),
+                        state.context, random, dial);
+                state.actions++;
+                state.damage += result.damage();
+                if (!result.succeeded()) {
+                    state.failedActions++;
+                    break;
+                }
+                if (action instanceof SpellCastAction cast) register(state, cast, result.critical());
+                if (dial.wrapped && fighter.modifiers().has(PassiveRule.RESOLVE_DELAYED_EFFECTS)) {
+                    wheel.drainOwner(state.index, this::resolveEarly);
+                }
+            }
+            wheel.drain(key(state, TURN_END), this::fire);
+            wheel.drain(key(state, EXPIRY), this::fire);
+            engine.execute(round, EndTurnAction.INSTANCE, fighter.stats(), fighter.modifiers(), state.context,
+                    random, SimulationRecorder.NONE);
+            state.turns++;
+            playing = null;
+        }
+
+        /**
+         * Programme les effets différés du sort lancé : sur le lanceur (fin de tour) ou sur le
+         * combattant de la case ciblée (tours de la cible, statuts posés).
+         */
+        private void register(State source, SpellCastAction cast, boolean critical) {
+            State target = cast.target() == null ? null
+                    : board.unitAt(cast.target()).map(unit -> byId.get(unit.id())).orElse(null);
+            Spell spell = cast.spell();
+            SpellVariant variant = spell.resolveVariant(critical ? VariantKind.CRIT : VariantKind.NORMAL).orElse(null);
+            if (variant == null) return;
+
+            for (SpellEffect effect : variant.effects()) {
+                String element = effect.textParam("element") != null ? effect.textParam("element") : spell.element();
+                if ("ON_END_TURN".equals(effect.phase())) {
+                    schedule(new Pending(source, source, TURN_END, effect.effectType(), effect.params(), element,
+                            effect.intParam("amount", 0), 1));
+                } else if (target != null && isTargetTurnPhase(effect.phase())) {
+                    schedule(new Pending(source, target, point(effect.phase()), effect.effectType(), effect.params(),
+                            element, effect.intParam("amount", 0), effect.intParam("duration", 1)));
+                } else if (target != null && "APPLY_STATUS".equals(effect.effectType())
+                        && effect.textParam("status") != null) {
+                    statuses.apply(effect.textParam("status"))
+                            .ifPresent(status -> applyStatus(source, target, status, effect, element));
+                }
+            }
+        }
+
+        private void applyStatus(State source, State target, StatusDefinition status, SpellEffect effect,
+                                 String element) {
+            Application previous = target.statuses.remove(status.id());
+            if (previous != null) cancel(previous);
+
+            boolean infinite = "INFINITE".equals(status.durationType());
+            int duration = infinite ? Integer.MAX_VALUE
+                    : effect.intParam("duration", status.baseDuration() != null ? status.baseDuration() : 1);
+            if (duration <= 0) return;
+
+            Application application = new Application(status.id(), target);
+            for (StatusEffect tick : status.effects()) {
+                if (!isTargetTurnPhase(tick.tickPhase())) continue;
+                int amount = bool(tick.params(), "amountFromStatus")
+                        ? effect.intParam("amount", 0)
+                        : intParam(tick.params(), "amount", 0);
+                String tickElement = tick.params() != null && tick.params().hasNonNull("element")
+                        ? tick.params().get("element").asText() : element;
+                Pending pending = new Pending(source, target, point(tick.tickPhase()), tick.effectType(),
+                        tick.params(), tickElement, amount, duration);
+                application.ticks.add(pending);
+                schedule(pending);
+            }
+            if (!infinite) {
+                application.expiryId = wheel.schedule(nextTurn(target, TURN_END) + duration - 1,
+                        key(target, EXPIRY), TimingWheel.NO_OWNER, application);
+            }
+            target.statuses.put(status.id(), application);
+        }
+
+        private void schedule(Pending pending) {
+            if (pending.remaining <= 0) return;
+            pending.entryId = wheel.schedule(nextTurn(pending.target, pending.point), key(pending.target, pending.point),
+                    pending.source.index, pending);
+        }
+
+        private void cancel(Application application) {
+            wheel.cancel(application.expiryId);
+            for (Pending tick : application.ticks) wheel.cancel(tick.entryId);
+        }
+
+        /**
+         * Échéance atteinte : effet appliqué puis reprogrammé au tour suivant s'il en reste,
+         * ou statut expiré.
+         */
+        private void fire(Object entry) {
+            if (entry instanceof Application application) {
+                application.target.statuses.remove(application.statusId, application);
+                cancel(application);
+                return;
+            }
+            Pending pending = (Pending) entry;
+            apply(pending);
+            if (--pending.remaining > 0) {
+                pending.entryId = wheel.schedule(wheel.now() + 1, key(pending.target, pending.point),
+                        pending.source.index, pending);
+            }
+        }
+
+        /**
+         * Résolution anticipée (Maître du Cadran) : l'effet est appliqué une fois et abandonné.
+         */
+        private void resolveEarly(Object entry) {
+            if (entry instanceof Pending pending) apply(pending);
+        }
+
+        private void apply(Pending pending) {
+            State target = pending.target;
+            switch (pending.effectType) {
+                case "DEAL_DAMAGE" -> {
+                    if (pending.amount <= 0) return;
+                    BoardUnit unit = board.find(target.fighter.id()).orElse(null);
+                    if (unit == null) return;
+                    List<BoardUnit> hit = pending.params != null && pending.params.hasNonNull("area")
+                            ? board.unitsIn(unit.position(), AreaTemplate.parse(pending.params.get("area").asText()),
+                                    AreaTemplate.EAST, unit.kind())
+                            : List.of(unit);
+                    int dealt = damageCalculator.kernel(pending.amount, pending.source.fighter.stats(),
+                            pending.element, false).total(hit);
+                    pending.source.damage += dealt;
+                    pending.source.delayedDamage += dealt;
+                }
+                case "ADD_AP" -> target.context.addPa(pending.amount);
+                case "ADD_MP" -> target.context.addMp(pending.amount);
+                case "ADD_PW" -> target.context.addPw(pending.amount);
+                default -> { }
+            }
+        }
+
+        /**
+         * Tour de table du prochain début ou de la prochaine fin de tour du combattant : chacun joue
+         * une fois par tour de table, le combattant en train de jouer a déjà commencé le sien.
+         */
+        private int nextTurn(State state, int point) {
+            return state.turns + (state == playing && point == TURN_START ? 1 : 0);
+        }
+    }
+
+    private static int key(State state, int point) {
+        return state.index * POINTS + point;
+    }
+
+    private static int point(String phase) {
+        return TARGET_TURN_START.equals(phase) ? TURN_START : TURN_END;
+    }
+
+    private static boolean isTargetTurnPhase(String phase) {
+        return TARGET_TURN_START.equals(phase) || TARGET_TURN_END.equals(phase);
+    }
+
+    private static int intParam(JsonNode params, String name, int defaultValue) {
+        if (params == null || !params.path(name).canConvertToInt()) return defaultValue;
+        return params.path(name).asInt();
+    }
+
+    private static boolean bool(JsonNode params, String name) {
+        return params != null && params.path(name).asBoolean(false);
+    }
+}
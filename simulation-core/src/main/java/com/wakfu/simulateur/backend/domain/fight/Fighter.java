@@ -0,0 +1,44 @@
+package com.wakfu.simulateur.backend.domain.fight;
+
+import com.wakfu.simulateur.backend.domain.board.UnitKind;
+import com.wakfu.simulateur.backend.domain.passive.PassiveModifiers;
+import com.wakfu.simulateur.backend.domain.simulation.CharacterStats;
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+import com.wakfu.simulateur.backend.domain.simulation.TimelineAction;
+import com.wakfu.simulateur.backend.domain.simulation.TimelineStep;
+
+import java.util.List;
+
+/**
+ * Combattant d'un combat à plusieurs : camp, initiative, build et script de tours. Chaque étape du
+ * script est un tour complet ; sans script (ou au-delà, si {@code loop} est faux) le combattant passe
+ * son tour.
+ */
+public record Fighter(
+        String id,
+        UnitKind team,
+        int initiative,
+        CharacterStats stats,
+        PassiveModifiers modifiers,
+        Position position,
+        List<TimelineStep> turns,
+        boolean loop
+) {
+
+    public Fighter {
+        if (team != UnitKind.PLAYER && team != UnitKind.ENEMY) {
+            throw new IllegalArgumentException("Camp invalide pour " + id + ": " + team);
+        }
+        modifiers = modifiers == null ? PassiveModifiers.NONE : modifiers;
+        turns = turns == null ? List.of() : List.copyOf(turns);
+    }
+
+    /**
+     * Actions scriptées du {@code turn}-ième tour du combattant (0 pour son premier tour).
+     */
+    public List<TimelineAction> actions(int turn) {
+        if (turns.isEmpty()) return List.of();
+        if (loop) return turns.get(turn % turns.size()).actions();
+        return turn < turns.size() ? turns.get(turn).actions() : List.of();
+    }
+}
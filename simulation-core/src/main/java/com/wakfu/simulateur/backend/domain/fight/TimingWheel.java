@@ -0,0 +1,223 @@
+package com.wakfu.simulateur.backend.domain.fight;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Roue temporelle hiérarchique indexée par (tour, clé) : la clé désigne un point du tour
+ * (début ou fin de tour d'un combattant, expiration). Le premier niveau a une liste par clé et par
+ * tour ; les niveaux supérieurs regroupent 64, 4096… tours et sont redescendus quand le temps
+ * les atteint. Insertion, déclenchement d'un point et annulation sont en temps constant
+ * (listes doublement chaînées à sentinelle, créées au premier usage).
+ * <p>
+ * Chaque entrée peut avoir un propriétaire : {@link #drainOwner} retire toutes ses entrées, quelle
+ * que soit leur échéance. Les identifiants sont séquentiels, donc reproductibles d'une exécution
+ * à l'autre.
+ *
+ * @param <T> contenu des entrées
+ */
+public final class TimingWheel<T> {
+
+    public static final int NO_OWNER = -1;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private static final class Node<T> {
+        final long id;
+        final int round;
+        final int key;
+        final int owner;
+        final T value;
+        Node<T> prev = this;
+        Node<T> next = this;
+        Node<T> ownerPrev = this;
+        Node<T> ownerNext = this;
+
+        Node(long id, int round, int key, int owner, T value) {
+            this.id = id;
+            this.round = round;
+            this.key = key;
+            this.owner = owner;
+            this.value = value;
+        }
+    }
+
+    private final int keys;
+    /** Niveau 0 : {@code near[round & 63][key]}. */
+    private final Node<T>[][] near;
+    /** Niveaux 1 à 3 : {@code far[level - 1][(round >> 6 * level) & 63]}. */
+    private final Node<T>[][] far;
+    /** Au-delà de la portée des niveaux. */
+    private final Node<T> overflow = sentinel();
+    private final Node<T>[] owners;
+    private final Map<Long, Node<T>> byId = new HashMap<>();
+    private int now;
+    private long nextId;
+
+    public TimingWheel(int keys, int owners) {
+        this.keys = keys;
+        this.near = table(SLOTS, keys);
+        this.far = table(LEVELS - 1, SLOTS);
+        this.owners = nodes(owners);
+    }
+
+    public int now() { return now; }
+
+    public int size() { return byId.size(); }
+
+    /**
+     * Programme {@code value} au point {@code key} du tour {@code round} (pas avant le tour courant).
+     */
+    public long schedule(int round, int key, int owner, T value) {
+        if (key < 0 || key >= keys) {
+            throw new IllegalArgumentException("Clé hors de la roue: " + key);
+        }
+        Node<T> node = new Node<>(nextId++, Math.max(round, now), key, owner, value);
+        place(node);
+        if (owner != NO_OWNER) {
+            if (owners[owner] == null) owners[owner] = sentinel();
+            link(owners[owner], node, true);
+        }
+        byId.put(node.id, node);
+        return node.id;
+    }
+
+    public boolean cancel(long id) {
+        Node<T> node = byId.remove(id);
+        if (node == null) return false;
+        unlink(node, false);
+        if (node.owner != NO_OWNER) unlink(node, true);
+        return true;
+    }
+
+    /**
+     * Avance le temps jusqu'au tour donné en redescendant les niveaux supérieurs au passage.
+     */
+    public void advanceTo(int round) {
+        while (now < round) {
+            now++;
+            cascade(now);
+        }
+    }
+
+    /**
+     * Retire et transmet, dans l'ordre d'insertion, les entrées du point {@code key} du tour courant.
+     * Une entrée programmée pour ce même point pendant le déclenchement est transmise dans la foulée.
+     */
+    public void drain(int key, Consumer<T> consumer) {
+        Node<T> head = near[now & SLOT_MASK][key];
+        while (head != null && head.next != head) {
+            Node<T> node = head.next;
+            byId.remove(node.id);
+            unlink(node, false);
+            if (node.owner != NO_OWNER) unlink(node, true);
+            consumer.accept(node.value);
+        }
+    }
+
+    /**
+     * Retire et transmet toutes les entrées d'un propriétaire, quelle que soit leur échéance.
+     */
+    public void drainOwner(int owner, Consumer<T> consumer) {
+        Node<T> head = owners[owner];
+        while (head != null && head.ownerNext != head) {
+            Node<T> node = head.ownerNext;
+            byId.remove(node.id);
+            unlink(node, true);
+            unlink(node, false);
+            consumer.accept(node.value);
+        }
+    }
+
+    private void place(Node<T> node) {
+        long delta = (long) node.round - now;
+        if (delta < SLOTS) {
+            Node<T>[] slot = near[node.round & SLOT_MASK];
+            if (slot[node.key] == null) slot[node.key] = sentinel();
+            link(slot[node.key], node, false);
+            return;
+        }
+        for (int level = 1; level < LEVELS; level++) {
+            if (delta < 1L << SLOT_BITS * (level + 1)) {
+                Node<T>[] slots = far[level - 1];
+                int index = (node.round >>> SLOT_BITS * level) & SLOT_MASK;
+                if (slots[index] == null) slots[index] = sentinel();
+                link(slots[index], node, false);
+                return;
+            }
+        }
+        link(overflow, node, false);
+    }
+
+    /**
+     * À chaque frontière de niveau, les entrées du créneau atteint sont reclassées vers les niveaux
+     * inférieurs ; le débordement est réexaminé à chaque tour complet du dernier niveau.
+     */
+    private void cascade(int round) {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((round & ((1 << SLOT_BITS * level) - 1)) != 0) return;
+            replace(far[level - 1][(round >>> SLOT_BITS * level) & SLOT_MASK]);
+        }
+        if ((round & ((1 << SLOT_BITS * LEVELS) - 1)) == 0) replace(overflow);
+    }
+
+    private void replace(Node<T> head) {
+        if (head == null) return;
+        Node<T> node = head.next;
+        head.next = head;
+        head.prev = head;
+        while (node != head) {
+            Node<T> next = node.next;
+            node.prev = node;
+            node.next = node;
+            place(node);
+            node = next;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] nodes(int size) {
+        return (Node<T>[]) new Node<?>[size];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[][] table(int rows, int size) {
+        return (Node<T>[][]) new Node<?>[rows][size];
+    }
+
+    private static <T> Node<T> sentinel() {
+        return new Node<>(-1, 0, 0, NO_OWNER, null);
+    }
+
+    private static <T> void link(Node<T> head, Node<T> node, boolean ownerList) {
+        if (ownerList) {
+            node.ownerPrev = head.ownerPrev;
+            node.ownerNext = head;
+            head.ownerPrev.ownerNext = node;
+            head.ownerPrev = node;
+        } else {
+            node.prev = head.prev;
+            node.next = head;
+            head.prev.next = node;
+            head.prev = node;
+        }
+    }
+
+    private static <T> void unlink(Node<T> node, boolean ownerList) {
+        if (ownerList) {
+            node.ownerPrev.ownerNext = node.ownerNext;
+            node.ownerNext.ownerPrev = node.ownerPrev;
+            node.ownerPrev = node;
+            node.ownerNext = node;
+        } else {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = node;
+            node.next = node;
+        }
+    }
+}
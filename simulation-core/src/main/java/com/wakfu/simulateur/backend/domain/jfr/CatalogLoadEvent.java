@@ -0,0 +1,35 @@
+package com.wakfu.simulateur.backend.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("wakfu.CatalogLoad")
+@Label("Catalog Load")
+@Category({"Wakfu", "Catalog"})
+@Description("Chargement ou rechargement du catalogue (snapshot, partition de classe, base)")
+public class CatalogLoadEvent extends Event {
+
+    @Label("Source")
+    public String source;
+
+    @Label("Partition")
+    public String partition;
+
+    @Label("Reload")
+    public boolean reload;
+
+    @Label("Version")
+    public String version;
+
+    @Label("Spells")
+    public int spells;
+
+    @Label("Passives")
+    public int passives;
+
+    @Label("Statuses")
+    public int statuses;
+}
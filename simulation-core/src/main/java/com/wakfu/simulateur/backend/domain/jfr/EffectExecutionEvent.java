@@ -0,0 +1,37 @@
+package com.wakfu.simulateur.backend.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("wakfu.EffectExecution")
+@Label("Effect Execution")
+@Category({"Wakfu", "Simulation"})
+@Description("Résolution d'un effet de sort par le moteur")
+@StackTrace(false)
+public class EffectExecutionEvent extends Event {
+
+    @Label("Fighter")
+    public String fighter;
+
+    @Label("Step Index")
+    public int stepIndex;
+
+    @Label("Spell")
+    public String spellId;
+
+    @Label("Effect Type")
+    public String effectType;
+
+    @Label("Effect Order")
+    public int ordinal;
+
+    @Label("Critical")
+    public boolean critical;
+
+    @Label("Damage")
+    public int damage;
+}
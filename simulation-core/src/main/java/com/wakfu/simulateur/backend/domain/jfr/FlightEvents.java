@@ -0,0 +1,22 @@
+package com.wakfu.simulateur.backend.domain.jfr;
+
+/**
+ * Interrupteur des événements JFR du simulateur ({@code monitoring.jfr.enabled}). Désactivés, les
+ * points d'émission se réduisent à la lecture de ce drapeau : aucun événement n'est alloué. Activés,
+ * un événement n'est enregistré que si une recording JFR est en cours et l'accepte.
+ */
+public final class FlightEvents {
+
+    private static volatile boolean enabled;
+
+    private FlightEvents() {
+    }
+
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    public static void enable(boolean value) {
+        enabled = value;
+    }
+}
@@ -0,0 +1,28 @@
+package com.wakfu.simulateur.backend.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("wakfu.SimulationRun")
+@Label("Simulation Run")
+@Category({"Wakfu", "Simulation"})
+@Description("Exécution complète d'une timeline par le moteur")
+@StackTrace(false)
+public class SimulationRunEvent extends Event {
+
+    @Label("Fighter")
+    public String fighter;
+
+    @Label("Steps")
+    public int steps;
+
+    @Label("Completed Steps")
+    public int completedSteps;
+
+    @Label("Total Damage")
+    public long totalDamage;
+}
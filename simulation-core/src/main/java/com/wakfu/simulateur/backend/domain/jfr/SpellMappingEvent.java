@@ -0,0 +1,20 @@
+package com.wakfu.simulateur.backend.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("wakfu.SpellMapping")
+@Label("Spell DTO Mapping")
+@Category({"Wakfu", "Catalog"})
+@Description("Conversion d'un lot de sorts en DTO de l'API")
+public class SpellMappingEvent extends Event {
+
+    @Label("View")
+    public String view;
+
+    @Label("Spells")
+    public int spells;
+}
@@ -0,0 +1,28 @@
+package com.wakfu.simulateur.backend.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("wakfu.TimelineStep")
+@Label("Timeline Step")
+@Category({"Wakfu", "Simulation"})
+@Description("Étape de timeline, toutes actions comprises")
+@StackTrace(false)
+public class TimelineStepEvent extends Event {
+
+    @Label("Fighter")
+    public String fighter;
+
+    @Label("Step Index")
+    public int stepIndex;
+
+    @Label("Actions")
+    public int actions;
+
+    @Label("Damage")
+    public long damage;
+}
@@ -0,0 +1,17 @@
+package com.wakfu.simulateur.backend.domain.passive;
+
+import java.util.List;
+
+public record Passive(
+        String id,
+        String characterClassId,
+        String name,
+        String description,
+        Integer iconId,
+        List<PassiveEffect> effects
+) {
+
+    public Passive {
+        effects = effects == null ? List.of() : List.copyOf(effects);
+    }
+}
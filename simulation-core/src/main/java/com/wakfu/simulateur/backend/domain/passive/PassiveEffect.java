@@ -0,0 +1,21 @@
+package com.wakfu.simulateur.backend.domain.passive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wakfu.simulateur.backend.domain.spell.EffectConditionGroup;
+
+import java.util.Optional;
+
+public record PassiveEffect(
+        Long id,
+        String trigger,
+        int orderIndex,
+        String effectType,
+        String targetScope,
+        JsonNode params,
+        Optional<EffectConditionGroup> conditionGroup
+) {
+
+    public PassiveEffect {
+        conditionGroup = conditionGroup == null ? Optional.empty() : conditionGroup;
+    }
+}
@@ -0,0 +1,30 @@
+package com.wakfu.simulateur.backend.domain.passive;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Attribue à chaque identifiant de passif un index de bit stable pour la durée du processus,
+ * utilisé par les bitsets de {@link PassiveModifiers}.
+ */
+public final class PassiveKeys {
+
+    private static final Map<String, Integer> KEYS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT = new AtomicInteger();
+
+    private PassiveKeys() {
+    }
+
+    public static int of(String passiveId) {
+        return KEYS.computeIfAbsent(passiveId, id -> NEXT.getAndIncrement());
+    }
+
+    /**
+     * Index déjà attribué, ou -1 si l'identifiant n'a jamais été vu (aucun build ne le contient).
+     */
+    public static int find(String passiveId) {
+        Integer key = passiveId != null ? KEYS.get(passiveId) : null;
+        return key != null ? key : -1;
+    }
+}
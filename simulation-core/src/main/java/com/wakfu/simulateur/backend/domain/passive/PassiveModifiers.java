@@ -0,0 +1,171 @@
+package com.wakfu.simulateur.backend.domain.passive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wakfu.simulateur.backend.domain.board.MechanismType;
+import com.wakfu.simulateur.backend.domain.simulation.ResourceKind;
+import com.wakfu.simulateur.backend.domain.spell.EffectCondition;
+import com.wakfu.simulateur.backend.domain.spell.EffectConditionGroup;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Barre de passifs d'un build résolue une seule fois par simulation : bitset des passifs équipés,
+ * règles permanentes, et vecteur de modificateurs issu des effets ON_PASSIVE_EQUIPPED (coûts et
+ * recharges de sorts, limites de mécanismes) et des gains inconditionnels de début de tour.
+ * Les tests de passif du moteur deviennent des tests de bit.
+ */
+public final class PassiveModifiers {
+
+    public static final PassiveModifiers NONE = new PassiveModifiers(new BitSet(), 0L, Map.of(),
+            new int[MechanismType.values().length], new int[ResourceKind.values().length]);
+
+    private final BitSet passives;
+    private final long rules;
+    private final Map<String, SpellModifier> spells;
+    private final int[] mechanismLimits;
+    private final int[] turnStartGains;
+
+    private PassiveModifiers(BitSet passives, long rules, Map<String, SpellModifier> spells,
+                             int[] mechanismLimits, int[] turnStartGains) {
+        this.passives = passives;
+        this.rules = rules;
+        this.spells = spells;
+        this.mechanismLimits = mechanismLimits;
+        this.turnStartGains = turnStartGains;
+    }
+
+    public static PassiveModifiers resolve(Collection<Passive> equipped) {
+        if (equipped.isEmpty()) return NONE;
+
+        BitSet passives = new BitSet();
+        long rules = 0L;
+        Map<String, SpellModifier> spells = new HashMap<>();
+        int[] mechanismLimits = new int[MechanismType.values().length];
+        int[] turnStartGains = new int[ResourceKind.values().length];
+
+        for (Passive passive : equipped) {
+            passives.set(PassiveKeys.of(passive.id()));
+        }
+        for (Passive passive : equipped) {
+            for (PassiveEffect effect : passive.effects()) {
+                if (effect.conditionGroup().isPresent() || effect.trigger() == null || effect.effectType() == null) continue;
+                JsonNode params = effect.params();
+                switch (effect.trigger()) {
+                    case "ALWAYS", "ON_HOUR_WRAPPED" -> rules |= rule(effect.effectType());
+                    case "ON_PASSIVE_EQUIPPED" -> equip(effect.effectType(), params, spells, mechanismLimits);
+                    case "ON_CASTER_TURN_START" -> {
+                        ResourceKind kind = resource(effect.effectType());
+                        if (kind != null) turnStartGains[kind.ordinal()] += intParam(params, "amount", 0);
+                    }
+                    default -> { }
+                }
+            }
+        }
+        return new PassiveModifiers(passives, rules, Map.copyOf(spells), mechanismLimits, turnStartGains);
+    }
+
+    public boolean has(String passiveId) {
+        int key = PassiveKeys.find(passiveId);
+        return key >= 0 && passives.get(key);
+    }
+
+    public boolean has(PassiveRule rule) {
+        return (rules & rule.bit()) != 0;
+    }
+
+    public SpellModifier spell(Spell spell) {
+        return spells.getOrDefault(spell.id(), SpellModifier.NONE);
+    }
+
+    public int mechanismLimitDelta(MechanismType type) {
+        return mechanismLimits[type.ordinal()];
+    }
+
+    public int turnStartGain(ResourceKind kind) {
+        return turnStartGains[kind.ordinal()];
+    }
+
+    /**
+     * Évalue un groupe de conditions portant uniquement sur les passifs (HAS_PASSIVE, NOT_HAS_PASSIVE) ;
+     * vide si le groupe dépend d'autre chose que la barre de passifs.
+     */
+    public Optional<Boolean> evaluate(EffectConditionGroup group) {
+        boolean any = "OR".equalsIgnoreCase(group.operator());
+        boolean result = !any;
+        for (EffectCondition condition : group.conditions()) {
+            String passiveId = textParam(condition.params(), "passiveId");
+            boolean value;
+            if ("HAS_PASSIVE".equals(condition.code()) && passiveId != null) {
+                value = has(passiveId);
+            } else if ("NOT_HAS_PASSIVE".equals(condition.code()) && passiveId != null) {
+                value = !has(passiveId);
+            } else {
+                return Optional.empty();
+            }
+            result = any ? result || value : result && value;
+        }
+        return Optional.of(result);
+    }
+
+    private static void equip(String effectType, JsonNode params, Map<String, SpellModifier> spells,
+                              int[] mechanismLimits) {
+        String spellId = textParam(params, "spellId");
+        switch (effectType) {
+            case "ADD_SPELL_EXTRA_COST" -> {
+                if (spellId != null) spells.merge(spellId, SpellModifier.NONE.withExtraCost(
+                        textParam(params, "resource"), intParam(params, "extra", 0)), PassiveModifiers::combine);
+            }
+            case "ADD_SPELL_COOLDOWN_DELTA" -> {
+                if (spellId != null) spells.merge(spellId,
+                        SpellModifier.NONE.withCooldownDelta(intParam(params, "delta", 0)), PassiveModifiers::combine);
+            }
+            case "SET_SPELL_BASE_COOLDOWN" -> {
+                if (spellId != null) spells.merge(spellId,
+                        SpellModifier.NONE.withBaseCooldown(intParam(params, "cooldown", 0)), PassiveModifiers::combine);
+            }
+            case "INCREASE_MECHANISM_LIMIT" -> {
+                String kind = textParam(params, "kind");
+                for (MechanismType type : MechanismType.values()) {
+                    if (type.name().equals(kind)) mechanismLimits[type.ordinal()] += intParam(params, "delta", 0);
+                }
+            }
+            default -> { }
+        }
+    }
+
+    private static SpellModifier combine(SpellModifier a, SpellModifier b) {
+        return new SpellModifier(a.paExtra() + b.paExtra(), a.pwExtra() + b.pwExtra(),
+                a.cooldownDelta() + b.cooldownDelta(), b.baseCooldown() >= 0 ? b.baseCooldown() : a.baseCooldown());
+    }
+
+    private static long rule(String effectType) {
+        for (PassiveRule rule : PassiveRule.values()) {
+            if (rule.name().equals(effectType)) return rule.bit();
+        }
+        return 0L;
+    }
+
+    private static ResourceKind resource(String effectType) {
+        return switch (effectType) {
+            case "ADD_AP" -> ResourceKind.PA;
+            case "ADD_PW" -> ResourceKind.PW;
+            case "ADD_MP" -> ResourceKind.MP;
+            default -> null;
+        };
+    }
+
+    private static int intParam(JsonNode params, String name, int defaultValue) {
+        JsonNode node = params != null ? params.get(name) : null;
+        return node != null && node.isNumber() ? node.asInt() : defaultValue;
+    }
+
+    private static String textParam(JsonNode params, String name) {
+        JsonNode node = params != null ? params.get(name) : null;
+        return node != null && node.isTextual() ? node.asText() : null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.wakfu.simulateur.backend.domain.passive;
+
+/**
+ * Règles permanentes activées par un passif (déclencheur ALWAYS, ou ON_HOUR_WRAPPED pour la
+ * résolution anticipée des effets différés), testées par bit.
+ */
+public enum PassiveRule {
+
+    SUMMONS_IGNORE_LOS,
+    RESOLVE_DELAYED_EFFECTS;
+
+    long bit() {
+        return 1L << ordinal();
+    }
+}
@@ -0,0 +1,16 @@
+package com.wakfu.simulateur.backend.domain.passive;
+
+/**
+ * Vue allégée d'un passif pour les listes et sélecteurs, sans description ni effets.
+ */
+public record PassiveSummary(
+        String id,
+        String characterClassId,
+        String name,
+        Integer iconId
+) {
+
+    public static PassiveSummary of(Passive passive) {
+        return new PassiveSummary(passive.id(), passive.characterClassId(), passive.name(), passive.iconId());
+    }
+}
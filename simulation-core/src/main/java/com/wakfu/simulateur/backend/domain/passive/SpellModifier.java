@@ -0,0 +1,41 @@
+package com.wakfu.simulateur.backend.domain.passive;
+
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+
+/**
+ * Modifications d'un sort apportées par les passifs équipés ({@code baseCooldown} à -1 si inchangé).
+ */
+public record SpellModifier(int paExtra, int pwExtra, int cooldownDelta, int baseCooldown) {
+
+    public static final SpellModifier NONE = new SpellModifier(0, 0, 0, -1);
+
+    public int paCost(Spell spell) {
+        return Math.max(0, spell.paCost() + paExtra);
+    }
+
+    public int pwCost(Spell spell) {
+        return Math.max(0, spell.pwCost() + pwExtra);
+    }
+
+    public int cooldown(Spell spell) {
+        return Math.max(0, (baseCooldown >= 0 ? baseCooldown : spell.cooldown()) + cooldownDelta);
+    }
+
+    public SpellModifier withExtraCost(String resource, int extra) {
+        if ("PA".equals(resource) || "AP".equals(resource)) {
+            return new SpellModifier(paExtra + extra, pwExtra, cooldownDelta, baseCooldown);
+        }
+        if ("PW".equals(resource) || "WP".equals(resource)) {
+            return new SpellModifier(paExtra, pwExtra + extra, cooldownDelta, baseCooldown);
+        }
+        return this;
+    }
+
+    public SpellModifier withCooldownDelta(int delta) {
+        return new SpellModifier(paExtra, pwExtra, cooldownDelta + delta, baseCooldown);
+    }
+
+    public SpellModifier withBaseCooldown(int cooldown) {
+        return new SpellModifier(paExtra, pwExtra, cooldownDelta, cooldown);
+    }
+}
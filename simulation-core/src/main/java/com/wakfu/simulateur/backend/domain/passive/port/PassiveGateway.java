@@ -0,0 +1,31 @@
+package com.wakfu.simulateur.backend.domain.passive.port;
+
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PassiveGateway {
+
+    Optional<Passive> findById(String id);
+
+    List<Passive> findAllById(Collection<String> ids);
+
+    List<Passive> findAll();
+
+    default List<Passive> findAllByClassId(String classId) {
+        return findAll().stream()
+                .filter(p -> classId.equals(p.characterClassId()))
+                .toList();
+    }
+
+    default List<PassiveSummary> findAllSummaries() {
+        return findAll().stream().map(PassiveSummary::of).toList();
+    }
+
+    default List<PassiveSummary> findSummariesByClassId(String classId) {
+        return findAllByClassId(classId).stream().map(PassiveSummary::of).toList();
+    }
+}
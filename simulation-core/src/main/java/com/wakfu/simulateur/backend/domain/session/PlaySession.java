@@ -0,0 +1,110 @@
+package com.wakfu.simulateur.backend.domain.session;
+
+import com.wakfu.simulateur.backend.domain.passive.PassiveModifiers;
+import com.wakfu.simulateur.backend.domain.simulation.ActionResult;
+import com.wakfu.simulateur.backend.domain.simulation.CharacterStats;
+import com.wakfu.simulateur.backend.domain.simulation.ContextDelta;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationContext;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationEngine;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationRecorder;
+import com.wakfu.simulateur.backend.domain.simulation.TimelineAction;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Partie interactive côté serveur : un contexte de simulation modifié en place, action par action.
+ * L'historique ne conserve que des {@link ContextDelta} (cases et compteurs modifiés), si bien
+ * qu'une entrée d'annulation coûte la taille du changement et non celle du plateau.
+ * <p>
+ * Les méthodes sont synchronisées : une session peut recevoir des requêtes concurrentes.
+ */
+public class PlaySession {
+
+    private final String id;
+    private final CharacterStats stats;
+    private final Set<String> passiveIds;
+    private final PassiveModifiers modifiers;
+    private final SimulationContext context;
+    private final SplittableRandom random;
+    private final int maxHistory;
+    private final Deque<Entry> undo = new ArrayDeque<>();
+    private final Deque<Entry> redo = new ArrayDeque<>();
+    private long sequence;
+    private long totalDamage;
+
+    private record Entry(ContextDelta delta, int damage) {
+    }
+
+    public PlaySession(String id, CharacterStats stats, Set<String> passiveIds, PassiveModifiers modifiers,
+                       SimulationContext context, long seed, int maxHistory) {
+        this.id = id;
+        this.stats = stats;
+        this.passiveIds = Set.copyOf(passiveIds);
+        this.modifiers = modifiers;
+        this.context = context;
+        this.random = new SplittableRandom(seed);
+        this.maxHistory = maxHistory;
+    }
+
+    public String id() { return id; }
+
+    public CharacterStats stats() { return stats; }
+
+    public Set<String> passiveIds() { return passiveIds; }
+
+    /**
+     * Joue une action ; en cas de succès, l'historique de rétablissement est vidé.
+     */
+    public synchronized PlayUpdate play(TimelineAction action, SimulationEngine engine) {
+        ContextDelta.Checkpoint checkpoint = context.checkpoint();
+        ActionResult result = engine.execute((int) sequence, action, stats, modifiers, context, random,
+                SimulationRecorder.NONE);
+        ContextDelta delta = checkpoint.delta();
+        if (!result.succeeded()) {
+            context.apply(delta.inverse());
+            return new PlayUpdate(sequence, result, null, totalDamage);
+        }
+
+        sequence++;
+        totalDamage += result.damage();
+        undo.push(new Entry(delta, result.damage()));
+        if (undo.size() > maxHistory) undo.removeLast();
+        redo.clear();
+        return new PlayUpdate(sequence, result, delta, totalDamage);
+    }
+
+    public synchronized Optional<PlayUpdate> undo() {
+        Entry entry = undo.poll();
+        if (entry == null) return Optional.empty();
+        ContextDelta inverse = entry.delta().inverse();
+        context.apply(inverse);
+        sequence--;
+        totalDamage -= entry.damage();
+        redo.push(entry);
+        return Optional.of(new PlayUpdate(sequence, null, inverse, totalDamage));
+    }
+
+    public synchronized Optional<PlayUpdate> redo() {
+        Entry entry = redo.poll();
+        if (entry == null) return Optional.empty();
+        context.apply(entry.delta());
+        sequence++;
+        totalDamage += entry.damage();
+        undo.push(entry);
+        return Optional.of(new PlayUpdate(sequence, null, entry.delta(), totalDamage));
+    }
+
+    /**
+     * Copie de l'état courant, pour un affichage complet.
+     */
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(sequence, context.copy(), totalDamage, undo.size(), redo.size());
+    }
+
+    public record Snapshot(long sequence, SimulationContext context, long totalDamage, int undoable, int redoable) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.wakfu.simulateur.backend.domain.session;
+
+import com.wakfu.simulateur.backend.domain.simulation.ActionResult;
+import com.wakfu.simulateur.backend.domain.simulation.ContextDelta;
+
+/**
+ * Réponse d'une session à une action, une annulation ou un rétablissement : le résultat de
+ * l'action (absent pour undo/redo) et le delta appliqué à l'état (absent si l'action a échoué).
+ */
+public record PlayUpdate(long sequence, ActionResult result, ContextDelta delta, long totalDamage) {
+}
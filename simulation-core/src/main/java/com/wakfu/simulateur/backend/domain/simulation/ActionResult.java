@@ -0,0 +1,23 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+public record ActionResult(
+        int stepIndex,
+        ActionType type,
+        String spellId,
+        ActionStatus status,
+        String message,
+        int paCost,
+        int pwCost,
+        int mpCost,
+        int damage,
+        boolean critical
+) {
+
+    public static ActionResult failure(int stepIndex, ActionType type, String spellId, String message) {
+        return new ActionResult(stepIndex, type, spellId, ActionStatus.FAILED, message, 0, 0, 0, 0, false);
+    }
+
+    public boolean succeeded() {
+        return status == ActionStatus.SUCCESS;
+    }
+}
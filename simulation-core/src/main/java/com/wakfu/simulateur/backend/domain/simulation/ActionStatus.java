@@ -0,0 +1,7 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+public enum ActionStatus {
+
+    SUCCESS,
+    FAILED
+}
@@ -0,0 +1,8 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+public enum ActionType {
+
+    CAST_SPELL,
+    MOVE,
+    END_TURN
+}
@@ -0,0 +1,42 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+public record CharacterStats(
+        int level,
+        int masteryFire,
+        int masteryWater,
+        int masteryEarth,
+        int masteryAir,
+        int masterySecondary,
+        int backMastery,
+        int damageInflicted,
+        int critRate,
+        int critMastery,
+        int resistance,
+        int ap,
+        int mp,
+        int wp,
+        int range
+) {
+
+    public static CharacterStats baseline() {
+        return new CharacterStats(200, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 6, 3, 6, 0);
+    }
+
+    /**
+     * Maîtrise élémentaire applicable à l'élément donné (la plus haute si l'élément est neutre ou inconnu).
+     */
+    public int elementalMastery(String element) {
+        if (element == null) return highestElementalMastery();
+        return switch (element.trim().toUpperCase()) {
+            case "FIRE", "FEU" -> masteryFire;
+            case "WATER", "EAU" -> masteryWater;
+            case "EARTH", "TERRE" -> masteryEarth;
+            case "AIR" -> masteryAir;
+            default -> highestElementalMastery();
+        };
+    }
+
+    public int highestElementalMastery() {
+        return Math.max(Math.max(masteryFire, masteryWater), Math.max(masteryEarth, masteryAir));
+    }
+}
@@ -0,0 +1,103 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import com.wakfu.simulateur.backend.domain.board.BoardDelta;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Différence d'état d'un {@link SimulationContext} entre deux points : ressources avant/après,
+ * seules les entrées modifiées des compteurs (valeur {@code null} = entrée absente) et les
+ * changements du plateau. Un delta et son inverse suffisent pour annuler et rétablir une action
+ * sans copier tout l'état.
+ */
+public record ContextDelta(
+        Scalars before,
+        Scalars after,
+        MapDelta cooldowns,
+        MapDelta usesThisTurn,
+        MapDelta statuses,
+        BoardDelta board
+) {
+
+    public record Scalars(int pa, int mp, int pw, int turn, int dialHour, Position position) {
+    }
+
+    public record MapDelta(Map<String, Integer> before, Map<String, Integer> after) {
+
+        static final MapDelta EMPTY = new MapDelta(Map.of(), Map.of());
+
+        static MapDelta diff(Map<String, Integer> before, Map<String, Integer> after) {
+            Set<String> keys = new HashSet<>(before.keySet());
+            keys.addAll(after.keySet());
+            Map<String, Integer> changedBefore = new HashMap<>();
+            Map<String, Integer> changedAfter = new HashMap<>();
+            for (String key : keys) {
+                Integer previous = before.get(key);
+                Integer current = after.get(key);
+                if (!Objects.equals(previous, current)) {
+                    changedBefore.put(key, previous);
+                    changedAfter.put(key, current);
+                }
+            }
+            if (changedAfter.isEmpty()) return EMPTY;
+            return new MapDelta(Collections.unmodifiableMap(changedBefore), Collections.unmodifiableMap(changedAfter));
+        }
+
+        public boolean isEmpty() {
+            return after.isEmpty();
+        }
+
+        public MapDelta inverse() {
+            return new MapDelta(after, before);
+        }
+
+        void applyTo(Map<String, Integer> target) {
+            after.forEach((key, value) -> {
+                if (value == null) target.remove(key);
+                else target.put(key, value);
+            });
+        }
+    }
+
+    /**
+     * Point de départ d'un delta : ressources et compteurs copiés, journal du plateau ouvert.
+     */
+    public static final class Checkpoint {
+
+        private final SimulationContext context;
+        private final Scalars scalars;
+        private final Map<String, Integer> cooldowns;
+        private final Map<String, Integer> usesThisTurn;
+        private final Map<String, Integer> statuses;
+
+        Checkpoint(SimulationContext context, Scalars scalars, Map<String, Integer> cooldowns,
+                   Map<String, Integer> usesThisTurn, Map<String, Integer> statuses) {
+            this.context = context;
+            this.scalars = scalars;
+            this.cooldowns = new HashMap<>(cooldowns);
+            this.usesThisTurn = new HashMap<>(usesThisTurn);
+            this.statuses = new HashMap<>(statuses);
+            context.board().beginJournal();
+        }
+
+        public ContextDelta delta() {
+            return new ContextDelta(
+                    scalars,
+                    context.scalars(),
+                    MapDelta.diff(cooldowns, context.cooldowns()),
+                    MapDelta.diff(usesThisTurn, context.usesThisTurn()),
+                    MapDelta.diff(statuses, context.statuses()),
+                    context.board().endJournal());
+        }
+    }
+
+    public ContextDelta inverse() {
+        return new ContextDelta(after, before, cooldowns.inverse(), usesThisTurn.inverse(),
+                statuses.inverse(), board.inverse());
+    }
+}
@@ -0,0 +1,73 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import com.wakfu.simulateur.backend.domain.board.BoardUnit;
+
+import java.util.List;
+
+/**
+ * Formule de dégâts directs, alignée sur le WakfuCombatCalculator du frontend.
+ */
+public final class DamageCalculator {
+
+    public static final double CRITICAL_MULTIPLIER = 1.25;
+
+    public int directDamage(double baseValue, CharacterStats stats, String element,
+                            Orientation orientation, double resistancePercent, boolean critical) {
+        return kernel(baseValue, stats, element, critical).hit(orientation, resistancePercent);
+    }
+
+    /**
+     * Prépare un lancer pour plusieurs cibles : tout ce qui ne dépend que du lanceur est calculé une
+     * fois, chaque cible ne coûte plus qu'une multiplication par sa résistance.
+     */
+    public Kernel kernel(double baseValue, CharacterStats stats, String element, boolean critical) {
+        double mastery = stats.elementalMastery(element) + stats.masterySecondary();
+        if (critical) mastery += stats.critMastery();
+        double criticalMultiplier = critical ? CRITICAL_MULTIPLIER : 1;
+        double inflictedMultiplier = 1 + stats.damageInflicted() / 100.0;
+
+        Orientation[] orientations = Orientation.values();
+        double[] partial = new double[orientations.length];
+        for (Orientation orientation : orientations) {
+            double orientedMastery = orientation == Orientation.BACK ? mastery + stats.backMastery() : mastery;
+            double masteryMultiplier = 1 + orientedMastery / 100.0;
+            // même ordre d'évaluation que la formule complète : résultats identiques au bit près
+            partial[orientation.ordinal()] = baseValue * masteryMultiplier * orientation.damageBonus()
+                    * criticalMultiplier * inflictedMultiplier;
+        }
+        return new Kernel(partial);
+    }
+
+    /**
+     * Dégâts d'un lancer précalculés par orientation, appliqués cible par cible.
+     */
+    public static final class Kernel {
+
+        private final double[] partial;
+
+        private Kernel(double[] partial) {
+            this.partial = partial;
+        }
+
+        public int hit(Orientation orientation, double resistancePercent) {
+            double resistanceMultiplier = 1 - clampPercent(resistancePercent) / 100.0;
+            double raw = partial[orientation.ordinal()] * resistanceMultiplier;
+            return (int) Math.max(0, Math.floor(raw));
+        }
+
+        /**
+         * Somme des dégâts de face sur chaque unité touchée, selon sa résistance.
+         */
+        public int total(List<BoardUnit> targets) {
+            int total = 0;
+            for (BoardUnit target : targets) {
+                total += hit(Orientation.FRONT, target.resistance());
+            }
+            return total;
+        }
+    }
+
+    private static double clampPercent(double value) {
+        return Math.min(100, Math.max(0, value));
+    }
+}
@@ -0,0 +1,44 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Histogramme des dégâts totaux par tranches de largeur fixe ; une tranche est désignée par sa
+ * borne inférieure. Les tranches vides ne sont pas conservées.
+ */
+public final class DamageHistogram {
+
+    private final long bucketWidth;
+    private final TreeMap<Long, Long> counts = new TreeMap<>();
+
+    public DamageHistogram(long bucketWidth) {
+        if (bucketWidth < 1) {
+            throw new IllegalArgumentException("Largeur de tranche invalide: " + bucketWidth);
+        }
+        this.bucketWidth = bucketWidth;
+    }
+
+    public void add(long damage) {
+        add(Math.floorDiv(damage, bucketWidth) * bucketWidth, 1);
+    }
+
+    public void add(long from, long count) {
+        if (count > 0) counts.merge(from, count, Long::sum);
+    }
+
+    public void merge(DamageHistogram other) {
+        if (other.bucketWidth != bucketWidth) {
+            throw new IllegalArgumentException("Histogrammes de largeurs différentes: " + bucketWidth + " / "
+                    + other.bucketWidth);
+        }
+        other.counts.forEach(this::add);
+    }
+
+    public long bucketWidth() { return bucketWidth; }
+
+    public NavigableMap<Long, Long> buckets() {
+        return Collections.unmodifiableNavigableMap(counts);
+    }
+}
@@ -0,0 +1,76 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+/**
+ * Agrégat en ligne (Welford) des dégâts totaux d'une série de simulations. Deux agrégats de séries
+ * disjointes se fusionnent sans perte (formule de Chan), ce qui permet de répartir les runs.
+ */
+public class DamageStatistics {
+
+    private long count;
+    private long failures;
+    private double mean;
+    private double m2;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    public void add(SimulationResult result) {
+        if (result.hasFailure()) failures++;
+        add(result.totalDamage());
+    }
+
+    public void add(long damage) {
+        count++;
+        double delta = damage - mean;
+        mean += delta / count;
+        m2 += delta * (damage - mean);
+        min = Math.min(min, damage);
+        max = Math.max(max, damage);
+    }
+
+    /**
+     * Reconstitue un agrégat transmis par un autre nœud.
+     */
+    public static DamageStatistics restore(long count, long failures, double mean, double m2, long min, long max) {
+        DamageStatistics statistics = new DamageStatistics();
+        statistics.count = count;
+        statistics.failures = failures;
+        statistics.mean = mean;
+        statistics.m2 = m2;
+        statistics.min = count > 0 ? min : Long.MAX_VALUE;
+        statistics.max = count > 0 ? max : Long.MIN_VALUE;
+        return statistics;
+    }
+
+    public void merge(DamageStatistics other) {
+        failures += other.failures;
+        if (other.count == 0) return;
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long count() { return count; }
+
+    public long failures() { return failures; }
+
+    public double mean() { return count > 0 ? mean : 0; }
+
+    public long min() { return count > 0 ? min : 0; }
+
+    public long max() { return count > 0 ? max : 0; }
+
+    /** Somme des carrés des écarts à la moyenne. */
+    public double m2() { return m2; }
+
+    public double variance() {
+        return count > 1 ? m2 / (count - 1) : 0;
+    }
+
+    public double standardDeviation() {
+        return Math.sqrt(variance());
+    }
+}
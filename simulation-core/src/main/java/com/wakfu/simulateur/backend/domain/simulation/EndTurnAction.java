@@ -0,0 +1,11 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+public record EndTurnAction() implements TimelineAction {
+
+    public static final EndTurnAction INSTANCE = new EndTurnAction();
+
+    @Override
+    public ActionType type() {
+        return ActionType.END_TURN;
+    }
+}
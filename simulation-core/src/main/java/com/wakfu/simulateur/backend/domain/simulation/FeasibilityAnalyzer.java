@@ -0,0 +1,313 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wakfu.simulateur.backend.domain.board.MechanismType;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveEffect;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellEffect;
+import com.wakfu.simulateur.backend.domain.spell.SpellVariant;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+import com.wakfu.simulateur.backend.domain.status.StatusEffect;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Analyse statique d'une timeline, sans exécuter le moteur : majore les PA, PW et PM disponibles
+ * à chaque action et vérifie recharges et limites d'utilisation par tour. Si la majoration ne
+ * suffit pas, aucune exécution ne peut réussir et la timeline est rejetée.
+ * <p>
+ * Sources de gain prises en compte, conditions comprises (le majorant reste valable quelles
+ * que soient les conditions) :
+ * <ul>
+ *   <li>effets ADD_AP / ADD_PW / ADD_MP des sorts lancés, meilleure variante ;</li>
+ *   <li>statuts posés par les sorts ou les passifs (auras du Régulateur, du Sinistro…) :
+ *   gain une fois à l'application, à chaque tour pour les ticks de tour, à chaque action sinon ;</li>
+ *   <li>passifs équipés, selon la même règle de fréquence.</li>
+ * </ul>
+ * Un gain dont le montant dépend de l'état (charges, mécanismes adjacents) est considéré illimité.
+ */
+public final class FeasibilityAnalyzer {
+
+    private static final long UNBOUNDED = Long.MAX_VALUE / 4;
+
+    private final Function<String, Optional<StatusDefinition>> statuses;
+    private final Collection<Passive> passives;
+
+    public FeasibilityAnalyzer(Function<String, Optional<StatusDefinition>> statuses, Collection<Passive> passives) {
+        this.statuses = statuses;
+        this.passives = List.copyOf(passives);
+    }
+
+    public FeasibilityReport analyze(SimulationRequest request) {
+        return new Pass(request).run();
+    }
+
+    private enum Frequency { ONCE, PER_TURN, PER_ACTION }
+
+    /**
+     * Gains majorés par ressource (PA, PW, PM).
+     */
+    private static final class Gains {
+        long pa;
+        long pw;
+        long mp;
+
+        void add(ResourceKind kind, long amount) {
+            switch (kind) {
+                case PA -> pa = saturatedAdd(pa, amount);
+                case PW -> pw = saturatedAdd(pw, amount);
+                case MP -> mp = saturatedAdd(mp, amount);
+            }
+        }
+
+        void max(Gains other) {
+            pa = Math.max(pa, other.pa);
+            pw = Math.max(pw, other.pw);
+            mp = Math.max(mp, other.mp);
+        }
+    }
+
+    private final class Pass {
+
+        private final SimulationRequest request;
+        private final SimulationContext context;
+        private final Gains perTurn = new Gains();
+        private final Gains perAction = new Gains();
+        private final Set<String> appliedStatuses = new HashSet<>();
+        private final Map<String, Integer> availableAtTurn = new HashMap<>();
+        private final Map<String, Integer> uses;
+        private final boolean cooldownsReducible;
+        private boolean dialPossible;
+        private long pa;
+        private long pw;
+        private long mp;
+        private int turn;
+        private Position position;
+
+        Pass(SimulationRequest request) {
+            this.request = request;
+            this.context = request.context();
+            this.uses = new HashMap<>(context.usesThisTurn());
+            this.turn = context.turn();
+            this.position = context.position();
+            this.pa = context.pa();
+            this.pw = context.pw();
+            this.mp = context.mp();
+            this.dialPossible = context.board().count(MechanismType.DIAL) > 0;
+            this.cooldownsReducible = mentionsCooldown();
+            context.cooldowns().forEach((spellId, remaining) -> availableAtTurn.put(spellId, turn + remaining));
+        }
+
+        FeasibilityReport run() {
+            Gains once = new Gains();
+            for (Passive passive : passives) {
+                for (PassiveEffect effect : passive.effects()) {
+                    register(effect.trigger(), effect.effectType(), textParam(effect.params(), "status"),
+                            amount(effect.params()), once);
+                }
+            }
+            context.statuses().keySet().forEach(statusId -> applyStatus(statusId, new Gains()));
+            // Le tour en cours a déjà commencé : ses gains de début de tour sont majorés aussi.
+            credit(once);
+            credit(perTurn);
+
+            List<TimelineStep> steps = request.steps();
+            for (int i = 0; i < steps.size(); i++) {
+                for (TimelineAction action : steps.get(i).actions()) {
+                    String failure = check(action);
+                    if (failure != null) return FeasibilityReport.infeasible(i, failure);
+                    credit(perAction);
+                }
+            }
+            return FeasibilityReport.FEASIBLE;
+        }
+
+        private String check(TimelineAction action) {
+            if (action instanceof SpellCastAction cast) return cast(cast);
+            if (action instanceof MoveAction move) return move(move);
+            endTurn();
+            return null;
+        }
+
+        private String cast(SpellCastAction cast) {
+            Spell spell = cast.spell();
+            Integer available = availableAtTurn.get(spell.id());
+            if (!cooldownsReducible && available != null && turn < available) {
+                return spell.name() + " est en recharge jusqu'au tour " + available + " (tour " + turn + ")";
+            }
+            int used = uses.getOrDefault(spell.id(), 0);
+            if (used >= spell.usePerTurn()) {
+                return spell.name() + " ne peut être utilisé que " + spell.usePerTurn() + " fois par tour";
+            }
+            if (pa < spell.paCost()) {
+                return "PA insuffisants au tour " + turn + " (besoin: " + spell.paCost() + ", au plus " + pa + ")";
+            }
+            if (pw < spell.pwCost()) {
+                return "WP insuffisants au tour " + turn + " (besoin: " + spell.pwCost() + ", au plus " + pw + ")";
+            }
+
+            pa -= spell.paCost();
+            pw -= spell.pwCost();
+            uses.put(spell.id(), used + 1);
+            if (spell.cooldown() > 0) availableAtTurn.put(spell.id(), turn + spell.cooldown());
+
+            Gains best = new Gains();
+            for (SpellVariant variant : variants(spell, cast)) {
+                Gains gains = new Gains();
+                for (SpellEffect effect : variant.effects()) {
+                    String phase = isCastPhase(effect.phase()) ? "ON_APPL" : effect.phase();
+                    register(phase, effect.effectType(), effect.textParam("status"), amount(effect.params()), gains);
+                    if ("SUMMON_MECHANISM".equals(effect.effectType())
+                            && MechanismType.DIAL.name().equals(effect.textParam("mechanism"))) {
+                        dialPossible = true;
+                    }
+                    if (movesCaster(effect.effectType())) position = null;
+                }
+                best.max(gains);
+            }
+            credit(best);
+            return null;
+        }
+
+        /**
+         * Un déplacement coûte au moins la distance de Manhattan en PM, sauf d'heure à heure du cadran
+         * (payé en PW) : sans cadran possible et depuis une position connue, le minorant s'applique.
+         */
+        private String move(MoveAction move) {
+            Position target = move.target();
+            if (position != null && !dialPossible) {
+                int minimum = position.manhattanDistance(target);
+                if (mp < minimum) {
+                    return "PM insuffisants au tour " + turn + " (besoin: au moins " + minimum + ", au plus " + mp + ")";
+                }
+                mp -= minimum;
+            }
+            position = target;
+            return null;
+        }
+
+        private void endTurn() {
+            turn++;
+            pa = saturatedAdd(context.maxPa(), perTurn.pa);
+            mp = saturatedAdd(context.maxMp(), perTurn.mp);
+            pw = saturatedAdd(pw, perTurn.pw);
+            uses.clear();
+        }
+
+        private void credit(Gains gains) {
+            pa = saturatedAdd(pa, gains.pa);
+            pw = saturatedAdd(pw, gains.pw);
+            mp = saturatedAdd(mp, gains.mp);
+        }
+
+        /**
+         * Enregistre un effet : gain immédiat ({@code once}), source récurrente, ou statut appliqué.
+         */
+        private void register(String trigger, String effectType, String statusId, long amount, Gains once) {
+            if (effectType == null) return;
+            if (effectType.startsWith("APPLY_STATUS")) {
+                if (statusId != null) applyStatus(statusId, once);
+                return;
+            }
+            ResourceKind kind = resourceOf(effectType);
+            if (kind == null) return;
+            switch (frequency(trigger)) {
+                case ONCE -> once.add(kind, amount);
+                case PER_TURN -> perTurn.add(kind, amount);
+                case PER_ACTION -> perAction.add(kind, amount);
+            }
+        }
+
+        /**
+         * Un statut est compté une seule fois, à son nombre maximal de cumuls. Un statut inconnu du
+         * catalogue rend tous les gains illimités.
+         */
+        private void applyStatus(String statusId, Gains once) {
+            if (!appliedStatuses.add(statusId)) return;
+            StatusDefinition status = statuses.apply(statusId).orElse(null);
+            if (status == null) {
+                for (ResourceKind kind : ResourceKind.values()) perTurn.add(kind, UNBOUNDED);
+                return;
+            }
+            long stacks = Math.max(1, status.maxStacks());
+            for (StatusEffect effect : status.effects()) {
+                long amount = amount(effect.params());
+                register(effect.tickPhase(), effect.effectType(), textParam(effect.params(), "status"),
+                        amount >= UNBOUNDED ? UNBOUNDED : amount * stacks, once);
+            }
+        }
+
+        private List<SpellVariant> variants(Spell spell, SpellCastAction cast) {
+            if (cast.forcedVariant() != null) {
+                return spell.resolveVariant(cast.forcedVariant()).map(List::of).orElse(List.of());
+            }
+            return spell.variants();
+        }
+
+        private boolean mentionsCooldown() {
+            for (TimelineStep step : request.steps()) {
+                for (TimelineAction action : step.actions()) {
+                    if (!(action instanceof SpellCastAction cast)) continue;
+                    for (SpellVariant variant : cast.spell().variants()) {
+                        for (SpellEffect effect : variant.effects()) {
+                            if (effect.effectType() != null && effect.effectType().contains("COOLDOWN")) return true;
+                        }
+                    }
+                }
+            }
+            return passives.stream()
+                    .flatMap(passive -> passive.effects().stream())
+                    .anyMatch(effect -> effect.effectType() != null && effect.effectType().contains("COOLDOWN"));
+        }
+    }
+
+    private static Frequency frequency(String trigger) {
+        if (trigger == null || "ON_APPL".equals(trigger) || "ON_PASSIVE_EQUIPPED".equals(trigger)) {
+            return Frequency.ONCE;
+        }
+        if (trigger.contains("TURN_START") || trigger.contains("TURN_END")) return Frequency.PER_TURN;
+        return Frequency.PER_ACTION;
+    }
+
+    private static ResourceKind resourceOf(String effectType) {
+        if (effectType.startsWith("ADD_AP")) return ResourceKind.PA;
+        if (effectType.equals("ADD_PW")) return ResourceKind.PW;
+        if (effectType.startsWith("ADD_MP")) return ResourceKind.MP;
+        return null;
+    }
+
+    /**
+     * Montant fixe du paramètre {@code amount} ; absent ou non positif = dépendant de l'état, donc illimité.
+     */
+    private static long amount(JsonNode params) {
+        if (params == null || !params.path("amount").canConvertToInt()) return UNBOUNDED;
+        int amount = params.path("amount").asInt();
+        return amount > 0 ? amount : UNBOUNDED;
+    }
+
+    private static String textParam(JsonNode params, String name) {
+        if (params == null || !params.hasNonNull(name)) return null;
+        return params.get(name).asText();
+    }
+
+    private static boolean isCastPhase(String phase) {
+        return "ON_CAST".equals(phase) || "PRE_CAST".equals(phase) || "IMMEDIATE".equals(phase) || "ON_HIT".equals(phase);
+    }
+
+    private static boolean movesCaster(String effectType) {
+        return effectType != null
+                && (effectType.contains("TELEPORT") || effectType.contains("SWAP") || effectType.contains("REWIND"));
+    }
+
+    private static long saturatedAdd(long value, long gain) {
+        return Math.min(UNBOUNDED, value + Math.min(UNBOUNDED, gain));
+    }
+}
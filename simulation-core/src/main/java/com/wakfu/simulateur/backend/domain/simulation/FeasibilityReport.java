@@ -0,0 +1,13 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+/**
+ * Verdict de l'analyse statique : {@code stepIndex} est la première étape qui ne peut réussir.
+ */
+public record FeasibilityReport(boolean feasible, int stepIndex, String reason) {
+
+    public static final FeasibilityReport FEASIBLE = new FeasibilityReport(true, -1, null);
+
+    public static FeasibilityReport infeasible(int stepIndex, String reason) {
+        return new FeasibilityReport(false, stepIndex, reason);
+    }
+}
@@ -0,0 +1,24 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+/**
+ * Résultat agrégé d'une plage de runs Monte Carlo : statistiques, histogramme et meilleurs runs.
+ * Les plages disjointes d'un même job se fusionnent dans n'importe quel ordre.
+ */
+public record MonteCarloPartial(DamageStatistics statistics, DamageHistogram histogram, TopRuns topRuns) {
+
+    public static MonteCarloPartial empty(long bucketWidth, int topRuns) {
+        return new MonteCarloPartial(new DamageStatistics(), new DamageHistogram(bucketWidth), new TopRuns(topRuns));
+    }
+
+    public void add(int run, SimulationResult result) {
+        statistics.add(result);
+        histogram.add(result.totalDamage());
+        topRuns.add(run, result.totalDamage());
+    }
+
+    public void merge(MonteCarloPartial other) {
+        statistics.merge(other.statistics);
+        histogram.merge(other.histogram);
+        topRuns.merge(other.topRuns);
+    }
+}
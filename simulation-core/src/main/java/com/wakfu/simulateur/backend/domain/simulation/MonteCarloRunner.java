@@ -0,0 +1,36 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Exécute une plage {@code [firstRun, firstRun + runs)} des runs d'un job Monte Carlo. Le run
+ * {@code i} tire ses critiques dans le {@code i}-ème générateur issu de la graine du job : une plage
+ * donne le même résultat quel que soit le nœud qui l'exécute et le découpage du job.
+ */
+public final class MonteCarloRunner {
+
+    private final SimulationEngine engine;
+
+    public MonteCarloRunner(SimulationEngine engine) {
+        this.engine = engine;
+    }
+
+    public MonteCarloPartial run(SimulationRequest request, long seed, int firstRun, int runs, long bucketWidth,
+                                 int topRuns, SimulationMonitor monitor, Consumer<SimulationResult> onRun) {
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int skipped = 0; skipped < firstRun; skipped++) {
+            root.split();
+        }
+        MonteCarloPartial partial = MonteCarloPartial.empty(bucketWidth, topRuns);
+        for (int run = firstRun; run < firstRun + runs; run++) {
+            if (monitor.isCancelled()) {
+                throw new SimulationCancelledException(0);
+            }
+            SimulationResult result = engine.simulate(request, root.split(), monitor);
+            partial.add(run, result);
+            onRun.accept(result);
+        }
+        return partial;
+    }
+}
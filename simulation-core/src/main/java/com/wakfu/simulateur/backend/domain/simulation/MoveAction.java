@@ -0,0 +1,9 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+public record MoveAction(Position target) implements TimelineAction {
+
+    @Override
+    public ActionType type() {
+        return ActionType.MOVE;
+    }
+}
@@ -0,0 +1,18 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+public enum Orientation {
+
+    FRONT(1.0),
+    SIDE(1.1),
+    BACK(1.25);
+
+    private final double damageBonus;
+
+    Orientation(double damageBonus) {
+        this.damageBonus = damageBonus;
+    }
+
+    public double damageBonus() {
+        return damageBonus;
+    }
+}
@@ -0,0 +1,31 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+/**
+ * Comparaison de deux builds sur la même timeline. L'arrêt intervient dès que la demi-largeur de
+ * l'intervalle de confiance de la différence moyenne passe sous la précision visée : absolue
+ * ({@code precision}, en dégâts) ou relative aux dégâts moyens du build A ({@code relativePrecision}) ;
+ * la plus large des deux l'emporte, une valeur nulle est ignorée.
+ *
+ * @param minRuns    runs effectués avant de tester l'arrêt
+ * @param batchSize  runs entre deux tests d'arrêt
+ * @param confidence niveau de confiance de l'intervalle, entre 0,5 et 1 exclus
+ */
+public record PairedComparisonRequest(SimulationRequest a, SimulationRequest b, long seed, int minRuns,
+                                      int maxRuns, int batchSize, double precision, double relativePrecision,
+                                      double confidence) {
+
+    public PairedComparisonRequest {
+        if (minRuns < 2 || maxRuns < minRuns) {
+            throw new IllegalArgumentException("Bornes de runs invalides: " + minRuns + " à " + maxRuns);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Taille de lot invalide: " + batchSize);
+        }
+        if (precision < 0 || relativePrecision < 0 || (precision == 0 && relativePrecision == 0)) {
+            throw new IllegalArgumentException("Précision visée invalide");
+        }
+        if (!(confidence > 0.5 && confidence < 1)) {
+            throw new IllegalArgumentException("Niveau de confiance invalide: " + confidence);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+/**
+ * Résultat d'une comparaison appariée. {@code difference} agrège les écarts B - A run par run ;
+ * l'intervalle de confiance est centré sur leur moyenne.
+ *
+ * @param precisionReached vrai si l'arrêt a eu lieu avant {@code maxRuns}
+ */
+public record PairedComparisonResult(int runs, boolean precisionReached, double confidence, DamageStatistics a,
+                                     DamageStatistics b, DamageStatistics difference, double halfWidth,
+                                     long aBetter, long bBetter, long ties) {
+
+    public double lower() {
+        return difference.mean() - halfWidth;
+    }
+
+    public double upper() {
+        return difference.mean() + halfWidth;
+    }
+
+    /**
+     * Facteur de réduction de variance par rapport à deux séries indépendantes : autant de fois moins
+     * de runs pour la même précision. Vide si les écarts sont tous identiques.
+     */
+    public Double varianceReduction() {
+        double paired = difference.variance();
+        return paired > 0 ? (a.variance() + b.variance()) / paired : null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+public record Position(int x, int y) {
+
+    public static final Position ORIGIN = new Position(0, 0);
+
+    public int manhattanDistance(Position other) {
+        return Math.abs(x - other.x) + Math.abs(y - other.y);
+    }
+}
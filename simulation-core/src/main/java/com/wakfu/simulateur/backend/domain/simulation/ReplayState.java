@@ -0,0 +1,32 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import java.util.Map;
+
+/**
+ * État du lanceur reconstruit par {@link TraceReplayer} après un nombre donné d'étapes.
+ */
+public record ReplayState(
+        int completedSteps,
+        int turn,
+        int pa,
+        int mp,
+        int pw,
+        Position position,
+        int dialHour,
+        long totalDamage,
+        Map<String, Integer> cooldowns,
+        Map<String, Integer> statuses,
+        String failure
+) {
+
+    public ReplayState {
+        cooldowns = Map.copyOf(cooldowns);
+        statuses = Map.copyOf(statuses);
+    }
+
+    static ReplayState of(int completedSteps, SimulationContext context, long totalDamage, String failure) {
+        return new ReplayState(completedSteps, context.turn(), context.pa(), context.mp(), context.pw(),
+                context.position(), context.dialHour(), totalDamage,
+                context.cooldowns(), context.statuses(), failure);
+    }
+}
@@ -0,0 +1,8 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+public enum ResourceKind {
+
+    PA,
+    PW,
+    MP
+}
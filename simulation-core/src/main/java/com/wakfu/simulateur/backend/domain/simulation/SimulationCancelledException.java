@@ -0,0 +1,12 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+public class SimulationCancelledException extends RuntimeException {
+
+    public SimulationCancelledException(int stepIndex) {
+        super("Simulation annulée avant l'étape " + (stepIndex + 1));
+    }
+
+    public SimulationCancelledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,260 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import com.wakfu.simulateur.backend.domain.board.Board;
+import com.wakfu.simulateur.backend.domain.board.BoardUnit;
+import com.wakfu.simulateur.backend.domain.board.MoveCost;
+import com.wakfu.simulateur.backend.domain.board.UnitKind;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * État mutable du lanceur pendant une simulation (ressources, position, recharges, utilisations du tour,
+ * heure du cadran et statuts actifs). En combat à plusieurs, chaque combattant a son propre contexte
+ * sur le plateau partagé, où il est désigné par {@link #casterId()}.
+ */
+public class SimulationContext {
+
+    public static final int INFINITE = -1;
+    public static final int DIAL_HOURS = 12;
+    public static final String CASTER_ID = "caster";
+
+    private final int maxPa;
+    private final int maxMp;
+    private int pa;
+    private int mp;
+    private int pw;
+    private int turn = 1;
+    private Position position;
+    private final Map<String, Integer> cooldowns = new HashMap<>();
+    private final Map<String, Integer> usesThisTurn = new HashMap<>();
+    private final Map<String, Integer> statuses = new HashMap<>();
+    private int dialHour;
+    private final Board board;
+    private final String casterId;
+
+    public SimulationContext(int pa, int mp, int pw) {
+        this(pa, mp, pw, Position.ORIGIN);
+    }
+
+    public SimulationContext(int pa, int mp, int pw, Position position) {
+        this(pa, mp, pw, position, Board.standard());
+    }
+
+    /**
+     * Le lanceur est placé sur le plateau à sa position de départ, qui doit être libre et sur le plateau.
+     */
+    public SimulationContext(int pa, int mp, int pw, Position position, Board board) {
+        this(pa, mp, pw, position, board, CASTER_ID);
+    }
+
+    /**
+     * Contexte d'un combattant déjà placé sur un plateau partagé sous l'identifiant {@code casterId}.
+     */
+    public SimulationContext(int pa, int mp, int pw, Position position, Board board, String casterId) {
+        this.maxPa = pa;
+        this.maxMp = mp;
+        this.pa = pa;
+        this.mp = mp;
+        this.pw = pw;
+        this.position = position;
+        this.board = board;
+        this.casterId = casterId;
+        if (board.find(casterId).isEmpty()) {
+            if (!board.isFree(position)) {
+                throw new IllegalArgumentException("Position de départ hors du plateau ou occupée: " + position);
+            }
+            board.place(BoardUnit.entity(casterId, UnitKind.PLAYER, position));
+        }
+    }
+
+    public static SimulationContext of(CharacterStats stats, Position position) {
+        return new SimulationContext(stats.ap(), stats.mp(), stats.wp(), position);
+    }
+
+    public static SimulationContext of(CharacterStats stats, Position position, Board board) {
+        return new SimulationContext(stats.ap(), stats.mp(), stats.wp(), position, board);
+    }
+
+    public SimulationContext copy() {
+        SimulationContext copy = new SimulationContext(maxPa, maxMp, pw, position, board.copy(), casterId);
+        copy.pa = pa;
+        copy.mp = mp;
+        copy.turn = turn;
+        copy.cooldowns.putAll(cooldowns);
+        copy.usesThisTurn.putAll(usesThisTurn);
+        copy.statuses.putAll(statuses);
+        copy.dialHour = dialHour;
+        return copy;
+    }
+
+    public int pa() { return pa; }
+
+    public int mp() { return mp; }
+
+    public int pw() { return pw; }
+
+    public int turn() { return turn; }
+
+    public Position position() { return position; }
+
+    public int maxPa() { return maxPa; }
+
+    public int maxMp() { return maxMp; }
+
+    public int dialHour() { return dialHour; }
+
+    public Board board() { return board; }
+
+    public String casterId() { return casterId; }
+
+    /**
+     * Camp adverse du lanceur, cible des dégâts de zone.
+     */
+    public UnitKind opponents() {
+        return board.find(casterId).map(BoardUnit::kind).orElse(UnitKind.PLAYER) == UnitKind.ENEMY
+                ? UnitKind.PLAYER : UnitKind.ENEMY;
+    }
+
+    public void spend(int paCost, int pwCost, int mpCost) {
+        pa -= paCost;
+        pw -= pwCost;
+        mp -= mpCost;
+    }
+
+    public void addPa(int amount) { pa += amount; }
+
+    public void addPw(int amount) { pw += amount; }
+
+    public void addMp(int amount) { mp += amount; }
+
+    public void moveTo(Position target) {
+        if (board.find(casterId).isPresent()) {
+            board.move(casterId, target);
+        }
+        this.position = target;
+    }
+
+    /**
+     * Cases atteignables depuis la position courante avec les PM et PW restants
+     * (vide si le lanceur n'est pas sur le plateau).
+     */
+    public List<MoveCost> reachableCells() {
+        if (board.find(casterId).isEmpty()) return List.of();
+        return board.movementField(position).reachable(mp, pw);
+    }
+
+    /**
+     * Réaligne la position du lanceur sur le plateau après une téléportation ou un échange.
+     */
+    public void syncPosition() {
+        board.find(casterId).ifPresent(caster -> this.position = caster.position());
+    }
+
+    /**
+     * Avance l'heure du cadran (0 à 11) et renvoie la nouvelle heure.
+     */
+    public int advanceDial(int hours) {
+        dialHour = Math.floorMod(dialHour + hours, DIAL_HOURS);
+        return dialHour;
+    }
+
+    /**
+     * Applique un statut pour {@code duration} tours ({@link #INFINITE} si sans fin).
+     */
+    public void applyStatus(String statusId, int duration) {
+        statuses.put(statusId, duration);
+    }
+
+    public boolean hasStatus(String statusId) {
+        return statuses.containsKey(statusId);
+    }
+
+    public Map<String, Integer> cooldowns() {
+        return Collections.unmodifiableMap(cooldowns);
+    }
+
+    public Map<String, Integer> statuses() {
+        return Collections.unmodifiableMap(statuses);
+    }
+
+    Map<String, Integer> usesThisTurn() {
+        return Collections.unmodifiableMap(usesThisTurn);
+    }
+
+    ContextDelta.Scalars scalars() {
+        return new ContextDelta.Scalars(pa, mp, pw, turn, dialHour, position);
+    }
+
+    /**
+     * Ouvre un point de reprise : {@link ContextDelta.Checkpoint#delta()} renverra les changements
+     * survenus depuis, plateau compris.
+     */
+    public ContextDelta.Checkpoint checkpoint() {
+        return new ContextDelta.Checkpoint(this, scalars(), cooldowns, usesThisTurn, statuses);
+    }
+
+    /**
+     * Amène le contexte dans l'état {@code after} du delta (appliquer l'inverse l'annule).
+     */
+    public void apply(ContextDelta delta) {
+        ContextDelta.Scalars after = delta.after();
+        pa = after.pa();
+        mp = after.mp();
+        pw = after.pw();
+        turn = after.turn();
+        dialHour = after.dialHour();
+        position = after.position();
+        delta.cooldowns().applyTo(cooldowns);
+        delta.usesThisTurn().applyTo(usesThisTurn);
+        delta.statuses().applyTo(statuses);
+        board.apply(delta.board());
+    }
+
+    public int remainingCooldown(String spellId) {
+        return cooldowns.getOrDefault(spellId, 0);
+    }
+
+    public int usesThisTurn(String spellId) {
+        return usesThisTurn.getOrDefault(spellId, 0);
+    }
+
+    public void recordCast(String spellId, int cooldown) {
+        usesThisTurn.merge(spellId, 1, Integer::sum);
+        if (cooldown > 0) cooldowns.put(spellId, cooldown);
+    }
+
+    /**
+     * Fin de tour : PA/PM restaurés, recharges et durées de statuts décrémentées, compteurs du tour
+     * remis à zéro. Les PW ne se régénèrent pas.
+     */
+    public void endTurn() {
+        turn++;
+        pa = maxPa;
+        mp = maxMp;
+        usesThisTurn.clear();
+        cooldowns.replaceAll((id, remaining) -> remaining - 1);
+        cooldowns.values().removeIf(remaining -> remaining <= 0);
+        statuses.replaceAll((id, remaining) -> remaining == INFINITE ? INFINITE : remaining - 1);
+        statuses.values().removeIf(remaining -> remaining == 0);
+    }
+
+    /**
+     * Reconstitue un contexte à partir de son état complet (relecture d'une trace), sur un plateau vide
+     * aux dimensions de celui de la simulation.
+     */
+    static SimulationContext restore(int maxPa, int maxMp, int pa, int mp, int pw, int turn, Board board,
+                                     Position position, int dialHour, Map<String, Integer> cooldowns,
+                                     Map<String, Integer> statuses) {
+        SimulationContext context = new SimulationContext(maxPa, maxMp, pw, position, board);
+        context.pa = pa;
+        context.mp = mp;
+        context.turn = turn;
+        context.dialHour = dialHour;
+        context.cooldowns.putAll(cooldowns);
+        context.statuses.putAll(statuses);
+        return context;
+    }
+}
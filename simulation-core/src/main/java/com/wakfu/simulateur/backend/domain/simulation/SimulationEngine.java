@@ -0,0 +1,463 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import com.wakfu.simulateur.backend.domain.board.AreaShape;
+import com.wakfu.simulateur.backend.domain.board.AreaTemplate;
+import com.wakfu.simulateur.backend.domain.board.Board;
+import com.wakfu.simulateur.backend.domain.board.BoardUnit;
+import com.wakfu.simulateur.backend.domain.board.MechanismType;
+import com.wakfu.simulateur.backend.domain.board.MoveCost;
+import com.wakfu.simulateur.backend.domain.board.UnitKind;
+import com.wakfu.simulateur.backend.domain.jfr.EffectExecutionEvent;
+import com.wakfu.simulateur.backend.domain.jfr.FlightEvents;
+import com.wakfu.simulateur.backend.domain.jfr.SimulationRunEvent;
+import com.wakfu.simulateur.backend.domain.jfr.TimelineStepEvent;
+import com.wakfu.simulateur.backend.domain.passive.PassiveModifiers;
+import com.wakfu.simulateur.backend.domain.passive.SpellModifier;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellEffect;
+import com.wakfu.simulateur.backend.domain.spell.SpellVariant;
+import com.wakfu.simulateur.backend.domain.spell.VariantKind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Moteur de simulation côté backend : exécute une timeline étape par étape pour un lanceur.
+ * Seuls les effets inconditionnels de lancer (DEAL_DAMAGE, DEAL_AROUND_MECHANISM, ADD_AP, ADD_PW, ADD_MP,
+ * ADVANCE_DIAL, APPLY_STATUS, SUMMON_MECHANISM, TELEPORT, TELEPORT_SYMMETRIC) sont résolus ; la simulation
+ * s'arrête à la première action en échec. Les effets conditionnés uniquement par la barre de passifs
+ * sont évalués sur les {@link PassiveModifiers} de la requête, qui ajustent aussi coûts, recharges,
+ * limites de mécanismes et gains de début de tour. Les déplacements sont validés sur le champ de distances
+ * du plateau (contournement des unités, heure à heure du cadran en PW).
+ * <p>
+ * Sans ennemi sur le plateau, un effet de dégâts est une frappe abstraite unique. Sinon chaque ennemi
+ * de la zone de l'effet ({@code shape}/{@code range} ou {@code area}, case ciblée par défaut) est touché
+ * avec sa résistance : les gabarits de zone sont croisés avec l'index des cases du plateau et le calcul
+ * commun au lancer n'est fait qu'une fois. DEAL_AROUND_MECHANISM frappe autour de chaque mécanisme du type donné.
+ * Chaque changement d'état est signalé au {@link SimulationRecorder} fourni. Runs, étapes et effets
+ * émettent des événements JFR quand {@link FlightEvents} est activé.
+ */
+public class SimulationEngine {
+
+    private final DamageCalculator damageCalculator = new DamageCalculator();
+
+    public SimulationResult simulate(SimulationRequest request) {
+        return simulate(request, new SplittableRandom(), SimulationMonitor.NONE);
+    }
+
+    public SimulationResult simulate(SimulationRequest request, RandomGenerator random, SimulationMonitor monitor) {
+        return simulate(request, random, monitor, SimulationRecorder.NONE);
+    }
+
+    public SimulationResult simulate(SimulationRequest request, RandomGenerator random, SimulationMonitor monitor,
+                                     SimulationRecorder recorder) {
+        SimulationContext context = request.context().copy();
+        SimulationRunEvent runEvent = null;
+        if (FlightEvents.enabled()) {
+            runEvent = new SimulationRunEvent();
+            runEvent.begin();
+        }
+        recorder.start(context);
+        List<TimelineStep> steps = request.steps();
+        List<ActionResult> results = new ArrayList<>();
+        long totalDamage = 0;
+        int completedSteps = 0;
+
+        for (int i = 0; i < steps.size(); i++) {
+            if (monitor.isCancelled()) {
+                throw new SimulationCancelledException(i);
+            }
+            recorder.step(i);
+            TimelineStepEvent stepEvent = null;
+            if (FlightEvents.enabled()) {
+                stepEvent = new TimelineStepEvent();
+                stepEvent.begin();
+            }
+            List<TimelineAction> actions = steps.get(i).actions();
+            long stepDamage = 0;
+            boolean failed = false;
+            for (TimelineAction action : actions) {
+                ActionResult result = execute(i, action, request.stats(), request.modifiers(), context, random, recorder);
+                results.add(result);
+                stepDamage += result.damage();
+                if (!result.succeeded()) {
+                    recorder.failed(result.message());
+                    failed = true;
+                    break;
+                }
+            }
+            totalDamage += stepDamage;
+            if (stepEvent != null && stepEvent.shouldCommit()) {
+                stepEvent.fighter = context.casterId();
+                stepEvent.stepIndex = i;
+                stepEvent.actions = actions.size();
+                stepEvent.damage = stepDamage;
+                stepEvent.commit();
+            }
+            if (failed) break;
+            completedSteps++;
+            monitor.onStepCompleted(completedSteps, steps.size());
+        }
+
+        if (runEvent != null && runEvent.shouldCommit()) {
+            runEvent.fighter = context.casterId();
+            runEvent.steps = steps.size();
+            runEvent.completedSteps = completedSteps;
+            runEvent.totalDamage = totalDamage;
+            runEvent.commit();
+        }
+        return new SimulationResult(results, completedSteps, totalDamage,
+                context.pa(), context.pw(), context.mp(), context.turn());
+    }
+
+    /**
+     * Exécute une seule action sur le contexte (jeu interactif) ; une action en échec ne modifie pas l'état.
+     */
+    public ActionResult execute(int stepIndex, TimelineAction action, CharacterStats stats, PassiveModifiers modifiers,
+                                SimulationContext context, RandomGenerator random, SimulationRecorder recorder) {
+        if (action instanceof SpellCastAction cast) {
+            return castSpell(stepIndex, cast, stats, modifiers, context, random, recorder);
+        }
+        if (action instanceof MoveAction move) {
+            return move(stepIndex, move, context, recorder);
+        }
+        context.endTurn();
+        recorder.turnEnded();
+        for (ResourceKind resource : ResourceKind.values()) {
+            gain(context, recorder, resource, modifiers.turnStartGain(resource));
+        }
+        return new ActionResult(stepIndex, ActionType.END_TURN, null, ActionStatus.SUCCESS,
+                "Tour " + context.turn(), 0, 0, 0, 0, false);
+    }
+
+    private ActionResult castSpell(int stepIndex, SpellCastAction cast, CharacterStats stats, PassiveModifiers modifiers,
+                                   SimulationContext context, RandomGenerator random, SimulationRecorder recorder) {
+        Spell spell = cast.spell();
+        SpellModifier cost = preCast(spell, modifiers);
+        int paCost = cost.paCost(spell);
+        int pwCost = cost.pwCost(spell);
+        int cooldown = cost.cooldown(spell);
+        String failure = validateCast(spell, paCost, pwCost, cast.target(), stats, context);
+        if (failure != null) {
+            return ActionResult.failure(stepIndex, ActionType.CAST_SPELL, spell.id(), failure);
+        }
+
+        boolean critical = cast.forcedVariant() != null
+                ? cast.forcedVariant() == VariantKind.CRIT
+                : random.nextDouble() * 100 < stats.critRate();
+        VariantKind kind = critical ? VariantKind.CRIT : VariantKind.NORMAL;
+
+        context.spend(paCost, pwCost, 0);
+        context.recordCast(spell.id(), cooldown);
+        recorder.cast(spell.id(), critical, paCost, pwCost, cooldown);
+
+        int damage = 0;
+        SpellVariant variant = spell.resolveVariant(kind).orElse(null);
+        if (variant != null) {
+            for (SpellEffect effect : variant.effects()) {
+                if (!isCastPhase(effect.phase()) || !applies(effect, modifiers)) continue;
+                EffectExecutionEvent effectEvent = null;
+                if (FlightEvents.enabled()) {
+                    effectEvent = new EffectExecutionEvent();
+                    effectEvent.begin();
+                }
+                int damageBefore = damage;
+                switch (effect.effectType()) {
+                    case "DEAL_DAMAGE", "DEAL_AROUND_MECHANISM" -> {
+                        int dealt = dealDamage(spell, effect, kind, stats, critical, cast.target(), context);
+                        if (dealt > 0) {
+                            damage += dealt;
+                            recorder.damage(dealt, element(spell, effect));
+                        }
+                    }
+                    case "ADD_AP" -> gain(context, recorder, ResourceKind.PA, effect.intParam("amount", 0));
+                    case "ADD_PW" -> gain(context, recorder, ResourceKind.PW, effect.intParam("amount", 0));
+                    case "ADD_MP" -> gain(context, recorder, ResourceKind.MP, effect.intParam("amount", 0));
+                    case "ADVANCE_DIAL" -> {
+                        int hours = effect.intParam("hours", 0);
+                        context.advanceDial(hours);
+                        recorder.dialAdvanced(hours);
+                    }
+                    case "APPLY_STATUS" -> {
+                        String statusId = effect.textParam("status");
+                        if (statusId == null) break;
+                        int duration = effect.intParam("duration", SimulationContext.INFINITE);
+                        context.applyStatus(statusId, duration);
+                        recorder.statusApplied(statusId, duration);
+                    }
+                    case "SUMMON_MECHANISM" -> summon(effect, cast.target(), modifiers, context);
+                    case "TELEPORT" -> pushBack(effect, cast.target(), context, recorder);
+                    case "TELEPORT_SYMMETRIC" -> symmetricTeleport(effect, cast.target(), context, recorder);
+                    default -> { }
+                }
+                if (effectEvent != null && effectEvent.shouldCommit()) {
+                    effectEvent.fighter = context.casterId();
+                    effectEvent.stepIndex = stepIndex;
+                    effectEvent.spellId = spell.id();
+                    effectEvent.effectType = effect.effectType();
+                    effectEvent.ordinal = effect.orderIndex();
+                    effectEvent.critical = critical;
+                    effectEvent.damage = damage - damageBefore;
+                    effectEvent.commit();
+                }
+            }
+        }
+
+        String message = spell.name() + ": " + (damage > 0 ? damage + " dégâts" : "aucun effet")
+                + (critical ? " (CRITIQUE !)" : "");
+        return new ActionResult(stepIndex, ActionType.CAST_SPELL, spell.id(), ActionStatus.SUCCESS, message,
+                paCost, pwCost, 0, damage, critical);
+    }
+
+    /**
+     * Coût et recharge effectifs : modificateurs des passifs équipés, puis effets PRE_CAST de la
+     * variante normale (EXTRA_COST_IF_PASSIVE, COOLDOWN_DELTA_IF_PASSIVE) dont les conditions sont remplies.
+     */
+    private static SpellModifier preCast(Spell spell, PassiveModifiers modifiers) {
+        SpellModifier cost = modifiers.spell(spell);
+        SpellVariant normal = spell.findVariant(VariantKind.NORMAL).orElse(null);
+        if (normal == null) return cost;
+        for (SpellEffect effect : normal.effects()) {
+            if (!"PRE_CAST".equals(effect.phase()) || !applies(effect, modifiers)) continue;
+            switch (effect.effectType()) {
+                case "EXTRA_COST_IF_PASSIVE" ->
+                        cost = cost.withExtraCost(effect.textParam("resource"), effect.intParam("extra", 0));
+                case "COOLDOWN_DELTA_IF_PASSIVE" -> cost = cost.withCooldownDelta(effect.intParam("delta", 0));
+                default -> { }
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * Effet inconditionnel, ou dont les conditions ne portent que sur les passifs et sont remplies.
+     */
+    private static boolean applies(SpellEffect effect, PassiveModifiers modifiers) {
+        return effect.conditionGroup()
+                .map(group -> modifiers.evaluate(group).orElse(false))
+                .orElse(true);
+    }
+
+    private String validateCast(Spell spell, int paCost, int pwCost, Position target, CharacterStats stats,
+                                SimulationContext context) {
+        int cooldown = context.remainingCooldown(spell.id());
+        if (cooldown > 0) {
+            return spell.name() + " est en recharge (" + cooldown + " tour(s))";
+        }
+        int uses = context.usesThisTurn(spell.id());
+        if (uses >= spell.usePerTurn()) {
+            return spell.name() + " ne peut être utilisé que " + spell.usePerTurn()
+                    + " fois par tour (déjà utilisé " + uses + " fois)";
+        }
+        if (context.pa() < paCost) {
+            return "PA insuffisants (besoin: " + paCost + ", disponible: " + context.pa() + ")";
+        }
+        if (context.pw() < pwCost) {
+            return "WP insuffisants (besoin: " + pwCost + ", disponible: " + context.pw() + ")";
+        }
+        if (target != null) {
+            int distance = context.position().manhattanDistance(target);
+            int maxRange = spell.poMax() + (spell.poModifiable() ? stats.range() : 0);
+            if (distance < spell.poMin() || distance > maxRange) {
+                return "Hors de portée (distance: " + distance + ", portée: " + spell.poMin() + "-" + maxRange + ")";
+            }
+        }
+        return null;
+    }
+
+    private int dealDamage(Spell spell, SpellEffect effect, VariantKind kind, CharacterStats stats, boolean critical,
+                           Position target, SimulationContext context) {
+        boolean aroundMechanism = "DEAL_AROUND_MECHANISM".equals(effect.effectType());
+        OptionalInt ratio = aroundMechanism ? OptionalInt.empty() : spell.ratioAt(kind.name(), stats.level());
+        if (ratio.isEmpty() && !aroundMechanism) ratio = spell.ratioAt(VariantKind.NORMAL.name(), stats.level());
+        int baseValue = ratio.isPresent() ? ratio.getAsInt()
+                : effect.intParam("amount", effect.intParam("perChargeAmount", 0));
+        if (baseValue <= 0) return 0;
+
+        Board board = context.board();
+        UnitKind opponents = context.opponents();
+        if (board.count(opponents) == 0) {
+            if (aroundMechanism) return 0;
+            return damageCalculator.directDamage(baseValue, stats, element(spell, effect), Orientation.FRONT, 0, critical);
+        }
+
+        DamageCalculator.Kernel kernel = damageCalculator.kernel(baseValue, stats, element(spell, effect), critical);
+        AreaTemplate area = area(effect);
+        Position caster = context.position();
+        if (!aroundMechanism) {
+            Position center = target != null ? target : caster;
+            return kernel.total(board.unitsIn(center, area, AreaTemplate.direction(caster, center), opponents));
+        }
+        MechanismType type = mechanismType(effect.textParam("kind"));
+        if (type == null) return 0;
+        int dealt = 0;
+        for (BoardUnit mechanism : board.units()) {
+            if (mechanism.mechanism() != type) continue;
+            Position center = mechanism.position();
+            dealt += kernel.total(board.unitsIn(center, area, AreaTemplate.direction(caster, center), opponents));
+        }
+        return dealt;
+    }
+
+    /**
+     * Zone d'un effet : {@code shape} + {@code range} (+ {@code includeCenter}), ou code compact
+     * {@code area} ({@code CROSS2}) ; une forme inconnue ou absente se réduit à la case ciblée.
+     */
+    private static AreaTemplate area(SpellEffect effect) {
+        try {
+            String shape = effect.textParam("shape");
+            if (shape != null) {
+                return AreaTemplate.of(AreaShape.valueOf(shape.toUpperCase(Locale.ROOT)),
+                        effect.intParam("range", 0), effect.boolParam("includeCenter", true));
+            }
+            String code = effect.textParam("area");
+            return code != null ? AreaTemplate.parse(code) : AreaTemplate.CELL;
+        } catch (IllegalArgumentException e) {
+            return AreaTemplate.CELL;
+        }
+    }
+
+    private static String element(Spell spell, SpellEffect effect) {
+        return effect.textParam("element") != null ? effect.textParam("element") : spell.element();
+    }
+
+    private static void gain(SimulationContext context, SimulationRecorder recorder, ResourceKind resource, int amount) {
+        if (amount == 0) return;
+        switch (resource) {
+            case PA -> context.addPa(amount);
+            case PW -> context.addPw(amount);
+            case MP -> context.addMp(amount);
+        }
+        recorder.resource(resource, amount);
+    }
+
+    private static boolean isCastPhase(String phase) {
+        return "ON_CAST".equals(phase) || "IMMEDIATE".equals(phase) || "ON_HIT".equals(phase);
+    }
+
+    private void summon(SpellEffect effect, Position target, PassiveModifiers modifiers, SimulationContext context) {
+        MechanismType type = mechanismType(effect.textParam("mechanism"));
+        Board board = context.board();
+        if (type == null || target == null || !board.isFree(target)) return;
+
+        int max = Math.max(1, effect.intParam("maxPerCaster", 1) + modifiers.mechanismLimitDelta(type));
+        if (board.count(type) >= max) {
+            if (!effect.boolParam("replaceExisting", false)) return;
+            board.removeOldest(type);
+        }
+        board.summon(type, target);
+    }
+
+    /**
+     * Repousse l'unité ciblée de {@code cells} cases dans l'axe lanceur → cible (swap si la case est occupée).
+     */
+    private void pushBack(SpellEffect effect, Position target, SimulationContext context, SimulationRecorder recorder) {
+        if (target == null || !"BACK".equals(effect.textParam("direction"))) return;
+        BoardUnit unit = context.board().unitAt(target).orElse(null);
+        if (unit == null) return;
+
+        int cells = effect.intParam("cells", 0);
+        int dx = Integer.signum(target.x() - context.position().x());
+        int dy = Integer.signum(target.y() - context.position().y());
+        if (Math.abs(target.x() - context.position().x()) >= Math.abs(target.y() - context.position().y())) dy = 0;
+        else dx = 0;
+        if (dx == 0 && dy == 0) return;
+
+        teleport(unit.id(), new Position(target.x() + dx * cells, target.y() + dy * cells), context, recorder);
+    }
+
+    /**
+     * Symétrie simple cible : le lanceur est téléporté symétriquement par rapport à la cible,
+     * ou la cible par rapport au lanceur sur une heure impaire si {@code reverseOnOddHour}.
+     */
+    private void symmetricTeleport(SpellEffect effect, Position target, SimulationContext context,
+                                   SimulationRecorder recorder) {
+        if (target == null || !"SINGLE_TARGET".equals(effect.textParam("mode"))) return;
+
+        boolean reverse = effect.boolParam("reverseOnOddHour", false) && context.dialHour() % 2 == 1;
+        Position caster = context.position();
+        Position anchor = reverse ? caster : target;
+        Position source = reverse ? target : caster;
+        String movingId = reverse
+                ? context.board().unitAt(target).map(BoardUnit::id).orElse(null)
+                : context.casterId();
+        if (movingId == null) return;
+
+        teleport(movingId, new Position(anchor.x() * 2 - source.x(), anchor.y() * 2 - source.y()), context, recorder);
+    }
+
+    private void teleport(String unitId, Position destination, SimulationContext context, SimulationRecorder recorder) {
+        Position before = context.position();
+        if (context.board().teleport(unitId, destination).applied()) {
+            context.syncPosition();
+            if (!context.position().equals(before)) {
+                recorder.move(context.position(), 0);
+            }
+        }
+    }
+
+    private static MechanismType mechanismType(String name) {
+        if (name == null) return null;
+        try {
+            return MechanismType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private ActionResult move(int stepIndex, MoveAction move, SimulationContext context, SimulationRecorder recorder) {
+        Position target = move.target();
+        Board board = context.board();
+        int mpCost = context.position().manhattanDistance(target);
+        if (board.find(context.casterId()).isPresent() && !target.equals(context.position())) {
+            if (!board.inBounds(target)) {
+                return ActionResult.failure(stepIndex, ActionType.MOVE, null,
+                        "Case hors du plateau (" + target.x() + ", " + target.y() + ")");
+            }
+            BoardUnit occupant = board.unitAt(target).orElse(null);
+            if (occupant != null) {
+                return ActionResult.failure(stepIndex, ActionType.MOVE, null, "Case occupée par " + occupant.id());
+            }
+            MoveCost cost = board.movementField(context.position()).cost(target).orElse(null);
+            if (cost == null) {
+                return ActionResult.failure(stepIndex, ActionType.MOVE, null,
+                        "Case inaccessible (" + target.x() + ", " + target.y() + ")");
+            }
+            if (cost.dialHour()) {
+                return moveOnDial(stepIndex, cost, context, recorder);
+            }
+            mpCost = cost.mp();
+        }
+        if (context.mp() < mpCost) {
+            return ActionResult.failure(stepIndex, ActionType.MOVE, null,
+                    "PM insuffisants (besoin: " + mpCost + ", disponible: " + context.mp() + ")");
+        }
+        context.spend(0, 0, mpCost);
+        context.moveTo(target);
+        recorder.move(target, mpCost);
+        return new ActionResult(stepIndex, ActionType.MOVE, null, ActionStatus.SUCCESS,
+                "Déplacé vers (" + target.x() + ", " + target.y() + ")", 0, 0, mpCost, 0, false);
+    }
+
+    /**
+     * Déplacement d'une heure du cadran à une autre : payé en PW, sans PM.
+     */
+    private ActionResult moveOnDial(int stepIndex, MoveCost cost, SimulationContext context, SimulationRecorder recorder) {
+        Position target = cost.cell();
+        if (context.pw() < cost.pw()) {
+            return ActionResult.failure(stepIndex, ActionType.MOVE, null,
+                    "PW insuffisants pour se déplacer d'heure en heure (besoin: " + cost.pw()
+                            + ", disponible: " + context.pw() + ")");
+        }
+        context.spend(0, cost.pw(), 0);
+        recorder.resource(ResourceKind.PW, -cost.pw());
+        context.moveTo(target);
+        recorder.move(target, 0);
+        return new ActionResult(stepIndex, ActionType.MOVE, null, ActionStatus.SUCCESS,
+                "Déplacé sur l'heure (" + target.x() + ", " + target.y() + ")", 0, cost.pw(), 0, 0, false);
+    }
+}
@@ -0,0 +1,118 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import com.wakfu.simulateur.backend.domain.board.Board;
+import com.wakfu.simulateur.backend.domain.board.BoardUnit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Empreinte canonique (SHA-256) d'une simulation : version du catalogue, stats calculées,
+ * passifs équipés, position de départ, plateau, graine et étapes de la timeline.
+ * Deux requêtes de même empreinte produisent le même résultat.
+ */
+public final class SimulationFingerprint {
+
+    private SimulationFingerprint() {
+    }
+
+    public static String of(String catalogVersion, SimulationRequest request, long seed) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(catalogVersion);
+            out.writeLong(seed);
+            writeStats(out, request.stats());
+
+            out.writeInt(request.passiveIds().size());
+            for (String passiveId : request.passiveIds()) {
+                out.writeUTF(passiveId);
+            }
+
+            SimulationContext context = request.context();
+            out.writeInt(context.pa());
+            out.writeInt(context.mp());
+            out.writeInt(context.pw());
+            writePosition(out, context.position());
+            writeBoard(out, context.board());
+
+            out.writeInt(request.steps().size());
+            for (TimelineStep step : request.steps()) {
+                out.writeInt(step.actions().size());
+                for (TimelineAction action : step.actions()) {
+                    writeAction(out, action);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return HexFormat.of().formatHex(sha256().digest(bytes.toByteArray()));
+    }
+
+    private static void writeStats(DataOutputStream out, CharacterStats stats) throws IOException {
+        out.writeInt(stats.level());
+        out.writeInt(stats.masteryFire());
+        out.writeInt(stats.masteryWater());
+        out.writeInt(stats.masteryEarth());
+        out.writeInt(stats.masteryAir());
+        out.writeInt(stats.masterySecondary());
+        out.writeInt(stats.backMastery());
+        out.writeInt(stats.damageInflicted());
+        out.writeInt(stats.critRate());
+        out.writeInt(stats.critMastery());
+        out.writeInt(stats.resistance());
+        out.writeInt(stats.ap());
+        out.writeInt(stats.mp());
+        out.writeInt(stats.wp());
+        out.writeInt(stats.range());
+    }
+
+    private static void writeBoard(DataOutputStream out, Board board) throws IOException {
+        out.writeInt(board.cols());
+        out.writeInt(board.rows());
+        List<BoardUnit> units = board.units().stream()
+                .sorted(Comparator.comparing(BoardUnit::id))
+                .toList();
+        out.writeInt(units.size());
+        for (BoardUnit unit : units) {
+            out.writeUTF(unit.id());
+            out.writeByte(unit.kind().ordinal());
+            out.writeByte(unit.mechanism() != null ? unit.mechanism().ordinal() : -1);
+            writePosition(out, unit.position());
+            out.writeInt(unit.resistance());
+        }
+    }
+
+    private static void writeAction(DataOutputStream out, TimelineAction action) throws IOException {
+        out.writeByte(action.type().ordinal());
+        if (action instanceof SpellCastAction cast) {
+            out.writeUTF(cast.spell().id());
+            out.writeByte(cast.forcedVariant() != null ? cast.forcedVariant().ordinal() : -1);
+            writePosition(out, cast.target());
+        } else if (action instanceof MoveAction move) {
+            writePosition(out, move.target());
+        }
+    }
+
+    private static void writePosition(DataOutputStream out, Position position) throws IOException {
+        out.writeBoolean(position != null);
+        if (position != null) {
+            out.writeInt(position.x());
+            out.writeInt(position.y());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+/**
+ * Point d'observation du moteur, consulté entre deux étapes de la timeline.
+ */
+public interface SimulationMonitor {
+
+    SimulationMonitor NONE = new SimulationMonitor() {};
+
+    default boolean isCancelled() {
+        return false;
+    }
+
+    default void onStepCompleted(int completedSteps, int totalSteps) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+/**
+ * Reçoit les événements élémentaires produits par le moteur, dans l'ordre d'exécution.
+ * Chaque événement décrit un changement d'état suffisant pour le rejouer sans le catalogue.
+ */
+public interface SimulationRecorder {
+
+    SimulationRecorder NONE = new SimulationRecorder() {};
+
+    default void start(SimulationContext context) {
+    }
+
+    default void step(int stepIndex) {
+    }
+
+    default void cast(String spellId, boolean critical, int paCost, int pwCost, int cooldown) {
+    }
+
+    default void move(Position target, int mpCost) {
+    }
+
+    default void damage(int amount, String element) {
+    }
+
+    default void resource(ResourceKind resource, int amount) {
+    }
+
+    default void dialAdvanced(int hours) {
+    }
+
+    default void statusApplied(String statusId, int duration) {
+    }
+
+    default void turnEnded() {
+    }
+
+    default void failed(String reason) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import com.wakfu.simulateur.backend.domain.passive.PassiveModifiers;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Requête du moteur. Les identifiants de passifs sont conservés triés pour que deux builds
+ * équivalents produisent la même empreinte ; {@code modifiers} est la barre de passifs déjà résolue.
+ */
+public record SimulationRequest(
+        CharacterStats stats,
+        Set<String> passiveIds,
+        SimulationContext context,
+        List<TimelineStep> steps,
+        PassiveModifiers modifiers
+) {
+
+    public SimulationRequest {
+        modifiers = modifiers == null ? PassiveModifiers.NONE : modifiers;
+        passiveIds = Collections.unmodifiableSortedSet(passiveIds == null ? new TreeSet<>() : new TreeSet<>(passiveIds));
+        steps = List.copyOf(steps);
+    }
+
+    public SimulationRequest(CharacterStats stats, Set<String> passiveIds, SimulationContext context,
+                             List<TimelineStep> steps) {
+        this(stats, passiveIds, context, steps, PassiveModifiers.NONE);
+    }
+
+    /**
+     * Une étape par action, avec les stats de base et sans passif.
+     */
+    public SimulationRequest(SimulationContext context, List<? extends TimelineAction> actions) {
+        this(CharacterStats.baseline(), Set.of(), context, actions.stream().map(TimelineStep::of).toList());
+    }
+}
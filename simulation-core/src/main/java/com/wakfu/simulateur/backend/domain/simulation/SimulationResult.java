@@ -0,0 +1,35 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import java.util.List;
+import java.util.Optional;
+
+public record SimulationResult(
+        List<ActionResult> actions,
+        int completedSteps,
+        long totalDamage,
+        int remainingPa,
+        int remainingPw,
+        int remainingMp,
+        int turns,
+        Optional<SimulationTrace> trace
+) {
+
+    public SimulationResult {
+        actions = List.copyOf(actions);
+        trace = trace == null ? Optional.empty() : trace;
+    }
+
+    public SimulationResult(List<ActionResult> actions, int completedSteps, long totalDamage,
+                            int remainingPa, int remainingPw, int remainingMp, int turns) {
+        this(actions, completedSteps, totalDamage, remainingPa, remainingPw, remainingMp, turns, Optional.empty());
+    }
+
+    public SimulationResult withTrace(SimulationTrace trace) {
+        return new SimulationResult(actions, completedSteps, totalDamage,
+                remainingPa, remainingPw, remainingMp, turns, Optional.of(trace));
+    }
+
+    public boolean hasFailure() {
+        return actions.stream().anyMatch(a -> !a.succeeded());
+    }
+}
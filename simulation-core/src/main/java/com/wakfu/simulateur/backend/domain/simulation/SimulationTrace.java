@@ -0,0 +1,60 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Journal binaire, en ajout seul, des événements d'une simulation (voir {@link TraceWriter}).
+ * Rejouable par {@link TraceReplayer} pour reconstruire l'état à n'importe quelle étape.
+ */
+public final class SimulationTrace {
+
+    private final byte[] data;
+    private final int eventCount;
+
+    SimulationTrace(byte[] data, int eventCount) {
+        this.data = data;
+        this.eventCount = eventCount;
+    }
+
+    public static SimulationTrace fromBytes(byte[] data) {
+        return new SimulationTrace(data.clone(), -1);
+    }
+
+    public static SimulationTrace fromBase64(String encoded) {
+        return new SimulationTrace(Base64.getDecoder().decode(encoded), -1);
+    }
+
+    public byte[] toBytes() {
+        return data.clone();
+    }
+
+    public String toBase64() {
+        return Base64.getEncoder().encodeToString(data);
+    }
+
+    public int size() {
+        return data.length;
+    }
+
+    /**
+     * Nombre d'événements, ou -1 si la trace a été relue depuis l'extérieur.
+     */
+    public int eventCount() {
+        return eventCount;
+    }
+
+    byte[] data() {
+        return data;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SimulationTrace other && Arrays.equals(data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+}
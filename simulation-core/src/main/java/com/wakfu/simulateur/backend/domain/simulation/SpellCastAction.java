@@ -0,0 +1,24 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.VariantKind;
+
+/**
+ * Lancer de sort. {@code forcedVariant} impose la variante (sinon le critique est tiré au sort),
+ * {@code target} est optionnel (pas de contrôle de portée sans cible).
+ */
+public record SpellCastAction(Spell spell, VariantKind forcedVariant, Position target) implements TimelineAction {
+
+    public static SpellCastAction of(Spell spell) {
+        return new SpellCastAction(spell, null, null);
+    }
+
+    public static SpellCastAction of(Spell spell, VariantKind variant) {
+        return new SpellCastAction(spell, variant, null);
+    }
+
+    @Override
+    public ActionType type() {
+        return ActionType.CAST_SPELL;
+    }
+}
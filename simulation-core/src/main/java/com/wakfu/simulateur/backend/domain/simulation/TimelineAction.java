@@ -0,0 +1,6 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+public sealed interface TimelineAction permits SpellCastAction, MoveAction, EndTurnAction {
+
+    ActionType type();
+}
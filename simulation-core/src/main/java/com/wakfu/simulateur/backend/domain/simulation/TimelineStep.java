@@ -0,0 +1,14 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import java.util.List;
+
+public record TimelineStep(String id, List<TimelineAction> actions) {
+
+    public TimelineStep {
+        actions = List.copyOf(actions);
+    }
+
+    public static TimelineStep of(TimelineAction action) {
+        return new TimelineStep(null, List.of(action));
+    }
+}
@@ -0,0 +1,57 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Les {@code capacity} runs aux dégâts les plus élevés ; à dégâts égaux, le run de plus petit indice
+ * l'emporte, pour que le résultat ne dépende pas du découpage en lots.
+ */
+public final class TopRuns {
+
+    public record Run(int index, long damage) {
+    }
+
+    /** Du meilleur au moins bon. */
+    private static final Comparator<Run> BEST_FIRST = Comparator.comparingLong(Run::damage).reversed()
+            .thenComparingInt(Run::index);
+
+    private final int capacity;
+    /** Tas dont la tête est le moins bon run retenu. */
+    private final PriorityQueue<Run> heap;
+
+    public TopRuns(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Nombre de runs retenus invalide: " + capacity);
+        }
+        this.capacity = capacity;
+        this.heap = new PriorityQueue<>(Math.max(1, capacity), BEST_FIRST.reversed());
+    }
+
+    public void add(int index, long damage) {
+        add(new Run(index, damage));
+    }
+
+    public void merge(TopRuns other) {
+        other.heap.forEach(this::add);
+    }
+
+    public int capacity() { return capacity; }
+
+    public List<Run> runs() {
+        List<Run> runs = new ArrayList<>(heap);
+        runs.sort(BEST_FIRST);
+        return runs;
+    }
+
+    private void add(Run run) {
+        if (heap.size() < capacity) {
+            heap.add(run);
+        } else if (capacity > 0 && BEST_FIRST.compare(run, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(run);
+        }
+    }
+}
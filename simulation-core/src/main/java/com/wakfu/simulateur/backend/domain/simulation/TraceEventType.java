@@ -0,0 +1,28 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+/**
+ * Types d'événements d'une trace binaire. L'ordinal est écrit dans la trace : ne jamais réordonner,
+ * seulement ajouter en fin d'énumération.
+ */
+public enum TraceEventType {
+
+    START,
+    STEP,
+    CAST,
+    MOVE,
+    DAMAGE,
+    RESOURCE,
+    DIAL_ADVANCE,
+    STATUS_APPLIED,
+    TURN_END,
+    FAILED;
+
+    private static final TraceEventType[] VALUES = values();
+
+    static TraceEventType of(int ordinal) {
+        if (ordinal < 0 || ordinal >= VALUES.length) {
+            throw new IllegalArgumentException("Événement de trace inconnu: " + ordinal);
+        }
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,177 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import com.wakfu.simulateur.backend.domain.board.Board;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rejoue une {@link SimulationTrace} sur un {@link SimulationContext} reconstruit depuis l'événement START,
+ * sans catalogue ni nouveau tirage : les événements portent déjà les coûts et montants résolus.
+ */
+public final class TraceReplayer {
+
+    private final byte[] data;
+    private int position;
+    private final List<String> strings = new ArrayList<>();
+
+    private SimulationContext context;
+    private long totalDamage;
+    private int completedSteps;
+    private String failure;
+
+    private TraceReplayer(SimulationTrace trace) {
+        this.data = trace.data();
+    }
+
+    /**
+     * État après les {@code steps} premières étapes (borné au nombre d'étapes de la trace).
+     */
+    public static ReplayState stateAt(SimulationTrace trace, int steps) {
+        TraceReplayer replayer = new TraceReplayer(trace);
+        List<ReplayState> states = replayer.replay(steps);
+        return states.get(states.size() - 1);
+    }
+
+    /**
+     * États successifs : index 0 = état initial, index n = état après n étapes. Si une étape a échoué,
+     * une dernière entrée porte l'état partiel de cette étape et le message d'échec.
+     */
+    public static List<ReplayState> states(SimulationTrace trace) {
+        return new TraceReplayer(trace).replay(Integer.MAX_VALUE);
+    }
+
+    private List<ReplayState> replay(int maxSteps) {
+        List<ReplayState> states = new ArrayList<>();
+        int currentStep = -1;
+        while (position < data.length) {
+            int mark = position;
+            TraceEventType type = TraceEventType.of(readVarInt());
+            if (type == TraceEventType.STEP) {
+                int stepIndex = readVarInt();
+                if (currentStep >= 0) {
+                    completedSteps = currentStep + 1;
+                    states.add(ReplayState.of(completedSteps, context, totalDamage, null));
+                }
+                if (stepIndex >= maxSteps) {
+                    position = mark;
+                    return states;
+                }
+                currentStep = stepIndex;
+                continue;
+            }
+            if ((context == null) != (type == TraceEventType.START)) {
+                throw new IllegalArgumentException(context == null
+                        ? "La trace doit commencer par un événement START"
+                        : "Événement START en double");
+            }
+            apply(type);
+            if (type == TraceEventType.START) {
+                states.add(ReplayState.of(0, context, 0, null));
+            }
+        }
+        if (context == null) {
+            throw new IllegalArgumentException("Trace vide ou sans événement START");
+        }
+        if (currentStep >= 0) {
+            if (failure == null) completedSteps = currentStep + 1;
+            states.add(ReplayState.of(completedSteps, context, totalDamage, failure));
+        }
+        return states;
+    }
+
+    private void apply(TraceEventType type) {
+        switch (type) {
+            case START -> {
+                int maxPa = readVarInt();
+                int maxMp = readVarInt();
+                int pa = readSigned();
+                int mp = readSigned();
+                int pw = readSigned();
+                int turn = readVarInt();
+                Board board = new Board(readVarInt(), readVarInt());
+                Position start = new Position(readSigned(), readSigned());
+                int dialHour = readVarInt();
+                Map<String, Integer> cooldowns = readCounters();
+                Map<String, Integer> statuses = readCounters();
+                context = SimulationContext.restore(maxPa, maxMp, pa, mp, pw, turn, board, start, dialHour,
+                        cooldowns, statuses);
+            }
+            case CAST -> {
+                String spellId = readString();
+                readVarInt();
+                int paCost = readSigned();
+                int pwCost = readSigned();
+                int cooldown = readSigned();
+                context.spend(paCost, pwCost, 0);
+                context.recordCast(spellId, cooldown);
+            }
+            case MOVE -> {
+                Position target = new Position(readSigned(), readSigned());
+                context.spend(0, 0, readSigned());
+                context.moveTo(target);
+            }
+            case DAMAGE -> {
+                totalDamage += readSigned();
+                readString();
+            }
+            case RESOURCE -> {
+                ResourceKind resource = ResourceKind.values()[readVarInt()];
+                int amount = readSigned();
+                switch (resource) {
+                    case PA -> context.addPa(amount);
+                    case PW -> context.addPw(amount);
+                    case MP -> context.addMp(amount);
+                }
+            }
+            case DIAL_ADVANCE -> context.advanceDial(readSigned());
+            case STATUS_APPLIED -> context.applyStatus(readString(), readSigned());
+            case TURN_END -> context.endTurn();
+            case FAILED -> failure = readString();
+            default -> throw new IllegalStateException("Événement inattendu: " + type);
+        }
+    }
+
+    private Map<String, Integer> readCounters() {
+        int size = readVarInt();
+        Map<String, Integer> counters = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            counters.put(readString(), readSigned());
+        }
+        return counters;
+    }
+
+    private String readString() {
+        int ref = readVarInt();
+        if (ref > 0) return strings.get(ref - 1);
+        int length = readVarInt();
+        if (length == 0) return null;
+        String value = new String(data, position, length - 1, StandardCharsets.UTF_8);
+        position += length - 1;
+        strings.add(value);
+        return value;
+    }
+
+    private int readSigned() {
+        int raw = readVarInt();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    private int readVarInt() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (position >= data.length) {
+                throw new IllegalArgumentException("Trace tronquée");
+            }
+            b = data[position++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
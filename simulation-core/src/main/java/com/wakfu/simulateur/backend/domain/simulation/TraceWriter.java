@@ -0,0 +1,176 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Écrit les événements du moteur dans un tampon réutilisable.
+ * <p>
+ * Chaque événement est l'ordinal de son {@link TraceEventType} suivi de ses champs en varints
+ * (zigzag pour les valeurs signées). Les identifiants (sorts, statuts, éléments, messages) sont
+ * écrits une seule fois : {@code 0} suivi de la chaîne à la première occurrence, puis {@code index + 1}.
+ * <p>
+ * Non thread-safe : un writer par thread, remis à zéro par {@link #reset()} entre deux simulations.
+ */
+public final class TraceWriter implements SimulationRecorder {
+
+    private byte[] buffer;
+    private int position;
+    private int eventCount;
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    public TraceWriter() {
+        this(256);
+    }
+
+    public TraceWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public TraceWriter reset() {
+        position = 0;
+        eventCount = 0;
+        strings.clear();
+        return this;
+    }
+
+    public SimulationTrace toTrace() {
+        return new SimulationTrace(Arrays.copyOf(buffer, position), eventCount);
+    }
+
+    @Override
+    public void start(SimulationContext context) {
+        event(TraceEventType.START);
+        writeVarInt(context.maxPa());
+        writeVarInt(context.maxMp());
+        writeSigned(context.pa());
+        writeSigned(context.mp());
+        writeSigned(context.pw());
+        writeVarInt(context.turn());
+        writeVarInt(context.board().cols());
+        writeVarInt(context.board().rows());
+        writeSigned(context.position().x());
+        writeSigned(context.position().y());
+        writeVarInt(context.dialHour());
+        writeCounters(context.cooldowns());
+        writeCounters(context.statuses());
+    }
+
+    @Override
+    public void step(int stepIndex) {
+        event(TraceEventType.STEP);
+        writeVarInt(stepIndex);
+    }
+
+    @Override
+    public void cast(String spellId, boolean critical, int paCost, int pwCost, int cooldown) {
+        event(TraceEventType.CAST);
+        writeString(spellId);
+        writeVarInt(critical ? 1 : 0);
+        writeSigned(paCost);
+        writeSigned(pwCost);
+        writeSigned(cooldown);
+    }
+
+    @Override
+    public void move(Position target, int mpCost) {
+        event(TraceEventType.MOVE);
+        writeSigned(target.x());
+        writeSigned(target.y());
+        writeSigned(mpCost);
+    }
+
+    @Override
+    public void damage(int amount, String element) {
+        event(TraceEventType.DAMAGE);
+        writeSigned(amount);
+        writeString(element);
+    }
+
+    @Override
+    public void resource(ResourceKind resource, int amount) {
+        event(TraceEventType.RESOURCE);
+        writeVarInt(resource.ordinal());
+        writeSigned(amount);
+    }
+
+    @Override
+    public void dialAdvanced(int hours) {
+        event(TraceEventType.DIAL_ADVANCE);
+        writeSigned(hours);
+    }
+
+    @Override
+    public void statusApplied(String statusId, int duration) {
+        event(TraceEventType.STATUS_APPLIED);
+        writeString(statusId);
+        writeSigned(duration);
+    }
+
+    @Override
+    public void turnEnded() {
+        event(TraceEventType.TURN_END);
+    }
+
+    @Override
+    public void failed(String reason) {
+        event(TraceEventType.FAILED);
+        writeString(reason);
+    }
+
+    private void event(TraceEventType type) {
+        eventCount++;
+        writeVarInt(type.ordinal());
+    }
+
+    private void writeCounters(Map<String, Integer> counters) {
+        writeVarInt(counters.size());
+        counters.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> {
+                    writeString(e.getKey());
+                    writeSigned(e.getValue());
+                });
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            writeVarInt(0);
+            return;
+        }
+        Integer index = strings.get(value);
+        if (index != null) {
+            writeVarInt(index + 1);
+            return;
+        }
+        strings.put(value, strings.size());
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(0);
+        writeVarInt(bytes.length + 1);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeSigned(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    private void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+}
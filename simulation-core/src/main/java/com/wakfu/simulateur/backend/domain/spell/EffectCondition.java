@@ -0,0 +1,6 @@
+package com.wakfu.simulateur.backend.domain.spell;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public record EffectCondition(Long id, String code, JsonNode params) {
+}
@@ -0,0 +1,10 @@
+package com.wakfu.simulateur.backend.domain.spell;
+
+import java.util.List;
+
+public record EffectConditionGroup(Long id, String operator, List<EffectCondition> conditions) {
+
+    public EffectConditionGroup {
+        conditions = conditions == null ? List.of() : List.copyOf(conditions);
+    }
+}
@@ -0,0 +1,63 @@
+package com.wakfu.simulateur.backend.domain.spell;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+public record Spell(
+        String id,
+        String characterClassId,
+        String name,
+        String element,
+        String spellType,
+        int paCost,
+        int pwCost,
+        int poMin,
+        int poMax,
+        boolean poModifiable,
+        boolean lineOfSight,
+        int cooldown,
+        int usePerTurn,
+        int usePerTarget,
+        String direction,
+        String ratioEvalMode,
+        Integer iconId,
+        boolean aoe,
+        List<SpellVariant> variants,
+        List<SpellRatioBreakpoint> breakpoints
+) {
+
+    public Spell {
+        variants = variants == null ? List.of() : List.copyOf(variants);
+        breakpoints = breakpoints == null ? List.of() : List.copyOf(breakpoints);
+    }
+
+    public Optional<SpellVariant> findVariant(VariantKind kind) {
+        return variants.stream()
+                .filter(v -> v.kind() == kind)
+                .findFirst();
+    }
+
+    /**
+     * Variante demandée, ou NORMAL si le sort n'a pas de variante critique.
+     */
+    public Optional<SpellVariant> resolveVariant(VariantKind kind) {
+        return findVariant(kind).or(() -> findVariant(VariantKind.NORMAL));
+    }
+
+    /**
+     * Ratio applicable au niveau donné : en mode STEP, le dernier palier atteint
+     * (ou le premier palier si le niveau est inférieur à tous les paliers).
+     */
+    public OptionalInt ratioAt(String kind, int level) {
+        SpellRatioBreakpoint best = null;
+        SpellRatioBreakpoint lowest = null;
+        for (SpellRatioBreakpoint bp : breakpoints) {
+            if (!bp.kind().equals(kind)) continue;
+            if (lowest == null || bp.level() < lowest.level()) lowest = bp;
+            if (bp.level() <= level && (best == null || bp.level() > best.level())) best = bp;
+        }
+        SpellRatioBreakpoint chosen = best != null ? best : lowest;
+        return chosen != null ? OptionalInt.of(chosen.ratio()) : OptionalInt.empty();
+    }
+}
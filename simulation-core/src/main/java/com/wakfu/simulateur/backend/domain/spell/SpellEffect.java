@@ -0,0 +1,39 @@
+package com.wakfu.simulateur.backend.domain.spell;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Optional;
+
+public record SpellEffect(
+        Long id,
+        String phase,
+        int orderIndex,
+        String effectType,
+        String targetScope,
+        JsonNode params,
+        Optional<EffectConditionGroup> conditionGroup
+) {
+
+    public SpellEffect {
+        conditionGroup = conditionGroup == null ? Optional.empty() : conditionGroup;
+    }
+
+    public boolean isUnconditional() {
+        return conditionGroup.isEmpty();
+    }
+
+    public int intParam(String name, int defaultValue) {
+        JsonNode node = params != null ? params.get(name) : null;
+        return node != null && node.isNumber() ? node.asInt() : defaultValue;
+    }
+
+    public boolean boolParam(String name, boolean defaultValue) {
+        JsonNode node = params != null ? params.get(name) : null;
+        return node != null && node.isBoolean() ? node.asBoolean() : defaultValue;
+    }
+
+    public String textParam(String name) {
+        JsonNode node = params != null ? params.get(name) : null;
+        return node != null && node.isTextual() ? node.asText() : null;
+    }
+}
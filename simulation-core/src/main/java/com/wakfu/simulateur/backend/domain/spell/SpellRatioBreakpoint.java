@@ -0,0 +1,4 @@
+package com.wakfu.simulateur.backend.domain.spell;
+
+public record SpellRatioBreakpoint(String kind, int level, int ratio) {
+}
@@ -0,0 +1,27 @@
+package com.wakfu.simulateur.backend.domain.spell;
+
+/**
+ * Vue allégée d'un sort pour les listes et sélecteurs : identité, coûts et portée,
+ * sans variantes, effets ni paliers.
+ */
+public record SpellSummary(
+        String id,
+        String characterClassId,
+        String name,
+        String element,
+        String spellType,
+        int paCost,
+        int pwCost,
+        int poMin,
+        int poMax,
+        int cooldown,
+        Integer iconId,
+        boolean aoe
+) {
+
+    public static SpellSummary of(Spell spell) {
+        return new SpellSummary(spell.id(), spell.characterClassId(), spell.name(), spell.element(),
+                spell.spellType(), spell.paCost(), spell.pwCost(), spell.poMin(), spell.poMax(),
+                spell.cooldown(), spell.iconId(), spell.aoe());
+    }
+}
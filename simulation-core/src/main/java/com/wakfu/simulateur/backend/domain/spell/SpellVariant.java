@@ -0,0 +1,10 @@
+package com.wakfu.simulateur.backend.domain.spell;
+
+import java.util.List;
+
+public record SpellVariant(Long id, VariantKind kind, List<SpellEffect> effects) {
+
+    public SpellVariant {
+        effects = effects == null ? List.of() : List.copyOf(effects);
+    }
+}
@@ -0,0 +1,7 @@
+package com.wakfu.simulateur.backend.domain.spell;
+
+public enum VariantKind {
+
+    NORMAL,
+    CRIT
+}
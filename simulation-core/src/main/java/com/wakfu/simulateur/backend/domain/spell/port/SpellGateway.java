@@ -0,0 +1,31 @@
+package com.wakfu.simulateur.backend.domain.spell.port;
+
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SpellGateway {
+
+    Optional<Spell> findById(String id);
+
+    List<Spell> findAllById(Collection<String> ids);
+
+    List<Spell> findAll();
+
+    default List<Spell> findAllByClassId(String classId) {
+        return findAll().stream()
+                .filter(s -> classId.equals(s.characterClassId()))
+                .toList();
+    }
+
+    default List<SpellSummary> findAllSummaries() {
+        return findAll().stream().map(SpellSummary::of).toList();
+    }
+
+    default List<SpellSummary> findSummariesByClassId(String classId) {
+        return findAllByClassId(classId).stream().map(SpellSummary::of).toList();
+    }
+}
@@ -0,0 +1,17 @@
+package com.wakfu.simulateur.backend.domain.status;
+
+import java.util.List;
+
+public record StatusDefinition(
+        String id,
+        String name,
+        int maxStacks,
+        String durationType,
+        Integer baseDuration,
+        List<StatusEffect> effects
+) {
+
+    public StatusDefinition {
+        effects = effects == null ? List.of() : List.copyOf(effects);
+    }
+}
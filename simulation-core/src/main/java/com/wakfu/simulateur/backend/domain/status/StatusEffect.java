@@ -0,0 +1,6 @@
+package com.wakfu.simulateur.backend.domain.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public record StatusEffect(Long id, String tickPhase, String effectType, JsonNode params) {
+}
@@ -0,0 +1,14 @@
+package com.wakfu.simulateur.backend.domain.status.port;
+
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StatusGateway {
+
+    Optional<StatusDefinition> findById(String id);
+
+    List<StatusDefinition> findAllById(Collection<String> ids);
+}
@@ -0,0 +1,42 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardTest {
+
+    @Test
+    @DisplayName("Les dimensions du plateau sont bornées à MAX_SIZE")
+    void shouldBoundBoardSize() {
+        Board largest = new Board(Board.MAX_SIZE, Board.MAX_SIZE);
+
+        assertThat(largest.inBounds(new Position(63, 63))).isTrue();
+        assertThatThrownBy(() -> new Board(Board.MAX_SIZE + 1, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Board(10, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Le lanceur est toujours placé : une position de départ hors du plateau ou occupée est refusée")
+    void shouldAlwaysPlaceCaster() {
+        Board board = new Board(5, 5);
+        board.place(BoardUnit.entity("ennemi", UnitKind.ENEMY, new Position(1, 1)));
+
+        SimulationContext context = new SimulationContext(6, 3, 6, new Position(2, 2), board);
+
+        assertThat(board.find(SimulationContext.CASTER_ID)).map(BoardUnit::position).contains(new Position(2, 2));
+        assertThat(context.position()).isEqualTo(new Position(2, 2));
+        Board crowded = new Board(5, 5);
+        crowded.place(BoardUnit.entity("ennemi", UnitKind.ENEMY, new Position(1, 1)));
+        assertThatThrownBy(() -> new SimulationContext(6, 3, 6, new Position(1, 1), crowded))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("occupée");
+        assertThatThrownBy(() -> new SimulationContext(6, 3, 6, new Position(5, 0), new Board(5, 5)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("hors du plateau");
+    }
+}
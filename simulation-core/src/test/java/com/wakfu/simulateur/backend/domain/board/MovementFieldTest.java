@@ -0,0 +1,94 @@
+package com.wakfu.simulateur.backend.domain.board;
+
+import com.wakfu.simulateur.backend.domain.simulation.ActionResult;
+import com.wakfu.simulateur.backend.domain.simulation.CharacterStats;
+import com.wakfu.simulateur.backend.domain.simulation.MoveAction;
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationContext;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationEngine;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationRecorder;
+import com.wakfu.simulateur.backend.domain.passive.PassiveModifiers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MovementFieldTest {
+
+    private static final Position ORIGIN = new Position(2, 2);
+
+    @Test
+    @DisplayName("Les distances contournent les unités ; une case enfermée est inaccessible")
+    void shouldWalkAroundUnits() {
+        Board board = new Board(7, 7);
+        wall(board, 3, 1, 3);
+
+        MovementField field = board.movementField(ORIGIN);
+
+        assertThat(field.distance(new Position(2, 2))).isZero();
+        assertThat(field.distance(new Position(4, 2))).isEqualTo(6);
+        assertThat(field.distance(new Position(1, 2))).isEqualTo(1);
+        assertThat(field.distance(new Position(3, 2))).isEqualTo(MovementField.UNREACHABLE);
+        assertThat(field.distance(new Position(9, 9))).isEqualTo(MovementField.UNREACHABLE);
+
+        wall(board, 3, 4, 6);
+        wall(board, 3, 0, 0);
+        MovementField closed = board.movementField(ORIGIN);
+
+        assertThat(closed.distance(new Position(4, 2))).isEqualTo(MovementField.UNREACHABLE);
+        assertThat(closed.cost(new Position(4, 2))).isEmpty();
+        assertThat(closed.reachable(100, 0)).noneMatch(cost -> cost.cell().x() > 3);
+    }
+
+    @Test
+    @DisplayName("Une case occupée n'a pas de coût et le déplacement dessus échoue sans rien consommer")
+    void shouldRefuseOccupiedCell() {
+        Board board = new Board(7, 7);
+        board.place(BoardUnit.entity("ennemi", UnitKind.ENEMY, new Position(3, 2)));
+        SimulationContext context = new SimulationContext(6, 3, 6, ORIGIN, board);
+
+        assertThat(board.movementField(ORIGIN).cost(new Position(3, 2))).isEmpty();
+        assertThat(board.movementField(ORIGIN).reachable(3, 0)).noneMatch(cost -> cost.cell().equals(new Position(3, 2)));
+
+        ActionResult result = new SimulationEngine().execute(0, new MoveAction(new Position(3, 2)),
+                CharacterStats.baseline(), PassiveModifiers.NONE, context, new SplittableRandom(1),
+                SimulationRecorder.NONE);
+
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.message()).contains("occupée");
+        assertThat(context.mp()).isEqualTo(3);
+        assertThat(context.position()).isEqualTo(ORIGIN);
+    }
+
+    @Test
+    @DisplayName("Le champ en cache est réutilisé tant que le plateau ne change pas, recalculé après pose ou retrait")
+    void shouldInvalidateCachedFieldOnBoardChange() {
+        Board board = new Board(7, 7);
+        MovementField first = board.movementField(ORIGIN);
+
+        assertThat(board.movementField(ORIGIN)).isSameAs(first);
+        assertThat(first.distance(new Position(4, 2))).isEqualTo(2);
+
+        board.place(BoardUnit.entity("ennemi", UnitKind.ENEMY, new Position(3, 2)));
+        MovementField afterPlace = board.movementField(ORIGIN);
+
+        assertThat(afterPlace).isNotSameAs(first);
+        assertThat(afterPlace.distance(new Position(4, 2))).isEqualTo(4);
+        assertThat(board.copy().movementField(ORIGIN)).isSameAs(afterPlace);
+
+        board.remove("ennemi");
+        MovementField afterRemove = board.movementField(ORIGIN);
+
+        assertThat(afterRemove).isNotSameAs(afterPlace);
+        assertThat(afterRemove.distance(new Position(4, 2))).isEqualTo(2);
+        assertThat(afterPlace.distance(new Position(4, 2))).as("un champ calculé reste immuable").isEqualTo(4);
+    }
+
+    private static void wall(Board board, int x, int fromY, int toY) {
+        for (int y = fromY; y <= toY; y++) {
+            board.place(BoardUnit.entity("mur-" + y, UnitKind.ENEMY, new Position(x, y)));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.wakfu.simulateur.backend.domain.catalog;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveEffect;
+import com.wakfu.simulateur.backend.domain.spell.EffectCondition;
+import com.wakfu.simulateur.backend.domain.spell.EffectConditionGroup;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellEffect;
+import com.wakfu.simulateur.backend.domain.spell.SpellRatioBreakpoint;
+import com.wakfu.simulateur.backend.domain.spell.SpellVariant;
+import com.wakfu.simulateur.backend.domain.spell.VariantKind;
+import com.wakfu.simulateur.backend.domain.status.StatusDefinition;
+import com.wakfu.simulateur.backend.domain.status.StatusEffect;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogSnapshotCodecTest {
+
+    private static final JsonNodeFactory JSON = JsonNodeFactory.instance;
+
+    @Test
+    @DisplayName("Un catalogue encodé puis décodé est identique, conditions, paliers et paramètres nuls compris")
+    void shouldRoundTripCatalog() {
+        List<Spell> spells = List.of(dialSpell(), bareSpell());
+        List<Passive> passives = List.of(passive());
+        List<StatusDefinition> statuses = List.of(status());
+
+        Catalog catalog = CatalogSnapshotCodec.decode(
+                ByteBuffer.wrap(CatalogSnapshotCodec.encode(spells, passives, statuses)));
+
+        assertThat(catalog.spells()).isEqualTo(spells);
+        assertThat(catalog.passives()).isEqualTo(passives);
+        assertThat(catalog.statuses()).isEqualTo(statuses);
+        assertThat(catalog.spells().get(0).name()).isEqualTo("Cadran de Xélor « 時計 »");
+        assertThat(catalog.spells().get(0).variants().get(1).effects().get(0).params()).isNull();
+    }
+
+    @Test
+    @DisplayName("La version dépend du contenu seul")
+    void shouldDeriveVersionFromContent() {
+        Catalog first = decode(CatalogSnapshotCodec.encode(List.of(dialSpell()), List.of(passive()), List.of()));
+        Catalog same = decode(CatalogSnapshotCodec.encode(List.of(dialSpell()), List.of(passive()), List.of()));
+        Catalog other = decode(CatalogSnapshotCodec.encode(List.of(bareSpell()), List.of(passive()), List.of()));
+
+        assertThat(first.version()).hasSize(16).isEqualTo(same.version());
+        assertThat(other.version()).isNotEqualTo(first.version());
+    }
+
+    @Test
+    @DisplayName("Un snapshot tronqué, quelle que soit la coupure, est refusé")
+    void shouldRejectTruncatedSnapshot() {
+        byte[] snapshot = CatalogSnapshotCodec.encode(List.of(dialSpell(), bareSpell()), List.of(passive()),
+                List.of(status()));
+
+        for (int length = 0; length < snapshot.length; length++) {
+            byte[] truncated = Arrays.copyOf(snapshot, length);
+            assertThatThrownBy(() -> decode(truncated))
+                    .as("coupure à %d octets", length)
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Un magic ou un format inconnus sont refusés")
+    void shouldRejectWrongMagicOrFormat() {
+        byte[] snapshot = CatalogSnapshotCodec.encode(List.of(bareSpell()), List.of(), List.of());
+
+        byte[] wrongFormat = snapshot.clone();
+        wrongFormat[4] = CatalogSnapshotCodec.FORMAT_VERSION + 1;
+        assertThatThrownBy(() -> decode(wrongFormat))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Format de snapshot non supporté");
+
+        byte[] wrongMagic = snapshot.clone();
+        wrongMagic[0] ^= 0x20;
+        assertThatThrownBy(() -> decode(wrongMagic))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("magic");
+    }
+
+    private static Catalog decode(byte[] snapshot) {
+        return CatalogSnapshotCodec.decode(ByteBuffer.wrap(snapshot));
+    }
+
+    private static Spell dialSpell() {
+        ObjectNode damage = JSON.objectNode().put("amount", 42).put("element", "FIRE");
+        damage.putArray("area").add(1).add(-2);
+        EffectConditionGroup group = new EffectConditionGroup(7L, "AND", List.of(
+                new EffectCondition(8L, "HAS_PASSIVE", JSON.objectNode().put("passive", "XEL_PASSIF")),
+                new EffectCondition(null, "ALWAYS", null)));
+        SpellEffect conditioned = new SpellEffect(10L, "ON_CAST", 0, "DEAL_DAMAGE", "TARGET", damage,
+                Optional.of(group));
+        SpellEffect nullParams = new SpellEffect(11L, "ON_CAST", 1, "ADVANCE_DIAL", "SELF", null, null);
+        return new Spell("XEL_DIAL", "XEL", "Cadran de Xélor « 時計 »", "FIRE", "ACTIVE", 3, -1, 1, 5, true, false,
+                2, 1, -1, "LINE", "STEP", 12_345, true,
+                List.of(new SpellVariant(1L, VariantKind.NORMAL, List.of(conditioned)),
+                        new SpellVariant(null, VariantKind.CRIT, List.of(nullParams, conditioned))),
+                List.of(new SpellRatioBreakpoint("NORMAL", 1, 10), new SpellRatioBreakpoint("CRIT", 200, 1_000_000)));
+    }
+
+    private static Spell bareSpell() {
+        return new Spell("XEL_NU", null, "Sort nu", null, null, 0, 0, 0, 0, false, false,
+                0, 0, 0, null, null, null, false, List.of(), List.of());
+    }
+
+    private static Passive passive() {
+        PassiveEffect effect = new PassiveEffect(20L, "ON_TURN_START", 0, "ADD_PW", "SELF",
+                JSON.objectNode().put("amount", 1),
+                Optional.of(new EffectConditionGroup(null, "OR", List.of())));
+        return new Passive("XEL_PASSIF", "XEL", "Maîtrise du temps", null, null, List.of(effect));
+    }
+
+    private static StatusDefinition status() {
+        return new StatusDefinition("RUSH", "Précipitation", 3, "TURNS", null, List.of(
+                new StatusEffect(30L, "TURN_START", "ADD_AP", JSON.objectNode().put("amount", -2)),
+                new StatusEffect(null, null, "MARKER", null)));
+    }
+}
@@ -0,0 +1,97 @@
+package com.wakfu.simulateur.backend.domain.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParamsStoreTest {
+
+    @Test
+    @DisplayName("Des textes équivalents à l'ordre des clés près rendent le même arbre")
+    void shouldShareKeyOrderEquivalentTexts() {
+        ParamsStore store = new ParamsStore();
+
+        JsonNode first = store.intern("{\"b\":1,\"a\":{\"y\":[1,2],\"x\":\"é\"}}");
+        JsonNode reordered = store.intern("{ \"a\": {\"x\": \"é\", \"y\": [1, 2]}, \"b\": 1 }");
+        JsonNode again = store.intern("{\"b\":1,\"a\":{\"y\":[1,2],\"x\":\"é\"}}");
+        JsonNode tree = store.intern(JsonNodeFactory.instance.objectNode().put("b", 1)
+                .set("a", JsonNodeFactory.instance.objectNode().put("x", "é")
+                        .set("y", JsonNodeFactory.instance.arrayNode().add(1).add(2))));
+
+        assertThat(reordered).isSameAs(first);
+        assertThat(again).isSameAs(first);
+        assertThat(tree).isSameAs(first);
+        assertThat(first.path("a").path("y").get(1).asInt()).isEqualTo(2);
+        assertThat(store.intern("{\"b\":2,\"a\":{\"y\":[1,2],\"x\":\"é\"}}")).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Les arbres partagés sont figés, à tous les niveaux, et l'arbre fourni n'est pas retenu")
+    void shouldFreezeSharedTrees() {
+        ParamsStore store = new ParamsStore();
+        ObjectNode source = JsonNodeFactory.instance.objectNode().put("amount", 3);
+        source.putArray("targets").add("SELF");
+
+        JsonNode shared = store.intern(source);
+        source.put("amount", 99);
+
+        assertThat(shared).isNotSameAs(source);
+        assertThat(shared.path("amount").asInt()).isEqualTo(3);
+        assertThatThrownBy(() -> ((ObjectNode) shared).set("amount", JsonNodeFactory.instance.numberNode(4)))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> ((ObjectNode) shared).put("nouveau", 1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> ((ArrayNode) shared.get("targets")).add("ENEMY"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> ((ObjectNode) store.intern("{\"status\":\"RUSH\"}")).remove("status"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Les statistiques comptent un document par forme canonique et un alias par texte différent")
+    void shouldCountDocumentsAndAliases() {
+        ParamsStore store = new ParamsStore();
+
+        JsonNode canonical = store.intern("{\"a\":1,\"b\":2}");
+        JsonNode reordered = store.intern("{\"b\":2,\"a\":1}");
+        JsonNode spaced = store.intern("{\"a\": 1, \"b\": 2}");
+        store.intern("{\"b\":2,\"a\":1}");
+        JsonNode other = store.intern("{\"a\":1}");
+        ParamsStore.Stats stats = store.stats();
+
+        assertThat(stats.documents()).isEqualTo(2);
+        assertThat(stats.aliases()).isEqualTo(2);
+        assertThat(stats.lookups()).isEqualTo(5);
+        assertThat(stats.hits()).isEqualTo(3);
+        assertThat(stats.retainedBytes())
+                .isEqualTo(ParamsStore.estimate(canonical) + ParamsStore.estimate(other));
+        assertThat(stats.savedBytes()).isEqualTo(3 * ParamsStore.estimate(canonical));
+        assertThat(reordered).isSameAs(canonical);
+        assertThat(spaced).isSameAs(canonical);
+    }
+
+    @Test
+    @DisplayName("La forme canonique trie les clés sans confondre 1 et 1.0")
+    void shouldKeepNumberTypesInCanonicalForm() {
+        JsonNode integer = JsonTrees.parse("{\"z\":true,\"a\":1}");
+        JsonNode decimal = JsonTrees.parse("{\"a\":1.0,\"z\":true}");
+
+        assertThat(JsonTrees.canonical(integer)).isEqualTo("{\"a\":1,\"z\":true}");
+        assertThat(JsonTrees.canonical(decimal)).isEqualTo("{\"a\":1.0,\"z\":true}");
+
+        ParamsStore store = new ParamsStore();
+        JsonNode internedInteger = store.intern("{\"a\":1}");
+        JsonNode internedDecimal = store.intern("{\"a\":1.0}");
+
+        assertThat(internedDecimal).isNotSameAs(internedInteger);
+        assertThat(internedInteger.get("a").isIntegralNumber()).isTrue();
+        assertThat(internedDecimal.get("a").isFloatingPointNumber()).isTrue();
+        assertThat(store.stats().documents()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,102 @@
+package com.wakfu.simulateur.backend.domain.fight;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("Les entrées d'un même point sortent dans l'ordre d'insertion")
+    void shouldDrainInInsertionOrder() {
+        TimingWheel<String> wheel = new TimingWheel<>(2, 0);
+        wheel.schedule(3, 1, TimingWheel.NO_OWNER, "a");
+        wheel.schedule(3, 0, TimingWheel.NO_OWNER, "autre clé");
+        wheel.schedule(3, 1, TimingWheel.NO_OWNER, "b");
+        wheel.schedule(3, 1, TimingWheel.NO_OWNER, "c");
+
+        wheel.advanceTo(3);
+        List<String> drained = new ArrayList<>();
+        wheel.drain(1, drained::add);
+
+        assertThat(drained).containsExactly("a", "b", "c");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Les entrées des niveaux supérieurs et du débordement redescendent à leur tour exact")
+    void shouldCascadeFarEntriesToTheirRound() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(1, 0);
+        int[] rounds = {20_000_000, 63, 64, 65, 4_095, 4_096, 4_160, 262_143, 262_144, 300_001, 16_777_216};
+        for (int round : rounds) {
+            wheel.schedule(round, 0, TimingWheel.NO_OWNER, round);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        for (int round = 1; round <= 20_000_000; round++) {
+            wheel.advanceTo(round);
+            int now = round;
+            wheel.drain(0, value -> {
+                assertThat(value).isEqualTo(now);
+                drained.add(value);
+            });
+        }
+
+        assertThat(drained).containsExactly(63, 64, 65, 4_095, 4_096, 4_160, 262_143, 262_144, 300_001,
+                16_777_216, 20_000_000);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Une entrée programmée dans le passé ou pendant le déclenchement sort au tour courant")
+    void shouldDeliverLateAndReentrantEntriesNow() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 0);
+        wheel.advanceTo(10);
+        wheel.schedule(4, 0, TimingWheel.NO_OWNER, "retard");
+
+        List<String> drained = new ArrayList<>();
+        wheel.drain(0, value -> {
+            drained.add(value);
+            if (value.equals("retard")) wheel.schedule(10, 0, TimingWheel.NO_OWNER, "relance");
+        });
+
+        assertThat(drained).containsExactly("retard", "relance");
+    }
+
+    @Test
+    @DisplayName("L'annulation et la purge d'un propriétaire retirent les entrées à tous les niveaux")
+    void shouldCancelAndDrainOwner() {
+        TimingWheel<String> wheel = new TimingWheel<>(2, 2);
+        long near = wheel.schedule(2, 0, 0, "proche");
+        wheel.schedule(5_000, 1, 0, "lointain");
+        wheel.schedule(30_000_000, 0, 0, "débordement");
+        long other = wheel.schedule(2, 0, 1, "autre");
+
+        assertThat(wheel.cancel(near)).isTrue();
+        assertThat(wheel.cancel(near)).isFalse();
+        List<String> owned = new ArrayList<>();
+        wheel.drainOwner(0, owned::add);
+
+        assertThat(owned).containsExactly("lointain", "débordement");
+        assertThat(wheel.size()).isEqualTo(1);
+        wheel.advanceTo(2);
+        List<String> drained = new ArrayList<>();
+        wheel.drain(0, drained::add);
+        assertThat(drained).containsExactly("autre");
+        assertThat(wheel.cancel(other)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Une clé hors de la roue est refusée")
+    void shouldRejectUnknownKey() {
+        TimingWheel<String> wheel = new TimingWheel<>(2, 0);
+
+        assertThatThrownBy(() -> wheel.schedule(1, 2, TimingWheel.NO_OWNER, "x"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
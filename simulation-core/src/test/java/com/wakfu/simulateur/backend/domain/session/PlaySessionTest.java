@@ -0,0 +1,133 @@
+package com.wakfu.simulateur.backend.domain.session;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.wakfu.simulateur.backend.domain.board.Board;
+import com.wakfu.simulateur.backend.domain.board.BoardUnit;
+import com.wakfu.simulateur.backend.domain.board.UnitKind;
+import com.wakfu.simulateur.backend.domain.passive.PassiveModifiers;
+import com.wakfu.simulateur.backend.domain.simulation.CharacterStats;
+import com.wakfu.simulateur.backend.domain.simulation.EndTurnAction;
+import com.wakfu.simulateur.backend.domain.simulation.MoveAction;
+import com.wakfu.simulateur.backend.domain.simulation.Position;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationContext;
+import com.wakfu.simulateur.backend.domain.simulation.SimulationEngine;
+import com.wakfu.simulateur.backend.domain.simulation.SpellCastAction;
+import com.wakfu.simulateur.backend.domain.simulation.TimelineAction;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellEffect;
+import com.wakfu.simulateur.backend.domain.spell.SpellVariant;
+import com.wakfu.simulateur.backend.domain.spell.VariantKind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaySessionTest {
+
+    private static final JsonNodeFactory JSON = JsonNodeFactory.instance;
+
+    private final SimulationEngine engine = new SimulationEngine();
+
+    /** État observable du contexte, plateau compris. */
+    private record State(int pa, int mp, int pw, int turn, int dialHour, Position position,
+                         Map<String, Integer> cooldowns, Map<String, Integer> statuses, Set<BoardUnit> units,
+                         long totalDamage) {
+
+        static State of(PlaySession session) {
+            PlaySession.Snapshot snapshot = session.snapshot();
+            SimulationContext context = snapshot.context();
+            Board board = context.board();
+            for (BoardUnit unit : board.units()) {
+                assertThat(board.unitAt(unit.position())).as("case de %s", unit.id()).contains(unit);
+            }
+            for (UnitKind kind : UnitKind.values()) {
+                assertThat(board.count(kind))
+                        .isEqualTo(board.units().stream().filter(u -> u.kind() == kind).count());
+            }
+            return new State(context.pa(), context.mp(), context.pw(), context.turn(), context.dialHour(),
+                    context.position(), Map.copyOf(context.cooldowns()), Map.copyOf(context.statuses()),
+                    Set.copyOf(board.units()), snapshot.totalDamage());
+        }
+    }
+
+    @Test
+    @DisplayName("Annuler puis rétablir lancer, déplacement, téléportations, échange et remplacement retrouve chaque état")
+    void shouldUndoAndRedoEveryAction() {
+        Spell rouage = spell("ROUAGE", 2, 0, 0, effect("SUMMON_MECHANISM", JSON.objectNode()
+                .put("mechanism", "ROUAGE").put("maxPerCaster", 1).put("replaceExisting", true)),
+                effect("DEAL_DAMAGE", JSON.objectNode().put("amount", 50)));
+        SpellEffect teleport = effect("TELEPORT_SYMMETRIC", JSON.objectNode().put("mode", "SINGLE_TARGET"));
+        Spell symmetry = spell("SYMETRIE", 1, 1, 2, teleport);
+        Spell roundTrip = spell("ALLER_RETOUR", 1, 0, 0, teleport, teleport);
+        List<TimelineAction> actions = List.of(
+                new SpellCastAction(rouage, null, new Position(1, 3)),
+                new MoveAction(new Position(2, 2)),
+                new SpellCastAction(roundTrip, null, new Position(2, 4)),
+                new SpellCastAction(symmetry, null, new Position(3, 3)),
+                new SpellCastAction(rouage, null, new Position(5, 5)),
+                EndTurnAction.INSTANCE);
+        PlaySession session = session();
+
+        List<State> states = new ArrayList<>();
+        states.add(State.of(session));
+        for (TimelineAction action : actions) {
+            assertThat(session.play(action, engine).result().succeeded()).as("%s", action).isTrue();
+            states.add(State.of(session));
+        }
+
+        State swapped = states.get(4);
+        assertThat(swapped.position()).isEqualTo(new Position(4, 4));
+        assertThat(swapped.units()).contains(BoardUnit.entity("ennemi", UnitKind.ENEMY, new Position(2, 2)));
+        assertThat(states.get(5).units()).extracting(BoardUnit::id).contains("ROUAGE-2").doesNotContain("ROUAGE-1");
+
+        for (int i = actions.size() - 1; i >= 0; i--) {
+            assertThat(session.undo()).isPresent();
+            assertThat(State.of(session)).as("après annulation jusqu'à l'état %d", i).isEqualTo(states.get(i));
+        }
+        assertThat(session.undo()).isEmpty();
+
+        for (int i = 1; i <= actions.size(); i++) {
+            assertThat(session.redo()).isPresent();
+            assertThat(State.of(session)).as("après rétablissement de l'état %d", i).isEqualTo(states.get(i));
+        }
+        assertThat(session.redo()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Une action en échec ne modifie pas l'état et conserve l'historique de rétablissement")
+    void shouldLeaveStateUntouchedOnFailure() {
+        PlaySession session = session();
+        session.play(new MoveAction(new Position(2, 2)), engine);
+        session.undo();
+        State before = State.of(session);
+
+        boolean succeeded = session.play(new MoveAction(new Position(8, 8)), engine).result().succeeded();
+
+        assertThat(succeeded).isFalse();
+        assertThat(State.of(session)).isEqualTo(before);
+        assertThat(session.snapshot().redoable()).isEqualTo(1);
+    }
+
+    private static PlaySession session() {
+        Board board = new Board(9, 9);
+        board.place(BoardUnit.entity("ennemi", UnitKind.ENEMY, new Position(4, 4)));
+        SimulationContext context = new SimulationContext(8, 3, 6, new Position(1, 1), board);
+        return new PlaySession("test", CharacterStats.baseline(), Set.of(), PassiveModifiers.NONE, context, 11L, 10);
+    }
+
+    private static Spell spell(String id, int paCost, int pwCost, int cooldown, SpellEffect... effects) {
+        return new Spell(id, "XEL", id, "FIRE", "ACTIVE", paCost, pwCost, 0, 6, false, false,
+                cooldown, 2, 0, null, null, null, false,
+                List.of(new SpellVariant(1L, VariantKind.NORMAL, List.of(effects))), List.of());
+    }
+
+    private static SpellEffect effect(String type, ObjectNode params) {
+        return new SpellEffect(null, "ON_CAST", 0, type, "TARGET", params, null);
+    }
+}
@@ -0,0 +1,75 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DamageStatisticsTest {
+
+    @Test
+    @DisplayName("La fusion de séries disjointes donne le même agrégat qu'un passage unique")
+    void shouldMergeLikeSinglePass() {
+        long[] damages = new SplittableRandom(7).longs(10_000, 1_000, 50_000).toArray();
+        DamageStatistics single = new DamageStatistics();
+        DamageStatistics first = new DamageStatistics();
+        DamageStatistics second = new DamageStatistics();
+        DamageStatistics third = new DamageStatistics();
+        for (int i = 0; i < damages.length; i++) {
+            single.add(damages[i]);
+            (i < 1_234 ? first : i < 7_000 ? second : third).add(damages[i]);
+        }
+
+        DamageStatistics merged = new DamageStatistics();
+        merged.merge(third);
+        merged.merge(new DamageStatistics());
+        merged.merge(first);
+        merged.merge(second);
+
+        assertThat(merged.count()).isEqualTo(single.count());
+        assertThat(merged.min()).isEqualTo(single.min());
+        assertThat(merged.max()).isEqualTo(single.max());
+        assertThat(merged.mean()).isCloseTo(single.mean(), within(1e-6));
+        assertThat(merged.variance()).isCloseTo(single.variance(), within(single.variance() * 1e-9));
+    }
+
+    @Test
+    @DisplayName("Un agrégat transmis par un autre nœud se reconstitue et se fusionne sans perte")
+    void shouldRestoreTransmittedStatistics() {
+        DamageStatistics remote = new DamageStatistics();
+        remote.add(100);
+        remote.add(300);
+        DamageStatistics local = new DamageStatistics();
+        local.add(200);
+
+        local.merge(DamageStatistics.restore(remote.count(), 1, remote.mean(), remote.m2(),
+                remote.min(), remote.max()));
+
+        assertThat(local.count()).isEqualTo(3);
+        assertThat(local.failures()).isEqualTo(1);
+        assertThat(local.mean()).isCloseTo(200, within(1e-9));
+        assertThat(local.variance()).isCloseTo(10_000, within(1e-6));
+        assertThat(local.min()).isEqualTo(100);
+        assertThat(local.max()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("Un agrégat vide reste neutre")
+    void shouldKeepEmptyStatisticsNeutral() {
+        DamageStatistics empty = DamageStatistics.restore(0, 0, 0, 0, 0, 0);
+        DamageStatistics statistics = new DamageStatistics();
+        statistics.merge(empty);
+
+        assertThat(statistics.count()).isZero();
+        assertThat(statistics.mean()).isZero();
+        assertThat(statistics.min()).isZero();
+        assertThat(statistics.max()).isZero();
+
+        empty.add(42);
+        assertThat(empty.min()).isEqualTo(42);
+        assertThat(empty.max()).isEqualTo(42);
+    }
+}
@@ -0,0 +1,125 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.wakfu.simulateur.backend.domain.passive.Passive;
+import com.wakfu.simulateur.backend.domain.passive.PassiveEffect;
+import com.wakfu.simulateur.backend.domain.passive.PassiveModifiers;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellEffect;
+import com.wakfu.simulateur.backend.domain.spell.SpellVariant;
+import com.wakfu.simulateur.backend.domain.spell.VariantKind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeasibilityAnalyzerTest {
+
+    private final SimulationEngine engine = new SimulationEngine();
+
+    @Test
+    @DisplayName("Des PA insuffisants dans le tour sont détectés à l'étape où le moteur échouerait")
+    void shouldRejectPaShortfall() {
+        Spell spell = spell("LOURD", 4, 0, 0);
+        SimulationRequest request = request(List.of(),
+                SpellCastAction.of(spell), SpellCastAction.of(spell), EndTurnAction.INSTANCE, SpellCastAction.of(spell));
+
+        FeasibilityReport report = analyzer(List.of()).analyze(request);
+
+        assertThat(report.feasible()).isFalse();
+        assertThat(report.stepIndex()).isEqualTo(1);
+        assertThat(report.reason()).contains("PA insuffisants", "au plus 2");
+        assertThat(failedStep(request)).isEqualTo(1);
+
+        Spell regain = spell("REGAIN", 4, 0, 0, effect("ADD_AP", 2));
+        FeasibilityReport withGain = analyzer(List.of()).analyze(request(List.of(),
+                SpellCastAction.of(regain), SpellCastAction.of(spell)));
+
+        assertThat(withGain.feasible()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Un sort relancé avant la fin de sa recharge est rejeté, relancé après il est accepté")
+    void shouldRejectRecastWithinCooldown() {
+        Spell spell = spell("RECHARGE", 2, 0, 2);
+
+        SimulationRequest early = request(List.of(),
+                SpellCastAction.of(spell), EndTurnAction.INSTANCE, SpellCastAction.of(spell));
+        FeasibilityReport report = analyzer(List.of()).analyze(early);
+
+        assertThat(report.feasible()).isFalse();
+        assertThat(report.stepIndex()).isEqualTo(2);
+        assertThat(report.reason()).contains("recharge jusqu'au tour 3", "tour 2");
+        assertThat(failedStep(early)).isEqualTo(2);
+
+        SimulationRequest late = request(List.of(), SpellCastAction.of(spell), EndTurnAction.INSTANCE,
+                EndTurnAction.INSTANCE, SpellCastAction.of(spell));
+
+        assertThat(analyzer(List.of()).analyze(late).feasible()).isTrue();
+        assertThat(failedStep(late)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Un passif qui réduit la recharge garde faisable une relance que le moteur accepte")
+    void shouldKeepRecastFeasibleWhenPassiveReducesCooldown() {
+        Spell spell = spell("RECHARGE", 2, 0, 2);
+        Passive passive = new Passive("PASSIF_RECHARGE", "XEL", "Recharge réduite", null, null, List.of(
+                new PassiveEffect(1L, "ON_PASSIVE_EQUIPPED", 0, "ADD_SPELL_COOLDOWN_DELTA", "SELF",
+                        JsonNodeFactory.instance.objectNode().put("spellId", spell.id()).put("delta", -1),
+                        Optional.empty())));
+        SimulationRequest request = request(List.of(passive),
+                SpellCastAction.of(spell), EndTurnAction.INSTANCE, SpellCastAction.of(spell));
+
+        assertThat(failedStep(request)).isEqualTo(-1);
+        assertThat(analyzer(List.of(passive)).analyze(request)).isEqualTo(FeasibilityReport.FEASIBLE);
+    }
+
+    @Test
+    @DisplayName("Un déplacement coûte au moins sa distance de Manhattan en PM")
+    void shouldBoundMoveByManhattanDistance() {
+        SimulationRequest far = request(List.of(), new MoveAction(new Position(4, 3)), new MoveAction(new Position(5, 4)));
+        FeasibilityReport report = analyzer(List.of()).analyze(far);
+
+        assertThat(report.feasible()).isFalse();
+        assertThat(report.stepIndex()).isEqualTo(1);
+        assertThat(report.reason()).contains("PM insuffisants", "au moins 2", "au plus 1");
+        assertThat(failedStep(far)).isEqualTo(1);
+
+        SimulationRequest nextTurn = request(List.of(), new MoveAction(new Position(4, 3)), EndTurnAction.INSTANCE,
+                new MoveAction(new Position(5, 4)));
+
+        assertThat(analyzer(List.of()).analyze(nextTurn).feasible()).isTrue();
+    }
+
+    private static FeasibilityAnalyzer analyzer(List<Passive> passives) {
+        return new FeasibilityAnalyzer(statusId -> Optional.empty(), passives);
+    }
+
+    private static SimulationRequest request(List<Passive> passives, TimelineAction... actions) {
+        return new SimulationRequest(CharacterStats.baseline(), Set.of(),
+                new SimulationContext(6, 3, 6, new Position(2, 3)),
+                List.of(actions).stream().map(TimelineStep::of).toList(),
+                PassiveModifiers.resolve(passives));
+    }
+
+    private int failedStep(SimulationRequest request) {
+        SimulationResult result = engine.simulate(request, new SplittableRandom(7), SimulationMonitor.NONE);
+        return result.hasFailure() ? result.completedSteps() : -1;
+    }
+
+    private static Spell spell(String id, int paCost, int pwCost, int cooldown, SpellEffect... effects) {
+        return new Spell(id, "XEL", id, "FIRE", "ACTIVE", paCost, pwCost, 0, 6, false, false,
+                cooldown, 2, 0, null, null, null, false,
+                List.of(new SpellVariant(1L, VariantKind.NORMAL, List.of(effects))), List.of());
+    }
+
+    private static SpellEffect effect(String type, int amount) {
+        return new SpellEffect(null, "ON_CAST", 0, type, "SELF",
+                JsonNodeFactory.instance.objectNode().put("amount", amount), null);
+    }
+}
@@ -0,0 +1,96 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellEffect;
+import com.wakfu.simulateur.backend.domain.spell.SpellVariant;
+import com.wakfu.simulateur.backend.domain.spell.VariantKind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class MonteCarloRunnerTest {
+
+    private static final long SEED = 42L;
+    private static final long BUCKET_WIDTH = 25;
+    private static final int TOP_RUNS = 10;
+
+    private final MonteCarloRunner runner = new MonteCarloRunner(new SimulationEngine());
+
+    @Test
+    @DisplayName("Les plages d'un job fusionnées dans le désordre donnent le résultat d'une exécution locale")
+    void shouldMergeShardPartialsLikeOneLocalRun() {
+        SimulationRequest request = request();
+        MonteCarloPartial local = run(request, 0, 1_000);
+
+        MonteCarloPartial merged = MonteCarloPartial.empty(BUCKET_WIDTH, TOP_RUNS);
+        merged.merge(run(request, 400, 600));
+        merged.merge(run(request, 0, 150));
+        merged.merge(run(request, 150, 250));
+
+        assertThat(merged.statistics().count()).isEqualTo(1_000);
+        assertThat(merged.statistics().failures()).isEqualTo(local.statistics().failures());
+        assertThat(merged.statistics().min()).isEqualTo(local.statistics().min());
+        assertThat(merged.statistics().max()).isEqualTo(local.statistics().max());
+        assertThat(merged.statistics().mean()).isCloseTo(local.statistics().mean(), within(1e-9));
+        assertThat(merged.statistics().variance()).isCloseTo(local.statistics().variance(), within(1e-6));
+        assertThat(merged.histogram().buckets()).isEqualTo(local.histogram().buckets());
+        assertThat(merged.topRuns().runs()).isEqualTo(local.topRuns().runs());
+        assertThat(local.histogram().buckets()).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("Un run donne les mêmes dégâts quelle que soit la plage qui le contient")
+    void shouldReplayRunIndependentlyOfRange() {
+        SimulationRequest request = request();
+        List<Long> all = new ArrayList<>();
+        runner.run(request, SEED, 0, 50, BUCKET_WIDTH, TOP_RUNS, SimulationMonitor.NONE,
+                result -> all.add(result.totalDamage()));
+        List<Long> tail = new ArrayList<>();
+        runner.run(request, SEED, 30, 20, BUCKET_WIDTH, TOP_RUNS, SimulationMonitor.NONE,
+                result -> tail.add(result.totalDamage()));
+
+        assertThat(tail).isEqualTo(all.subList(30, 50));
+    }
+
+    @Test
+    @DisplayName("Une plage annulée s'interrompt")
+    void shouldStopWhenCancelled() {
+        SimulationMonitor cancelled = new SimulationMonitor() {
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+        };
+
+        assertThatThrownBy(() -> runner.run(request(), SEED, 0, 10, BUCKET_WIDTH, TOP_RUNS, cancelled, r -> { }))
+                .isInstanceOf(SimulationCancelledException.class);
+    }
+
+    private MonteCarloPartial run(SimulationRequest request, int firstRun, int runs) {
+        return runner.run(request, SEED, firstRun, runs, BUCKET_WIDTH, TOP_RUNS, SimulationMonitor.NONE, r -> { });
+    }
+
+    private static SimulationRequest request() {
+        Spell spell = new Spell("TEST_SPELL", "XEL", "Sort de test", "FIRE", "ACTIVE", 2, 0, 0, 6, false, false,
+                0, 3, 0, null, null, null, false,
+                List.of(new SpellVariant(1L, VariantKind.NORMAL, List.of(damage(100))),
+                        new SpellVariant(2L, VariantKind.CRIT, List.of(damage(150)))),
+                List.of());
+        CharacterStats stats = new CharacterStats(200, 500, 0, 0, 0, 0, 0, 0, 40, 100, 0, 6, 3, 6, 0);
+        return new SimulationRequest(stats, null, SimulationContext.of(stats, Position.ORIGIN),
+                List.of(TimelineStep.of(SpellCastAction.of(spell)), TimelineStep.of(SpellCastAction.of(spell)),
+                        TimelineStep.of(SpellCastAction.of(spell))));
+    }
+
+    private static SpellEffect damage(int amount) {
+        return new SpellEffect(null, "ON_CAST", 0, "DEAL_DAMAGE", "TARGET",
+                JsonNodeFactory.instance.objectNode().put("amount", amount), null);
+    }
+}
@@ -0,0 +1,186 @@
+package com.wakfu.simulateur.backend.domain.simulation;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.wakfu.simulateur.backend.domain.board.Board;
+import com.wakfu.simulateur.backend.domain.spell.Spell;
+import com.wakfu.simulateur.backend.domain.spell.SpellEffect;
+import com.wakfu.simulateur.backend.domain.spell.SpellVariant;
+import com.wakfu.simulateur.backend.domain.spell.VariantKind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TraceReplayerTest {
+
+    private final SimulationEngine engine = new SimulationEngine();
+
+    @Test
+    @DisplayName("Les valeurs signées, multi-octets et les chaînes répétées sont relues à l'identique")
+    void shouldRoundTripVarintsZigzagAndStrings() {
+        TraceWriter writer = new TraceWriter(16);
+        writer.start(new SimulationContext(6, 3, 6, new Position(2, 3)));
+        writer.step(0);
+        writer.cast("SORT_été", true, 2, 1, 3);
+        writer.damage(1_000_000, "FIRE");
+        writer.damage(70, "FIRE");
+        writer.resource(ResourceKind.PA, -2);
+        writer.dialAdvanced(-5);
+        writer.statusApplied("RUSH", SimulationContext.INFINITE);
+        writer.step(1);
+        writer.move(new Position(4, 3), 2);
+        writer.turnEnded();
+
+        SimulationTrace trace = SimulationTrace.fromBase64(writer.toTrace().toBase64());
+        List<ReplayState> states = TraceReplayer.states(trace);
+
+        assertThat(states).hasSize(3);
+        ReplayState afterCast = states.get(1);
+        assertThat(afterCast.pa()).isEqualTo(2);
+        assertThat(afterCast.pw()).isEqualTo(5);
+        assertThat(afterCast.totalDamage()).isEqualTo(1_000_070);
+        assertThat(afterCast.dialHour()).isEqualTo(7);
+        assertThat(afterCast.cooldowns()).containsExactly(Map.entry("SORT_été", 3));
+        assertThat(afterCast.statuses()).containsExactly(Map.entry("RUSH", SimulationContext.INFINITE));
+
+        ReplayState last = states.get(2);
+        assertThat(last.completedSteps()).isEqualTo(2);
+        assertThat(last.position()).isEqualTo(new Position(4, 3));
+        assertThat(last.turn()).isEqualTo(2);
+        assertThat(last.pa()).isEqualTo(6);
+        assertThat(last.mp()).isEqualTo(3);
+        assertThat(last.cooldowns()).containsExactly(Map.entry("SORT_été", 2));
+        assertThat(last.failure()).isNull();
+    }
+
+    @Test
+    @DisplayName("Le rejeu d'une simulation retrouve l'état final du moteur, étape par étape")
+    void shouldReplayEngineRun() {
+        Spell spell = damageSpell();
+        SimulationRequest request = new SimulationRequest(
+                new CharacterStats(200, 500, 0, 0, 0, 0, 0, 0, 40, 100, 0, 6, 3, 6, 0),
+                null,
+                new SimulationContext(6, 3, 6, new Position(2, 3)),
+                List.of(
+                        TimelineStep.of(SpellCastAction.of(spell)),
+                        TimelineStep.of(new MoveAction(new Position(4, 3))),
+                        TimelineStep.of(SpellCastAction.of(spell)),
+                        TimelineStep.of(EndTurnAction.INSTANCE),
+                        TimelineStep.of(SpellCastAction.of(spell))));
+        TraceWriter writer = new TraceWriter();
+
+        SimulationResult result = engine.simulate(request, new SplittableRandom(42), SimulationMonitor.NONE, writer);
+        List<ReplayState> states = TraceReplayer.states(writer.toTrace());
+
+        assertThat(states).hasSize(request.steps().size() + 1);
+        ReplayState last = states.get(states.size() - 1);
+        assertThat(last.completedSteps()).isEqualTo(result.completedSteps());
+        assertThat(last.totalDamage()).isEqualTo(result.totalDamage());
+        assertThat(last.pa()).isEqualTo(result.remainingPa());
+        assertThat(last.pw()).isEqualTo(result.remainingPw());
+        assertThat(last.mp()).isEqualTo(result.remainingMp());
+        assertThat(last.turn()).isEqualTo(result.turns());
+        assertThat(last.position()).isEqualTo(new Position(4, 3));
+        assertThat(last.dialHour()).isEqualTo(3);
+        assertThat(TraceReplayer.stateAt(writer.toTrace(), 2)).isEqualTo(states.get(2));
+    }
+
+    @Test
+    @DisplayName("Une simulation sur un plateau agrandi se rejoue hors des limites du plateau standard")
+    void shouldReplayOnCustomBoard() {
+        SimulationRequest request = new SimulationRequest(
+                new SimulationContext(6, 3, 6, new Position(15, 18), new Board(20, 20)),
+                List.of(new MoveAction(new Position(18, 18)), EndTurnAction.INSTANCE));
+        TraceWriter writer = new TraceWriter();
+
+        SimulationResult result = engine.simulate(request, new SplittableRandom(3), SimulationMonitor.NONE, writer);
+        List<ReplayState> states = TraceReplayer.states(writer.toTrace());
+
+        assertThat(result.hasFailure()).isFalse();
+        assertThat(states.get(0).position()).isEqualTo(new Position(15, 18));
+        assertThat(states.get(1).position()).isEqualTo(new Position(18, 18));
+        assertThat(states.get(1).mp()).isZero();
+        assertThat(states.get(2).mp()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Le plus grand plateau accepté se rejoue jusqu'à sa dernière case")
+    void shouldReplayOnLargestBoard() {
+        SimulationRequest request = new SimulationRequest(
+                new SimulationContext(6, 3, 6, new Position(61, 62), new Board(Board.MAX_SIZE, Board.MAX_SIZE)),
+                List.of(new MoveAction(new Position(63, 63))));
+        TraceWriter writer = new TraceWriter();
+
+        engine.simulate(request, new SplittableRandom(5), SimulationMonitor.NONE, writer);
+
+        assertThat(TraceReplayer.stateAt(writer.toTrace(), 1).position()).isEqualTo(new Position(63, 63));
+    }
+
+    @Test
+    @DisplayName("Une étape en échec est rejouée avec son message")
+    void shouldReplayFailure() {
+        Spell spell = damageSpell();
+        SimulationRequest request = new SimulationRequest(new SimulationContext(2, 3, 6),
+                List.of(SpellCastAction.of(spell, VariantKind.NORMAL), SpellCastAction.of(spell, VariantKind.NORMAL)));
+        TraceWriter writer = new TraceWriter();
+
+        SimulationResult result = engine.simulate(request, new SplittableRandom(1), SimulationMonitor.NONE, writer);
+        List<ReplayState> states = TraceReplayer.states(writer.toTrace());
+
+        ReplayState last = states.get(states.size() - 1);
+        assertThat(result.hasFailure()).isTrue();
+        assertThat(last.completedSteps()).isEqualTo(1);
+        assertThat(last.failure()).contains("PA insuffisants");
+    }
+
+    @Test
+    @DisplayName("Une trace qui ne commence pas par START est refusée")
+    void shouldRejectTraceWithoutLeadingStart() {
+        TraceWriter writer = new TraceWriter();
+        writer.step(0);
+        writer.damage(10, "FIRE");
+        writer.start(new SimulationContext(6, 3, 6));
+
+        assertThatThrownBy(() -> TraceReplayer.states(writer.toTrace()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("START");
+    }
+
+    @Test
+    @DisplayName("Une trace tronquée est refusée")
+    void shouldRejectTruncatedTrace() {
+        TraceWriter writer = new TraceWriter();
+        writer.start(new SimulationContext(6, 3, 6));
+        writer.step(0);
+        writer.damage(1_000_000, "FIRE");
+        byte[] data = writer.toTrace().toBytes();
+        byte[] truncated = Arrays.copyOf(data, data.length - 7);
+
+        assertThatThrownBy(() -> TraceReplayer.states(SimulationTrace.fromBytes(truncated)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Trace tronquée");
+    }
+
+    private static Spell damageSpell() {
+        SpellEffect damage = effect("DEAL_DAMAGE", 100);
+        SpellEffect critDamage = effect("DEAL_DAMAGE", 150);
+        SpellEffect dial = new SpellEffect(3L, "ON_CAST", 1, "ADVANCE_DIAL", "SELF",
+                JsonNodeFactory.instance.objectNode().put("hours", 1), null);
+        return new Spell("TEST_SPELL", "XEL", "Sort de test", "FIRE", "ACTIVE", 2, 1, 0, 6, false, false,
+                0, 3, 0, null, null, null, false,
+                List.of(new SpellVariant(1L, VariantKind.NORMAL, List.of(damage, dial)),
+                        new SpellVariant(2L, VariantKind.CRIT, List.of(critDamage, dial))),
+                List.of());
+    }
+
+    private static SpellEffect effect(String type, int amount) {
+        return new SpellEffect(null, "ON_CAST", 0, type, "TARGET",
+                JsonNodeFactory.instance.objectNode().put("amount", amount), null);
+    }
+}
@@ -47,6 +47,7 @@ else
     # Démarrer le backend Spring Boot en arrière-plan
     cd backend
     chmod +x mvnw
+    ./mvnw -q -f ../simulation-core/pom.xml install -DskipTests
     ./mvnw spring-boot:run > ../backend-spring.log 2>&1 &
     BACKEND_PID=$!
     cd ..